@@ -16,6 +16,8 @@
 
 package org.vividus.bdd.report.allure;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.EnumMap;
@@ -23,10 +25,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +47,8 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.vividus.bdd.ChainedStoryReporter;
 import org.vividus.bdd.JBehaveFailureUnwrapper;
 import org.vividus.bdd.batch.BatchStorage;
@@ -77,9 +84,13 @@ import io.qameta.allure.util.ResultsUtils;
 @SuppressWarnings("checkstyle:MethodCount")
 public class AllureStoryReporter extends ChainedStoryReporter implements IAllureStepReporter
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AllureStoryReporter.class);
+
     private static final String CURRENT_STEP_KEY = "allureCurrentLinkedStep";
 
     private final AllureLifecycle lifecycle = Allure.getLifecycle();
+    private final ThreadLocal<Queue<CompletableFuture<Void>>> pendingAttachments = ThreadLocal.withInitial(
+        ArrayDeque::new);
     private IAllureReportGenerator allureReportGenerator;
     private IBddRunContext bddRunContext;
     private BatchStorage batchStorage;
@@ -305,6 +316,7 @@ public class AllureStoryReporter extends ChainedStoryReporter implements IAllure
     public void afterScenario()
     {
         super.afterScenario();
+        waitForPendingAttachments();
         stopTestCase();
         allureRunContext.setStoryExecutionStage(StoryExecutionStage.AFTER_SCENARIO);
     }
@@ -313,6 +325,7 @@ public class AllureStoryReporter extends ChainedStoryReporter implements IAllure
     public void afterStory(boolean givenStory)
     {
         super.afterStory(givenStory);
+        waitForPendingAttachments();
         if (bddRunContext.getRunningStory().isAllowed())
         {
             if (allureRunContext.getStoryExecutionStage() == StoryExecutionStage.LIFECYCLE_AFTER_STORY_STEPS)
@@ -408,7 +421,48 @@ public class AllureStoryReporter extends ChainedStoryReporter implements IAllure
     public void onAttachmentPublish(AttachmentPublishEvent event)
     {
         Attachment attachment = event.getAttachment();
-        lifecycle.addAttachment(attachment.getTitle(), attachment.getContentType(), null, attachment.getContent());
+        if (attachment.isContentReady())
+        {
+            byte[] content;
+            try
+            {
+                content = attachment.getContent();
+            }
+            catch (CompletionException e)
+            {
+                LOGGER.error("Unable to write attachment '{}'", attachment.getTitle(), e.getCause());
+                return;
+            }
+            lifecycle.addAttachment(attachment.getTitle(), attachment.getContentType(), null, content);
+            return;
+        }
+        // The attachment is linked to the current step right away to keep the order of attachments, while its
+        // content is written as soon as it is produced
+        String source = lifecycle.prepareAttachment(attachment.getTitle(), attachment.getContentType(), null);
+        Queue<CompletableFuture<Void>> attachments = pendingAttachments.get();
+        attachments.removeIf(CompletableFuture::isDone);
+        attachments.add(attachment.getContentAsync().handle((content, throwable) ->
+        {
+            if (throwable == null)
+            {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(content));
+            }
+            else
+            {
+                LOGGER.error("Unable to write attachment '{}'", attachment.getTitle(), throwable);
+            }
+            return null;
+        }).toCompletableFuture());
+    }
+
+    private void waitForPendingAttachments()
+    {
+        Queue<CompletableFuture<Void>> attachments = pendingAttachments.get();
+        CompletableFuture<Void> pendingAttachment;
+        while ((pendingAttachment = attachments.poll()) != null)
+        {
+            pendingAttachment.join();
+        }
     }
 
     @Subscribe
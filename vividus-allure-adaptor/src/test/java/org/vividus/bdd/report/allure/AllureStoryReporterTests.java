@@ -35,7 +35,11 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -44,6 +48,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -85,8 +90,10 @@ import org.vividus.bdd.report.allure.adapter.IVerificationErrorAdapter;
 import org.vividus.bdd.report.allure.model.ScenarioExecutionStage;
 import org.vividus.bdd.report.allure.model.StatusPriority;
 import org.vividus.bdd.report.allure.model.StoryExecutionStage;
+import org.vividus.reporter.event.AttachmentPublishEvent;
 import org.vividus.reporter.event.SubStepsPublishingFinishEvent;
 import org.vividus.reporter.event.SubStepsPublishingStartEvent;
+import org.vividus.reporter.model.Attachment;
 import org.vividus.softassert.exception.VerificationError;
 import org.vividus.softassert.model.KnownIssue;
 import org.vividus.testcontext.SimpleTestContext;
@@ -122,6 +129,8 @@ class AllureStoryReporterTests
     private static final String STORY_NAME = "name";
     private static final String EXPECTED_SCENARIO_TEST_CASE_ID = "testScenarioTestCaseId";
     private static final String EXPECTED_SCENARIO_REQUIREMENT_ID = "testScenarioRequirementId";
+    private static final String ATTACHMENT_TITLE = "screenshot";
+    private static final String IMAGE_PNG = "image/png";
 
     private static final String ALLURE_LINK_ISSUE_PROPERTY = "allure.link.issue.pattern";
     private static final String ALLURE_LINK_TMS_PROPERTY = "allure.link.tms.pattern";
@@ -928,6 +937,68 @@ class AllureStoryReporterTests
         assertEquals(1, labels.stream().filter(l -> REQUIREMENT_ID.equals(l.getName())).count());
     }
 
+    @Test
+    void shouldAddAttachmentWithReadyContent()
+    {
+        byte[] content = { 1 };
+        Attachment attachment = new Attachment(content, ATTACHMENT_TITLE, IMAGE_PNG);
+        allureStoryReporter.onAttachmentPublish(new AttachmentPublishEvent(attachment));
+        verify(allureLifecycle).addAttachment(ATTACHMENT_TITLE, IMAGE_PNG, null, content);
+        verifyNoMoreInteractions(allureLifecycle);
+    }
+
+    @Test
+    void shouldSkipAttachmentWhenContentIsFailedToBeProduced()
+    {
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        content.completeExceptionally(new IllegalStateException());
+        allureStoryReporter.onAttachmentPublish(
+                new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_TITLE + ".png")));
+        verifyNoInteractions(allureLifecycle);
+    }
+
+    @Test
+    void shouldLinkAttachmentWithDeferredContentAndWriteItOnceProduced()
+    {
+        mockScenarioUid(false);
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        String source = "attachment-source";
+        when(allureLifecycle.prepareAttachment(ATTACHMENT_TITLE, IMAGE_PNG, null)).thenReturn(source);
+        allureStoryReporter.onAttachmentPublish(
+                new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_TITLE + ".png")));
+        verify(allureLifecycle, never()).writeAttachment(eq(source), any(InputStream.class));
+        byte[] data = { 2 };
+        content.complete(data);
+        allureStoryReporter.afterScenario();
+        verify(allureLifecycle).writeAttachment(eq(source),
+                argThat(stream -> Arrays.equals(data, toByteArray(stream))));
+    }
+
+    @Test
+    void shouldNotWriteAttachmentWhenContentIsNotProduced()
+    {
+        mockScenarioUid(false);
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        allureStoryReporter.onAttachmentPublish(
+                new AttachmentPublishEvent(new Attachment(content, ATTACHMENT_TITLE + ".png")));
+        content.completeExceptionally(new IllegalStateException());
+        allureStoryReporter.afterScenario();
+        verify(allureLifecycle).prepareAttachment(ATTACHMENT_TITLE, IMAGE_PNG, null);
+        verify(allureLifecycle, never()).writeAttachment(any(), any(InputStream.class));
+    }
+
+    private static byte[] toByteArray(InputStream stream)
+    {
+        try
+        {
+            return stream.readAllBytes();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Test
     void testFireSubStepsPublishingStartEvent()
     {
@@ -19,8 +19,6 @@ package org.vividus.bdd.examples;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.IOUtils;
 import org.springframework.core.io.Resource;
@@ -30,30 +28,21 @@ import org.vividus.bdd.steps.ParameterAdaptor;
 
 public class ExamplesTableFileLoader implements IExamplesTableLoader
 {
-    private static final Map<String, String> TABLES_CACHE = new ConcurrentHashMap<>();
     private IBddResourceLoader bddResourceLoader;
     private ParameterAdaptor parameterAdaptor;
-    private boolean cacheTables;
+    private TableDataCache tableDataCache;
 
     @Override
     public String loadExamplesTable(String exampleTablePath)
     {
         String tablePath = (String) parameterAdaptor.convert(exampleTablePath);
-        String table;
-        if (cacheTables)
-        {
-            table = TABLES_CACHE.computeIfAbsent(tablePath, this::loadTable);
-        }
-        else
-        {
-            table = loadTable(tablePath);
-        }
-        return table;
+        Resource resource = bddResourceLoader.getResource(tablePath);
+        return tableDataCache.get("table:" + resource.getDescription(), TableDataCache.getLastModified(resource),
+                () -> loadTable(resource), TableDataCache::estimateSize);
     }
 
-    private String loadTable(String exampleTablePath)
+    private String loadTable(Resource resource)
     {
-        Resource resource = bddResourceLoader.getResource(exampleTablePath);
         try (InputStream inputStream = resource.getInputStream())
         {
             return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
@@ -74,8 +63,8 @@ public class ExamplesTableFileLoader implements IExamplesTableLoader
         this.parameterAdaptor = parameterAdaptor;
     }
 
-    public void setCacheTables(boolean cacheTables)
+    public void setTableDataCache(TableDataCache tableDataCache)
     {
-        this.cacheTables = cacheTables;
+        this.tableDataCache = tableDataCache;
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.examples;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.function.ToLongFunction;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.vividus.util.function.CheckedSupplier;
+
+/**
+ * Cache of the data loaded from external sources of examples tables (table files, CSV, Excel, etc.) shared across
+ * the stories. The cache is bounded by the estimated size of the cached data, the least recently used entries are
+ * evicted first. The keys include the last modification time of the source, and concurrent loads of the same key
+ * are performed only once.
+ */
+public class TableDataCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableDataCache.class);
+
+    private static final long OBJECT_OVERHEAD = 16;
+
+    private final boolean enabled;
+    private final Cache<String, Entry> cache;
+
+    public TableDataCache(boolean enabled, long maximumSizeInBytes)
+    {
+        this.enabled = enabled;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumSizeInBytes)
+                .weigher((String key, Entry entry) -> entry.weight)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets the data from the cache or loads it if the data is missing, or the cache is disabled
+     * @param <T> Type of the data
+     * @param <E> Type of the exception thrown by the loader
+     * @param key Key identifying the source of the data and the way it is loaded
+     * @param lastModified Last modification time of the source
+     * @param loader Loader of the data
+     * @param sizeEstimator Estimator of the data size in bytes
+     * @return Cached or loaded data
+     * @throws E if the loader fails to load the data
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T get(String key, long lastModified, CheckedSupplier<T, E> loader,
+            ToLongFunction<? super T> sizeEstimator) throws E
+    {
+        if (!enabled)
+        {
+            return loader.get();
+        }
+        try
+        {
+            return (T) cache.get(key + '@' + lastModified, () -> {
+                T data = loader.get();
+                return new Entry(data, (int) Math.min(sizeEstimator.applyAsLong(data), Integer.MAX_VALUE));
+            }).data;
+        }
+        catch (ExecutionException e)
+        {
+            throw (E) e.getCause();
+        }
+        catch (UncheckedExecutionException e)
+        {
+            throw (RuntimeException) e.getCause();
+        }
+        catch (ExecutionError e)
+        {
+            throw (Error) e.getCause();
+        }
+    }
+
+    public void logStatistics()
+    {
+        CacheStats stats = cache.stats();
+        if (stats.requestCount() > 0)
+        {
+            LOGGER.info("Examples tables data cache: {} hits, {} misses, {} evictions, {} entries", stats.hitCount(),
+                    stats.missCount(), stats.evictionCount(), cache.size());
+        }
+    }
+
+    public CacheStats getStatistics()
+    {
+        return cache.stats();
+    }
+
+    /**
+     * Estimates the size of the data: strings and (nested) collections of strings are measured, any other object is
+     * considered as one having only the header
+     * @param data Data to estimate
+     * @return Estimated size in bytes
+     */
+    public static long estimateSize(Object data)
+    {
+        if (data instanceof CharSequence)
+        {
+            return OBJECT_OVERHEAD + 2L * ((CharSequence) data).length();
+        }
+        if (data instanceof Collection)
+        {
+            return ((Collection<?>) data).stream().mapToLong(TableDataCache::estimateSize).sum() + OBJECT_OVERHEAD;
+        }
+        return OBJECT_OVERHEAD;
+    }
+
+    public static long getLastModified(Resource resource)
+    {
+        try
+        {
+            return resource.lastModified();
+        }
+        catch (IOException e)
+        {
+            return 0;
+        }
+    }
+
+    public static long getLastModified(URL url)
+    {
+        return getLastModified(new UrlResource(url));
+    }
+
+    private static final class Entry
+    {
+        private final Object data;
+        private final int weight;
+
+        private Entry(Object data, int weight)
+        {
+            this.data = data;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.vividus.bdd.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+
+/**
+ * Story parser reusing the stories parsed earlier with the same path and content, e.g. given stories shared by
+ * many stories. The cache belongs to the parser instance, so the keywords, the examples table factory and the table
+ * transformers used to parse the stories are the same for all cached stories. Examples tables are transformed at
+ * parse time, so the stories having examples tables with transformers are never cached: their content may differ
+ * from parse to parse. The stories are held by soft references.
+ */
+public class CachingStoryParser implements StoryParser
+{
+    private static final String TRANSFORMER_PROPERTY = "transformer";
+
+    private final StoryParser delegate;
+    private final Cache<String, Story> stories = CacheBuilder.newBuilder().softValues().build();
+
+    public CachingStoryParser(StoryParser delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Story parseStory(String storyAsText)
+    {
+        return parseStory(storyAsText, null);
+    }
+
+    @Override
+    public Story parseStory(String storyAsText, String storyPath)
+    {
+        String key = createKey(storyAsText, storyPath);
+        Story story = stories.getIfPresent(key);
+        if (story == null)
+        {
+            story = delegate.parseStory(storyAsText, storyPath);
+            if (isCacheable(story))
+            {
+                stories.put(key, story);
+            }
+        }
+        return story;
+    }
+
+    private static boolean isCacheable(Story story)
+    {
+        return Stream.concat(Stream.of(story.getLifecycle().getExamplesTable()),
+                story.getScenarios().stream().map(Scenario::getExamplesTable))
+                .map(ExamplesTable::getProperties)
+                .noneMatch(properties -> properties.containsKey(TRANSFORMER_PROPERTY));
+    }
+
+    private static String createKey(String storyAsText, String storyPath)
+    {
+        return storyPath + ':' + Hashing.sha256().hashString(storyAsText, StandardCharsets.UTF_8);
+    }
+}
@@ -35,12 +35,17 @@ import org.jbehave.core.parsers.RegexStoryParser;
 import org.jbehave.core.reporters.StoryReporterBuilder;
 import org.jbehave.core.reporters.ViewGenerator;
 import org.jbehave.core.steps.DelegatingStepMonitor;
+import org.jbehave.core.steps.MarkUnmatchedStepsAsPending;
 import org.jbehave.core.steps.ParameterControls;
 import org.jbehave.core.steps.ParameterConverters.ChainableParameterConverter;
+import org.jbehave.core.steps.StepFinder;
+import org.jbehave.core.steps.StepFinder.ByPriorityField;
 import org.jbehave.core.steps.StepMonitor;
 import org.vividus.bdd.IPathFinder;
 import org.vividus.bdd.batch.BatchResourceConfiguration;
+import org.vividus.bdd.parser.CachingStoryParser;
 import org.vividus.bdd.steps.ExpressionAdaptor;
+import org.vividus.bdd.steps.IndexingPrioritisingStrategy;
 import org.vividus.bdd.steps.ParameterAdaptor;
 import org.vividus.bdd.steps.ParameterConvertersDecorator;
 
@@ -65,10 +70,13 @@ public class ExtendedConfiguration extends Configuration
         useParameterControls(parameterControls);
         useParameterConverters(new ParameterConvertersDecorator(this, parameterAdaptor, expressionAdaptor)
                 .addConverters(customConverters));
-        useStoryParser(new RegexStoryParser(keywords(), examplesTableFactory()));
+        useStoryParser(new CachingStoryParser(new RegexStoryParser(keywords(), examplesTableFactory())));
         TableTransformers transformers = tableTransformers();
         customTableTransformers.forEach(transformers::useTransformer);
         useStepMonitor(new DelegatingStepMonitor(stepMonitors));
+        StepFinder stepFinder = new StepFinder(new IndexingPrioritisingStrategy(new ByPriorityField()));
+        useStepFinder(stepFinder);
+        useStepCollector(new MarkUnmatchedStepsAsPending(stepFinder, keywords()));
         useStoryControls(storyControls);
     }
 
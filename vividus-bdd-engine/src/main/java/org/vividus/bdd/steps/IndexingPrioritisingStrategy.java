@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepFinder.PrioritisingStrategy;
+
+/**
+ * Prioritising strategy narrowing down the prioritised candidates to the ones which can match the step according to
+ * {@link StepCandidateIndex}. The first prioritised candidate is always kept, since JBehave relies on any candidate
+ * to recognize ignorable steps and comments.
+ */
+public class IndexingPrioritisingStrategy implements PrioritisingStrategy
+{
+    private final PrioritisingStrategy delegate;
+    private final Map<List<String>, StepCandidateIndex> indices = new ConcurrentHashMap<>();
+    private final ThreadLocal<IndexedCandidates> lastIndexedCandidates = new ThreadLocal<>();
+
+    public IndexingPrioritisingStrategy(PrioritisingStrategy delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates)
+    {
+        List<StepCandidate> prioritised = delegate.prioritise(stepAsText, candidates);
+        if (prioritised.size() < 2)
+        {
+            return prioritised;
+        }
+        StepCandidateIndex index = getIndex(candidates, prioritised);
+        List<StepCandidate> found = index.findCandidates(stepAsText, prioritised);
+        StepCandidate first = prioritised.get(0);
+        if (!found.isEmpty() && found.get(0) == first)
+        {
+            return found;
+        }
+        List<StepCandidate> result = new ArrayList<>(found.size() + 1);
+        result.add(first);
+        result.addAll(found);
+        return result;
+    }
+
+    private StepCandidateIndex getIndex(List<StepCandidate> candidates, List<StepCandidate> prioritised)
+    {
+        IndexedCandidates indexedCandidates = lastIndexedCandidates.get();
+        if (indexedCandidates == null || indexedCandidates.candidates != candidates
+                || indexedCandidates.index.size() != prioritised.size())
+        {
+            List<String> signatures = prioritised.stream().map(StepCandidateIndex::getSignature)
+                    .collect(Collectors.toList());
+            StepCandidateIndex index = indices.computeIfAbsent(signatures, s -> new StepCandidateIndex(prioritised));
+            indexedCandidates = new IndexedCandidates(candidates, index);
+            lastIndexedCandidates.set(indexedCandidates);
+        }
+        return indexedCandidates.index;
+    }
+
+    private static final class IndexedCandidates
+    {
+        private final List<StepCandidate> candidates;
+        private final StepCandidateIndex index;
+
+        private IndexedCandidates(List<StepCandidate> candidates, StepCandidateIndex index)
+        {
+            this.candidates = candidates;
+            this.index = index;
+        }
+    }
+}
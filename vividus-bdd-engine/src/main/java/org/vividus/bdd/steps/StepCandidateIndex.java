@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.jbehave.core.steps.StepCandidate;
+
+/**
+ * Index of step candidates built from the leading literal words of candidate patterns. Lookup returns a superset of
+ * candidates which can match the step (the candidates whose patterns start with parameters are always returned),
+ * so only these candidates need to be checked using regular expressions. The order of the candidates is preserved.
+ */
+public class StepCandidateIndex
+{
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private static final Pattern LITERAL_WORD = Pattern.compile("\\w+");
+    private static final String PARAMETER_NAME_DELIMITER = "<";
+    private static final int LOOKUP_CACHE_SIZE = 10_000;
+
+    private final List<StepCandidate> candidates;
+    private final Node root = new Node();
+    private final Cache<String, BitSet> lookupCache = CacheBuilder.newBuilder().maximumSize(LOOKUP_CACHE_SIZE)
+            .build();
+
+    public StepCandidateIndex(List<StepCandidate> candidates)
+    {
+        this.candidates = List.copyOf(candidates);
+        for (int position = 0; position < this.candidates.size(); position++)
+        {
+            Node node = root;
+            for (String word : WHITESPACES.split(this.candidates.get(position).getPatternAsString().trim()))
+            {
+                if (!LITERAL_WORD.matcher(word).matches())
+                {
+                    break;
+                }
+                node = node.children.computeIfAbsent(word, w -> new Node());
+            }
+            node.candidatePositions.set(position);
+        }
+    }
+
+    /**
+     * Finds the candidates which can match the step
+     * @param stepAsText Step text including starting word
+     * @return Candidates in the same order as they were indexed
+     */
+    public List<StepCandidate> findCandidates(String stepAsText)
+    {
+        return findCandidates(stepAsText, candidates);
+    }
+
+    /**
+     * Finds the candidates which can match the step among the candidates having the same patterns and order as the
+     * indexed ones, e.g. the candidates created by the same steps factory for another scenario
+     * @param stepAsText Step text including starting word
+     * @param sameOrderCandidates Candidates having the same patterns and order as the indexed ones
+     * @return Candidates in the same order as they were indexed
+     */
+    public List<StepCandidate> findCandidates(String stepAsText, List<StepCandidate> sameOrderCandidates)
+    {
+        BitSet positions = lookupCache.asMap().computeIfAbsent(stepAsText, this::lookup);
+        List<StepCandidate> foundCandidates = new ArrayList<>(positions.cardinality());
+        positions.stream().mapToObj(sameOrderCandidates::get).forEach(foundCandidates::add);
+        return foundCandidates;
+    }
+
+    public int size()
+    {
+        return candidates.size();
+    }
+
+    public static String getSignature(StepCandidate candidate)
+    {
+        return candidate.getStartingWord() + ' ' + candidate.getPatternAsString();
+    }
+
+    private BitSet lookup(String stepAsText)
+    {
+        String[] words = WHITESPACES.split(stepAsText.trim());
+        BitSet positions = (BitSet) root.candidatePositions.clone();
+        Node node = root;
+        // The first word is a starting word: it is checked by the candidates themselves
+        for (int i = 1; i < words.length; i++)
+        {
+            String word = words[i];
+            if (word.contains(PARAMETER_NAME_DELIMITER))
+            {
+                // Named parameters may stand in for any words of the pattern
+                node.collectAllPositions(positions);
+                break;
+            }
+            node = node.children.get(word);
+            if (node == null)
+            {
+                break;
+            }
+            positions.or(node.candidatePositions);
+        }
+        return positions;
+    }
+
+    private static final class Node
+    {
+        private final Map<String, Node> children = new HashMap<>();
+        private final BitSet candidatePositions = new BitSet();
+
+        private void collectAllPositions(BitSet positions)
+        {
+            positions.or(candidatePositions);
+            children.values().forEach(child -> child.collectAllPositions(positions));
+        }
+    }
+}
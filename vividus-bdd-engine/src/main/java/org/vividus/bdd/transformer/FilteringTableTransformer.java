@@ -34,9 +34,9 @@ import javax.inject.Named;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
-import org.jbehave.core.model.ExamplesTable.TableRows;
 import org.jbehave.core.model.TableParsers;
 import org.vividus.bdd.util.ExamplesTableProcessor;
+import org.vividus.bdd.util.ParsedTable;
 
 @Named("FILTERING")
 public class FilteringTableTransformer implements ExtendedTableTransformer
@@ -61,7 +61,7 @@ public class FilteringTableTransformer implements ExtendedTableTransformer
                 "At least one of the following properties should be specified: '%s', '%s', '%s', '%s'",
                 BY_MAX_COLUMNS_PROPERTY, BY_MAX_ROWS_PROPERTY, BY_COLUMNS_NAMES_PROPERTY, REGEX_FILTER_DECLARATION);
 
-        TableRows tableRows = tableParsers.parseRows(tableAsString, tableProperties);
+        ParsedTable tableRows = ExamplesTableProcessor.parseRows(tableAsString, tableParsers, tableProperties);
         if (!columnFilters.isEmpty())
         {
             isTrue(byMaxColumns == null && byColumnNames == null && byMaxRows == null,
@@ -23,9 +23,9 @@ import java.util.Map;
 import javax.inject.Named;
 
 import org.jbehave.core.model.ExamplesTable.TableProperties;
-import org.jbehave.core.model.ExamplesTable.TableRows;
 import org.jbehave.core.model.TableParsers;
 import org.vividus.bdd.util.ExamplesTableProcessor;
+import org.vividus.bdd.util.ParsedTable;
 
 @Named("REPEATING")
 public class RepeatingTableTranformer implements ExtendedTableTransformer
@@ -33,13 +33,13 @@ public class RepeatingTableTranformer implements ExtendedTableTransformer
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
-        TableRows tableRows = tableParsers.parseRows(tableAsString, properties);
+        ParsedTable tableRows = ExamplesTableProcessor.parseRows(tableAsString, tableParsers, properties);
         int times = ExtendedTableTransformer.getMandatoryIntProperty(properties, "times");
         List<Map<String, String>> rows = nCopies(times, tableRows);
         return ExamplesTableProcessor.buildExamplesTable(tableRows.getHeaders(), rows, properties);
     }
 
-    private List<Map<String, String>> nCopies(int times, TableRows tableRows)
+    private List<Map<String, String>> nCopies(int times, ParsedTable tableRows)
     {
         List<Map<String, String>> examplesTableRows = tableRows.getRows();
         List<Map<String, String>> rows = new LinkedList<>();
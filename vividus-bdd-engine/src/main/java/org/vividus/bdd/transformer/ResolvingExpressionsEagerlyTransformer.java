@@ -22,10 +22,10 @@ import java.util.Map;
 import javax.inject.Named;
 
 import org.jbehave.core.model.ExamplesTable.TableProperties;
-import org.jbehave.core.model.ExamplesTable.TableRows;
 import org.jbehave.core.model.TableParsers;
 import org.vividus.bdd.steps.ExpressionAdaptor;
 import org.vividus.bdd.util.ExamplesTableProcessor;
+import org.vividus.bdd.util.ParsedTable;
 
 @Named("RESOLVING_EXPRESSIONS_EAGERLY")
 public class ResolvingExpressionsEagerlyTransformer implements ExtendedTableTransformer
@@ -40,7 +40,7 @@ public class ResolvingExpressionsEagerlyTransformer implements ExtendedTableTran
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
-        TableRows tableRows = tableParsers.parseRows(tableAsString, properties);
+        ParsedTable tableRows = ExamplesTableProcessor.parseRows(tableAsString, tableParsers, properties);
         List<Map<String, String>> rows = tableRows.getRows();
         resolveExpressions(rows);
         return ExamplesTableProcessor.buildExamplesTable(tableRows.getHeaders(), rows, properties);
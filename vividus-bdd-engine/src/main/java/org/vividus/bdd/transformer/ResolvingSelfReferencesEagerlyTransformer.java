@@ -28,10 +28,10 @@ import javax.inject.Named;
 
 import org.apache.commons.lang3.Validate;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
-import org.jbehave.core.model.ExamplesTable.TableRows;
 import org.jbehave.core.model.TableParsers;
 import org.jbehave.core.steps.ParameterControls;
 import org.vividus.bdd.util.ExamplesTableProcessor;
+import org.vividus.bdd.util.ParsedTable;
 
 @Named("RESOLVING_SELF_REFERENCES_EAGERLY")
 public class ResolvingSelfReferencesEagerlyTransformer implements ExtendedTableTransformer
@@ -49,7 +49,7 @@ public class ResolvingSelfReferencesEagerlyTransformer implements ExtendedTableT
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
-        TableRows tableRows = tableParsers.parseRows(tableAsString, properties);
+        ParsedTable tableRows = ExamplesTableProcessor.parseRows(tableAsString, tableParsers, properties);
         return ExamplesTableProcessor.buildExamplesTable(tableRows.getHeaders(), resolveRows(tableRows.getRows()),
                 properties, true);
     }
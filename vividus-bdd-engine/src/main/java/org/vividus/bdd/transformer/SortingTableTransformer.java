@@ -26,9 +26,9 @@ import javax.inject.Named;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
-import org.jbehave.core.model.ExamplesTable.TableRows;
 import org.jbehave.core.model.TableParsers;
 import org.vividus.bdd.util.ExamplesTableProcessor;
+import org.vividus.bdd.util.ParsedTable;
 
 @Named("SORTING")
 public class SortingTableTransformer implements ExtendedTableTransformer
@@ -36,7 +36,7 @@ public class SortingTableTransformer implements ExtendedTableTransformer
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
-        TableRows tableRows = tableParsers.parseRows(tableAsString, properties);
+        ParsedTable tableRows = ExamplesTableProcessor.parseRows(tableAsString, tableParsers, properties);
         String byColumns = ExtendedTableTransformer.getMandatoryNonBlankProperty(properties, "byColumns");
         List<String> headerValues = tableRows.getHeaders();
         List<String> columnsToCompare = Stream.of(StringUtils.split(byColumns, '|'))
@@ -17,7 +17,9 @@
 package org.vividus.bdd.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,12 +27,24 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.jbehave.core.model.ExamplesTable.TableProperties;
+import org.jbehave.core.model.ExamplesTable.TableRows;
+import org.jbehave.core.model.TableParsers;
 
 public final class ExamplesTableProcessor
 {
     private static final String VALUE_SEPARATOR_KEY = "valueSeparator";
     private static final String DEFAULT_SEPARATOR_VALUE = "|";
+    private static final List<String> PARSING_AFFECTING_PROPERTIES = List.of("commentSeparator",
+            "processEscapeSequences", "nullPlaceholder");
+
+    // The text of the table built by a transformer is passed as is to the next transformer in the chain, so the
+    // built tables are keyed by the text instance: weak keys are compared by identity and the entries are dropped as
+    // soon as the text is no longer referenced
+    private static final Cache<String, BuiltTable> BUILT_TABLES = CacheBuilder.newBuilder().weakKeys().build();
 
     private ExamplesTableProcessor()
     {
@@ -103,7 +117,33 @@ public final class ExamplesTableProcessor
             examplesTableBuilder.append(rowSeparator);
             appendRow(examplesTableBuilder, row, valueSeparator);
         });
-        return examplesTableBuilder.toString();
+        String examplesTable = examplesTableBuilder.toString();
+        if (!appendTableProperties)
+        {
+            BUILT_TABLES.put(examplesTable, new BuiltTable(List.copyOf(header), data, properties, valueSeparator));
+        }
+        return examplesTable;
+    }
+
+    /**
+     * Parse rows of the table. If the table is built by the previous transformer in the chain using the same
+     * separators, the rows are taken from the previous transformer without parsing, unless the values could be
+     * parsed differently.
+     *
+     * @param tableAsString table to parse
+     * @param tableParsers table parsers
+     * @param properties table properties
+     * @return parsed table
+     */
+    public static ParsedTable parseRows(String tableAsString, TableParsers tableParsers, TableProperties properties)
+    {
+        BuiltTable builtTable = BUILT_TABLES.getIfPresent(tableAsString);
+        if (builtTable != null && builtTable.isParsableWith(properties) && builtTable.isReparsable())
+        {
+            return new ParsedTable(builtTable.header, builtTable.asRows());
+        }
+        TableRows tableRows = tableParsers.parseRows(tableAsString, properties);
+        return new ParsedTable(tableRows.getHeaders(), tableRows.getRows());
     }
 
     private static void appendTableProperties(StringBuilder examplesTableBuilder, TableProperties properties,
@@ -138,15 +178,35 @@ public final class ExamplesTableProcessor
     {
         List<String> valueSeparators = List.of(properties.getValueSeparator(), DEFAULT_SEPARATOR_VALUE,
                 "!", "?", "$", "#", "%", "*");
-        for (String separator: valueSeparators)
+        // Scan cells once and track which separators are still applicable
+        boolean[] applicable = new boolean[valueSeparators.size()];
+        Arrays.fill(applicable, true);
+        int firstApplicable = 0;
+        for (List<String> row : data)
         {
-            if (data.stream().flatMap(List::stream).noneMatch(s -> s.contains(separator)))
+            for (String cell : row)
             {
-                properties.getProperties().setProperty(VALUE_SEPARATOR_KEY, separator);
-                return separator;
+                for (int i = firstApplicable; i < applicable.length; i++)
+                {
+                    if (applicable[i] && cell.contains(valueSeparators.get(i)))
+                    {
+                        applicable[i] = false;
+                    }
+                }
+                while (firstApplicable < applicable.length && !applicable[firstApplicable])
+                {
+                    firstApplicable++;
+                }
             }
         }
-        throw new IllegalArgumentException("There are not alternative value separators applicable for examples table");
+        if (firstApplicable == applicable.length)
+        {
+            throw new IllegalArgumentException(
+                    "There are not alternative value separators applicable for examples table");
+        }
+        String separator = valueSeparators.get(firstApplicable);
+        properties.getProperties().setProperty(VALUE_SEPARATOR_KEY, separator);
+        return separator;
     }
 
     private static List<List<String>> transpose(Collection<List<String>> columnsData)
@@ -160,4 +220,73 @@ public final class ExamplesTableProcessor
     {
         return columnsData.stream().map(l -> l.get(rowIndex)).collect(Collectors.toList());
     }
+
+    private static final class BuiltTable
+    {
+        private final List<String> header;
+        private final List<List<String>> data;
+        private final String headerSeparator;
+        private final String valueSeparator;
+        private final String ignorableSeparator;
+        private final String rowSeparator;
+        private final boolean parsingAffectingPropertiesSet;
+
+        private BuiltTable(List<String> header, List<List<String>> data, TableProperties properties,
+                String valueSeparator)
+        {
+            this.header = header;
+            this.data = data;
+            this.headerSeparator = properties.getHeaderSeparator();
+            this.valueSeparator = valueSeparator;
+            this.ignorableSeparator = properties.getIgnorableSeparator();
+            this.rowSeparator = properties.getRowSeparator();
+            this.parsingAffectingPropertiesSet = hasParsingAffectingProperties(properties);
+        }
+
+        private boolean isReparsable()
+        {
+            return !parsingAffectingPropertiesSet
+                    && header.size() == new HashSet<>(header).size()
+                    && isReparsableLine(header, headerSeparator)
+                    && data.stream().allMatch(row -> row.size() == header.size()
+                            && isReparsableLine(row, valueSeparator));
+        }
+
+        private boolean isReparsableLine(List<String> cells, String separator)
+        {
+            if (!cells.isEmpty() && (separator + cells.get(0)).startsWith(ignorableSeparator))
+            {
+                return false;
+            }
+            return cells.stream().allMatch(cell -> cell.equals(cell.trim()) && !cell.contains(rowSeparator)
+                    && !cell.contains(headerSeparator) && !cell.contains(valueSeparator)
+                    && !cell.contains(ignorableSeparator));
+        }
+
+        private boolean isParsableWith(TableProperties properties)
+        {
+            return headerSeparator.equals(properties.getHeaderSeparator())
+                    && valueSeparator.equals(properties.getValueSeparator())
+                    && ignorableSeparator.equals(properties.getIgnorableSeparator())
+                    && !hasParsingAffectingProperties(properties);
+        }
+
+        private List<Map<String, String>> asRows()
+        {
+            return data.stream().map(row ->
+            {
+                Map<String, String> rowAsMap = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++)
+                {
+                    rowAsMap.put(header.get(i), row.get(i));
+                }
+                return rowAsMap;
+            }).collect(Collectors.toList());
+        }
+
+        private static boolean hasParsingAffectingProperties(TableProperties properties)
+        {
+            return PARSING_AFFECTING_PROPERTIES.stream().anyMatch(properties.getProperties()::containsKey);
+        }
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.util;
+
+import java.util.List;
+import java.util.Map;
+
+public final class ParsedTable
+{
+    private final List<String> headers;
+    private final List<Map<String, String>> rows;
+
+    public ParsedTable(List<String> headers, List<Map<String, String>> rows)
+    {
+        this.headers = headers;
+        this.rows = rows;
+    }
+
+    public List<String> getHeaders()
+    {
+        return headers;
+    }
+
+    public List<Map<String, String>> getRows()
+    {
+        return rows;
+    }
+}
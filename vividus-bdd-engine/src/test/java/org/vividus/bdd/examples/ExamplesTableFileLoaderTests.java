@@ -19,11 +19,13 @@ package org.vividus.bdd.examples;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -54,6 +56,12 @@ class ExamplesTableFileLoaderTests
 
     private final ResourceLoader resourceLoader = new ClassRelativeResourceLoader(getClass());
 
+    @BeforeEach
+    void beforeEach()
+    {
+        examplesTableFileLoader.setTableDataCache(new TableDataCache(false, 0));
+    }
+
     @Test
     void testLoadExamplesTable()
     {
@@ -65,15 +73,18 @@ class ExamplesTableFileLoaderTests
     }
 
     @Test
-    void shouldCacheExamplesTableByPath()
+    void shouldCacheExamplesTableByPath() throws IOException
     {
-        Resource resource = resourceLoader.getResource(TABLE_FILENAME);
+        Resource resource = spy(resourceLoader.getResource(TABLE_FILENAME));
         when(parameterAdaptor.convert(PRE_PROCESSED)).thenReturn(TABLE_FILENAME);
         when(bddResourceLoader.getResource(TABLE_FILENAME)).thenReturn(resource);
-        examplesTableFileLoader.setCacheTables(true);
+        TableDataCache tableDataCache = new TableDataCache(true, 1024);
+        examplesTableFileLoader.setTableDataCache(tableDataCache);
         assertEquals(TABLE_CONTENT, examplesTableFileLoader.loadExamplesTable(PRE_PROCESSED).trim());
         assertEquals(TABLE_CONTENT, examplesTableFileLoader.loadExamplesTable(PRE_PROCESSED).trim());
-        verify(bddResourceLoader).getResource(TABLE_FILENAME);
+        verify(resource).getInputStream();
+        assertEquals(1, tableDataCache.getStatistics().hitCount());
+        assertEquals(1, tableDataCache.getStatistics().missCount());
     }
 
     @Test
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.examples;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.vividus.util.function.CheckedSupplier;
+
+class TableDataCacheTests
+{
+    private static final String KEY = "table:data.table";
+    private static final String DATA = "|header|";
+    private static final long LAST_MODIFIED = 1L;
+
+    @Test
+    void shouldLoadDataEachTimeIfCacheIsDisabled() throws IOException
+    {
+        TableDataCache cache = new TableDataCache(false, 1024);
+        CheckedSupplier<String, IOException> loader = mockLoader();
+        assertEquals(DATA, cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize));
+        assertEquals(DATA, cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize));
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldReloadDataIfSourceIsModified() throws IOException
+    {
+        TableDataCache cache = new TableDataCache(true, 1024);
+        CheckedSupplier<String, IOException> loader = mockLoader();
+        assertEquals(DATA, cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize));
+        assertEquals(DATA, cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize));
+        assertEquals(DATA, cache.get(KEY, LAST_MODIFIED + 1, loader, TableDataCache::estimateSize));
+        verify(loader, times(2)).get();
+        assertEquals(1, cache.getStatistics().hitCount());
+        assertEquals(2, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void shouldEvictDataExceedingSizeBudget() throws IOException
+    {
+        TableDataCache cache = new TableDataCache(true, 10);
+        CheckedSupplier<String, IOException> loader = mockLoader();
+        cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize);
+        cache.get(KEY, LAST_MODIFIED, loader, TableDataCache::estimateSize);
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void shouldRethrowLoaderException()
+    {
+        TableDataCache cache = new TableDataCache(true, 1024);
+        IOException exception = new IOException();
+        IOException actual = assertThrows(IOException.class, () -> cache.get(KEY, LAST_MODIFIED, () -> {
+            throw exception;
+        }, TableDataCache::estimateSize));
+        assertSame(exception, actual);
+    }
+
+    @Test
+    void shouldLoadDataOnceForConcurrentRequests() throws Exception
+    {
+        TableDataCache cache = new TableDataCache(true, 1024);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadAllowed = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(KEY, LAST_MODIFIED, () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(loadAllowed);
+            return DATA;
+        }, TableDataCache::estimateSize));
+        await(loadStarted);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(KEY, LAST_MODIFIED, () -> {
+            loads.incrementAndGet();
+            return DATA;
+        }, TableDataCache::estimateSize));
+        loadAllowed.countDown();
+        assertEquals(DATA, first.get(1, TimeUnit.MINUTES));
+        assertEquals(DATA, second.get(1, TimeUnit.MINUTES));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldEstimateSize()
+    {
+        assertEquals(16 + 2 * 3, TableDataCache.estimateSize("abc"));
+        assertEquals(16 + 16 + 2 * 3 + 16 + 16, TableDataCache.estimateSize(List.of(List.of("abc"), 1)));
+    }
+
+    private static void await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CheckedSupplier<String, IOException> mockLoader() throws IOException
+    {
+        CheckedSupplier<String, IOException> loader = mock(CheckedSupplier.class);
+        when(loader.get()).thenReturn(DATA);
+        return loader;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.vividus.bdd.parser;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Properties;
+
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingStoryParserTests
+{
+    private static final String PATH = "story/first.story";
+    private static final String TEXT = "Scenario: first";
+
+    @Mock
+    private StoryParser delegate;
+
+    @Test
+    void shouldReuseStoryWithSameContentAndPath()
+    {
+        Story story = mockStory(new Properties());
+        when(delegate.parseStory(TEXT, PATH)).thenReturn(story);
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        assertSame(story, parser.parseStory(TEXT, PATH));
+        assertSame(story, parser.parseStory(TEXT, PATH));
+        verify(delegate).parseStory(TEXT, PATH);
+    }
+
+    @Test
+    void shouldParseStoryWithChangedContentOrPath()
+    {
+        String changedText = "Scenario: changed";
+        String otherPath = "story/second.story";
+        Story story = mockStory(new Properties());
+        Story changedStory = mockStory(new Properties());
+        Story otherStory = mockStory(new Properties());
+        when(delegate.parseStory(TEXT, PATH)).thenReturn(story);
+        when(delegate.parseStory(changedText, PATH)).thenReturn(changedStory);
+        when(delegate.parseStory(TEXT, otherPath)).thenReturn(otherStory);
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        assertSame(story, parser.parseStory(TEXT, PATH));
+        assertSame(changedStory, parser.parseStory(changedText, PATH));
+        assertSame(otherStory, parser.parseStory(TEXT, otherPath));
+    }
+
+    @Test
+    void shouldNotCacheStoryWithTransformedExamplesTable()
+    {
+        Properties properties = new Properties();
+        properties.setProperty("transformer", "FROM_EXCEL");
+        Story story = mockStory(properties);
+        when(delegate.parseStory(TEXT, null)).thenReturn(story);
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        assertSame(story, parser.parseStory(TEXT));
+        assertSame(story, parser.parseStory(TEXT));
+        verify(delegate, times(2)).parseStory(TEXT, null);
+    }
+
+    private static Story mockStory(Properties examplesTableProperties)
+    {
+        ExamplesTable examplesTable = mock(ExamplesTable.class);
+        when(examplesTable.getProperties()).thenReturn(examplesTableProperties);
+        Scenario scenario = mock(Scenario.class);
+        when(scenario.getExamplesTable()).thenReturn(examplesTable);
+        Story story = mock(Story.class);
+        when(story.getLifecycle()).thenReturn(Lifecycle.EMPTY);
+        when(story.getScenarios()).thenReturn(List.of(scenario));
+        return story;
+    }
+}
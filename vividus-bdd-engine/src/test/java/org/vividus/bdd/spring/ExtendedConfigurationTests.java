@@ -19,6 +19,7 @@ package org.vividus.bdd.spring;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -41,6 +42,7 @@ import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.embedder.StoryControls;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Story;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.parsers.RegexStoryParser;
 import org.jbehave.core.reporters.ViewGenerator;
@@ -60,6 +62,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.vividus.bdd.IPathFinder;
 import org.vividus.bdd.batch.BatchResourceConfiguration;
+import org.vividus.bdd.parser.CachingStoryParser;
 import org.vividus.bdd.steps.ExpressionAdaptor;
 import org.vividus.bdd.steps.ParameterAdaptor;
 import org.vividus.bdd.steps.ParameterConvertersDecorator;
@@ -125,7 +128,12 @@ public class ExtendedConfigurationTests
 
         InOrder inOrder = inOrder(spy);
         inOrder.verify(spy).useParameterConverters(parameterConverters);
-        inOrder.verify(spy).useStoryParser(regexStoryParser);
+        inOrder.verify(spy).useStoryParser(argThat(parser -> parser instanceof CachingStoryParser));
+        String storyAsText = "storyAsText";
+        String storyPath = "storyPath";
+        Story story = new Story(storyPath);
+        when(regexStoryParser.parseStory(storyAsText, storyPath)).thenReturn(story);
+        assertSame(story, spy.storyParser().parseStory(storyAsText, storyPath));
 
         verify(spy).useStoryControls(storyControls);
         verifyStepMonitor(spy, stepMonitors.get(0));
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.jbehave.core.steps.StepCandidate;
+import org.jbehave.core.steps.StepFinder.PrioritisingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndexingPrioritisingStrategyTests
+{
+    private static final String STEP = "When I wait `PT1S`";
+
+    @Mock
+    private PrioritisingStrategy delegate;
+
+    @Test
+    void shouldKeepFirstPrioritisedCandidateAndMatchingCandidates()
+    {
+        StepCandidate first = mockCandidate("Given", "I open page `$url`");
+        StepCandidate wait = mockCandidate("When", "I wait `$duration`");
+        StepCandidate other = mockCandidate("When", "I refresh the page");
+        List<StepCandidate> candidates = List.of(other, wait, first);
+        List<StepCandidate> prioritised = List.of(first, other, wait);
+        when(delegate.prioritise(STEP, candidates)).thenReturn(prioritised);
+        IndexingPrioritisingStrategy strategy = new IndexingPrioritisingStrategy(delegate);
+        assertEquals(List.of(first, wait), strategy.prioritise(STEP, candidates));
+        assertEquals(List.of(first, wait), strategy.prioritise(STEP, candidates));
+    }
+
+    @Test
+    void shouldReturnPrioritisedCandidatesAsIsIfThereIsNothingToFilter()
+    {
+        List<StepCandidate> candidates = List.of(mock(StepCandidate.class));
+        when(delegate.prioritise(STEP, candidates)).thenReturn(candidates);
+        assertEquals(candidates, new IndexingPrioritisingStrategy(delegate).prioritise(STEP, candidates));
+    }
+
+    private static StepCandidate mockCandidate(String startingWord, String pattern)
+    {
+        StepCandidate candidate = mock(StepCandidate.class);
+        when(candidate.getStartingWord()).thenReturn(startingWord);
+        when(candidate.getPatternAsString()).thenReturn(pattern);
+        return candidate;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.jbehave.core.steps.StepCandidate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class StepCandidateIndexTests
+{
+    private final StepCandidate clickCandidate = mockCandidate("I click on element located `$locator`");
+    private final StepCandidate clickButtonCandidate = mockCandidate("I click on button with name `$name`");
+    private final StepCandidate waitCandidate = mockCandidate("I wait `$duration`");
+    private final StepCandidate parameterFirstCandidate = mockCandidate("`$value` is equal to `$expected`");
+    private final StepCandidate refreshCandidate = mockCandidate("I refresh the page");
+
+    private final StepCandidateIndex index = new StepCandidateIndex(List.of(clickCandidate, clickButtonCandidate,
+            waitCandidate, parameterFirstCandidate, refreshCandidate));
+
+    @ParameterizedTest
+    @CsvSource({
+        "When I click on element located `By.id(a)`, 0",
+        "When I click on button with name `Submit`,  1",
+        "When I wait `PT1S`,                         2"
+    })
+    void shouldFindCandidatesByLiteralWords(String step, int expectedCandidatePosition)
+    {
+        List<StepCandidate> candidates = List.of(clickCandidate, clickButtonCandidate, waitCandidate);
+        assertEquals(List.of(candidates.get(expectedCandidatePosition), parameterFirstCandidate),
+                index.findCandidates(step));
+    }
+
+    @Test
+    void shouldFindCandidateWithoutParameters()
+    {
+        assertEquals(List.of(parameterFirstCandidate, refreshCandidate),
+                index.findCandidates("When I refresh the page"));
+    }
+
+    @Test
+    void shouldReturnCandidatesStartingWithParametersForUnknownStep()
+    {
+        assertEquals(List.of(parameterFirstCandidate), index.findCandidates("Then `1` is equal to `1`"));
+    }
+
+    @Test
+    void shouldReturnAllCandidatesBelowNamedParameter()
+    {
+        assertEquals(List.of(clickCandidate, clickButtonCandidate, parameterFirstCandidate),
+                index.findCandidates("When I click <target>"));
+    }
+
+    @Test
+    void shouldFindCandidatesAmongCandidatesInTheSameOrder()
+    {
+        StepCandidate otherWaitCandidate = mockCandidate("I wait `$duration`");
+        StepCandidate otherParameterFirstCandidate = mockCandidate("`$value` is equal to `$expected`");
+        List<StepCandidate> sameOrderCandidates = List.of(mock(StepCandidate.class), mock(StepCandidate.class),
+                otherWaitCandidate, otherParameterFirstCandidate, mock(StepCandidate.class));
+        assertEquals(List.of(otherWaitCandidate, otherParameterFirstCandidate),
+                index.findCandidates("Given I wait `PT5S`", sameOrderCandidates));
+        assertEquals(5, index.size());
+    }
+
+    private static StepCandidate mockCandidate(String pattern)
+    {
+        StepCandidate candidate = mock(StepCandidate.class);
+        when(candidate.getPatternAsString()).thenReturn(pattern);
+        return candidate;
+    }
+}
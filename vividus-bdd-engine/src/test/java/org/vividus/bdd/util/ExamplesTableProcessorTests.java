@@ -18,12 +18,18 @@ package org.vividus.bdd.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 
 import org.jbehave.core.model.ExamplesTable.TableProperties;
+import org.jbehave.core.model.TableParsers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -100,7 +106,67 @@ class ExamplesTableProcessorTests
                 ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(values), tableProperties, false, true));
     }
 
-    private TableProperties createProperties()
+    @Test
+    void shouldReuseRowsOfTableBuiltByPreviousTransformer()
+    {
+        TableParsers tableParsers = mock(TableParsers.class);
+        TableProperties properties = createProperties();
+        String table = ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(VALUES1, VALUES2), properties, true);
+        ParsedTable parsedTable = ExamplesTableProcessor.parseRows(table, tableParsers, createProperties());
+        assertEquals(KEYS, parsedTable.getHeaders());
+        assertEquals(List.of(Map.of("key1", "4", "key2", "3"), Map.of("key1", "1", "key2", ZERO)),
+                parsedTable.getRows());
+        verifyNoInteractions(tableParsers);
+    }
+
+    @Test
+    void shouldReuseRowsOfTablesBuiltByNestedTransformers()
+    {
+        TableParsers tableParsers = mock(TableParsers.class);
+        String outerTable = ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(VALUES1), createProperties(),
+                true);
+        String innerTable = ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(VALUES2), createProperties(),
+                true);
+        assertEquals(List.of(Map.of("key1", "4", "key2", "3")),
+                ExamplesTableProcessor.parseRows(outerTable, tableParsers, createProperties()).getRows());
+        assertEquals(List.of(Map.of("key1", "1", "key2", ZERO)),
+                ExamplesTableProcessor.parseRows(innerTable, tableParsers, createProperties()).getRows());
+        verifyNoInteractions(tableParsers);
+    }
+
+    @Test
+    void shouldParseTableEqualToBuiltOneButNotBuiltByTransformer()
+    {
+        TableProperties properties = createProperties();
+        String table = ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(VALUES1), properties, true);
+        assertParsedWithTableParsers(new StringBuilder(table).toString(), properties);
+    }
+
+    @Test
+    void shouldParseTableWithSeparatorsInValues()
+    {
+        TableProperties properties = createProperties();
+        String table = ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(List.of("v\\|a1", " a2 ")),
+                properties, false);
+        assertParsedWithTableParsers(table, properties);
+    }
+
+    @Test
+    void shouldParseTableDifferentFromBuiltOne()
+    {
+        TableProperties properties = createProperties();
+        ExamplesTableProcessor.buildExamplesTable(KEYS, List.of(VALUES1), properties, true);
+        assertParsedWithTableParsers(TABLE, properties);
+    }
+
+    private static void assertParsedWithTableParsers(String table, TableProperties properties)
+    {
+        TableParsers tableParsers = spy(new TableParsers());
+        ExamplesTableProcessor.parseRows(table, tableParsers, properties);
+        verify(tableParsers).parseRows(table, properties);
+    }
+
+    private static TableProperties createProperties()
     {
         return new TableProperties(new Properties());
     }
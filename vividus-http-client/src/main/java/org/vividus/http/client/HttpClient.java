@@ -39,6 +39,7 @@ public class HttpClient implements IHttpClient, AutoCloseable
     private CloseableHttpClient closeableHttpClient;
     private HttpHost httpHost;
     private boolean skipResponseEntity;
+    private boolean skipRequestLogging;
 
     @Override
     public HttpHost getHttpHost()
@@ -79,18 +80,23 @@ public class HttpClient implements IHttpClient, AutoCloseable
     @Override
     public HttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException
     {
-        LOGGER.info("{}", request);
+        if (!skipRequestLogging)
+        {
+            LOGGER.info("{}", request);
+        }
         StopWatch watch = new StopWatch();
         HttpResponse httpResponse = new HttpResponse();
         httpResponse.setMethod(request.getMethod());
         httpResponse.setFrom(request.getURI());
         watch.start();
+        HttpTimings timings = HttpTimingsRecorder.start();
         try (CloseableHttpResponse response = httpHost != null ? closeableHttpClient.execute(httpHost, request, context)
                 : closeableHttpClient.execute(request, context))
         {
             HttpEntity entity = response.getEntity();
             if (entity != null)
             {
+                long downloadStart = System.nanoTime();
                 if (!skipResponseEntity)
                 {
                     httpResponse.setResponseBody(EntityUtils.toByteArray(entity));
@@ -99,12 +105,18 @@ public class HttpClient implements IHttpClient, AutoCloseable
                 {
                     EntityUtils.consume(entity);
                 }
+                HttpTimingsRecorder.record(HttpPhase.BODY_DOWNLOAD, downloadStart);
             }
             httpResponse.setResponseHeaders(response.getAllHeaders());
             httpResponse.setStatusCode(response.getStatusLine().getStatusCode());
         }
+        finally
+        {
+            HttpTimingsRecorder.stop();
+        }
         watch.stop();
         httpResponse.setResponseTimeInMs(watch.getTime());
+        httpResponse.setTimings(timings);
         return httpResponse;
     }
 
@@ -123,6 +135,11 @@ public class HttpClient implements IHttpClient, AutoCloseable
         this.skipResponseEntity = skipResponseEntity;
     }
 
+    public void setSkipRequestLogging(boolean skipRequestLogging)
+    {
+        this.skipRequestLogging = skipRequestLogging;
+    }
+
     @Override
     public void close() throws IOException
     {
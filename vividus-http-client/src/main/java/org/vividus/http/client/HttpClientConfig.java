@@ -51,6 +51,7 @@ public class HttpClientConfig
     private int socketTimeout;
     private CookieStore cookieStore;
     private boolean skipResponseEntity;
+    private boolean skipRequestLogging;
     private DnsResolver dnsResolver;
     private boolean circularRedirectsAllowed;
     private String cookieSpec;
@@ -247,6 +248,16 @@ public class HttpClientConfig
         this.skipResponseEntity = skipResponseEntity;
     }
 
+    public boolean isSkipRequestLogging()
+    {
+        return skipRequestLogging;
+    }
+
+    public void setSkipRequestLogging(boolean skipRequestLogging)
+    {
+        this.skipRequestLogging = skipRequestLogging;
+    }
+
     public DnsResolver getDnsResolver()
     {
         return dnsResolver;
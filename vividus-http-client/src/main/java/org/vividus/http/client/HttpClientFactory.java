@@ -18,15 +18,25 @@ package org.vividus.http.client;
 
 import java.util.Optional;
 
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.config.RequestConfig.Builder;
 import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.util.PublicSuffixMatcherLoader;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.ssl.SSLContexts;
 
 public class HttpClientFactory implements IHttpClientFactory
 {
@@ -50,16 +60,13 @@ public class HttpClientFactory implements IHttpClientFactory
             builder.setDefaultCredentialsProvider(credProvider);
         }
 
-        sslContextFactory.getSslContext(SSLConnectionSocketFactory.SSL, !config.isSslCertificateCheckEnabled())
-                .ifPresent(builder::setSSLContext);
-
-        if (!config.isSslHostnameVerificationEnabled())
+        HttpClientConnectionManager connectionManager = config.getConnectionManager();
+        if (connectionManager == null)
         {
-            builder.setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+            connectionManager = createConnectionManager(config);
         }
-        builder.setConnectionManager(config.getConnectionManager());
-        builder.setMaxConnTotal(config.getMaxTotalConnections());
-        builder.setMaxConnPerRoute(config.getMaxConnectionsPerRoute());
+        builder.setConnectionManager(connectionManager);
+        builder.setRequestExecutor(new TimingHttpRequestExecutor());
         builder.addInterceptorLast(config.getLastRequestInterceptor());
         builder.addInterceptorLast(config.getLastResponseInterceptor());
         builder.setRedirectStrategy(config.getRedirectStrategy());
@@ -71,10 +78,6 @@ public class HttpClientFactory implements IHttpClientFactory
         requestConfigBuilder.setSocketTimeout(config.getSocketTimeout());
         Optional.ofNullable(config.getCookieSpec()).ifPresent(requestConfigBuilder::setCookieSpec);
         builder.setDefaultRequestConfig(requestConfigBuilder.build());
-        builder.setDefaultSocketConfig(SocketConfig.copy(SocketConfig.DEFAULT)
-                .setSoTimeout(config.getSocketTimeout())
-                .build());
-        builder.setDnsResolver(config.getDnsResolver());
 
         HttpClient httpClient = new HttpClient();
         httpClient.setCloseableHttpClient(builder.build());
@@ -83,9 +86,38 @@ public class HttpClientFactory implements IHttpClientFactory
             httpClient.setHttpHost(HttpHost.create(config.getBaseUrl()));
         }
         httpClient.setSkipResponseEntity(config.isSkipResponseEntity());
+        httpClient.setSkipRequestLogging(config.isSkipRequestLogging());
         return httpClient;
     }
 
+    private PoolingHttpClientConnectionManager createConnectionManager(HttpClientConfig config)
+    {
+        SSLContext sslContext = sslContextFactory
+                .getSslContext(SSLConnectionSocketFactory.SSL, !config.isSslCertificateCheckEnabled())
+                .orElseGet(SSLContexts::createDefault);
+        HostnameVerifier hostnameVerifier = config.isSslHostnameVerificationEnabled()
+                ? new DefaultHostnameVerifier(PublicSuffixMatcherLoader.getDefault())
+                : NoopHostnameVerifier.INSTANCE;
+        DnsResolver dnsResolver = Optional.ofNullable(config.getDnsResolver())
+                .orElse(SystemDefaultDnsResolver.INSTANCE);
+
+        PoolingHttpClientConnectionManager connectionManager = new TimingConnectionManager(
+                new TimingSslConnectionSocketFactory(sslContext, hostnameVerifier),
+                new TimingDnsResolver(dnsResolver));
+        connectionManager.setDefaultSocketConfig(SocketConfig.copy(SocketConfig.DEFAULT)
+                .setSoTimeout(config.getSocketTimeout())
+                .build());
+        if (config.getMaxTotalConnections() > 0)
+        {
+            connectionManager.setMaxTotal(config.getMaxTotalConnections());
+        }
+        if (config.getMaxConnectionsPerRoute() > 0)
+        {
+            connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        }
+        return connectionManager;
+    }
+
     public void setSslContextFactory(ISslContextFactory sslContextFactory)
     {
         this.sslContextFactory = sslContextFactory;
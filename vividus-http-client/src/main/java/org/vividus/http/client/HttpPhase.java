@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+public enum HttpPhase
+{
+    CONNECTION_LEASE("Connection lease"),
+    DNS_RESOLUTION("DNS resolution"),
+    TCP_CONNECT("TCP connect"),
+    TLS_HANDSHAKE("TLS handshake"),
+    TIME_TO_FIRST_BYTE("Time to first byte"),
+    BODY_DOWNLOAD("Body download");
+
+    private final String description;
+
+    HttpPhase(String description)
+    {
+        this.description = description;
+    }
+
+    public String getDescription()
+    {
+        return description;
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.vividus.http.client;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
@@ -30,6 +32,7 @@ public class HttpResponse
     private String method;
     private int statusCode;
     private long responseTimeInMs;
+    private HttpTimings timings = new HttpTimings();
     private byte[] responseBody;
     private Header[] responseHeaders;
 
@@ -73,6 +76,16 @@ public class HttpResponse
         this.responseTimeInMs = responseTimeInMs;
     }
 
+    public HttpTimings getTimings()
+    {
+        return timings;
+    }
+
+    public void setTimings(HttpTimings timings)
+    {
+        this.timings = timings;
+    }
+
     public byte[] getResponseBody()
     {
         return ArrayUtils.clone(responseBody);
@@ -88,6 +101,11 @@ public class HttpResponse
         return responseBody != null ? new String(responseBody, StandardCharsets.UTF_8) : null;
     }
 
+    public InputStream getResponseBodyAsStream()
+    {
+        return responseBody != null ? new ByteArrayInputStream(responseBody) : null;
+    }
+
     public Header[] getResponseHeaders()
     {
         return ArrayUtils.clone(responseHeaders);
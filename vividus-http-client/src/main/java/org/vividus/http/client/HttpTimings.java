@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Durations of the phases of HTTP request execution. The phases happened several times (e.g. in case of redirects)
+ * are summed up, the phases not happened at all (e.g. DNS resolution and TCP connect for the pooled connection) are
+ * absent.
+ */
+public class HttpTimings
+{
+    private final Map<HttpPhase, Duration> durations = new EnumMap<>(HttpPhase.class);
+
+    void add(HttpPhase phase, long durationInNanos)
+    {
+        durations.merge(phase, Duration.ofNanos(durationInNanos), Duration::plus);
+    }
+
+    /**
+     * Gets the duration of the given phase
+     * @param phase HTTP phase
+     * @return Duration of the phase or zero duration if the phase has not happened
+     */
+    public Duration getDuration(HttpPhase phase)
+    {
+        return durations.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Gets the durations of the happened phases in the order of their execution
+     * @return Durations of the phases
+     */
+    public Map<HttpPhase, Duration> getDurations()
+    {
+        return Collections.unmodifiableMap(durations);
+    }
+}
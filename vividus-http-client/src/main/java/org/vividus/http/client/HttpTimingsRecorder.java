@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+/**
+ * Binds the timings of the HTTP request being executed to the current thread, so the components of the blocking
+ * HTTP client, which have no access to the request context (e.g. DNS resolver or socket), are able to report them.
+ */
+final class HttpTimingsRecorder
+{
+    private static final ThreadLocal<HttpTimings> CURRENT_TIMINGS = new ThreadLocal<>();
+
+    private HttpTimingsRecorder()
+    {
+    }
+
+    static HttpTimings start()
+    {
+        HttpTimings timings = new HttpTimings();
+        CURRENT_TIMINGS.set(timings);
+        return timings;
+    }
+
+    static void stop()
+    {
+        CURRENT_TIMINGS.remove();
+    }
+
+    static void record(HttpPhase phase, long startNanos)
+    {
+        HttpTimings timings = CURRENT_TIMINGS.get();
+        if (timings != null)
+        {
+            timings.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+}
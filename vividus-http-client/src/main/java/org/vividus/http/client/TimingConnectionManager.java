@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * Pooling connection manager measuring the time spent waiting for the connection lease. The DNS resolution, TCP
+ * connect and TLS handshake are measured by the resolver and socket factories it is created with.
+ */
+class TimingConnectionManager extends PoolingHttpClientConnectionManager
+{
+    TimingConnectionManager(LayeredConnectionSocketFactory sslSocketFactory, DnsResolver dnsResolver)
+    {
+        super(RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimingPlainConnectionSocketFactory())
+                .register("https", sslSocketFactory)
+                .build(), dnsResolver);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state)
+    {
+        ConnectionRequest connectionRequest = super.requestConnection(route, state);
+        return new ConnectionRequest()
+        {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException
+            {
+                long start = System.nanoTime();
+                try
+                {
+                    return connectionRequest.get(timeout, timeUnit);
+                }
+                finally
+                {
+                    HttpTimingsRecorder.record(HttpPhase.CONNECTION_LEASE, start);
+                }
+            }
+
+            @Override
+            public boolean cancel()
+            {
+                return connectionRequest.cancel();
+            }
+        };
+    }
+}
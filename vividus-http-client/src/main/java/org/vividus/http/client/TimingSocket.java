@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketAddress;
+
+class TimingSocket extends Socket
+{
+    @Override
+    public void connect(SocketAddress endpoint, int timeout) throws IOException
+    {
+        long start = System.nanoTime();
+        try
+        {
+            super.connect(endpoint, timeout);
+        }
+        finally
+        {
+            HttpTimingsRecorder.record(HttpPhase.TCP_CONNECT, start);
+        }
+    }
+}
@@ -302,6 +302,12 @@ class HttpClientConfigTests
         assertFalse(config.isSkipResponseEntity());
     }
 
+    @Test
+    void testSkipRequestLogging()
+    {
+        assertFalse(config.isSkipRequestLogging());
+    }
+
     @Test
     void testGetAndSetDnsResolver()
     {
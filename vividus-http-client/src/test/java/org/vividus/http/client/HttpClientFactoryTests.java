@@ -20,9 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
@@ -44,14 +46,17 @@ import org.apache.http.client.RedirectStrategy;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -84,6 +89,12 @@ public class HttpClientFactoryTests
     @Mock
     private CredentialsProvider credentialsProvider;
 
+    @Mock
+    private TimingSslConnectionSocketFactory sslSocketFactory;
+
+    @Mock
+    private TimingDnsResolver timingDnsResolver;
+
     private final HttpClientConfig config = new HttpClientConfig();
 
     @Before
@@ -97,6 +108,8 @@ public class HttpClientFactoryTests
 
         PowerMockito.mock(HttpClient.class);
         PowerMockito.whenNew(HttpClient.class).withNoArguments().thenReturn(mockedHttpClient);
+        PowerMockito.whenNew(TimingSslConnectionSocketFactory.class).withAnyArguments().thenReturn(sslSocketFactory);
+        PowerMockito.whenNew(TimingDnsResolver.class).withAnyArguments().thenReturn(timingDnsResolver);
     }
 
     @Test
@@ -152,7 +165,7 @@ public class HttpClientFactoryTests
     }
 
     @Test
-    public void testBuildTrustedHttpClient()
+    public void testBuildTrustedHttpClient() throws Exception
     {
         config.setCredentials(CREDS);
         config.setSslCertificateCheckEnabled(false);
@@ -160,27 +173,56 @@ public class HttpClientFactoryTests
         SSLContext mockedSSLContext = mock(SSLContext.class);
         when(mockedSSLContextManager.getSslContext(SSLConnectionSocketFactory.SSL, true))
                 .thenReturn(Optional.of(mockedSSLContext));
-        testBuildHttpClientUsingConfig();
+        httpClientFactory.buildHttpClient(config);
         verify(mockedHttpClientBuilder, never()).setDefaultCredentialsProvider(credentialsProvider);
-        verify(mockedHttpClientBuilder).setSSLContext(mockedSSLContext);
+        PowerMockito.verifyNew(TimingSslConnectionSocketFactory.class).withArguments(eq(mockedSSLContext),
+                any(DefaultHostnameVerifier.class));
     }
 
     @Test
-    public void testBuildHostnameVerifierHttpClient()
+    public void testBuildHostnameVerifierHttpClient() throws Exception
     {
         config.setCredentials(CREDS);
         config.setSslHostnameVerificationEnabled(false);
-        testBuildHttpClientUsingConfig();
-        verify(mockedHttpClientBuilder).setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+        httpClientFactory.buildHttpClient(config);
+        PowerMockito.verifyNew(TimingSslConnectionSocketFactory.class).withArguments(any(SSLContext.class),
+                eq(NoopHostnameVerifier.INSTANCE));
     }
 
     @Test
-    public void testBuildDnsResolver()
+    public void testBuildDnsResolver() throws Exception
     {
         DnsResolver resolver = mock(DnsResolver.class);
         config.setDnsResolver(resolver);
-        testBuildHttpClientUsingConfig();
-        verify(mockedHttpClientBuilder).setDnsResolver(resolver);
+        httpClientFactory.buildHttpClient(config);
+        PowerMockito.verifyNew(TimingDnsResolver.class).withArguments(resolver);
+    }
+
+    @Test
+    public void testBuildDefaultDnsResolver() throws Exception
+    {
+        httpClientFactory.buildHttpClient(config);
+        PowerMockito.verifyNew(TimingDnsResolver.class).withArguments(SystemDefaultDnsResolver.INSTANCE);
+    }
+
+    @Test
+    public void testBuildTimingConnectionManager()
+    {
+        int maxTotalConnections = 10;
+        config.setMaxTotalConnections(maxTotalConnections);
+        int maxConnectionsPerRoute = 2;
+        config.setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        int socketTimeout = 10_000;
+        config.setSocketTimeout(socketTimeout);
+        httpClientFactory.buildHttpClient(config);
+        ArgumentCaptor<HttpClientConnectionManager> connectionManagerCaptor = ArgumentCaptor.forClass(
+                HttpClientConnectionManager.class);
+        verify(mockedHttpClientBuilder).setConnectionManager(connectionManagerCaptor.capture());
+        TimingConnectionManager connectionManager = (TimingConnectionManager) connectionManagerCaptor.getValue();
+        assertEquals(maxTotalConnections, connectionManager.getMaxTotal());
+        assertEquals(maxConnectionsPerRoute, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(socketTimeout, connectionManager.getDefaultSocketConfig().getSoTimeout());
+        verify(mockedHttpClientBuilder).setRequestExecutor(any(TimingHttpRequestExecutor.class));
     }
 
     @Test
@@ -200,28 +242,19 @@ public class HttpClientFactoryTests
         config.setHeadersMap(HEADERS);
         config.setCredentials(CREDS);
         config.setAuthScope(AUTH_SCOPE);
-        config.setSslCertificateCheckEnabled(false);
         config.setSkipResponseEntity(true);
+        config.setSkipRequestLogging(true);
         CookieStore cookieStore = new BasicCookieStore();
         config.setCookieStore(cookieStore);
-        config.setSslHostnameVerificationEnabled(false);
-        DnsResolver resolver = mock(DnsResolver.class);
-        config.setDnsResolver(resolver);
-
-        SSLContext mockedSSLContext = mock(SSLContext.class);
-        when(mockedSSLContextManager.getSslContext(SSLConnectionSocketFactory.SSL, true))
-                .thenReturn(Optional.of(mockedSSLContext));
 
         prepareClientBuilderUtilsMock();
 
         testBuildHttpClientUsingConfig();
-        verify(mockedHttpClientBuilder).setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
         verify(mockedHttpClient).setHttpHost(HttpHost.create(baseUrl));
         verify(mockedHttpClient).setSkipResponseEntity(config.isSkipResponseEntity());
-        verify(mockedHttpClientBuilder).setSSLContext(mockedSSLContext);
+        verify(mockedHttpClient).setSkipRequestLogging(config.isSkipRequestLogging());
         verify(mockedHttpClientBuilder).setDefaultCredentialsProvider(credentialsProvider);
         verify(mockedHttpClientBuilder).setDefaultCookieStore(cookieStore);
-        verify(mockedHttpClientBuilder).setDnsResolver(resolver);
         verifyDefaultHeaderSetting(HEADERS.entrySet().iterator().next());
         PowerMockito.verifyStatic(ClientBuilderUtils.class);
         ClientBuilderUtils.createCredentialsProvider(AUTH_SCOPE, CREDS);
@@ -231,10 +264,6 @@ public class HttpClientFactoryTests
     {
         HttpClientConnectionManager connectionManager = mock(HttpClientConnectionManager.class);
         config.setConnectionManager(connectionManager);
-        int maxTotalConnections = 10;
-        config.setMaxTotalConnections(maxTotalConnections);
-        int maxConnectionsPerRoute = 2;
-        config.setMaxConnectionsPerRoute(maxConnectionsPerRoute);
         HttpRequestInterceptor requestInterceptor = mock(HttpRequestInterceptor.class);
         config.setLastRequestInterceptor(requestInterceptor);
         HttpResponseInterceptor responseInterceptor = mock(HttpResponseInterceptor.class);
@@ -255,8 +284,8 @@ public class HttpClientFactoryTests
         verifyBaseClientCreationPath(actualClient);
         verify(mockedHttpClientBuilder).setRetryHandler(handler);
         verify(mockedHttpClientBuilder).setConnectionManager(connectionManager);
-        verify(mockedHttpClientBuilder).setMaxConnTotal(maxTotalConnections);
-        verify(mockedHttpClientBuilder).setMaxConnPerRoute(maxConnectionsPerRoute);
+        verify(mockedHttpClientBuilder).setRequestExecutor(any(TimingHttpRequestExecutor.class));
+        verifyNoInteractions(mockedSSLContextManager);
         verify(mockedHttpClientBuilder).addInterceptorLast(requestInterceptor);
         verify(mockedHttpClientBuilder).addInterceptorLast(responseInterceptor);
         verify(mockedHttpClientBuilder).setRedirectStrategy(redirectStrategy);
@@ -265,8 +294,6 @@ public class HttpClientFactoryTests
                         && requestConfig.getConnectionRequestTimeout() == connectionRequestTimeout
                         && requestConfig.getSocketTimeout() == socketTimeout
                         && requestConfig.getCookieSpec().equals(cookieSpec)));
-        verify(mockedHttpClientBuilder)
-                .setDefaultSocketConfig(argThat(socketConfig -> socketConfig.getSoTimeout() == socketTimeout));
     }
 
     private void prepareClientBuilderUtilsMock()
@@ -34,6 +34,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Set;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -114,6 +115,7 @@ class HttpClientTests
         assertArrayEquals(headers, httpResponse.getResponseHeaders());
         assertEquals(statusCode, httpResponse.getStatusCode());
         assertThat(httpResponse.getResponseTimeInMs(), greaterThan(0L));
+        assertEquals(Set.of(HttpPhase.BODY_DOWNLOAD), httpResponse.getTimings().getDurations().keySet());
     }
 
     @Test
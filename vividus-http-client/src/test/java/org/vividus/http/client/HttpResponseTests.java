@@ -17,12 +17,14 @@
 package org.vividus.http.client;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
@@ -68,6 +70,15 @@ class HttpResponseTests
         assertNull(httpResponse.getResponseBody());
     }
 
+    @Test
+    void shouldReturnResponseBodyAsStream() throws IOException
+    {
+        assertNull(httpResponse.getResponseBodyAsStream());
+        byte[] body = { 1, 2 };
+        httpResponse.setResponseBody(body);
+        assertArrayEquals(body, httpResponse.getResponseBodyAsStream().readAllBytes());
+    }
+
     @Test
     void testGetNullResponseHeaders()
     {
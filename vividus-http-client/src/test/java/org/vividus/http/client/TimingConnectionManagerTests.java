@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.ssl.SSLContexts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingConnectionManagerTests
+{
+    private HttpServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void beforeEach() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange ->
+        {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody())
+            {
+                output.write(body);
+            }
+        });
+        server.start();
+        TimingConnectionManager connectionManager = new TimingConnectionManager(
+                new TimingSslConnectionSocketFactory(SSLContexts.createDefault(), NoopHostnameVerifier.INSTANCE),
+                new TimingDnsResolver(SystemDefaultDnsResolver.INSTANCE));
+        httpClient = new HttpClient();
+        httpClient.setCloseableHttpClient(HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setRequestExecutor(new TimingHttpRequestExecutor())
+                .build());
+    }
+
+    @AfterEach
+    void afterEach() throws IOException
+    {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldMeasureConnectionEstablishmentPhases() throws IOException
+    {
+        HttpResponse response = httpClient.doHttpGet(createUri());
+        assertEquals(Set.of(HttpPhase.CONNECTION_LEASE, HttpPhase.DNS_RESOLUTION, HttpPhase.TCP_CONNECT,
+                HttpPhase.TIME_TO_FIRST_BYTE, HttpPhase.BODY_DOWNLOAD),
+                response.getTimings().getDurations().keySet());
+    }
+
+    @Test
+    void shouldNotMeasureConnectionEstablishmentPhasesForPooledConnection() throws IOException
+    {
+        URI uri = createUri();
+        httpClient.doHttpGet(uri);
+        HttpResponse response = httpClient.doHttpGet(uri);
+        assertEquals(Set.of(HttpPhase.CONNECTION_LEASE, HttpPhase.TIME_TO_FIRST_BYTE, HttpPhase.BODY_DOWNLOAD),
+                response.getTimings().getDurations().keySet());
+    }
+
+    private URI createUri()
+    {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+}
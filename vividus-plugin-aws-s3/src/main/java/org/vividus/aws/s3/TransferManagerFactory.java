@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.aws.s3;
+
+import java.util.concurrent.Executors;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+
+/**
+ * Factory of transfer manager uploading the large files in parts and downloading the objects uploaded in parts using
+ * parallel ranged requests. The factory shuts down the thread pools of the created transfer manager, but keeps the S3
+ * client intact, since it's shared with other beans.
+ */
+public class TransferManagerFactory
+{
+    private final AmazonS3 amazonS3;
+    private final long minimumUploadPartSize;
+    private final long multipartUploadThreshold;
+    private final int parallelism;
+    private TransferManager transferManager;
+
+    /**
+     * Creates factory of transfer manager
+     * @param amazonS3 S3 client
+     * @param minimumUploadPartSize Minimum size of the uploaded part in bytes
+     * @param multipartUploadThreshold Size threshold in bytes to start multipart uploads from
+     * @param parallelism Number of parts transferred simultaneously
+     */
+    public TransferManagerFactory(AmazonS3 amazonS3, long minimumUploadPartSize, long multipartUploadThreshold,
+            int parallelism)
+    {
+        this.amazonS3 = amazonS3;
+        this.minimumUploadPartSize = minimumUploadPartSize;
+        this.multipartUploadThreshold = multipartUploadThreshold;
+        this.parallelism = parallelism;
+    }
+
+    public synchronized TransferManager create()
+    {
+        if (transferManager == null)
+        {
+            transferManager = TransferManagerBuilder.standard()
+                    .withS3Client(amazonS3)
+                    .withMinimumUploadPartSize(minimumUploadPartSize)
+                    .withMultipartUploadThreshold(multipartUploadThreshold)
+                    .withExecutorFactory(() -> Executors.newFixedThreadPool(parallelism))
+                    .build();
+        }
+        return transferManager;
+    }
+
+    public synchronized void shutdown()
+    {
+        if (transferManager != null)
+        {
+            transferManager.shutdownNow(false);
+            transferManager = null;
+        }
+    }
+}
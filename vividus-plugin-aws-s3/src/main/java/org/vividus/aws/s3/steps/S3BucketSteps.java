@@ -19,8 +19,6 @@ package org.vividus.aws.s3.steps;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,10 +26,13 @@ import java.util.Set;
 import javax.inject.Inject;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.annotations.When;
 import org.vividus.bdd.context.IBddVariableContext;
@@ -44,6 +45,8 @@ public class S3BucketSteps
     @Inject
     private AmazonS3 amazonS3Client;
     @Inject
+    private TransferManager transferManager;
+    @Inject
     private IBddVariableContext bddVariableContext;
 
     /**
@@ -56,17 +59,23 @@ public class S3BucketSteps
      * @param objectKey Key on which the content is added to S3 bucket
      * @param contentType Mime type of object for upload (see <a href="https://en.wikipedia.org/wiki/MIME">MIME</a>)
      * @param bucketName S3 bucket to upload
+     * @throws InterruptedException if the upload is interrupted
      */
     @When("I upload resource `$resourcePath` with key `$objectKey` and content type `$contentType`"
             + " to S3 bucket `$bucketName`")
     public void uploadResource(String resourcePath, String objectKey, String contentType, String bucketName)
+            throws InterruptedException
     {
         byte[] resource = ResourceUtils.loadResourceAsByteArray(resourcePath);
-        uploadContent(bucketName, objectKey, resource, contentType);
+        ObjectMetadata objectMetadata = createObjectMetadata(contentType);
+        objectMetadata.setContentLength(resource.length);
+        upload(new PutObjectRequest(bucketName, objectKey, new ByteArrayInputStream(resource), objectMetadata));
     }
 
     /**
-     * Uploads <b>file</b> into S3 given bucket by the <b>objectKey</b>
+     * Uploads <b>file</b> into S3 given bucket by the <b>objectKey</b>. The file is streamed from the disk, the large
+     * files are uploaded in parts simultaneously, the part size and the number of the parallel uploads are configured
+     * by the properties <b>aws.s3.transfer.*</b>
      * <br>
      * Usage example:
      * <code><br>When I upload file`C:/Users/user/Temp/test.csv` with key `folder/name.csv`
@@ -75,27 +84,65 @@ public class S3BucketSteps
      * @param objectKey Key on which the content is added to S3 bucket
      * @param contentType Mime type of object for upload (see <a href="https://en.wikipedia.org/wiki/MIME">MIME</a>)
      * @param bucketName S3 bucket to upload
-     * @throws IOException in case of error on file reading
+     * @throws InterruptedException if the upload is interrupted
      */
     @When("I upload `$file` with key `$objectKey` and content type `$contentType` to S3 bucket `$bucketName`")
-    public void uploadFile(File file, String objectKey, String contentType, String bucketName) throws IOException
+    public void uploadFile(File file, String objectKey, String contentType, String bucketName)
+            throws InterruptedException
     {
-        byte[] content = FileUtils.readFileToByteArray(file);
-        uploadContent(bucketName, objectKey, content, contentType);
+        upload(new PutObjectRequest(bucketName, objectKey, file).withMetadata(createObjectMetadata(contentType)));
     }
 
-    private void uploadContent(String bucketName, String objectKey, byte[] content, String contentType)
+    private void upload(PutObjectRequest putObjectRequest) throws InterruptedException
+    {
+        transferManager.upload(putObjectRequest).waitForCompletion();
+    }
+
+    private static ObjectMetadata createObjectMetadata(String contentType)
     {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(contentType);
-        objectMetadata.setContentLength(content.length);
-        InputStream inputStream = new ByteArrayInputStream(content);
-        amazonS3Client.putObject(bucketName, objectKey, inputStream, objectMetadata);
+        return objectMetadata;
+    }
+
+    /**
+     * Downloads object from S3 bucket by the <b>objectKey</b> to the temporary file and saves the path to the file to
+     * <b>scope</b> variable with name <b>variableName</b>. The objects uploaded in parts are downloaded using the
+     * parallel ranged requests.
+     * <br>
+     * Usage example:
+     * <code><br>When I download object with key `folder/data.zip` from S3 bucket `testBucket`
+     *  and save path to file to SCENARIO variable `pathToData`</code>
+     * @param objectKey Key on which the content is placed in S3 bucket
+     * @param bucketName S3 bucket to download from
+     * @param scopes The scopes of the variable
+     * (<i>Possible values:</i>
+     * <ul>
+     * <li><b>SCENARIO</b> - the variable will be available only within the scenario,
+     * <li><b>STORY</b> - the variable will be available within the whole story,
+     * <li><b>NEXT_BATCHES</b> - the variable will be available starting from next batch
+     * </ul>
+     * @param variableName variable name
+     * @throws IOException in case of error on temporary file creation
+     * @throws InterruptedException if the download is interrupted
+     */
+    @When("I download object with key `$objectKey` from S3 bucket `$bucketName` and save path to file to $scopes"
+            + " variable `$variableName`")
+    public void downloadObject(String objectKey, String bucketName, Set<VariableScope> scopes, String variableName)
+            throws IOException, InterruptedException
+    {
+        String fileName = FilenameUtils.getName(objectKey);
+        String extension = FilenameUtils.getExtension(fileName);
+        File temporaryFile = File.createTempFile(StringUtils.rightPad(FilenameUtils.getBaseName(fileName), 3, '_'),
+                extension.isEmpty() ? "" : "." + extension);
+        temporaryFile.deleteOnExit();
+        transferManager.download(new GetObjectRequest(bucketName, objectKey), temporaryFile).waitForCompletion();
+        bddVariableContext.putVariable(scopes, variableName, temporaryFile.getAbsolutePath());
     }
 
     /**
      * Get CSV <b>file</b> from S3 given bucket by the <b>objectKey</b> and
-     * save it to <b>scope</b> variable with name <b>variableName</b>
+     * save it to <b>scope</b> variable with name <b>variableName</b>. CSV is parsed straight from the object stream.
      * <br>
      * Usage example:
      * <code><br>When I fetch CSV object with key `file.csv` from S3 bucket `myTestBucket`
@@ -117,11 +164,11 @@ public class S3BucketSteps
     public void fetchCsvObject(String objectKey, String bucketName, Set<VariableScope> scopes, String variableName)
             throws IOException
     {
-        String csvString = IOUtils.toString(
-                amazonS3Client.getObject(bucketName, StringUtils.appendIfMissing(objectKey, ".csv")).getObjectContent(),
-                StandardCharsets.UTF_8);
-        List<Map<String, String>> csv = new CsvReader().readCsvString(csvString);
-        bddVariableContext.putVariable(scopes, variableName, csv);
+        try (S3Object s3Object = amazonS3Client.getObject(bucketName, StringUtils.appendIfMissing(objectKey, ".csv")))
+        {
+            List<Map<String, String>> csv = new CsvReader().readCsvStream(s3Object.getObjectContent());
+            bddVariableContext.putVariable(scopes, variableName, csv);
+        }
     }
 
     /**
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.aws.s3;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransferManagerFactoryTests
+{
+    @Mock
+    private AmazonS3 amazonS3;
+
+    @Test
+    void shouldCreateTransferManagerOnceAndKeepS3ClientOnShutdown()
+    {
+        TransferManagerFactory factory = new TransferManagerFactory(amazonS3, 1024, 2048, 2);
+        TransferManager transferManager = factory.create();
+        assertSame(amazonS3, transferManager.getAmazonS3Client());
+        assertSame(transferManager, factory.create());
+        factory.shutdown();
+        verifyNoInteractions(amazonS3);
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.vividus.aws.s3.steps;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -23,19 +26,26 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.transfer.Download;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -54,6 +64,9 @@ class S3BucketStepsTests
     @Mock
     private AmazonS3Client amazonS3Client;
 
+    @Mock
+    private TransferManager transferManager;
+
     @Mock
     private IBddVariableContext bddVariableContext;
 
@@ -61,37 +74,83 @@ class S3BucketStepsTests
     private S3BucketSteps steps;
 
     @Test
-    void uploadResourceTest()
+    void uploadResourceTest() throws InterruptedException
     {
         byte[] csv = ResourceUtils.loadResourceAsByteArray(CSV_FILE_PATH);
+        Upload upload = mockUpload();
         steps.uploadResource(CSV_FILE_PATH, S3_OBJECT_KEY, CONTENT_TYPE, S3_BUCKET_NAME);
-        verifyContentUploaded(csv, CONTENT_TYPE);
+        PutObjectRequest request = verifyUpload(upload);
+        assertEquals(csv.length, request.getMetadata().getContentLength());
+        assertArrayEquals(csv, toByteArray(request));
     }
 
     @Test
-    void uploadFileTest() throws IOException
+    void uploadFileTest() throws InterruptedException
     {
-        byte[] csv = ResourceUtils.loadResourceAsByteArray(CSV_FILE_PATH);
-        steps.uploadFile(ResourceUtils.loadFile(getClass(), CSV_FILE_PATH),
-                S3_OBJECT_KEY, CONTENT_TYPE, S3_BUCKET_NAME);
-        verifyContentUploaded(csv, CONTENT_TYPE);
+        File file = ResourceUtils.loadFile(getClass(), CSV_FILE_PATH);
+        Upload upload = mockUpload();
+        steps.uploadFile(file, S3_OBJECT_KEY, CONTENT_TYPE, S3_BUCKET_NAME);
+        PutObjectRequest request = verifyUpload(upload);
+        assertEquals(file, request.getFile());
+    }
+
+    private Upload mockUpload()
+    {
+        Upload upload = mock(Upload.class);
+        when(transferManager.upload(any(PutObjectRequest.class))).thenReturn(upload);
+        return upload;
     }
 
-    private void verifyContentUploaded(byte[] csv, String contentType)
+    private PutObjectRequest verifyUpload(Upload upload) throws InterruptedException
     {
-        verify(amazonS3Client).putObject(eq(S3_BUCKET_NAME), eq(S3_OBJECT_KEY), argThat(bais -> {
-            try
-            {
-                byte[] actual = IOUtils.toByteArray(bais);
-                bais.reset();
-                return Arrays.equals(csv, actual);
-            }
-            catch (IOException e)
-            {
-                return false;
-            }
-        }), argThat(metadata -> metadata.getContentLength() == csv.length && contentType
-                .equals(metadata.getContentType())));
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(transferManager).upload(requestCaptor.capture());
+        verify(upload).waitForCompletion();
+        PutObjectRequest request = requestCaptor.getValue();
+        assertEquals(S3_BUCKET_NAME, request.getBucketName());
+        assertEquals(S3_OBJECT_KEY, request.getKey());
+        assertEquals(CONTENT_TYPE, request.getMetadata().getContentType());
+        return request;
+    }
+
+    private static byte[] toByteArray(PutObjectRequest request)
+    {
+        try
+        {
+            return IOUtils.toByteArray(request.getInputStream());
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void downloadObjectTest() throws IOException, InterruptedException
+    {
+        testDownloadObject("folder/data.csv", name -> name.startsWith("data") && name.endsWith(".csv"));
+    }
+
+    @Test
+    void downloadObjectWithoutExtensionTest() throws IOException, InterruptedException
+    {
+        testDownloadObject("folder/data", name -> name.startsWith("data") && !name.contains("."));
+    }
+
+    private void testDownloadObject(String objectKey, Predicate<String> fileNameValidator)
+            throws IOException, InterruptedException
+    {
+        Download download = mock(Download.class);
+        when(transferManager.download(argThat((GetObjectRequest request) -> S3_BUCKET_NAME.equals(
+                request.getBucketName()) && objectKey.equals(request.getKey())), any(File.class))).thenReturn(download);
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        String variableName = "path";
+        steps.downloadObject(objectKey, S3_BUCKET_NAME, scopes, variableName);
+        verify(download).waitForCompletion();
+        verify(bddVariableContext).putVariable(eq(scopes), eq(variableName), argThat(path -> {
+            File file = new File((String) path);
+            return file.exists() && fileNameValidator.test(file.getName());
+        }));
     }
 
     @Test
@@ -21,6 +21,7 @@ import static org.vividus.util.ResourceUtils.findResource;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,6 +30,7 @@ import javax.inject.Named;
 import org.apache.commons.csv.CSVRecord;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.TableParsers;
+import org.vividus.bdd.examples.TableDataCache;
 import org.vividus.bdd.util.ExamplesTableProcessor;
 import org.vividus.csv.CsvReader;
 
@@ -36,10 +38,12 @@ import org.vividus.csv.CsvReader;
 public class CsvTableTransformer implements ExtendedTableTransformer
 {
     private final CsvReader csvReader;
+    private final TableDataCache tableDataCache;
 
-    public CsvTableTransformer(CsvReader csvReader)
+    public CsvTableTransformer(CsvReader csvReader, TableDataCache tableDataCache)
     {
         this.csvReader = csvReader;
+        this.tableDataCache = tableDataCache;
     }
 
     @Override
@@ -49,9 +53,10 @@ public class CsvTableTransformer implements ExtendedTableTransformer
         String csvPath = ExtendedTableTransformer.getMandatoryNonBlankProperty(properties, "csvPath");
         try
         {
-            List<CSVRecord> result = csvReader.readCsvFile(findResource(getClass(), csvPath));
-            return ExamplesTableProcessor.buildExamplesTable(result.get(0).toMap().keySet(), extractValues(result),
-                    properties, true);
+            URL csvResource = findResource(getClass(), csvPath);
+            CsvData data = tableDataCache.get("csv:" + csvResource, TableDataCache.getLastModified(csvResource),
+                    () -> readCsvData(csvResource), CsvData::estimateSize);
+            return ExamplesTableProcessor.buildExamplesTable(data.header, data.values, properties, true);
         }
         catch (IOException e)
         {
@@ -59,10 +64,33 @@ public class CsvTableTransformer implements ExtendedTableTransformer
         }
     }
 
+    private CsvData readCsvData(URL csvResource) throws IOException
+    {
+        List<CSVRecord> result = csvReader.readCsvFile(csvResource);
+        return new CsvData(List.copyOf(result.get(0).toMap().keySet()), extractValues(result));
+    }
+
     private List<List<String>> extractValues(List<CSVRecord> data)
     {
         return data.stream()
                 .map(record -> new ArrayList<>(record.toMap().values()))
                 .collect(toList());
     }
+
+    private static final class CsvData
+    {
+        private final List<String> header;
+        private final List<List<String>> values;
+
+        private CsvData(List<String> header, List<List<String>> values)
+        {
+            this.header = header;
+            this.values = values;
+        }
+
+        private long estimateSize()
+        {
+            return TableDataCache.estimateSize(header) + TableDataCache.estimateSize(values);
+        }
+    }
 }
@@ -18,6 +18,7 @@ package org.vividus.csv;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
@@ -69,6 +70,14 @@ public class CsvReader
         }
     }
 
+    public List<Map<String, String>> readCsvStream(InputStream inputStream, String... header) throws IOException
+    {
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8))
+        {
+            return collectCsv(reader, header);
+        }
+    }
+
     public List<CSVRecord> readCsvFile(URL resourceUrl, String... header) throws IOException
     {
         try (Reader reader = new InputStreamReader(resourceUrl.openStream(), StandardCharsets.UTF_8))
@@ -19,6 +19,8 @@ package org.vividus.bdd.transformer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.vividus.util.ResourceUtils.findResource;
 
@@ -31,6 +33,7 @@ import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.bdd.examples.TableDataCache;
 import org.vividus.csv.CsvReader;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +43,8 @@ class CsvTableTransformerTests
     private static final String CSV_FILE_NAME = "test.csv";
     private static final String EMPTY_EXAMPLES_TABLE = "";
 
-    private final CsvTableTransformer csvTableTransformer = new CsvTableTransformer(new CsvReader());
+    private final CsvTableTransformer csvTableTransformer = new CsvTableTransformer(new CsvReader(),
+            new TableDataCache(false, 0));
 
     @Test
     void testTransform()
@@ -55,6 +59,26 @@ class CsvTableTransformerTests
                 csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
     }
 
+    @Test
+    void shouldReuseCachedCsvData() throws IOException
+    {
+        URL csvResource = findResource(getClass(), CSV_FILE_NAME);
+        CsvReader csvReader = spy(new CsvReader());
+        CsvTableTransformer csvTableTransformer = new CsvTableTransformer(csvReader, new TableDataCache(true, 1024));
+        String expectedValue = "|Country|ID|Capital|Akey|\n"
+                + "|Belarus|1|Minsk|11|\n"
+                + "|USA|2|Washington|22|\n"
+                + "|Armenia|3|Yerevan|33|";
+        for (int i = 0; i < 2; i++)
+        {
+            Properties properties = new Properties();
+            properties.setProperty(CSV_PATH_PROPERTY_NAME, CSV_FILE_NAME);
+            assertEquals(expectedValue,
+                    csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
+        }
+        verify(csvReader).readCsvFile(csvResource);
+    }
+
     @Test
     void testNoFilePathProvided()
     {
@@ -81,7 +105,8 @@ class CsvTableTransformerTests
         Properties properties = new Properties();
         properties.setProperty(CSV_PATH_PROPERTY_NAME, CSV_FILE_NAME);
         CsvReader csvReader = mock(CsvReader.class);
-        CsvTableTransformer csvTableTransformer = new CsvTableTransformer(csvReader);
+        CsvTableTransformer csvTableTransformer = new CsvTableTransformer(csvReader,
+                new TableDataCache(false, 0));
         when(csvReader.readCsvFile(csvResource)).thenThrow(new IOException());
         Throwable exception = assertThrows(UncheckedIOException.class, () ->
             csvTableTransformer.transform(EMPTY_EXAMPLES_TABLE, null, new TableProperties(properties)));
@@ -18,7 +18,9 @@ package org.vividus.csv;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.ByteArrayInputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -73,6 +75,15 @@ class CsvReaderTests
         assertEquals(CSV_RECORDS, result);
     }
 
+    @Test
+    void testReadCsvFromStream() throws Exception
+    {
+        String csv = FIRST_VALUE + COMMA + SECOND_VALUE;
+        List<Map<String, String>> result = csvReader.readCsvStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), FIRST_HEADER, SECOND_HEADER);
+        assertEquals(CSV_RECORDS, result);
+    }
+
     @Test
     void testReadCsvFromUrl() throws Exception
     {
@@ -19,36 +19,42 @@ package org.vividus.bdd.expression;
 import java.time.Duration;
 import java.time.Period;
 import java.time.ZonedDateTime;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Date expression with the period and the duration parsed once, the expression is immutable and can be shared
+ * between threads
+ */
 public final class DateExpression
 {
     private static final String DURATION_DESIGNATOR = "P";
 
-    private final String periodString;
-    private final String durationString;
+    private final Period period;
+    private final Duration duration;
     private final String customFormatString;
-    private final String minusSign;
+    private final boolean minusSign;
 
-    public DateExpression(Matcher matcher, int minusSignGroup, int periodGroup, int durationGroup,
+    public DateExpression(MatchResult matchResult, int minusSignGroup, int periodGroup, int durationGroup,
             int formatGroup)
     {
-        periodString = matcher.group(periodGroup);
-        durationString = matcher.group(durationGroup);
-        customFormatString = matcher.group(formatGroup);
-        minusSign = matcher.group(minusSignGroup);
+        String periodString = matchResult.group(periodGroup);
+        period = exists(periodString) ? Period.parse(DURATION_DESIGNATOR + periodString) : null;
+        String durationString = matchResult.group(durationGroup);
+        duration = exists(durationString) ? Duration.parse(DURATION_DESIGNATOR + durationString) : null;
+        customFormatString = matchResult.group(formatGroup);
+        minusSign = exists(matchResult.group(minusSignGroup));
     }
 
     public boolean hasPeriod()
     {
-        return exists(periodString);
+        return period != null;
     }
 
     public boolean hasDuration()
     {
-        return exists(durationString);
+        return duration != null;
     }
 
     public boolean hasCustomFormat()
@@ -63,33 +69,16 @@ public final class DateExpression
 
     public ZonedDateTime processPeriod(ZonedDateTime zonedDateTime)
     {
-        Period period = Period.parse(DURATION_DESIGNATOR + getPeriodString());
-        return !hasMinusSign() ? zonedDateTime.plus(period) : zonedDateTime.minus(period);
+        return !minusSign ? zonedDateTime.plus(period) : zonedDateTime.minus(period);
     }
 
     public ZonedDateTime processDuration(ZonedDateTime zonedDateTime)
     {
-        Duration duration = Duration.parse(DURATION_DESIGNATOR + getDurationString());
-        return !hasMinusSign() ? zonedDateTime.plus(duration) : zonedDateTime.minus(duration);
+        return !minusSign ? zonedDateTime.plus(duration) : zonedDateTime.minus(duration);
     }
 
-    private boolean exists(String valueToCheck)
+    private static boolean exists(String valueToCheck)
     {
         return StringUtils.isNotEmpty(valueToCheck);
     }
-
-    private String getPeriodString()
-    {
-        return periodString;
-    }
-
-    private String getDurationString()
-    {
-        return durationString;
-    }
-
-    private boolean hasMinusSign()
-    {
-        return exists(minusSign);
-    }
 }
@@ -20,11 +20,12 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.vividus.util.DateTimeFormatters;
 import org.vividus.util.DateUtils;
 
 public class DateExpressionProcessor implements IExpressionProcessor
@@ -41,10 +42,19 @@ public class DateExpressionProcessor implements IExpressionProcessor
 
     private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("YYYY-MM-dd'T'HH:mm:ss");
 
+    private static final int DURATION_EXPRESSION_GROUP = 1;
     private static final int MINUS_SIGN_GROUP = 2;
     private static final int PERIOD_GROUP = 3;
     private static final int DURATION_GROUP = 4;
 
+    private static final ExpressionMatcher<Pair<String, DateExpression>> ISO_DURATION_MATCHER =
+            new ExpressionMatcher<>(ISO_DURATION_PATTERN_WITH_FORMAT_PATTERN, matchResult -> Pair.of(
+                    matchResult.group(DURATION_EXPRESSION_GROUP), new DateExpression(matchResult, MINUS_SIGN_GROUP,
+                            PERIOD_GROUP, DURATION_GROUP, FORMAT_GROUP)));
+    private static final ExpressionMatcher<DateExpression> GENERATE_DATE_MATCHER = new ExpressionMatcher<>(
+            GENERATE_DATE_PATTERN, matchResult -> new DateExpression(matchResult, MINUS_SIGN_GROUP, PERIOD_GROUP,
+                    DURATION_GROUP, GENERATE_DATE_FORMAT_GROUP));
+
     private final DateUtils dateUtils;
     private Locale locale;
 
@@ -56,20 +66,18 @@ public class DateExpressionProcessor implements IExpressionProcessor
     @Override
     public Optional<String> execute(String expression)
     {
-        Matcher durationMatcher = GENERATE_DATE_PATTERN.matcher(expression);
-        if (durationMatcher.find())
+        Optional<DateExpression> generateDateExpression = GENERATE_DATE_MATCHER.match(expression);
+        if (generateDateExpression.isPresent())
         {
-            return generateDate(new DateExpression(durationMatcher, MINUS_SIGN_GROUP, PERIOD_GROUP, DURATION_GROUP,
-                    GENERATE_DATE_FORMAT_GROUP));
+            return generateDate(generateDateExpression.get());
         }
-        Matcher isoDurationMatcher = ISO_DURATION_PATTERN_WITH_FORMAT_PATTERN.matcher(expression);
-        if (isoDurationMatcher.find())
+        Optional<Pair<String, DateExpression>> isoDurationExpression = ISO_DURATION_MATCHER.match(expression);
+        if (isoDurationExpression.isPresent())
         {
-            DateExpression dateExpression = new DateExpression(isoDurationMatcher, MINUS_SIGN_GROUP, PERIOD_GROUP,
-                    DURATION_GROUP, FORMAT_GROUP);
+            DateExpression dateExpression = isoDurationExpression.get().getValue();
             LOGGER.atWarn()
                   .addArgument(expression)
-                  .addArgument(() -> isoDurationMatcher.group(1))
+                  .addArgument(isoDurationExpression.get()::getKey)
                   .addArgument(() -> dateExpression.hasCustomFormat()
                           ? ", " + dateExpression.getCustomFormatString()
                           : "")
@@ -94,7 +102,7 @@ public class DateExpressionProcessor implements IExpressionProcessor
         }
         if (dateExpression.hasCustomFormat())
         {
-            format = DateTimeFormatter.ofPattern(dateExpression.getCustomFormatString(), locale);
+            format = DateTimeFormatters.ofPattern(dateExpression.getCustomFormatString(), locale);
         }
         return Optional.of(current.format(format));
     }
@@ -21,13 +21,15 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 
 import javax.inject.Named;
 
 import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.vividus.util.DateTimeFormatters;
 import org.vividus.util.DateUtils;
 
 @Named
@@ -37,6 +39,8 @@ public class DiffDateExpressionProcessor implements IExpressionProcessor
     private static final Pattern DIFF_DATE_PATTERN = Pattern
             .compile("^diffDate\\((.+?),(?<!\\\\,)(.+?),(?<!\\\\,)(.+?),(?<!\\\\,)(.+?)(,(?<!\\\\,)(.+?))?\\)$",
                     Pattern.CASE_INSENSITIVE);
+    private static final ExpressionMatcher<MatchResult> DIFF_DATE_MATCHER = new ExpressionMatcher<>(DIFF_DATE_PATTERN,
+            Function.identity());
     private static final String MINUS_SIGN = "-";
 
     private static final int FIRST_INPUT_DATE_GROUP = 1;
@@ -54,16 +58,17 @@ public class DiffDateExpressionProcessor implements IExpressionProcessor
     @Override
     public Optional<String> execute(String expression)
     {
-        Matcher expressionMatcher = DIFF_DATE_PATTERN.matcher(expression);
-        if (expressionMatcher.find())
+        Optional<MatchResult> matchResult = DIFF_DATE_MATCHER.match(expression);
+        if (matchResult.isPresent())
         {
-            ZonedDateTime firstZonedDateTime = getZonedDateTime(expressionMatcher, FIRST_INPUT_DATE_GROUP,
+            MatchResult expressionMatch = matchResult.get();
+            ZonedDateTime firstZonedDateTime = getZonedDateTime(expressionMatch, FIRST_INPUT_DATE_GROUP,
                     FIRST_INPUT_FORMAT_GROUP);
-            ZonedDateTime secondZonedDateTime = getZonedDateTime(expressionMatcher, SECOND_INPUT_DATE_GROUP,
+            ZonedDateTime secondZonedDateTime = getZonedDateTime(expressionMatch, SECOND_INPUT_DATE_GROUP,
                     SECOND_INPUT_FORMAT_GROUP);
             Duration duration = Duration.between(firstZonedDateTime, secondZonedDateTime);
             String durationAsString = duration.toString();
-            return Optional.ofNullable(expressionMatcher.group(FORMAT_GROUP))
+            return Optional.ofNullable(expressionMatch.group(FORMAT_GROUP))
                            .map(String::trim)
                            .map(String::toUpperCase)
                            .map(t -> EnumUtils.getEnum(ChronoUnit.class, t))
@@ -81,11 +86,11 @@ public class DiffDateExpressionProcessor implements IExpressionProcessor
                 : Optional.of(durationAsString);
     }
 
-    private ZonedDateTime getZonedDateTime(Matcher expressionMatcher, int inputDateGroup, int inputFormatGroup)
+    private ZonedDateTime getZonedDateTime(MatchResult expressionMatch, int inputDateGroup, int inputFormatGroup)
     {
-        DateTimeFormatter inputFormat = DateTimeFormatter
-                .ofPattern(normalize(expressionMatcher.group(inputFormatGroup)));
-        return dateUtils.parseDateTime(normalize(expressionMatcher.group(inputDateGroup)), inputFormat);
+        DateTimeFormatter inputFormat = DateTimeFormatters.ofPattern(
+                normalize(expressionMatch.group(inputFormatGroup)));
+        return dateUtils.parseDateTime(normalize(expressionMatch.group(inputDateGroup)), inputFormat);
     }
 
     private String normalize(String argument)
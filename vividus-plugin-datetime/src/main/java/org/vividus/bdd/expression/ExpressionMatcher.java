@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.expression;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Matcher of the expressions against the pattern, the successful matches are parsed into the expression objects and
+ * the parsed expressions are cached by the expression text, so the same expression evaluated multiple times (e.g. in
+ * the rows of the generated tables) is matched and parsed only once. The parsed expressions are shared between
+ * threads, so they must be immutable. The expressions not matching the pattern are not cached, since every
+ * expression processor is tried against every expression and the cache would be flooded with the mismatches.
+ * @param <T> type of the parsed expressions
+ */
+final class ExpressionMatcher<T>
+{
+    private static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+    private final Pattern pattern;
+    private final Function<MatchResult, T> parser;
+    private final Cache<String, T> expressions = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EXPRESSIONS)
+            .build();
+
+    ExpressionMatcher(Pattern pattern, Function<MatchResult, T> parser)
+    {
+        this.pattern = pattern;
+        this.parser = parser;
+    }
+
+    Optional<T> match(String expression)
+    {
+        T parsedExpression = expressions.getIfPresent(expression);
+        if (parsedExpression == null)
+        {
+            Matcher matcher = pattern.matcher(expression);
+            if (!matcher.find())
+            {
+                return Optional.empty();
+            }
+            parsedExpression = parser.apply(matcher.toMatchResult());
+            expressions.put(expression, parsedExpression);
+        }
+        return Optional.of(parsedExpression);
+    }
+}
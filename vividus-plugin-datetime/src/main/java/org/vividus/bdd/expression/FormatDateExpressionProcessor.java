@@ -20,11 +20,13 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 
 import javax.inject.Named;
 
+import org.vividus.util.DateTimeFormatters;
 import org.vividus.util.DateUtils;
 
 @Named
@@ -32,6 +34,8 @@ public class FormatDateExpressionProcessor implements IExpressionProcessor
 {
     private static final Pattern FORMAT_PATTERN = Pattern
             .compile("^formatDate\\(([^,]*),\\s*([^,]*)(?:,\\s*(.*))?\\)$", Pattern.CASE_INSENSITIVE);
+    private static final ExpressionMatcher<MatchResult> FORMAT_MATCHER = new ExpressionMatcher<>(FORMAT_PATTERN,
+            Function.identity());
     private static final int INPUT_DATE_GROUP = 1;
     private static final int OUTPUT_FORMAT_GROUP = 2;
     private static final int OUTPUT_TIMEZONE_GROUP = 3;
@@ -47,22 +51,23 @@ public class FormatDateExpressionProcessor implements IExpressionProcessor
     @Override
     public Optional<String> execute(String expression)
     {
-        Matcher expressionMatcher = FORMAT_PATTERN.matcher(expression);
-        if (expressionMatcher.find())
+        Optional<MatchResult> matchResult = FORMAT_MATCHER.match(expression);
+        if (matchResult.isPresent())
         {
-            ZonedDateTime zonedDate = dateUtils.parseDateTime(expressionMatcher.group(INPUT_DATE_GROUP),
+            MatchResult expressionMatch = matchResult.get();
+            ZonedDateTime zonedDate = dateUtils.parseDateTime(expressionMatch.group(INPUT_DATE_GROUP),
                     ISO_STANDARD_FORMAT);
-            String outputFormat = expressionMatcher.group(OUTPUT_FORMAT_GROUP);
-            DateTimeFormatter outputFormatter = DateTimeFormatter.ofPattern(outputFormat);
-            zonedDate = updateTimeZone(expressionMatcher, zonedDate);
+            String outputFormat = expressionMatch.group(OUTPUT_FORMAT_GROUP);
+            DateTimeFormatter outputFormatter = DateTimeFormatters.ofPattern(outputFormat);
+            zonedDate = updateTimeZone(expressionMatch, zonedDate);
             return Optional.of(outputFormatter.format(zonedDate));
         }
         return Optional.empty();
     }
 
-    private ZonedDateTime updateTimeZone(Matcher expressionMatcher, ZonedDateTime zonedDate)
+    private ZonedDateTime updateTimeZone(MatchResult expressionMatch, ZonedDateTime zonedDate)
     {
-        String outputTimeZone = expressionMatcher.group(OUTPUT_TIMEZONE_GROUP);
+        String outputTimeZone = expressionMatch.group(OUTPUT_TIMEZONE_GROUP);
         if (outputTimeZone != null)
         {
             return zonedDate.withZoneSameInstant(ZoneId.of(outputTimeZone));
@@ -19,12 +19,14 @@ package org.vividus.bdd.expression;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 
 import javax.inject.Named;
 
 import org.apache.commons.lang3.StringUtils;
+import org.vividus.util.DateTimeFormatters;
 import org.vividus.util.DateUtils;
 
 @Named
@@ -32,6 +34,8 @@ public class FormatDateToExpressionProcessor implements IExpressionProcessor
 {
     private static final Pattern FORMAT_TO_PATTERN = Pattern
             .compile("^formatDateTo\\((.+?),(?<!\\\\,)(.+?),(?<!\\\\,)(.+?)\\)$", Pattern.CASE_INSENSITIVE);
+    private static final ExpressionMatcher<MatchResult> FORMAT_TO_MATCHER = new ExpressionMatcher<>(FORMAT_TO_PATTERN,
+            Function.identity());
     private static final int INPUT_DATE_GROUP = 1;
     private static final int OLD_FORMAT_GROUP = 2;
     private static final int NEW_FORMAT_GROUP = 3;
@@ -46,21 +50,22 @@ public class FormatDateToExpressionProcessor implements IExpressionProcessor
     @Override
     public Optional<String> execute(String expression)
     {
-        Matcher formatToExpressionMatcher = FORMAT_TO_PATTERN.matcher(expression);
-        if (formatToExpressionMatcher.find())
+        Optional<MatchResult> matchResult = FORMAT_TO_MATCHER.match(expression);
+        if (matchResult.isPresent())
         {
-            String inputDate = normalize(formatToExpressionMatcher.group(INPUT_DATE_GROUP));
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(
-                    normalize(formatToExpressionMatcher.group(OLD_FORMAT_GROUP)));
+            MatchResult formatToExpressionMatch = matchResult.get();
+            String inputDate = normalize(formatToExpressionMatch.group(INPUT_DATE_GROUP));
+            DateTimeFormatter dateTimeFormatter = DateTimeFormatters.ofPattern(
+                    normalize(formatToExpressionMatch.group(OLD_FORMAT_GROUP)));
             ZonedDateTime zonedDate = dateUtils.parseDateTime(inputDate, dateTimeFormatter);
-            return formatDate(zonedDate, normalize(formatToExpressionMatcher.group(NEW_FORMAT_GROUP)));
+            return formatDate(zonedDate, normalize(formatToExpressionMatch.group(NEW_FORMAT_GROUP)));
         }
         return Optional.empty();
     }
 
     private Optional<String> formatDate(ZonedDateTime zonedDateTime, String outputFormat)
     {
-        DateTimeFormatter outputFormatter = DateTimeFormatter.ofPattern(outputFormat);
+        DateTimeFormatter outputFormatter = DateTimeFormatters.ofPattern(outputFormat);
         return Optional.of(outputFormatter.format(zonedDateTime));
     }
 
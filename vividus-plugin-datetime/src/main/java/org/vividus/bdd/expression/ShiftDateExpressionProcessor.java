@@ -19,12 +19,14 @@ package org.vividus.bdd.expression;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 
 import javax.inject.Named;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.vividus.util.DateTimeFormatters;
 import org.vividus.util.DateUtils;
 
 @Named
@@ -40,6 +42,10 @@ public class ShiftDateExpressionProcessor implements IExpressionProcessor
     private static final int PERIOD_GROUP = 4;
     private static final int DURATION_GROUP = 5;
 
+    private static final ExpressionMatcher<Pair<MatchResult, DateExpression>> SHIFT_DATE_MATCHER =
+            new ExpressionMatcher<>(SHIFT_DATE_PATTERN, matchResult -> Pair.of(matchResult,
+                    new DateExpression(matchResult, MINUS_SIGN_GROUP, PERIOD_GROUP, DURATION_GROUP, FORMAT_GROUP)));
+
     private final DateUtils dateUtils;
 
     public ShiftDateExpressionProcessor(DateUtils dateUtils)
@@ -50,14 +56,14 @@ public class ShiftDateExpressionProcessor implements IExpressionProcessor
     @Override
     public Optional<String> execute(String expression)
     {
-        Matcher expressionMatcher = SHIFT_DATE_PATTERN.matcher(expression);
-        if (expressionMatcher.find())
+        Optional<Pair<MatchResult, DateExpression>> shiftDateExpression = SHIFT_DATE_MATCHER.match(expression);
+        if (shiftDateExpression.isPresent())
         {
-            DateTimeFormatter format = DateTimeFormatter.ofPattern(normalize(expressionMatcher.group(FORMAT_GROUP)));
-            ZonedDateTime zonedDateTime = dateUtils.parseDateTime(normalize(expressionMatcher.group(INPUT_DATE_GROUP)),
+            MatchResult expressionMatch = shiftDateExpression.get().getKey();
+            DateTimeFormatter format = DateTimeFormatters.ofPattern(normalize(expressionMatch.group(FORMAT_GROUP)));
+            ZonedDateTime zonedDateTime = dateUtils.parseDateTime(normalize(expressionMatch.group(INPUT_DATE_GROUP)),
                     format);
-            DateExpression dateExpression = new DateExpression(expressionMatcher, MINUS_SIGN_GROUP, PERIOD_GROUP,
-                    DURATION_GROUP, FORMAT_GROUP);
+            DateExpression dateExpression = shiftDateExpression.get().getValue();
             if (dateExpression.hasPeriod())
             {
                 zonedDateTime = dateExpression.processPeriod(zonedDateTime);
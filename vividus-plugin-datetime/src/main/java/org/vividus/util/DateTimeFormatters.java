@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Locale.Category;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Shared bounded cache of the date-time formatters created from the patterns, the formatters are immutable and
+ * thread-safe, so they can be reused across the evaluations.
+ */
+public final class DateTimeFormatters
+{
+    private static final int MAX_CACHED_FORMATTERS = 1000;
+
+    private static final LoadingCache<Pair<String, Locale>, DateTimeFormatter> FORMATTERS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_FORMATTERS)
+            .build(CacheLoader.from(key -> DateTimeFormatter.ofPattern(key.getLeft(), key.getRight())));
+
+    private DateTimeFormatters()
+    {
+    }
+
+    /**
+     * Gets the formatter for the pattern using the default locale, see
+     * {@link DateTimeFormatter#ofPattern(String)}
+     * @param pattern Pattern to use
+     * @return Formatter based on the pattern
+     */
+    public static DateTimeFormatter ofPattern(String pattern)
+    {
+        return ofPattern(pattern, Locale.getDefault(Category.FORMAT));
+    }
+
+    /**
+     * Gets the formatter for the pattern using the locale, see {@link DateTimeFormatter#ofPattern(String, Locale)}
+     * @param pattern Pattern to use
+     * @param locale Locale to use
+     * @return Formatter based on the pattern
+     */
+    public static DateTimeFormatter ofPattern(String pattern, Locale locale)
+    {
+        try
+        {
+            return FORMATTERS.getUnchecked(Pair.of(pattern, locale));
+        }
+        catch (UncheckedExecutionException e)
+        {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExpressionMatcherTests
+{
+    private static final Pattern PATTERN = Pattern.compile("^expression\\((\\d+)\\)$");
+    private static final String EXPRESSION = "expression(1)";
+    private static final String PARSED_EXPRESSION = "parsed";
+
+    @Mock
+    private Function<MatchResult, String> parser;
+
+    @Test
+    void shouldParseMatchedExpressionOnce()
+    {
+        when(parser.apply(ArgumentMatchers.argThat(matchResult -> "1".equals(matchResult.group(1)))))
+                .thenReturn(PARSED_EXPRESSION);
+        ExpressionMatcher<String> matcher = new ExpressionMatcher<>(PATTERN, parser);
+        assertEquals(Optional.of(PARSED_EXPRESSION), matcher.match(EXPRESSION));
+        assertEquals(Optional.of(PARSED_EXPRESSION), matcher.match(EXPRESSION));
+        verify(parser, times(1)).apply(ArgumentMatchers.any());
+    }
+
+    @Test
+    void shouldNotParseNotMatchedExpression()
+    {
+        ExpressionMatcher<String> matcher = new ExpressionMatcher<>(PATTERN, parser);
+        assertEquals(Optional.empty(), matcher.match("expression(a)"));
+        assertEquals(Optional.empty(), matcher.match("expression(a)"));
+        verify(parser, never()).apply(ArgumentMatchers.any());
+    }
+
+    @Test
+    void shouldMatchExpressionsFromDifferentThreads()
+    {
+        ExpressionMatcher<String> matcher = new ExpressionMatcher<>(PATTERN, matchResult -> matchResult.group(1));
+        List<Optional<String>> results = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> matcher.match("expression(" + i % 10 + ")"))
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 1000).mapToObj(i -> Optional.of(String.valueOf(i % 10)))
+                .collect(Collectors.toList()), results);
+    }
+}
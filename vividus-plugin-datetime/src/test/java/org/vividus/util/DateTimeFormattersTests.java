@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class DateTimeFormattersTests
+{
+    private static final String PATTERN = "dd MMMM yyyy";
+
+    @Test
+    void shouldReuseFormatterForSamePatternAndLocale()
+    {
+        DateTimeFormatter formatter = DateTimeFormatters.ofPattern(PATTERN, Locale.FRANCE);
+        assertSame(formatter, DateTimeFormatters.ofPattern(PATTERN, Locale.FRANCE));
+        assertNotSame(formatter, DateTimeFormatters.ofPattern(PATTERN, Locale.US));
+        assertEquals("13 janvier 2017", formatter.format(LocalDate.of(2017, 1, 13)));
+    }
+
+    @Test
+    void shouldCreateFormatterUsingDefaultLocale()
+    {
+        LocalDate date = LocalDate.of(2017, 1, 13);
+        assertEquals(DateTimeFormatter.ofPattern(PATTERN).format(date),
+                DateTimeFormatters.ofPattern(PATTERN).format(date));
+    }
+
+    @Test
+    void shouldRethrowExceptionOnInvalidPattern()
+    {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> DateTimeFormatters.ofPattern("{"));
+        assertEquals("Pattern includes reserved character: '{'", exception.getMessage());
+    }
+}
@@ -18,6 +18,7 @@ package org.vividus.bdd.transformer;
 
 import static java.util.Map.entry;
 
+import java.net.URL;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,9 +27,11 @@ import java.util.stream.Stream;
 
 import javax.inject.Named;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
 import org.jbehave.core.model.TableParsers;
+import org.vividus.bdd.examples.TableDataCache;
 import org.vividus.bdd.model.CellValue;
 import org.vividus.bdd.util.ExamplesTableProcessor;
 import org.vividus.excel.ExcelSheetParser;
@@ -36,10 +39,21 @@ import org.vividus.excel.ExcelSheetsExtractor;
 import org.vividus.excel.IExcelSheetParser;
 import org.vividus.excel.IExcelSheetsExtractor;
 import org.vividus.excel.WorkbookParsingException;
+import org.vividus.util.ResourceUtils;
 
 @Named("FROM_EXCEL")
 public class ExcelTableTransformer implements ExtendedTableTransformer
 {
+    private static final List<String> DATA_PROPERTIES = List.of("sheet", "range", "addresses", "increment",
+            "lineBreakReplacement");
+
+    private final TableDataCache tableDataCache;
+
+    public ExcelTableTransformer(TableDataCache tableDataCache)
+    {
+        this.tableDataCache = tableDataCache;
+    }
+
     @Override
     public String transform(String tableAsString, TableParsers tableParsers, TableProperties properties)
     {
@@ -49,20 +63,12 @@ public class ExcelTableTransformer implements ExtendedTableTransformer
         List<String> result;
         try
         {
-            IExcelSheetsExtractor excelSheetsExtractor = new ExcelSheetsExtractor(path);
-            Optional<Sheet> sheet = excelSheetsExtractor.getSheet(sheetName);
-            if (sheet.isEmpty())
-            {
-                throw new IllegalArgumentException("Sheet with name '" + sheetName + "' does not exist");
-            }
-            IExcelSheetParser excelSheetParser = new ExcelSheetParser(sheet.get());
-            String lineBreakReplacementPropertyValue = properties.getProperties().getProperty("lineBreakReplacement");
-            String lineBreakReplacement = lineBreakReplacementPropertyValue == null ? ""
-                : lineBreakReplacementPropertyValue;
-            result = extractData(excelSheetParser, properties)
-                    .stream()
-                    .map(e -> e.replace("\n", lineBreakReplacement))
-                    .collect(Collectors.toList());
+            URL excelResource = ResourceUtils.findResource(getClass(), StringUtils.prependIfMissing(path, "/"));
+            String key = DATA_PROPERTIES.stream()
+                    .map(name -> name + '=' + properties.getProperties().getProperty(name))
+                    .collect(Collectors.joining(";", "excel:" + excelResource + ';', ""));
+            result = tableDataCache.get(key, TableDataCache.getLastModified(excelResource),
+                () -> extractData(path, sheetName, properties), TableDataCache::estimateSize);
         }
         catch (WorkbookParsingException e)
         {
@@ -71,6 +77,25 @@ public class ExcelTableTransformer implements ExtendedTableTransformer
         return build(result, properties);
     }
 
+    private List<String> extractData(String path, String sheetName, TableProperties properties)
+            throws WorkbookParsingException
+    {
+        IExcelSheetsExtractor excelSheetsExtractor = new ExcelSheetsExtractor(path);
+        Optional<Sheet> sheet = excelSheetsExtractor.getSheet(sheetName);
+        if (sheet.isEmpty())
+        {
+            throw new IllegalArgumentException("Sheet with name '" + sheetName + "' does not exist");
+        }
+        IExcelSheetParser excelSheetParser = new ExcelSheetParser(sheet.get());
+        String lineBreakReplacementPropertyValue = properties.getProperties().getProperty("lineBreakReplacement");
+        String lineBreakReplacement = lineBreakReplacementPropertyValue == null ? ""
+            : lineBreakReplacementPropertyValue;
+        return extractData(excelSheetParser, properties)
+                .stream()
+                .map(e -> e.replace("\n", lineBreakReplacement))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     private List<String> extractData(IExcelSheetParser sheetParser, TableProperties properties)
     {
         return processCompetingMandatoryProperties(properties,
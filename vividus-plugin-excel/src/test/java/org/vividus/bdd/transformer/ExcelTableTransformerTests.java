@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.bdd.examples.TableDataCache;
 
 @ExtendWith(MockitoExtension.class)
 class ExcelTableTransformerTests
@@ -37,7 +38,8 @@ class ExcelTableTransformerTests
     private static final String JOIN_VALUES = "joinValues";
     private static final String TRUE = "true";
 
-    private final ExcelTableTransformer transformer = new ExcelTableTransformer();
+    private final ExcelTableTransformer transformer = new ExcelTableTransformer(
+            new TableDataCache(false, 0));
 
     private final TableProperties properties = new TableProperties(new Properties());
 
@@ -69,6 +71,21 @@ class ExcelTableTransformerTests
                 exception.getMessage());
     }
 
+    @Test
+    void shouldReuseCachedDataForSameSheetAndRange()
+    {
+        TableDataCache tableDataCache = new TableDataCache(true, 1024 * 1024);
+        ExcelTableTransformer cachingTransformer = new ExcelTableTransformer(tableDataCache);
+        properties.getProperties().setProperty(RANGE, RANGE_VALUE);
+        properties.getProperties().setProperty(JOIN_VALUES, TRUE);
+        String result = cachingTransformer.transform("", null, properties);
+        assertEquals(result, cachingTransformer.transform("", null, properties));
+        properties.getProperties().setProperty(INCREMENT, "2");
+        assertEquals("|data|\n|OPEN CLOSED|", cachingTransformer.transform("", null, properties));
+        assertEquals(1, tableDataCache.getStatistics().hitCount());
+        assertEquals(2, tableDataCache.getStatistics().missCount());
+    }
+
     @Test
     void testTransformWithUsingRangeWithIncrementJoining()
     {
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps.html;
+
+import org.jbehave.core.annotations.AsParameters;
+import org.vividus.bdd.steps.ComparisonRule;
+
+@AsParameters
+public class CssSelectorExpectation
+{
+    private String cssSelector;
+    private ComparisonRule comparisonRule = ComparisonRule.EQUAL_TO;
+    private int number = 1;
+    private String text;
+
+    public String getCssSelector()
+    {
+        return cssSelector;
+    }
+
+    public void setCssSelector(String cssSelector)
+    {
+        this.cssSelector = cssSelector;
+    }
+
+    public ComparisonRule getComparisonRule()
+    {
+        return comparisonRule;
+    }
+
+    public void setComparisonRule(ComparisonRule comparisonRule)
+    {
+        this.comparisonRule = comparisonRule;
+    }
+
+    public int getNumber()
+    {
+        return number;
+    }
+
+    public void setNumber(int number)
+    {
+        this.number = number;
+    }
+
+    public String getText()
+    {
+        return text;
+    }
+
+    public void setText(String text)
+    {
+        this.text = text;
+    }
+}
@@ -16,25 +16,36 @@
 
 package org.vividus.bdd.steps.html;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import javax.inject.Inject;
 
+import org.jbehave.core.annotations.AfterScenario;
+import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
+import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.softassert.ISoftAssert;
+import org.vividus.testcontext.TestContext;
 import org.vividus.util.HtmlUtils;
 
 public class HtmlSteps
 {
+    private static final Object PARSED_DOCUMENTS_KEY = HtmlSteps.class;
+    private static final String ELEMENT_CONTAINS_DATA = "Element found by css selector contains expected data";
+
     @Inject private ISoftAssert softAssert;
     @Inject private IBddVariableContext bddVariableContext;
+    @Inject private TestContext testContext;
 
     private Optional<Element> findElementByCssSelectorExist(String html, String cssSelector)
     {
@@ -78,7 +89,58 @@ public class HtmlSteps
 
     private Elements findElements(String html, String cssSelector)
     {
-        return HtmlUtils.getElements(html, cssSelector);
+        return getDocument(html).select(cssSelector);
+    }
+
+    private Document getDocument(String html)
+    {
+        Map<String, Document> parsedDocuments = testContext.get(PARSED_DOCUMENTS_KEY, HashMap::new);
+        return parsedDocuments.computeIfAbsent(html, HtmlUtils::parse);
+    }
+
+    /**
+     * Releases the HTML documents parsed during the scenario
+     */
+    @AfterScenario(uponType = ScenarioType.ANY)
+    public void resetParsedDocuments()
+    {
+        testContext.remove(PARSED_DOCUMENTS_KEY);
+    }
+
+    /**
+     * Checks HTML against the set of CSS selectors, HTML is parsed only once for all the checks.
+     * <p>
+     * Example:
+     * </p>
+     * <code>
+     * Then HTML `${html}` matches the CSS selectors:<br>
+     * |cssSelector    |comparisonRule|number|text          |<br>
+     * |body &gt; div &gt; h1|equal to      |1     |Example Domain|<br>
+     * |p              |greater than  |1     |              |
+     * </code>
+     * @param html HTML to check
+     * @param expectations describes the checks: <b>cssSelector</b> - CSS selector to find elements by,
+     * <b>comparisonRule</b> (<b>equal to</b> by default) and <b>number</b> (<b>1</b> by default) - the rule to compare
+     * the number of the found elements with and the expected number, <b>text</b> - optional expected text of the
+     * first found element, it is not checked if empty
+     * @see <a href="https://www.w3schools.com/cssref/css_selectors.asp"><i>CSS Selector Reference</i></a>
+     * @see <a href="https://jsoup.org/apidocs/org/jsoup/select/Selector.html"><i>Jsoup Selector API</i></a>
+     */
+    @Then("HTML `$html` matches the CSS selectors:$expectations")
+    public void doesHtmlMatchCssSelectors(String html, List<CssSelectorExpectation> expectations)
+    {
+        Document document = getDocument(html);
+        for (CssSelectorExpectation expectation : expectations)
+        {
+            String cssSelector = expectation.getCssSelector();
+            Elements elements = document.select(cssSelector);
+            String text = expectation.getText();
+            if (assertElements(cssSelector, expectation.getComparisonRule(), expectation.getNumber(), elements)
+                    && text != null && !text.isEmpty() && !elements.isEmpty())
+            {
+                softAssert.assertEquals(ELEMENT_CONTAINS_DATA, text, elements.first().text());
+            }
+        }
     }
 
     /**
@@ -93,7 +155,7 @@ public class HtmlSteps
     public void elementContainsDataByCssSelector(String html, String expectedData, String cssSelector)
     {
         findElementByCssSelectorExist(html, cssSelector).ifPresent(e -> softAssert
-                .assertEquals("Element found by css selector contains expected data", expectedData, e.text()));
+                .assertEquals(ELEMENT_CONTAINS_DATA, expectedData, e.text()));
     }
 
     /**
@@ -26,9 +26,13 @@ public final class HtmlUtils
     {
     }
 
+    public static Document parse(String html)
+    {
+        return Jsoup.parse(html);
+    }
+
     public static Elements getElements(String html, String cssSelector)
     {
-        Document document = Jsoup.parse(html);
-        return document.select(cssSelector);
+        return parse(html).select(cssSelector);
     }
 }
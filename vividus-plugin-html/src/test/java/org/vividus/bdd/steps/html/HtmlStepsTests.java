@@ -16,13 +16,19 @@
 
 package org.vividus.bdd.steps.html;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hamcrest.Matcher;
@@ -32,11 +38,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.softassert.ISoftAssert;
+import org.vividus.testcontext.SimpleTestContext;
+import org.vividus.testcontext.TestContext;
 import org.vividus.util.ResourceUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +63,9 @@ class HtmlStepsTests
     @Mock
     private IBddVariableContext bddVariableContext;
 
+    @Spy
+    private TestContext testContext = new SimpleTestContext();
+
     @InjectMocks
     private HtmlSteps htmlSteps;
 
@@ -127,6 +139,52 @@ class HtmlStepsTests
         verify(bddVariableContext).putVariable(scopes, VARIABLE_NAME, TEXT);
     }
 
+    @Test
+    void shouldCheckCssSelectorsAgainstSingleParsedDocument()
+    {
+        String headerSelector = "body > div > h1";
+        String paragraphSelector = "p";
+        mockFoundElements(headerSelector, 1, true);
+        when(softAssert.assertThat(eq(String.format(NUMBER_OF_ELEMENTS_FOUND_FORMAT, paragraphSelector)), eq(2),
+                argThat(m -> "a value greater than <1>".equals(m.toString())))).thenReturn(true);
+        htmlSteps.doesHtmlMatchCssSelectors(HTML_CONTENT, List.of(
+                createExpectation(headerSelector, ComparisonRule.EQUAL_TO, 1, TEXT),
+                createExpectation(paragraphSelector, ComparisonRule.GREATER_THAN, 1, "")));
+        verifyFoundElements(headerSelector, 1);
+        verify(softAssert).assertEquals("Element found by css selector contains expected data", TEXT, TEXT);
+        verifyNoMoreInteractions(softAssert);
+        assertEquals(1, getParsedDocuments().size());
+    }
+
+    @Test
+    void shouldReuseParsedDocumentWithinScenario()
+    {
+        String selector = "h1";
+        mockFoundElements(selector, 1, true);
+        htmlSteps.saveData(DataType.TEXT, HTML_CONTENT, selector, Set.of(VariableScope.SCENARIO), VARIABLE_NAME);
+        Object parsedDocument = getParsedDocuments().get(HTML_CONTENT);
+        htmlSteps.doesElementByCssSelectorExist(selector, HTML_CONTENT, ComparisonRule.EQUAL_TO, 1);
+        assertSame(parsedDocument, getParsedDocuments().get(HTML_CONTENT));
+        htmlSteps.resetParsedDocuments();
+        assertNull(testContext.get(HtmlSteps.class));
+    }
+
+    private Map<?, ?> getParsedDocuments()
+    {
+        return testContext.get(HtmlSteps.class);
+    }
+
+    private static CssSelectorExpectation createExpectation(String cssSelector, ComparisonRule comparisonRule,
+            int number, String text)
+    {
+        CssSelectorExpectation expectation = new CssSelectorExpectation();
+        expectation.setCssSelector(cssSelector);
+        expectation.setComparisonRule(comparisonRule);
+        expectation.setNumber(number);
+        expectation.setText(text);
+        return expectation;
+    }
+
     private void mockFoundElements(String selector, int size, boolean result)
     {
         lenient().when(softAssert.assertThat(eq(String.format(NUMBER_OF_ELEMENTS_FOUND_FORMAT, selector)), eq(size),
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.diff;
+
+import java.util.List;
+
+/**
+ * Result of JSON documents comparison
+ */
+public final class JsonComparisonResult
+{
+    private final List<JsonDifference> differences;
+    private final boolean truncated;
+
+    JsonComparisonResult(List<JsonDifference> differences, boolean truncated)
+    {
+        this.differences = differences;
+        this.truncated = truncated;
+    }
+
+    public List<JsonDifference> getDifferences()
+    {
+        return differences;
+    }
+
+    /**
+     * @return <code>true</code> if the comparison is stopped after the maximum number of differences and the
+     * documents have more differences, otherwise <code>false</code>
+     */
+    public boolean isTruncated()
+    {
+        return truncated;
+    }
+}
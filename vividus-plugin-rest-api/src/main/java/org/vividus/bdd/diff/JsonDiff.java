@@ -0,0 +1,420 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.diff;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+
+import org.apache.commons.lang3.StringUtils;
+import org.vividus.bdd.diff.JsonDifference.Type;
+
+/**
+ * Structural comparison of JSON documents. The documents are traversed iteratively, so the nesting depth is not
+ * limited by the stack size. The elements of unordered arrays are matched using their structural hashes, the
+ * elements of arrays of objects can be matched by the value of the key field. The comparison stops as soon as the
+ * maximum number of differences is exceeded.
+ * <p>
+ * Elements of unordered arrays having equal hashes are checked for equality by a nested comparison, so only the
+ * nesting of unordered arrays into each other consumes the stack.
+ * </p>
+ */
+public final class JsonDiff
+{
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final boolean ignoringArrayOrder;
+    private final String arrayElementKey;
+    private final int maxDifferences;
+
+    /**
+     * Creates JSON diff
+     * @param ignoringArrayOrder Whether the order of array elements is ignored
+     * @param arrayElementKey Name of the field identifying the elements of arrays of objects, if the field is present
+     * in all elements of both arrays and its values are unique, the elements are matched by these values regardless
+     * of their order, otherwise the arrays are compared as usual; <code>null</code> disables matching by key
+     * @param maxDifferences Maximum number of differences to find
+     */
+    public JsonDiff(boolean ignoringArrayOrder, String arrayElementKey, int maxDifferences)
+    {
+        this.ignoringArrayOrder = ignoringArrayOrder;
+        this.arrayElementKey = arrayElementKey;
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * Compares JSON documents
+     * @param expected Expected JSON
+     * @param actual Actual JSON
+     * @return Result of the comparison containing at most the maximum number of differences: the differences are
+     * ordered depth-first, the differences of a container are listed in the order of its elements (fields of the
+     * expected object followed by unexpected fields of the actual object)
+     */
+    public JsonComparisonResult compare(JsonNode expected, JsonNode actual)
+    {
+        // One more difference is searched to find out whether the comparison is incomplete
+        int limit = maxDifferences < Integer.MAX_VALUE ? maxDifferences + 1 : maxDifferences;
+        List<JsonDifference> differences = new Comparison(limit, new IdentityHashMap<>()).run(expected, actual);
+        boolean truncated = differences.size() > maxDifferences;
+        return new JsonComparisonResult(truncated ? differences.subList(0, maxDifferences) : differences, truncated);
+    }
+
+    private static String childPointer(String pointer, String fieldName)
+    {
+        return pointer + '/' + fieldName.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String childPointer(String pointer, int index)
+    {
+        return pointer + '/' + index;
+    }
+
+    private static String abbreviate(JsonNode node)
+    {
+        return StringUtils.abbreviate(node.toString(), MAX_VALUE_LENGTH);
+    }
+
+    private final class Comparison
+    {
+        private final int limit;
+        private final Map<JsonNode, Integer> hashes;
+        private final List<JsonDifference> differences = new ArrayList<>();
+        private final Deque<NodePair> pending = new ArrayDeque<>();
+
+        private Comparison(int limit, Map<JsonNode, Integer> hashes)
+        {
+            this.limit = limit;
+            this.hashes = hashes;
+        }
+
+        private List<JsonDifference> run(JsonNode expected, JsonNode actual)
+        {
+            pending.push(new NodePair("", expected, actual));
+            while (!pending.isEmpty() && differences.size() < limit)
+            {
+                NodePair pair = pending.pop();
+                if (pair.actual == null)
+                {
+                    addDifference(Type.MISSING, pair.pointer, pair.expected, null);
+                }
+                else if (pair.expected == null)
+                {
+                    addDifference(Type.UNEXPECTED, pair.pointer, null, pair.actual);
+                }
+                else
+                {
+                    compareNodes(pair.pointer, pair.expected, pair.actual);
+                }
+            }
+            return differences;
+        }
+
+        private void compareNodes(String pointer, JsonNode expected, JsonNode actual)
+        {
+            JsonNodeType expectedType = expected.getNodeType();
+            if (expectedType != actual.getNodeType())
+            {
+                addDifference(Type.DIFFERENT_TYPE, pointer, expected, actual);
+            }
+            else if (expectedType == JsonNodeType.OBJECT)
+            {
+                compareObjects(pointer, expected, actual);
+            }
+            else if (expectedType == JsonNodeType.ARRAY)
+            {
+                compareArrays(pointer, expected, actual);
+            }
+            else if (!areValuesEqual(expected, actual))
+            {
+                addDifference(Type.DIFFERENT_VALUE, pointer, expected, actual);
+            }
+        }
+
+        private boolean areValuesEqual(JsonNode expected, JsonNode actual)
+        {
+            return expected.isNumber() ? expected.decimalValue().compareTo(actual.decimalValue()) == 0
+                    : expected.equals(actual);
+        }
+
+        private void compareObjects(String pointer, JsonNode expected, JsonNode actual)
+        {
+            List<NodePair> children = new ArrayList<>();
+            expected.fields().forEachRemaining(field -> children.add(new NodePair(childPointer(pointer, field.getKey()),
+                    field.getValue(), actual.get(field.getKey()))));
+            actual.fields().forEachRemaining(field ->
+            {
+                if (!expected.has(field.getKey()))
+                {
+                    children.add(new NodePair(childPointer(pointer, field.getKey()), null, field.getValue()));
+                }
+            });
+            pushChildren(children);
+        }
+
+        private void compareArrays(String pointer, JsonNode expected, JsonNode actual)
+        {
+            if (arrayElementKey != null)
+            {
+                Map<String, Integer> expectedIndices = indexByKey(expected);
+                Map<String, Integer> actualIndices = expectedIndices != null ? indexByKey(actual) : null;
+                if (actualIndices != null)
+                {
+                    compareKeyedArrays(pointer, expected, actual, expectedIndices, actualIndices);
+                    return;
+                }
+            }
+            if (ignoringArrayOrder)
+            {
+                compareUnorderedArrays(pointer, expected, actual);
+            }
+            else
+            {
+                compareOrderedArrays(pointer, expected, actual);
+            }
+        }
+
+        private void compareOrderedArrays(String pointer, JsonNode expected, JsonNode actual)
+        {
+            List<NodePair> children = new ArrayList<>();
+            int commonSize = Math.min(expected.size(), actual.size());
+            for (int i = 0; i < commonSize; i++)
+            {
+                children.add(new NodePair(childPointer(pointer, i), expected.get(i), actual.get(i)));
+            }
+            for (int i = commonSize; i < expected.size(); i++)
+            {
+                children.add(new NodePair(childPointer(pointer, i), expected.get(i), null));
+            }
+            for (int i = commonSize; i < actual.size(); i++)
+            {
+                children.add(new NodePair(childPointer(pointer, i), null, actual.get(i)));
+            }
+            pushChildren(children);
+        }
+
+        private void compareKeyedArrays(String pointer, JsonNode expected, JsonNode actual,
+                Map<String, Integer> expectedIndices, Map<String, Integer> actualIndices)
+        {
+            List<NodePair> children = new ArrayList<>();
+            expectedIndices.forEach((key, expectedIndex) ->
+            {
+                Integer actualIndex = actualIndices.get(key);
+                children.add(actualIndex == null
+                        ? new NodePair(childPointer(pointer, expectedIndex), expected.get(expectedIndex), null)
+                        : new NodePair(childPointer(pointer, actualIndex), expected.get(expectedIndex),
+                                actual.get(actualIndex)));
+            });
+            actualIndices.forEach((key, actualIndex) ->
+            {
+                if (!expectedIndices.containsKey(key))
+                {
+                    children.add(new NodePair(childPointer(pointer, actualIndex), null, actual.get(actualIndex)));
+                }
+            });
+            pushChildren(children);
+        }
+
+        /**
+         * Matches equal elements using their hashes, the rest of the elements are compared pairwise in their order
+         */
+        private void compareUnorderedArrays(String pointer, JsonNode expected, JsonNode actual)
+        {
+            Map<Integer, List<Integer>> actualIndicesByHash = new HashMap<>();
+            for (int i = 0; i < actual.size(); i++)
+            {
+                actualIndicesByHash.computeIfAbsent(hash(actual.get(i)), h -> new ArrayList<>(1)).add(i);
+            }
+            boolean[] matchedActual = new boolean[actual.size()];
+            List<Integer> unmatchedExpected = new ArrayList<>();
+            for (int i = 0; i < expected.size(); i++)
+            {
+                JsonNode expectedElement = expected.get(i);
+                List<Integer> candidates = actualIndicesByHash.get(hash(expectedElement));
+                if (!removeEqualCandidate(expectedElement, actual, candidates, matchedActual))
+                {
+                    unmatchedExpected.add(i);
+                }
+            }
+            List<NodePair> children = new ArrayList<>();
+            Iterator<Integer> unmatchedExpectedIterator = unmatchedExpected.iterator();
+            for (int i = 0; i < actual.size(); i++)
+            {
+                if (!matchedActual[i])
+                {
+                    JsonNode expectedElement = unmatchedExpectedIterator.hasNext()
+                            ? expected.get(unmatchedExpectedIterator.next()) : null;
+                    children.add(new NodePair(childPointer(pointer, i), expectedElement, actual.get(i)));
+                }
+            }
+            unmatchedExpectedIterator.forEachRemaining(index -> children.add(new NodePair(childPointer(pointer, index),
+                    expected.get(index), null)));
+            pushChildren(children);
+        }
+
+        private boolean removeEqualCandidate(JsonNode expectedElement, JsonNode actual, List<Integer> candidates,
+                boolean[] matchedActual)
+        {
+            if (candidates != null)
+            {
+                Iterator<Integer> iterator = candidates.iterator();
+                while (iterator.hasNext())
+                {
+                    int index = iterator.next();
+                    // Nested comparison is stopped at the first difference
+                    if (new Comparison(1, hashes).run(expectedElement, actual.get(index)).isEmpty())
+                    {
+                        iterator.remove();
+                        matchedActual[index] = true;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private Map<String, Integer> indexByKey(JsonNode array)
+        {
+            Map<String, Integer> indices = new LinkedHashMap<>();
+            for (int i = 0; i < array.size(); i++)
+            {
+                JsonNode key = array.get(i).get(arrayElementKey);
+                if (key == null || !key.isValueNode()
+                        || indices.putIfAbsent(key.isNumber() ? key.decimalValue().stripTrailingZeros().toString()
+                                : key.toString(), i) != null)
+                {
+                    return null;
+                }
+            }
+            return indices;
+        }
+
+        /**
+         * Calculates the hash of the node consistent with the comparison: the nodes considered as equal have the same
+         * hash. The hashes of the containers are calculated iteratively and cached.
+         */
+        private int hash(JsonNode node)
+        {
+            if (!node.isContainerNode())
+            {
+                return hashValue(node);
+            }
+            Deque<JsonNode> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty())
+            {
+                JsonNode current = stack.peek();
+                if (hashes.containsKey(current))
+                {
+                    stack.pop();
+                    continue;
+                }
+                boolean childrenHashed = true;
+                for (JsonNode child : current)
+                {
+                    if (child.isContainerNode() && !hashes.containsKey(child))
+                    {
+                        stack.push(child);
+                        childrenHashed = false;
+                    }
+                }
+                if (childrenHashed)
+                {
+                    stack.pop();
+                    hashes.put(current, hashContainer(current));
+                }
+            }
+            return hashes.get(node);
+        }
+
+        private int hashContainer(JsonNode node)
+        {
+            int hash = 0;
+            if (node.isObject())
+            {
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext())
+                {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    hash += HASH_MULTIPLIER * field.getKey().hashCode() + hashChild(field.getValue());
+                }
+            }
+            else
+            {
+                boolean unordered = ignoringArrayOrder || arrayElementKey != null;
+                for (JsonNode element : node)
+                {
+                    hash = unordered ? hash + hashChild(element) : HASH_MULTIPLIER * hash + hashChild(element);
+                }
+            }
+            return hash;
+        }
+
+        private int hashChild(JsonNode child)
+        {
+            return child.isContainerNode() ? hashes.get(child) : hashValue(child);
+        }
+
+        private int hashValue(JsonNode node)
+        {
+            return node.isNumber() ? node.decimalValue().stripTrailingZeros().hashCode() : node.hashCode();
+        }
+
+        private void pushChildren(List<NodePair> children)
+        {
+            for (int i = children.size() - 1; i >= 0; i--)
+            {
+                pending.push(children.get(i));
+            }
+        }
+
+        private void addDifference(Type type, String pointer, JsonNode expected, JsonNode actual)
+        {
+            if (differences.size() < limit)
+            {
+                differences.add(new JsonDifference(type, pointer, expected != null ? abbreviate(expected) : null,
+                        actual != null ? abbreviate(actual) : null));
+            }
+        }
+    }
+
+    /**
+     * Pair of the compared nodes, missing expected node means unexpected actual node and vice versa
+     */
+    private static final class NodePair
+    {
+        private final String pointer;
+        private final JsonNode expected;
+        private final JsonNode actual;
+
+        private NodePair(String pointer, JsonNode expected, JsonNode actual)
+        {
+            this.pointer = pointer;
+            this.expected = expected;
+            this.actual = actual;
+        }
+    }
+}
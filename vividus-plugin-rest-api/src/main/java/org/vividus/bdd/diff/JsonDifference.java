@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.diff;
+
+/**
+ * Difference between two JSON documents addressed by JSON pointer, the values are abbreviated
+ */
+public final class JsonDifference
+{
+    private final Type type;
+    private final String pointer;
+    private final String expected;
+    private final String actual;
+
+    JsonDifference(Type type, String pointer, String expected, String actual)
+    {
+        this.type = type;
+        this.pointer = pointer;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    public String getPointer()
+    {
+        return pointer;
+    }
+
+    public String getExpected()
+    {
+        return expected;
+    }
+
+    public String getActual()
+    {
+        return actual;
+    }
+
+    @Override
+    public String toString()
+    {
+        switch (type)
+        {
+            case MISSING:
+                return String.format("Missing element at '%s', expected: %s", pointer, expected);
+            case UNEXPECTED:
+                return String.format("Unexpected element at '%s': %s", pointer, actual);
+            default:
+                return String.format("%s at '%s', expected: %s but was: %s", type.description, pointer, expected,
+                        actual);
+        }
+    }
+
+    public enum Type
+    {
+        MISSING("Missing element"),
+        UNEXPECTED("Unexpected element"),
+        DIFFERENT_TYPE("Different type"),
+        DIFFERENT_VALUE("Different value");
+
+        private final String description;
+
+        Type(String description)
+        {
+            this.description = description;
+        }
+    }
+}
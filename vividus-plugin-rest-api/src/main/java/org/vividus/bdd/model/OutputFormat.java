@@ -16,6 +16,13 @@
 
 package org.vividus.bdd.model;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
@@ -28,6 +35,15 @@ public enum OutputFormat
         {
             return new String(data, StandardCharsets.UTF_8);
         }
+
+        @Override
+        public String convert(InputStream data) throws IOException
+        {
+            StringWriter text = new StringWriter();
+            Reader reader = new InputStreamReader(data, StandardCharsets.UTF_8);
+            reader.transferTo(text);
+            return text.toString();
+        }
     },
     BASE64
     {
@@ -36,7 +52,26 @@ public enum OutputFormat
         {
             return Base64.getEncoder().encodeToString(data);
         }
+
+        @Override
+        public String convert(InputStream data) throws IOException
+        {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            try (OutputStream encoder = Base64.getEncoder().wrap(encoded))
+            {
+                data.transferTo(encoder);
+            }
+            return encoded.toString(StandardCharsets.US_ASCII);
+        }
     };
 
     public abstract String convert(byte[] data);
+
+    /**
+     * Converts the data read from the stream, the stream is not closed
+     * @param data stream of data to convert
+     * @return converted data
+     * @throws IOException If an I/O error occurs
+     */
+    public abstract String convert(InputStream data) throws IOException;
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps.api;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.jbehave.core.annotations.Then;
+import org.jbehave.core.annotations.When;
+import org.vividus.bdd.steps.ComparisonRule;
+import org.vividus.http.HttpLoadGenerator;
+import org.vividus.http.HttpLoadResult;
+import org.vividus.http.HttpMethod;
+import org.vividus.http.HttpRequestExecutor;
+import org.vividus.http.HttpTestContext;
+import org.vividus.http.exception.HttpRequestBuildException;
+import org.vividus.reporter.event.IAttachmentPublisher;
+import org.vividus.softassert.ISoftAssert;
+
+public class HttpLoadSteps
+{
+    private static final double[] REPORTED_PERCENTILES = { 50, 75, 90, 95, 99, 99.9, 100 };
+
+    private String apiEndpoint;
+    private final HttpTestContext httpTestContext;
+    private final HttpRequestExecutor httpRequestExecutor;
+    private final HttpLoadGenerator httpLoadGenerator;
+    private final ISoftAssert softAssert;
+    private final IAttachmentPublisher attachmentPublisher;
+
+    public HttpLoadSteps(HttpTestContext httpTestContext, HttpRequestExecutor httpRequestExecutor,
+            HttpLoadGenerator httpLoadGenerator, ISoftAssert softAssert, IAttachmentPublisher attachmentPublisher)
+    {
+        this.httpTestContext = httpTestContext;
+        this.httpRequestExecutor = httpRequestExecutor;
+        this.httpLoadGenerator = httpLoadGenerator;
+        this.softAssert = softAssert;
+        this.attachmentPublisher = attachmentPublisher;
+    }
+
+    /**
+     * Sends the given number of HTTP requests to the <b>relative URL</b> using the request body and headers set
+     * before. The response times are collected into histogram, its distribution is published as attachment, the
+     * results can be validated by the subsequent steps.
+     * @param requests Number of requests to send
+     * @param httpMethod HTTP method type
+     * @param relativeURL relative URL
+     * @param concurrency Number of requests sent simultaneously
+     * @param rate Number of requests sent per second, <b>0</b> means the requests are sent as fast as possible
+     * @throws InterruptedException If the load is interrupted
+     */
+    @When("I send `$requests` HTTP $httpMethod requests to the relative URL `$relativeURL` using $concurrency"
+            + " threads at rate of $rate requests per second")
+    public void sendRequests(long requests, HttpMethod httpMethod, String relativeURL, int concurrency, double rate)
+            throws InterruptedException
+    {
+        generateLoad(httpMethod, relativeURL, requests, null, concurrency, rate);
+    }
+
+    /**
+     * Sends HTTP requests to the <b>relative URL</b> during the given duration using the request body and headers
+     * set before. The response times are collected into histogram, its distribution is published as attachment, the
+     * results can be validated by the subsequent steps.
+     * @param httpMethod HTTP method type
+     * @param relativeURL relative URL
+     * @param duration Duration of the load, e.g. <b>PT1M</b>
+     * @param concurrency Number of requests sent simultaneously
+     * @param rate Number of requests sent per second, <b>0</b> means the requests are sent as fast as possible
+     * @throws InterruptedException If the load is interrupted
+     */
+    @When("I send HTTP $httpMethod requests to the relative URL `$relativeURL` for `$duration` using $concurrency"
+            + " threads at rate of $rate requests per second")
+    public void sendRequestsDuringDuration(HttpMethod httpMethod, String relativeURL, Duration duration,
+            int concurrency, double rate) throws InterruptedException
+    {
+        generateLoad(httpMethod, relativeURL, Long.MAX_VALUE, duration, concurrency, rate);
+    }
+
+    /**
+     * Validates the response time of the last HTTP load at the given percentile
+     * @param percentile Percentile, e.g. <b>99</b> or <b>99.9</b>
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param responseTime Expected response time in milliseconds
+     */
+    @Then("the $percentile percentile of HTTP load response time is $comparisonRule `$responseTime` milliseconds")
+    public void assertResponseTimeAtPercentile(double percentile, ComparisonRule comparisonRule, double responseTime)
+    {
+        performIfHttpLoadResultIsPresent(result -> softAssert.assertThat(
+                String.format("The %s percentile of response time in milliseconds", percentile),
+                result.getResponseTimeAtPercentile(percentile), comparisonRule.getComparisonRule(responseTime)));
+    }
+
+    /**
+     * Validates the percentage of the requests of the last HTTP load failed with an exception or responded with
+     * error status code (4xx or 5xx)
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param errorRate Expected error rate in percents
+     */
+    @Then("the HTTP load error rate is $comparisonRule `$errorRate` percent")
+    public void assertErrorRate(ComparisonRule comparisonRule, double errorRate)
+    {
+        performIfHttpLoadResultIsPresent(result -> softAssert.assertThat("Error rate in percents",
+                result.getErrorRate(), comparisonRule.getComparisonRule(errorRate)));
+    }
+
+    /**
+     * Validates the number of the requests sent per second during the last HTTP load
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param throughput Expected number of requests per second
+     */
+    @Then("the HTTP load throughput is $comparisonRule `$throughput` requests per second")
+    public void assertThroughput(ComparisonRule comparisonRule, double throughput)
+    {
+        performIfHttpLoadResultIsPresent(result -> softAssert.assertThat("Throughput in requests per second",
+                result.getThroughput(), comparisonRule.getComparisonRule(throughput)));
+    }
+
+    private void generateLoad(HttpMethod httpMethod, String relativeURL, long requests, Duration duration,
+            int concurrency, double rate) throws InterruptedException
+    {
+        Supplier<HttpUriRequest> requestFactory;
+        try
+        {
+            requestFactory = httpRequestExecutor.createHttpRequestFactory(httpMethod, apiEndpoint,
+                    Optional.of(relativeURL));
+        }
+        catch (HttpRequestBuildException e)
+        {
+            softAssert.recordFailedAssertion(e);
+            return;
+        }
+        HttpLoadResult result = httpLoadGenerator.generate(requestFactory, requests, duration, concurrency, rate);
+        httpTestContext.putHttpLoadResult(result);
+        publishResult(result);
+    }
+
+    private void publishResult(HttpLoadResult result)
+    {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : REPORTED_PERCENTILES)
+        {
+            percentiles.put(String.valueOf(percentile), result.getResponseTimeAtPercentile(percentile));
+        }
+        Map<String, Object> dataModel = new LinkedHashMap<>();
+        dataModel.put("result", result);
+        dataModel.put("percentiles", percentiles);
+        attachmentPublisher.publishAttachment("/org/vividus/http/attachment/http-load-result.ftl", dataModel,
+                "HTTP load result");
+    }
+
+    private void performIfHttpLoadResultIsPresent(Consumer<HttpLoadResult> action)
+    {
+        Optional<HttpLoadResult> result = httpTestContext.getHttpLoadResult();
+        if (result.isPresent())
+        {
+            action.accept(result.get());
+        }
+        else
+        {
+            softAssert.recordFailedAssertion("No HTTP load was performed");
+        }
+    }
+
+    public void setApiEndpoint(String apiEndpoint)
+    {
+        this.apiEndpoint = apiEndpoint;
+    }
+}
@@ -19,15 +19,22 @@ package org.vividus.bdd.steps.api;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HeaderElement;
@@ -39,19 +46,23 @@ import org.jbehave.core.annotations.When;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.steps.Parameters;
 import org.vividus.bdd.context.IBddVariableContext;
+import org.vividus.bdd.model.ArchiveEntry;
 import org.vividus.bdd.model.ArchiveVariable;
 import org.vividus.bdd.model.NamedEntry;
+import org.vividus.bdd.model.OutputFormat;
 import org.vividus.bdd.steps.ByteArrayValidationRule;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.steps.StringComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.http.ConnectionDetails;
 import org.vividus.http.HttpTestContext;
+import org.vividus.http.client.HttpPhase;
 import org.vividus.http.client.HttpResponse;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.util.ResourceUtils;
 import org.vividus.util.json.JsonProcessingException;
 import org.vividus.util.json.JsonUtils;
+import org.vividus.util.zip.ZipEntryDetails;
 import org.vividus.util.zip.ZipUtils;
 
 public class HttpResponseValidationSteps
@@ -194,6 +205,26 @@ public class HttpResponseValidationSteps
                     response.getResponseTimeInMs(), Matchers.lessThan(responseTimeThresholdMs)));
     }
 
+    /**
+     * Validates the duration of the phase of the last HTTP request execution. The phases not happened during the
+     * execution (e.g. DNS resolution, TCP connect and TLS handshake for the pooled connection) have zero duration.
+     * @param httpPhase The phase of HTTP request execution
+     * (<i>Possible values:<b> connection lease, DNS resolution, TCP connect, TLS handshake, time to first byte,
+     * body download</b></i>)
+     * @param comparisonRule The rule to compare values
+     * (<i>Possible values:<b> less than, less than or equal to, greater than, greater than or equal to,
+     * equal to</b></i>)
+     * @param durationInMs Expected duration of the phase in milliseconds
+     */
+    @Then("the HTTP $httpPhase phase duration is $comparisonRule `$durationInMs` milliseconds")
+    public void assertHttpPhaseDuration(HttpPhase httpPhase, ComparisonRule comparisonRule, long durationInMs)
+    {
+        performIfHttpResponseIsPresent(response -> softAssert.assertThat(
+                String.format("%s duration in milliseconds", httpPhase.getDescription()),
+                response.getTimings().getDuration(httpPhase).toMillis(),
+                comparisonRule.getComparisonRule(durationInMs)));
+    }
+
     /**
      * Validates that response <b>header</b> contains expected <b>attributes</b>.
      * <p>
@@ -329,19 +360,33 @@ public class HttpResponseValidationSteps
     @When("I save content of the response archive entries to the variables:$parameters")
     public void saveFilesContentToVariables(List<ArchiveVariable> parameters)
     {
-        List<String> expectedEntries = parameters.stream().map(ArchiveVariable::getPath).collect(Collectors.toList());
-        Map<String, byte[]> zipEntries = ZipUtils.readZipEntriesFromBytes(getResponseBody(), expectedEntries::contains);
+        Map<String, Set<OutputFormat>> outputFormats = parameters.stream().collect(Collectors.groupingBy(
+                ArchiveVariable::getPath, Collectors.mapping(ArchiveVariable::getOutputFormat, Collectors.toSet())));
+        Map<String, Map<OutputFormat, String>> zipEntries = ZipUtils.readZipEntries(getResponseBodyAsStream(),
+                outputFormats.keySet(), (path, content) -> convert(content, outputFormats.get(path)));
         parameters.forEach(arcVar ->
         {
             String path = arcVar.getPath();
             Optional.ofNullable(zipEntries.get(path)).ifPresentOrElse(
                 data -> bddVariableContext.putVariable(arcVar.getScopes(), arcVar.getVariableName(),
-                        arcVar.getOutputFormat().convert(data)),
-                () -> softAssert.recordFailedAssertion(
-                        String.format("Unable to find entry by name %s in response archive", path)));
+                        data.get(arcVar.getOutputFormat())),
+                () -> recordMissingArchiveEntry(path));
         });
     }
 
+    private static Map<OutputFormat, String> convert(InputStream content, Set<OutputFormat> outputFormats)
+            throws IOException
+    {
+        // The entry content is buffered only if it's requested in several formats
+        if (outputFormats.size() == 1)
+        {
+            OutputFormat outputFormat = outputFormats.iterator().next();
+            return Map.of(outputFormat, outputFormat.convert(content));
+        }
+        byte[] data = content.readAllBytes();
+        return outputFormats.stream().collect(Collectors.toMap(Function.identity(), format -> format.convert(data)));
+    }
+
     /**
      * Verifies that one of specified entries in the response archive has one of specified names
      * Example:
@@ -357,12 +402,80 @@ public class HttpResponseValidationSteps
     @Then("the response archive contains entries with the names:$parameters")
     public void verifyArchiveContainsEntries(List<NamedEntry> parameters)
     {
-        Set<String> entryNames = ZipUtils.readZipEntryNamesFromBytes(getResponseBody());
-        parameters.stream().map(NamedEntry::getName).forEach(expectedName ->
+        Set<String> expectedNames = parameters.stream().map(NamedEntry::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> entryNames = ZipUtils.readZipEntryNames(getResponseBodyAsStream(), expectedNames);
+        expectedNames.forEach(expectedName ->
                 softAssert.assertThat("The response archive contains entry with name " + expectedName, entryNames,
                         hasItem(expectedName)));
     }
 
+    /**
+     * Verifies size, CRC-32 and checksum of the entries in the response archive. The entries content is not kept in
+     * memory and the archive is not read further once all the entries are found. Any of the columns
+     * <b>size</b>, <b>crc</b> and <b>checksum</b> can be omitted to skip the corresponding check.
+     * Example:
+     * <p>
+     * <code>
+     * Then the response archive contains entries matching the parameters:<br>
+     * |path                        |size|crc     |checksum                                                        |<br>
+     * |files/2011-11-11/skyrim.json|38  |48c33241|858479e337bf80091f36e1d18d59cd2e130c265c1cf50a487796a2cd3c83d196|
+     * </code>
+     * </p>
+     * The <b>checksumAlgorithm</b> column sets the algorithm to calculate the checksum with, e.g. <b>MD5</b>,
+     * <b>SHA-1</b>, by default <b>SHA-256</b> is used. The same entry can be verified with several algorithms.
+     * @param parameters describes the expected entries: <b>path</b> of the entry, its uncompressed <b>size</b> in
+     * bytes, <b>crc</b> - CRC-32 in hex format and <b>checksum</b> - the checksum of the content in hex format
+     */
+    @Then("the response archive contains entries matching the parameters:$parameters")
+    public void verifyArchiveEntries(List<ArchiveEntry> parameters)
+    {
+        Map<String, Set<String>> checksumAlgorithms = new HashMap<>();
+        parameters.forEach(entry ->
+        {
+            Set<String> entryChecksumAlgorithms = checksumAlgorithms.computeIfAbsent(entry.getPath(),
+                path -> new HashSet<>());
+            if (entry.getChecksum() != null)
+            {
+                entryChecksumAlgorithms.add(entry.getChecksumAlgorithm());
+            }
+        });
+        Map<String, ZipEntryDetails> zipEntries = ZipUtils.readZipEntryDetails(getResponseBodyAsStream(),
+                checksumAlgorithms);
+        parameters.forEach(expected ->
+        {
+            String path = expected.getPath();
+            ZipEntryDetails actual = zipEntries.get(path);
+            if (actual == null)
+            {
+                recordMissingArchiveEntry(path);
+                return;
+            }
+            if (expected.getSize() != null)
+            {
+                softAssert.assertEquals("Size of the response archive entry " + path, expected.getSize().longValue(),
+                        actual.getSize());
+            }
+            if (expected.getCrc() != null)
+            {
+                softAssert.assertEquals("CRC-32 of the response archive entry " + path,
+                        expected.getCrc().toLowerCase(), String.format("%08x", actual.getCrc()));
+            }
+            if (expected.getChecksum() != null)
+            {
+                softAssert.assertEquals(
+                        expected.getChecksumAlgorithm() + " checksum of the response archive entry " + path,
+                        expected.getChecksum().toLowerCase(),
+                        Hex.encodeHexString(actual.getChecksum(expected.getChecksumAlgorithm())));
+            }
+        });
+    }
+
+    private void recordMissingArchiveEntry(String path)
+    {
+        softAssert.recordFailedAssertion(String.format("Unable to find entry by name %s in response archive", path));
+    }
+
     private Optional<String> getHeaderValueByName(HttpResponse response, String httpHeaderName)
     {
         return getHeaderByName(response, httpHeaderName).map(Header::getValue);
@@ -380,9 +493,9 @@ public class HttpResponseValidationSteps
         return httpTestContext.getResponse();
     }
 
-    private byte[] getResponseBody()
+    private InputStream getResponseBodyAsStream()
     {
-        return getResponse().getResponseBody();
+        return getResponse().getResponseBodyAsStream();
     }
 
     private boolean isJson(byte[] responseBody)
@@ -21,6 +21,7 @@ import static java.lang.String.join;
 import static net.javacrumbs.jsonunit.JsonMatchers.jsonEquals;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.Collections;
@@ -28,26 +29,32 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.PathNotFoundException;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.vividus.bdd.context.IBddVariableContext;
+import org.vividus.bdd.diff.JsonComparisonResult;
+import org.vividus.bdd.diff.JsonDiff;
 import org.vividus.bdd.diff.JsonDiffMatcher;
+import org.vividus.bdd.diff.JsonDifference;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.steps.SubSteps;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.http.HttpMethod;
 import org.vividus.http.HttpRequestExecutor;
 import org.vividus.http.HttpTestContext;
+import org.vividus.http.ParsedJsonElement;
 import org.vividus.http.client.HttpResponse;
 import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.softassert.ISoftAssert;
@@ -69,9 +76,11 @@ public class JsonResponseValidationSteps
     private static final Pattern DIFFERENCES_PATTERN = Pattern.compile(
             "(?=(?:" + join(PIPE, ASSERTION_BOUNDS) + ")).+?(?=(?:" + join(PIPE, ASSERTION_BOUNDS) + "|$))",
             Pattern.DOTALL);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private ISoftAssert softAssert;
     private IJsonUtils jsonUtils;
+    private int maxJsonDifferences;
 
     @Inject private HttpTestContext httpTestContext;
     @Inject private IBddVariableContext bddVariableContext;
@@ -89,7 +98,7 @@ public class JsonResponseValidationSteps
     @Then("a JSON element by the JSON path '$jsonPath' is equal to '$expectedData'$options")
     public boolean isDataByJsonPathEqual(String jsonPath, String expectedData, Options options)
     {
-        return isDataByJsonPathFromJsonEqual(getActualJson(), jsonPath, expectedData, options);
+        return isDataByJsonPathEqual(() -> getJsonContextData(jsonPath), jsonPath, expectedData, options);
     }
 
     /**
@@ -104,7 +113,13 @@ public class JsonResponseValidationSteps
     @Then("a JSON element from '$json' by the JSON path '$jsonPath' is equal to '$expectedData'$options")
     public boolean isDataByJsonPathFromJsonEqual(String json, String jsonPath, String expectedData, Options options)
     {
-        return getDataByJsonPath(json, jsonPath, expectedData).map(match(jsonPath, expectedData, options))
+        return isDataByJsonPathEqual(() -> JsonPathUtils.getData(json, jsonPath), jsonPath, expectedData, options);
+    }
+
+    private boolean isDataByJsonPathEqual(Supplier<Object> dataSupplier, String jsonPath, String expectedData,
+            Options options)
+    {
+        return getDataByJsonPath(dataSupplier, expectedData).map(match(jsonPath, expectedData, options))
                 .orElse(Boolean.FALSE).booleanValue();
     }
 
@@ -139,6 +154,63 @@ public class JsonResponseValidationSteps
         };
     }
 
+    /**
+     * Checks if JSON context or HTTP response contains the expected data by given JSON path ignoring the order of
+     * array elements. The documents are compared structurally: the elements of the arrays are matched by their hashes,
+     * so the comparison of large arrays is fast. Each found difference is recorded as a separate assertion addressed
+     * by JSON pointer, the comparison stops after the number of differences configured by the property
+     * <b>rest-api.json-diff.max-differences</b>.
+     * @param jsonPath JSON path
+     * @param expectedData expected value of element by JSON path
+     * @return true JSON contains the expected data by given JSON path, otherwise - false
+     */
+    @Then("JSON element by JSON path `$jsonPath` is equal to `$expectedData` ignoring array order")
+    public boolean isDataByJsonPathEqualIgnoringArrayOrder(String jsonPath, String expectedData)
+    {
+        return isDataByJsonPathEqual(jsonPath, expectedData, new JsonDiff(true, null, maxJsonDifferences));
+    }
+
+    /**
+     * Checks if JSON context or HTTP response contains the expected data by given JSON path matching the elements of
+     * arrays of objects by the value of the key field regardless of their order. The arrays which elements can't be
+     * matched by the key field (the field is missing or its values are not unique) are compared ignoring the order
+     * of their elements. Each found difference is recorded as a separate assertion addressed by JSON pointer, the
+     * comparison stops after the number of differences configured by the property
+     * <b>rest-api.json-diff.max-differences</b>.
+     * @param jsonPath JSON path
+     * @param expectedData expected value of element by JSON path
+     * @param keyField name of the field identifying the elements of arrays, e.g. <b>id</b>
+     * @return true JSON contains the expected data by given JSON path, otherwise - false
+     */
+    @Then("JSON element by JSON path `$jsonPath` is equal to `$expectedData` matching array elements by `$keyField`")
+    public boolean isDataByJsonPathEqualMatchingArrayElementsByKey(String jsonPath, String expectedData,
+            String keyField)
+    {
+        return isDataByJsonPathEqual(jsonPath, expectedData, new JsonDiff(true, keyField, maxJsonDifferences));
+    }
+
+    private boolean isDataByJsonPathEqual(String jsonPath, String expectedData, JsonDiff jsonDiff)
+    {
+        return getDataByJsonPathSafely(() -> getJsonContextData(jsonPath)).map(actualData ->
+        {
+            JsonNode actual = OBJECT_MAPPER.valueToTree(actualData.orElse(null));
+            JsonComparisonResult result = jsonDiff.compare(jsonUtils.toJson(expectedData), actual);
+            List<JsonDifference> differences = result.getDifferences();
+            if (differences.isEmpty())
+            {
+                return softAssert.assertTrue(format("Data by JSON path: %s is equal to '%s'", jsonPath,
+                        expectedData), true);
+            }
+            differences.forEach(difference -> softAssert.recordFailedAssertion(difference.toString()));
+            if (result.isTruncated())
+            {
+                softAssert.recordFailedAssertion(format("JSON comparison is stopped after %d differences",
+                        maxJsonDifferences));
+            }
+            return false;
+        }).orElse(Boolean.FALSE).booleanValue();
+    }
+
     /**
      * Compares the number of elements found in JSON by JSON path with the expected number.
      * @param jsonPath JSON path
@@ -152,7 +224,8 @@ public class JsonResponseValidationSteps
     @Then("the number of JSON elements by the JSON path '$jsonPath' is $comparisonRule $elementsNumber")
     public boolean doesJsonPathElementsMatchRule(String jsonPath, ComparisonRule comparisonRule, int elementsNumber)
     {
-        return doesJsonPathElementsFromJsonMatchRule(getActualJson(), jsonPath, comparisonRule, elementsNumber);
+        int actualNumber = getElementsNumber(() -> getJsonContextData(jsonPath));
+        return assertJsonElementsNumber(jsonPath, actualNumber, comparisonRule, elementsNumber);
     }
 
     /**
@@ -170,7 +243,7 @@ public class JsonResponseValidationSteps
     public boolean doesJsonPathElementsFromJsonMatchRule(String json, String jsonPath, ComparisonRule comparisonRule,
             int elementsNumber)
     {
-        int actualNumber = getElementsNumber(json, jsonPath);
+        int actualNumber = getElementsNumber(() -> JsonPathUtils.getData(json, jsonPath));
         return assertJsonElementsNumber(jsonPath, actualNumber, comparisonRule, elementsNumber);
     }
 
@@ -197,7 +270,7 @@ public class JsonResponseValidationSteps
     @When("I save JSON element from context by JSON path `$jsonPath` to $scopes variable `$variableName`")
     public void saveJsonElementFromContextToVariable(String jsonPath, Set<VariableScope> scopes, String variableName)
     {
-        saveJsonElementToVariable(getActualJson(), jsonPath, scopes, variableName);
+        saveJsonElementToVariable(() -> getJsonContextData(jsonPath), scopes, variableName);
     }
 
     /**
@@ -225,7 +298,13 @@ public class JsonResponseValidationSteps
     @When("I save a JSON element from '$json' by JSON path '$jsonPath' to $scopes variable '$variableName'")
     public void saveJsonElementToVariable(String json, String jsonPath, Set<VariableScope> scopes, String variableName)
     {
-        getDataByJsonPath(json, jsonPath, null)
+        saveJsonElementToVariable(() -> JsonPathUtils.getData(json, jsonPath), scopes, variableName);
+    }
+
+    private void saveJsonElementToVariable(Supplier<Object> dataSupplier, Set<VariableScope> scopes,
+            String variableName)
+    {
+        getDataByJsonPath(dataSupplier, null)
                 .ifPresent(actualData -> bddVariableContext.putVariable(scopes, variableName, actualData));
     }
 
@@ -246,7 +325,8 @@ public class JsonResponseValidationSteps
     @When("I set the number of elements found by the JSON path '$jsonPath' to the $scopes variable '$variableName'")
     public void saveElementsNumberByJsonPath(String jsonPath, Set<VariableScope> scopes, String variableName)
     {
-        bddVariableContext.putVariable(scopes, variableName, getElementsNumber(getActualJson(), jsonPath));
+        bddVariableContext.putVariable(scopes, variableName,
+                getElementsNumber(() -> getJsonContextData(jsonPath)));
     }
 
     /**
@@ -313,11 +393,11 @@ public class JsonResponseValidationSteps
         {
             return true;
         }
-        String responseBody = response.getResponseBodyAsString();
+        InputStream responseBody = response.getResponseBodyAsStream();
         try
         {
-            // Empty response may be in case of HTTP "204 NO CONTENT"
-            return StringUtils.isNotEmpty(responseBody) && getElementsNumber(responseBody, jsonPath) > 0;
+            // Empty response may be in case of HTTP "204 NO CONTENT", it's reported as invalid JSON
+            return responseBody != null && getElementsNumber(() -> JsonPathUtils.getData(responseBody, jsonPath)) > 0;
         }
         catch (InvalidJsonException ignored)
         {
@@ -369,7 +449,7 @@ public class JsonResponseValidationSteps
     public void performAllStepsForJsonIfFound(ComparisonRule comparisonRule, int elementsNumber, String jsonPath,
             SubSteps stepsToExecute)
     {
-        performAllStepsForProvidedJsonIfFound(comparisonRule, elementsNumber, getActualJson(), jsonPath,
+        performAllStepsForJsonIfFound(comparisonRule, elementsNumber, () -> getJsonContextData(jsonPath), jsonPath,
                 stepsToExecute);
     }
 
@@ -402,36 +482,53 @@ public class JsonResponseValidationSteps
     public void performAllStepsForProvidedJsonIfFound(ComparisonRule comparisonRule, int elementsNumber, String json,
             String jsonPath, SubSteps stepsToExecute)
     {
-        Optional<List<?>> jsonElements = getElements(json, jsonPath);
+        performAllStepsForJsonIfFound(comparisonRule, elementsNumber, () -> JsonPathUtils.getData(json, jsonPath),
+                jsonPath, stepsToExecute);
+    }
+
+    private void performAllStepsForJsonIfFound(ComparisonRule comparisonRule, int elementsNumber,
+            Supplier<Object> dataSupplier, String jsonPath, SubSteps stepsToExecute)
+    {
+        Optional<List<?>> jsonElements = getElements(dataSupplier);
         if (assertJsonElementsNumber(jsonPath, countElementsNumber(jsonElements), comparisonRule, elementsNumber))
         {
-            String jsonContext = getActualJson();
-            jsonElements.get().stream().map(jsonUtils::toJson).forEach(jsonElement ->
+            Optional<ParsedJsonElement> parsedJsonContext = httpTestContext.getParsedJsonElement();
+            Optional<String> jsonContext = parsedJsonContext.isPresent() ? Optional.empty()
+                    : httpTestContext.getJsonElement();
+            // The found elements are already parsed, their text is created only if a step asks for it
+            jsonElements.get().forEach(jsonElement ->
             {
-                httpTestContext.putJsonContext(jsonElement);
+                httpTestContext.putParsedJsonContext(new ParsedJsonElement(jsonElement, jsonUtils::toJson));
                 stepsToExecute.execute(Optional.empty());
             });
-            httpTestContext.putJsonContext(jsonContext);
+            if (parsedJsonContext.isPresent())
+            {
+                httpTestContext.putParsedJsonContext(parsedJsonContext.get());
+            }
+            else
+            {
+                httpTestContext.putJsonContext(jsonContext.orElse(null));
+            }
         }
     }
 
-    private Optional<String> getDataByJsonPath(String json, String jsonPath, String expectedData)
+    private Optional<String> getDataByJsonPath(Supplier<Object> dataSupplier, String expectedData)
     {
-        return getDataByJsonPathSafely(json, jsonPath).map(
+        return getDataByJsonPathSafely(dataSupplier).map(
             jsonByPath -> unwrapCollection(jsonByPath, expectedData)
             .orElseGet(() -> jsonUtils.toJson(jsonByPath.orElse(null))));
     }
 
-    private <T> Optional<Optional<T>> getDataByJsonPathSafely(String json, String jsonPath)
+    private <T> Optional<Optional<T>> getDataByJsonPathSafely(Supplier<T> dataSupplier)
     {
-        return getDataByJsonPathSafely(json, jsonPath, true);
+        return getDataByJsonPathSafely(dataSupplier, true);
     }
 
-    private <T> Optional<Optional<T>> getDataByJsonPathSafely(String json, String jsonPath, boolean recordFail)
+    private <T> Optional<Optional<T>> getDataByJsonPathSafely(Supplier<T> dataSupplier, boolean recordFail)
     {
         try
         {
-            return Optional.of(Optional.ofNullable(JsonPathUtils.getData(json, jsonPath)));
+            return Optional.of(Optional.ofNullable(dataSupplier.get()));
         }
         catch (PathNotFoundException e)
         {
@@ -463,15 +560,15 @@ public class JsonResponseValidationSteps
         return actualJsonByPath;
     }
 
-    private int getElementsNumber(String json, String jsonPath)
+    private int getElementsNumber(Supplier<Object> dataSupplier)
     {
-        Optional<List<?>> elements = getElements(json, jsonPath);
+        Optional<List<?>> elements = getElements(dataSupplier);
         return countElementsNumber(elements);
     }
 
-    private Optional<List<?>> getElements(String json, String jsonPath)
+    private Optional<List<?>> getElements(Supplier<Object> dataSupplier)
     {
-        Optional<Optional<Object>> jsonObject = getDataByJsonPathSafely(json, jsonPath, false);
+        Optional<Optional<Object>> jsonObject = getDataByJsonPathSafely(dataSupplier, false);
         return jsonObject.map(e -> e.map(value -> value instanceof List ? (List<?>) value : List.of(value))
                 .orElseGet(() -> Collections.singletonList(null)));
     }
@@ -488,9 +585,23 @@ public class JsonResponseValidationSteps
                 comparisonRule.getComparisonRule(expectedElementsNumber));
     }
 
-    private String getActualJson()
+    private <T> T getJsonContextData(String jsonPath)
     {
-        return httpTestContext.getJsonContext();
+        Optional<ParsedJsonElement> parsedJsonElement = httpTestContext.getParsedJsonElement();
+        if (parsedJsonElement.isPresent())
+        {
+            return JsonPathUtils.getDataFromParsedJson(parsedJsonElement.get().getValue(), jsonPath);
+        }
+        Optional<String> jsonElement = httpTestContext.getJsonElement();
+        if (jsonElement.isPresent())
+        {
+            return JsonPathUtils.getData(jsonElement.get(), jsonPath);
+        }
+        HttpResponse response = httpTestContext.getResponse();
+        InputStream responseBody = response != null ? response.getResponseBodyAsStream() : null;
+        // The response body is streamed to avoid its decoding and parsing of the whole document
+        return responseBody != null ? JsonPathUtils.getData(responseBody, jsonPath)
+                : JsonPathUtils.getData((String) null, jsonPath);
     }
 
     public void setSoftAssert(ISoftAssert softAssert)
@@ -502,4 +613,9 @@ public class JsonResponseValidationSteps
     {
         this.jsonUtils = jsonUtils;
     }
+
+    public void setMaxJsonDifferences(int maxJsonDifferences)
+    {
+        this.maxJsonDifferences = maxJsonDifferences;
+    }
 }
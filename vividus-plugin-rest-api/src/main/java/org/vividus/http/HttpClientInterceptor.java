@@ -20,6 +20,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -42,6 +44,7 @@ import org.vividus.reporter.event.IAttachmentPublisher;
 public class HttpClientInterceptor implements HttpRequestInterceptor
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientInterceptor.class);
+    private static final double NANOSECONDS_IN_MILLISECOND = 1_000_000.0;
 
     private final IAttachmentPublisher attachmentPublisher;
 
@@ -78,24 +81,29 @@ public class HttpClientInterceptor implements HttpRequestInterceptor
         }
         RequestLine requestLine = request.getRequestLine();
         String attachmentTitle = String.format("Request: %s %s", requestLine.getMethod(), requestLine.getUri());
-        attachApiMessage(attachmentTitle, request.getAllHeaders(), body, mimeType, -1);
+        attachApiMessage(attachmentTitle, request.getAllHeaders(), body, mimeType, -1, Map.of());
     }
 
     public void attachResponse(HttpResponse response)
     {
         Header[] headers = response.getResponseHeaders();
         String attachmentTitle = String.format("Response: %s %s", response.getMethod(), response.getFrom());
+        Map<String, String> timings = new LinkedHashMap<>();
+        response.getTimings().getDurations().forEach((phase, duration) -> timings.put(phase.getDescription(),
+                String.format(Locale.ROOT, "%.3f ms", duration.toNanos() / NANOSECONDS_IN_MILLISECOND)));
         attachApiMessage(attachmentTitle, headers, response.getResponseBody(), getMimeType(headers),
-                response.getStatusCode());
+                response.getStatusCode(), timings);
     }
 
-    private void attachApiMessage(String title, Header[] headers, byte[] body, String mimeType, int statusCode)
+    private void attachApiMessage(String title, Header[] headers, byte[] body, String mimeType, int statusCode,
+            Map<String, String> timings)
     {
         Map<String, Object> dataMap = new HashMap<>();
         dataMap.put("headers", headers);
         dataMap.put("body", body != null ? new String(body, StandardCharsets.UTF_8) : null);
         dataMap.put("bodyContentType", mimeType);
         dataMap.put("statusCode", statusCode);
+        dataMap.put("timings", timings);
 
         attachmentPublisher.publishAttachment("/org/vividus/http/attachment/api-message.ftl", dataMap, title);
     }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.Histogram;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.http.client.HttpResponse;
+import org.vividus.http.client.IHttpClient;
+
+/**
+ * Generator of HTTP load: sends the same request multiple times with the given concurrency and rate using the
+ * pooled HTTP client. The response times are recorded into HdrHistogram. If the rate is limited, the response time is
+ * measured from the moment the request was scheduled to be sent, so the delays caused by the slow responses are not
+ * hidden from the results (coordinated omission correction).
+ */
+public class HttpLoadGenerator
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpLoadGenerator.class);
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final IHttpClient httpClient;
+
+    public HttpLoadGenerator(IHttpClient httpClient)
+    {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Sends the requests until the number of requests is reached or the duration is elapsed
+     * @param requestFactory Factory of the requests to send
+     * @param maxRequests Maximum number of requests to send
+     * @param duration Maximum duration of the load, <code>null</code> for unlimited duration
+     * @param concurrency Number of the requests sent simultaneously
+     * @param rate Number of the requests sent per second, <code>0</code> for unlimited rate
+     * @return Result of the load
+     * @throws InterruptedException If the current thread was interrupted while waiting for the load completion
+     */
+    public HttpLoadResult generate(Supplier<HttpUriRequest> requestFactory, long maxRequests, Duration duration,
+            int concurrency, double rate) throws InterruptedException
+    {
+        Validate.isTrue(concurrency > 0, "Concurrency must be positive");
+        Validate.isTrue(rate >= 0, "Rate must be non-negative");
+        LoadState state = new LoadState(requestFactory, maxRequests, duration, rate);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try
+        {
+            List<Callable<WorkerResult>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++)
+            {
+                workers.add(() -> runWorker(state));
+            }
+            List<Future<WorkerResult>> futures = executor.invokeAll(workers);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - state.startNanos);
+            Histogram histogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+            long requests = 0;
+            long errors = 0;
+            for (Future<WorkerResult> future : futures)
+            {
+                WorkerResult result = getResult(future);
+                histogram.add(result.histogram);
+                requests += result.requests;
+                errors += result.errors;
+            }
+            return new HttpLoadResult(histogram, requests, errors, elapsed);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private WorkerResult runWorker(LoadState state)
+    {
+        WorkerResult result = new WorkerResult();
+        for (long index = state.issued.getAndIncrement(); index < state.maxRequests;
+                index = state.issued.getAndIncrement())
+        {
+            long scheduledStart = state.getScheduledStart(index);
+            if (state.isAfterDeadline(scheduledStart) || !sleepUntil(scheduledStart))
+            {
+                break;
+            }
+            long start = state.isRateLimited() ? scheduledStart : System.nanoTime();
+            result.requests++;
+            try
+            {
+                HttpResponse response = httpClient.execute(state.requestFactory.get());
+                if (response.getStatusCode() >= HttpStatus.SC_BAD_REQUEST)
+                {
+                    result.errors++;
+                }
+            }
+            catch (IOException e)
+            {
+                LOGGER.debug("HTTP request is failed", e);
+                result.errors++;
+            }
+            // Failed requests are recorded as well, otherwise fast failures (e.g. refused connections) and timeouts
+            // would be hidden from the response time distribution
+            result.histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        return result;
+    }
+
+    private static boolean sleepUntil(long nanoTime)
+    {
+        long delay = nanoTime - System.nanoTime();
+        if (delay > 0)
+        {
+            try
+            {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static WorkerResult getResult(Future<WorkerResult> future) throws InterruptedException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (ExecutionException e)
+        {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class LoadState
+    {
+        private final Supplier<HttpUriRequest> requestFactory;
+        private final long maxRequests;
+        private final long startNanos = System.nanoTime();
+        private final Long deadlineNanos;
+        private final double intervalNanos;
+        private final AtomicLong issued = new AtomicLong();
+
+        private LoadState(Supplier<HttpUriRequest> requestFactory, long maxRequests, Duration duration, double rate)
+        {
+            this.requestFactory = requestFactory;
+            this.maxRequests = maxRequests;
+            this.deadlineNanos = duration != null ? startNanos + duration.toNanos() : null;
+            this.intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0;
+        }
+
+        private boolean isRateLimited()
+        {
+            return intervalNanos > 0;
+        }
+
+        private long getScheduledStart(long index)
+        {
+            return isRateLimited() ? startNanos + (long) (index * intervalNanos) : System.nanoTime();
+        }
+
+        private boolean isAfterDeadline(long nanoTime)
+        {
+            return deadlineNanos != null && nanoTime - deadlineNanos >= 0;
+        }
+    }
+
+    private static final class WorkerResult
+    {
+        private final Histogram histogram = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        private long requests;
+        private long errors;
+    }
+}
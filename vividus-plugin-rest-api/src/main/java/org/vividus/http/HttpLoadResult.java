@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of HTTP load: the number of sent requests and failed ones, and the histogram of response times
+ */
+public class HttpLoadResult
+{
+    private static final double MICROSECONDS_IN_MILLISECOND = 1000.0;
+    private static final double PERCENTS = 100.0;
+
+    private final Histogram histogram;
+    private final long requests;
+    private final long errors;
+    private final Duration duration;
+
+    /**
+     * Creates result of HTTP load
+     * @param histogram Histogram of response times in microseconds
+     * @param requests Number of sent requests
+     * @param errors Number of requests failed with an exception or responded with error status code
+     * @param duration Duration of the load
+     */
+    public HttpLoadResult(Histogram histogram, long requests, long errors, Duration duration)
+    {
+        this.histogram = histogram;
+        this.requests = requests;
+        this.errors = errors;
+        this.duration = duration;
+    }
+
+    public long getRequests()
+    {
+        return requests;
+    }
+
+    public long getErrors()
+    {
+        return errors;
+    }
+
+    public Duration getDuration()
+    {
+        return duration;
+    }
+
+    /**
+     * Gets the percentage of failed requests
+     * @return Error rate in percents
+     */
+    public double getErrorRate()
+    {
+        return requests == 0 ? 0 : PERCENTS * errors / requests;
+    }
+
+    /**
+     * Gets the number of requests sent per second
+     * @return Throughput in requests per second
+     */
+    public double getThroughput()
+    {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : requests * (double) Duration.ofSeconds(1).toNanos() / nanos;
+    }
+
+    /**
+     * Gets the response time at the given percentile
+     * @param percentile Percentile, e.g. 99.9
+     * @return Response time in milliseconds
+     */
+    public double getResponseTimeAtPercentile(double percentile)
+    {
+        return histogram.getValueAtPercentile(percentile) / MICROSECONDS_IN_MILLISECOND;
+    }
+
+    public double getMeanResponseTime()
+    {
+        return histogram.getMean() / MICROSECONDS_IN_MILLISECOND;
+    }
+
+    public double getMaxResponseTime()
+    {
+        return histogram.getMaxValue() / MICROSECONDS_IN_MILLISECOND;
+    }
+
+    /**
+     * Gets the full distribution of response times in the text format of HdrHistogram
+     * @return Percentile distribution of response times in milliseconds
+     */
+    public String getPercentileDistribution()
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream printStream = new PrintStream(output, false, StandardCharsets.UTF_8))
+        {
+            histogram.outputPercentileDistribution(printStream, MICROSECONDS_IN_MILLISECOND);
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -20,9 +20,12 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import org.apache.commons.lang3.Validate;
 import org.apache.http.ConnectionClosedException;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,6 +96,45 @@ public class HttpRequestExecutor
         }
     }
 
+    /**
+     * Creates the factory of HTTP requests built from the request data of the current context and frees context
+     * request entity and headers afterwards. Each call of the factory creates a new request, the factory is
+     * thread-safe, so it can be used to send the same request concurrently.
+     * @param httpMethod HttpMethod of the requests
+     * @param endpoint Request endpoint
+     * @param relativeURL Relative URL - optional
+     * @return Factory of HTTP requests
+     * @throws HttpRequestBuildException If the request can't be built
+     */
+    public Supplier<HttpUriRequest> createHttpRequestFactory(HttpMethod httpMethod, String endpoint,
+            Optional<String> relativeURL) throws HttpRequestBuildException
+    {
+        try
+        {
+            httpTestContext.getRequestEntity().ifPresent(entity -> Validate.isTrue(entity.isRepeatable(),
+                    "Request body must be repeatable to be sent multiple times"));
+            HttpRequestBuilder httpRequestBuilder = createHttpRequestBuilder(httpMethod, endpoint,
+                    relativeURL.orElse(null));
+            // The request is built once eagerly to report the build errors right away
+            httpRequestBuilder.build();
+            return () ->
+            {
+                try
+                {
+                    return httpRequestBuilder.build();
+                }
+                catch (HttpRequestBuildException e)
+                {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+        finally
+        {
+            httpTestContext.releaseRequestData();
+        }
+    }
+
     private HttpResponse executeHttpCallSafely(HttpMethod httpMethod, String endpoint, String relativeURL)
             throws IOException
     {
@@ -123,6 +165,11 @@ public class HttpRequestExecutor
 
     private HttpRequestBase prepareHttpRequestBase(HttpMethod httpMethod, String endpoint, String relativeURL)
             throws HttpRequestBuildException
+    {
+        return createHttpRequestBuilder(httpMethod, endpoint, relativeURL).build();
+    }
+
+    private HttpRequestBuilder createHttpRequestBuilder(HttpMethod httpMethod, String endpoint, String relativeURL)
     {
         HttpRequestBuilder httpRequestBuilder = HttpRequestBuilder.create()
                 .withHttpMethod(httpMethod)
@@ -130,6 +177,6 @@ public class HttpRequestExecutor
                 .withRelativeUrl(relativeURL)
                 .withHeaders(httpTestContext.getRequestHeaders());
         httpTestContext.getRequestEntity().ifPresent(httpRequestBuilder::withContent);
-        return httpRequestBuilder.build();
+        return httpRequestBuilder;
     }
 }
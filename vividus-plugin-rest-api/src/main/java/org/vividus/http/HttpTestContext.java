@@ -63,11 +63,25 @@ public class HttpTestContext
         HttpTestContextData data = getData();
         data.response = response;
         data.jsonElement = Optional.empty();
+        data.parsedJsonElement = Optional.empty();
     }
 
     public void putJsonContext(String jsonElement)
     {
-        getData().jsonElement = Optional.ofNullable(jsonElement);
+        HttpTestContextData data = getData();
+        data.jsonElement = Optional.ofNullable(jsonElement);
+        data.parsedJsonElement = Optional.empty();
+    }
+
+    /**
+     * Puts already parsed JSON element as JSON context, so it is not parsed again by the JSON steps
+     * @param parsedJsonElement Parsed JSON element
+     */
+    public void putParsedJsonContext(ParsedJsonElement parsedJsonElement)
+    {
+        HttpTestContextData data = getData();
+        data.jsonElement = Optional.empty();
+        data.parsedJsonElement = Optional.ofNullable(parsedJsonElement);
     }
 
     public void putRequestConfig(RequestConfig requestConfig)
@@ -75,6 +89,11 @@ public class HttpTestContext
         getData().requestConfig = requestConfig;
     }
 
+    public void putHttpLoadResult(HttpLoadResult httpLoadResult)
+    {
+        getData().httpLoadResult = httpLoadResult;
+    }
+
     Optional<HttpEntity> getRequestEntity()
     {
         return Optional.ofNullable(getData().requestEntity);
@@ -97,7 +116,23 @@ public class HttpTestContext
 
     public String getJsonContext()
     {
-        return getData().jsonElement.orElse(getResponse() == null ? null : getResponse().getResponseBodyAsString());
+        return getJsonElement().orElseGet(
+            () -> getResponse() == null ? null : getResponse().getResponseBodyAsString());
+    }
+
+    /**
+     * Gets JSON context set explicitly, if it's empty the body of the current HTTP response is the JSON context
+     * @return JSON context set explicitly
+     */
+    public Optional<String> getJsonElement()
+    {
+        HttpTestContextData data = getData();
+        return data.parsedJsonElement.map(ParsedJsonElement::asString).or(() -> data.jsonElement);
+    }
+
+    public Optional<ParsedJsonElement> getParsedJsonElement()
+    {
+        return getData().parsedJsonElement;
     }
 
     public Optional<CookieStore> getCookieStore()
@@ -110,6 +145,11 @@ public class HttpTestContext
         return Optional.ofNullable(getData().requestConfig);
     }
 
+    public Optional<HttpLoadResult> getHttpLoadResult()
+    {
+        return Optional.ofNullable(getData().httpLoadResult);
+    }
+
     void releaseRequestData()
     {
         putRequestEntity(null);
@@ -130,6 +170,8 @@ public class HttpTestContext
 
         private HttpResponse response;
         private Optional<String> jsonElement = Optional.empty();
+        private Optional<ParsedJsonElement> parsedJsonElement = Optional.empty();
         private RequestConfig requestConfig;
+        private HttpLoadResult httpLoadResult;
     }
 }
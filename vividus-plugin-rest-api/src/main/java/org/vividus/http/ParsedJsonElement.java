@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http;
+
+import java.util.function.Function;
+
+/**
+ * JSON element parsed into maps, lists and values, its text representation is created only on demand
+ */
+public final class ParsedJsonElement
+{
+    private final Object value;
+    private final Function<Object, String> serializer;
+    private String text;
+
+    public ParsedJsonElement(Object value, Function<Object, String> serializer)
+    {
+        this.value = value;
+        this.serializer = serializer;
+    }
+
+    public Object getValue()
+    {
+        return value;
+    }
+
+    public String asString()
+    {
+        if (text == null)
+        {
+            text = serializer.apply(value);
+        }
+        return text;
+    }
+}
@@ -44,6 +44,32 @@
             </div>
         </#if>
 
+        <#if timings?has_content>
+            <div class="panel panel-info">
+                <div class="panel-heading">
+                    <h4 class="panel-title toggleable">
+                        <a data-toggle="collapse" data-target="#collapse-timings" href="#collapse-timings" class="collapsed">Timings</a>
+                    </h4>
+                </div>
+                <div id="collapse-timings" class="panel-collapse collapse">
+                    <table class="table">
+                        <tbody>
+                            <#list timings as phase, duration>
+                                <tr>
+                                    <td>
+                                        ${phase}
+                                    </td>
+                                    <td>
+                                        ${duration}
+                                    </td>
+                                </tr>
+                            </#list>
+                        </tbody>
+                    </table>
+                </div>
+            </div>
+        </#if>
+
         <div class="panel panel-info">
             <div class="panel-heading">
                 <h4 class="panel-title toggleable">
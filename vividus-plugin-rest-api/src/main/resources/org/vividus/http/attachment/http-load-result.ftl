@@ -0,0 +1,87 @@
+<!doctype html>
+<html lang="en">
+<head>
+    <meta charset="utf-8">
+    <title>HTTP load result</title>
+    <link rel="shortcut icon" href="img/favicon.ico" type="image/x-icon">
+    <link rel="icon" href="img/favicon.ico" type="image/x-icon">
+    <link rel="stylesheet" href="../../css/external.css"/>
+    <link rel="stylesheet" href="../../styles.css"/>
+</head>
+<body>
+    <style>
+        pre {
+            white-space: pre-wrap;
+            word-break: normal;
+        }
+        a[data-toggle='collapse'] {
+            display: inline-block;
+            width: 100%;
+            height: 100%;
+        }
+        .toggleable:hover {
+             cursor: pointer;
+        }
+        .panel-heading a:after {
+            font-family:'FontAwesome';
+            content:"\F107";
+            float: right;
+            color: grey;
+        }
+        .panel-heading a.collapsed:after {
+            content:"\F105";
+        }
+    </style>
+
+    <div class="panel-group" id="accordion">
+        <div class="panel panel-info">
+            <div class="panel-heading">
+                <h4 class="panel-title">Summary</h4>
+            </div>
+            <table class="table table-bordered table-hover">
+                <tbody>
+                    <tr><td>Requests</td><td>${result.requests?c}</td></tr>
+                    <tr><td>Errors</td><td>${result.errors?c} (${result.errorRate?string["0.##"]}%)</td></tr>
+                    <tr><td>Duration, ms</td><td>${result.duration.toMillis()?c}</td></tr>
+                    <tr><td>Throughput, requests per second</td><td>${result.throughput?string["0.##"]}</td></tr>
+                    <tr><td>Mean response time, ms</td><td>${result.meanResponseTime?string["0.###"]}</td></tr>
+                    <tr><td>Max response time, ms</td><td>${result.maxResponseTime?string["0.###"]}</td></tr>
+                </tbody>
+            </table>
+        </div>
+
+        <div class="panel panel-info">
+            <div class="panel-heading">
+                <h4 class="panel-title">Response time percentiles, ms</h4>
+            </div>
+            <table class="table table-bordered table-hover">
+                <thead>
+                    <tr>
+                        <th>Percentile</th>
+                        <th>Response time</th>
+                    </tr>
+                </thead>
+                <tbody>
+                    <#list percentiles as percentile, responseTime>
+                        <tr><td>${percentile}</td><td>${responseTime?string["0.###"]}</td></tr>
+                    </#list>
+                </tbody>
+            </table>
+        </div>
+
+        <div class="panel panel-info">
+            <div class="panel-heading">
+                <h4 class="panel-title toggleable">
+                    <a data-toggle="collapse" data-target="#collapse-distribution" href="#collapse-distribution" class="collapsed">Response time distribution, ms</a>
+                </h4>
+            </div>
+            <div id="collapse-distribution" class="panel-collapse collapse">
+                <pre>${result.percentileDistribution}</pre>
+            </div>
+        </div>
+    </div>
+
+    <script src="../../webjars/jquery/2.1.1/jquery.min.js"></script>
+    <script src="../../webjars/bootstrap/3.3.6/js/bootstrap.min.js"></script>
+</body>
+</html>
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.diff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.Test;
+
+class JsonDiffTests
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_DIFFERENCES = 10;
+    private static final String ID = "id";
+    private static final String VALUE = "value";
+
+    @Test
+    void shouldFindNoDifferencesInEqualDocuments() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(false, null, MAX_DIFFERENCES), "{\"a\":[1,{\"b\":null}],\"c\":1.0}",
+                "{\"c\":1,\"a\":[1.00,{\"b\":null}]}");
+    }
+
+    @Test
+    void shouldReportDifferencesAddressedByJsonPointer() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(false, null, MAX_DIFFERENCES),
+                "{\"a/b\":1,\"c~\":\"x\",\"d\":[1,2,3],\"e\":{}}",
+                "{\"a/b\":2,\"c~\":[],\"d\":[1,5],\"f\":true}",
+                "Different value at '/a~1b', expected: 1 but was: 2",
+                "Different type at '/c~0', expected: \"x\" but was: []",
+                "Different value at '/d/1', expected: 2 but was: 5",
+                "Missing element at '/d/2', expected: 3",
+                "Missing element at '/e', expected: {}",
+                "Unexpected element at '/f': true");
+    }
+
+    @Test
+    void shouldMatchUnorderedArrayElementsByHash() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(true, null, MAX_DIFFERENCES),
+                "[{\"a\":[1,2]},{\"a\":[3]},{\"b\":1},{\"c\":1}]",
+                "[{\"b\":2},{\"a\":[3]},{\"a\":[2,1]},{\"d\":1}]",
+                "Different value at '/0/b', expected: 1 but was: 2",
+                "Missing element at '/3/c', expected: 1",
+                "Unexpected element at '/3/d': 1");
+    }
+
+    @Test
+    void shouldReportUnmatchedUnorderedArrayElements() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(true, null, MAX_DIFFERENCES), "[1,2,3]", "[3,1]",
+                "Missing element at '/1', expected: 2");
+        assertDifferences(new JsonDiff(true, null, MAX_DIFFERENCES), "[3]", "[3,1]",
+                "Unexpected element at '/1': 1");
+    }
+
+    @Test
+    void shouldCompareLargeUnorderedArrays()
+    {
+        ArrayNode expected = MAPPER.createArrayNode();
+        ArrayNode actual = MAPPER.createArrayNode();
+        int size = 20_000;
+        for (int i = 0; i < size; i++)
+        {
+            expected.addObject().put(ID, i).put(VALUE, "value" + i);
+            actual.addObject().put(ID, size - i - 1).put(VALUE, "value" + (size - i - 1));
+        }
+        ((ObjectNode) actual.get(0)).put(VALUE, "changed");
+        JsonComparisonResult result = new JsonDiff(true, null, MAX_DIFFERENCES).compare(expected, actual);
+        assertEquals(List.of("Different value at '/0/value', expected: \"value19999\" but was: \"changed\""),
+                toStrings(result.getDifferences()));
+    }
+
+    @Test
+    void shouldMatchArrayElementsByKey() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(false, ID, MAX_DIFFERENCES),
+                "{\"items\":[{\"id\":1,\"v\":1},{\"id\":\"2\",\"v\":2},{\"id\":3,\"v\":3}]}",
+                "{\"items\":[{\"id\":4,\"v\":4},{\"id\":1.0,\"v\":1},{\"id\":\"2\",\"v\":5}]}",
+                "Different value at '/items/2/v', expected: 2 but was: 5",
+                "Missing element at '/items/2', expected: {\"id\":3,\"v\":3}",
+                "Unexpected element at '/items/0': {\"id\":4,\"v\":4}");
+    }
+
+    @Test
+    void shouldCompareArraysAsUsualIfElementsCanNotBeMatchedByKey() throws JsonProcessingException
+    {
+        assertDifferences(new JsonDiff(false, ID, MAX_DIFFERENCES), "[{\"id\":1,\"v\":1},{\"id\":1,\"v\":2}]",
+                "[{\"id\":1,\"v\":2},{\"id\":1,\"v\":1}]",
+                "Different value at '/0/v', expected: 1 but was: 2",
+                "Different value at '/1/v', expected: 2 but was: 1");
+        assertDifferences(new JsonDiff(true, ID, MAX_DIFFERENCES), "[{\"id\":1,\"v\":1},{\"v\":2}]",
+                "[{\"v\":2},{\"id\":1,\"v\":1}]");
+    }
+
+    @Test
+    void shouldStopAfterMaxNumberOfDifferences() throws JsonProcessingException
+    {
+        JsonComparisonResult result = new JsonDiff(false, null, 2).compare(MAPPER.readTree("[1,2,3,4]"),
+                MAPPER.readTree("[5,6,7,8]"));
+        assertEquals(List.of("Different value at '/0', expected: 1 but was: 5",
+                "Different value at '/1', expected: 2 but was: 6"), toStrings(result.getDifferences()));
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void shouldNotReportTruncationIfNumberOfDifferencesIsEqualToMax() throws JsonProcessingException
+    {
+        JsonComparisonResult result = new JsonDiff(false, null, 2).compare(MAPPER.readTree("[1,2,3]"),
+                MAPPER.readTree("[5,6,3]"));
+        assertEquals(2, result.getDifferences().size());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void shouldAbbreviateValues() throws JsonProcessingException
+    {
+        String longValue = "a".repeat(200);
+        List<JsonDifference> differences = new JsonDiff(false, null, MAX_DIFFERENCES).compare(
+                MAPPER.readTree("[\"" + longValue + "\"]"), MAPPER.readTree("[]")).getDifferences();
+        assertEquals(1, differences.size());
+        JsonDifference difference = differences.get(0);
+        assertEquals(JsonDifference.Type.MISSING, difference.getType());
+        assertEquals("/0", difference.getPointer());
+        assertEquals(100, difference.getExpected().length());
+        assertNull(difference.getActual());
+    }
+
+    @Test
+    void shouldCompareDeeplyNestedDocuments()
+    {
+        ObjectNode expected = MAPPER.createObjectNode();
+        ObjectNode actual = MAPPER.createObjectNode();
+        ObjectNode expectedLeaf = expected;
+        ObjectNode actualLeaf = actual;
+        int depth = 2_000;
+        for (int i = 0; i < depth; i++)
+        {
+            expectedLeaf = expectedLeaf.putObject("a");
+            actualLeaf = actualLeaf.putObject("a");
+        }
+        expectedLeaf.put(VALUE, 1);
+        actualLeaf.put(VALUE, 2);
+        List<JsonDifference> differences = new JsonDiff(true, null, MAX_DIFFERENCES).compare(expected, actual)
+                .getDifferences();
+        assertEquals(1, differences.size());
+        assertEquals("/a".repeat(depth) + "/value", differences.get(0).getPointer());
+    }
+
+    private static void assertDifferences(JsonDiff jsonDiff, String expected, String actual,
+            String... expectedDifferences) throws JsonProcessingException
+    {
+        JsonNode expectedNode = MAPPER.readTree(expected);
+        JsonNode actualNode = MAPPER.readTree(actual);
+        JsonComparisonResult result = jsonDiff.compare(expectedNode, actualNode);
+        assertEquals(List.of(expectedDifferences), toStrings(result.getDifferences()));
+        assertFalse(result.isTruncated());
+    }
+
+    private static List<String> toStrings(List<JsonDifference> differences)
+    {
+        return differences.stream().map(JsonDifference::toString).collect(Collectors.toList());
+    }
+}
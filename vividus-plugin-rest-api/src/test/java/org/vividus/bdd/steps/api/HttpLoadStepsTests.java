@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd.steps.api;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.bdd.steps.ComparisonRule;
+import org.vividus.http.HttpLoadGenerator;
+import org.vividus.http.HttpLoadResult;
+import org.vividus.http.HttpMethod;
+import org.vividus.http.HttpRequestExecutor;
+import org.vividus.http.HttpTestContext;
+import org.vividus.http.exception.HttpRequestBuildException;
+import org.vividus.reporter.event.IAttachmentPublisher;
+import org.vividus.softassert.ISoftAssert;
+
+@ExtendWith(MockitoExtension.class)
+class HttpLoadStepsTests
+{
+    private static final String ENDPOINT = "http://www.example.com/";
+    private static final String RELATIVE_URL = "path";
+    private static final int CONCURRENCY = 2;
+    private static final double RATE = 10;
+
+    @Mock
+    private HttpTestContext httpTestContext;
+
+    @Mock
+    private HttpRequestExecutor httpRequestExecutor;
+
+    @Mock
+    private HttpLoadGenerator httpLoadGenerator;
+
+    @Mock
+    private ISoftAssert softAssert;
+
+    @Mock
+    private IAttachmentPublisher attachmentPublisher;
+
+    @InjectMocks
+    private HttpLoadSteps httpLoadSteps;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        httpLoadSteps.setApiEndpoint(ENDPOINT);
+    }
+
+    @Test
+    void shouldSendNumberOfRequests() throws Exception
+    {
+        Supplier<HttpUriRequest> requestFactory = mockRequestFactory();
+        HttpLoadResult result = mock(HttpLoadResult.class);
+        when(httpLoadGenerator.generate(requestFactory, 100, null, CONCURRENCY, RATE)).thenReturn(result);
+        httpLoadSteps.sendRequests(100, HttpMethod.GET, RELATIVE_URL, CONCURRENCY, RATE);
+        verify(httpTestContext).putHttpLoadResult(result);
+        verifyResultPublishing(result);
+    }
+
+    @Test
+    void shouldSendRequestsDuringDuration() throws Exception
+    {
+        Supplier<HttpUriRequest> requestFactory = mockRequestFactory();
+        HttpLoadResult result = mock(HttpLoadResult.class);
+        Duration duration = Duration.ofSeconds(1);
+        when(httpLoadGenerator.generate(requestFactory, Long.MAX_VALUE, duration, CONCURRENCY, RATE)).thenReturn(
+                result);
+        httpLoadSteps.sendRequestsDuringDuration(HttpMethod.GET, RELATIVE_URL, duration, CONCURRENCY, RATE);
+        verify(httpTestContext).putHttpLoadResult(result);
+        verifyResultPublishing(result);
+    }
+
+    @Test
+    void shouldRecordRequestBuildFailure() throws Exception
+    {
+        HttpRequestBuildException exception = new HttpRequestBuildException(new IllegalStateException());
+        when(httpRequestExecutor.createHttpRequestFactory(HttpMethod.GET, ENDPOINT, Optional.of(RELATIVE_URL)))
+                .thenThrow(exception);
+        httpLoadSteps.sendRequests(1, HttpMethod.GET, RELATIVE_URL, CONCURRENCY, RATE);
+        verify(softAssert).recordFailedAssertion(exception);
+        verifyNoInteractions(httpLoadGenerator, attachmentPublisher);
+    }
+
+    @Test
+    void shouldAssertResponseTimeAtPercentile()
+    {
+        HttpLoadResult result = mockHttpLoadResult();
+        when(result.getResponseTimeAtPercentile(99.9)).thenReturn(250.0);
+        httpLoadSteps.assertResponseTimeAtPercentile(99.9, ComparisonRule.LESS_THAN, 300);
+        verifyAssertion("The 99.9 percentile of response time in milliseconds", 250.0);
+    }
+
+    @Test
+    void shouldAssertErrorRate()
+    {
+        HttpLoadResult result = mockHttpLoadResult();
+        when(result.getErrorRate()).thenReturn(0.5);
+        httpLoadSteps.assertErrorRate(ComparisonRule.LESS_THAN, 1);
+        verifyAssertion("Error rate in percents", 0.5);
+    }
+
+    @Test
+    void shouldAssertThroughput()
+    {
+        HttpLoadResult result = mockHttpLoadResult();
+        when(result.getThroughput()).thenReturn(210.0);
+        httpLoadSteps.assertThroughput(ComparisonRule.GREATER_THAN_OR_EQUAL_TO, 200);
+        verifyAssertion("Throughput in requests per second", 210.0);
+    }
+
+    @Test
+    void shouldRecordFailureIfNoLoadWasPerformed()
+    {
+        when(httpTestContext.getHttpLoadResult()).thenReturn(Optional.empty());
+        httpLoadSteps.assertThroughput(ComparisonRule.GREATER_THAN, 1);
+        verify(softAssert).recordFailedAssertion("No HTTP load was performed");
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<HttpUriRequest> mockRequestFactory() throws HttpRequestBuildException
+    {
+        Supplier<HttpUriRequest> requestFactory = mock(Supplier.class);
+        when(httpRequestExecutor.createHttpRequestFactory(HttpMethod.GET, ENDPOINT, Optional.of(RELATIVE_URL)))
+                .thenReturn(requestFactory);
+        return requestFactory;
+    }
+
+    private HttpLoadResult mockHttpLoadResult()
+    {
+        HttpLoadResult result = mock(HttpLoadResult.class);
+        when(httpTestContext.getHttpLoadResult()).thenReturn(Optional.of(result));
+        return result;
+    }
+
+    private void verifyAssertion(String description, double actual)
+    {
+        verify(softAssert).assertThat(eq(description), eq(actual), argThat(matcher -> matcher.matches(actual)));
+    }
+
+    private void verifyResultPublishing(HttpLoadResult result)
+    {
+        verify(attachmentPublisher).publishAttachment(eq("/org/vividus/http/attachment/http-load-result.ftl"),
+                argThat(model -> ((Map<?, ?>) model).get("result") == result
+                        && ((Map<?, ?>) ((Map<?, ?>) model).get("percentiles")).size() == 7),
+                eq("HTTP load result"));
+    }
+}
@@ -26,7 +26,10 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -44,6 +47,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
+import org.vividus.bdd.model.ArchiveEntry;
 import org.vividus.bdd.model.ArchiveVariable;
 import org.vividus.bdd.model.NamedEntry;
 import org.vividus.bdd.model.OutputFormat;
@@ -53,7 +57,9 @@ import org.vividus.bdd.steps.StringComparisonRule;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.http.ConnectionDetails;
 import org.vividus.http.HttpTestContext;
+import org.vividus.http.client.HttpPhase;
 import org.vividus.http.client.HttpResponse;
+import org.vividus.http.client.HttpTimings;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.util.ResourceUtils;
 
@@ -146,6 +152,26 @@ class HttpResponseValidationStepsTests
         verifyNoHttpResponse();
     }
 
+    @Test
+    void shouldAssertHttpPhaseDuration()
+    {
+        mockHttpResponse();
+        HttpTimings timings = mock(HttpTimings.class);
+        when(timings.getDuration(HttpPhase.TIME_TO_FIRST_BYTE)).thenReturn(Duration.ofMillis(150));
+        httpResponse.setTimings(timings);
+        httpResponseValidationSteps.assertHttpPhaseDuration(HttpPhase.TIME_TO_FIRST_BYTE, ComparisonRule.LESS_THAN,
+                200);
+        verify(softAssert).assertThat(eq("Time to first byte duration in milliseconds"), eq(150L),
+                argThat(matcher -> lessThan(200L).toString().equals(matcher.toString())));
+    }
+
+    @Test
+    void shouldNotAssertHttpPhaseDurationWithoutHttpResponse()
+    {
+        httpResponseValidationSteps.assertHttpPhaseDuration(HttpPhase.DNS_RESOLUTION, ComparisonRule.LESS_THAN, 1);
+        verifyNoHttpResponse();
+    }
+
     @Test
     void testDecompressedResponseBodySizeNoHttpResponse()
     {
@@ -417,6 +443,25 @@ class HttpResponseValidationStepsTests
         verifyNoMoreInteractions(bddVariableContext);
     }
 
+    @Test
+    void testSaveFileContentToVariablesInDifferentFormats()
+    {
+        mockHttpResponseWithArchive();
+
+        String text = "text";
+        String base64 = "base64";
+        String json = "{\"plugin\": \"vividus-plugin-rest-api\"}\n";
+        httpResponseValidationSteps.saveFilesContentToVariables(
+                List.of(createVariable(FILE_JSON, text, OutputFormat.TEXT),
+                        createVariable(FILE_JSON, base64, OutputFormat.BASE64)));
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        verify(bddVariableContext).putVariable(scopes, text, json);
+        verify(bddVariableContext).putVariable(scopes, base64,
+                Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8)));
+        verifyNoInteractions(softAssert);
+        verifyNoMoreInteractions(bddVariableContext);
+    }
+
     @Test
     void testSaveFilesContentToVariablesInvalidPath()
     {
@@ -452,6 +497,58 @@ class HttpResponseValidationStepsTests
         verifyNoMoreInteractions(softAssert);
     }
 
+    @Test
+    void testVerifyArchiveEntries()
+    {
+        mockHttpResponseWithArchive();
+        ArchiveEntry json = createArchiveEntry(FILE_JSON);
+        json.setSize(38L);
+        String jsonCrc = "48c33241";
+        json.setCrc(jsonCrc);
+        String jsonSha256 = "858479e337bf80091f36e1d18d59cd2e130c265c1cf50a487796a2cd3c83d196";
+        json.setChecksum(jsonSha256);
+        ArchiveEntry image = createArchiveEntry(IMAGE_PNG);
+        image.setChecksumAlgorithm("MD5");
+        String imageMd5 = "ef5bb70ce25df9e536edff87eaaef3e8";
+        image.setChecksum(imageMd5.toUpperCase());
+        String missing = "missing";
+        httpResponseValidationSteps.verifyArchiveEntries(List.of(json, image, createArchiveEntry(missing)));
+        verify(softAssert).assertEquals("Size of the response archive entry " + FILE_JSON, 38L, 38L);
+        verify(softAssert).assertEquals("CRC-32 of the response archive entry " + FILE_JSON, jsonCrc, jsonCrc);
+        verify(softAssert).assertEquals("SHA-256 checksum of the response archive entry " + FILE_JSON, jsonSha256,
+                jsonSha256);
+        verify(softAssert).assertEquals("MD5 checksum of the response archive entry " + IMAGE_PNG, imageMd5,
+                imageMd5);
+        verify(softAssert).recordFailedAssertion(
+                String.format("Unable to find entry by name %s in response archive", missing));
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    @Test
+    void testVerifyArchiveEntryChecksumsCalculatedWithDifferentAlgorithms()
+    {
+        mockHttpResponseWithArchive();
+        ArchiveEntry sha256 = createArchiveEntry(FILE_JSON);
+        String jsonSha256 = "858479e337bf80091f36e1d18d59cd2e130c265c1cf50a487796a2cd3c83d196";
+        sha256.setChecksum(jsonSha256);
+        ArchiveEntry md5 = createArchiveEntry(FILE_JSON);
+        md5.setChecksumAlgorithm("MD5");
+        String jsonMd5 = "79a850745234ce62134ce73b5b93165c";
+        md5.setChecksum(jsonMd5);
+        httpResponseValidationSteps.verifyArchiveEntries(List.of(sha256, md5));
+        verify(softAssert).assertEquals("SHA-256 checksum of the response archive entry " + FILE_JSON, jsonSha256,
+                jsonSha256);
+        verify(softAssert).assertEquals("MD5 checksum of the response archive entry " + FILE_JSON, jsonMd5, jsonMd5);
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    private static ArchiveEntry createArchiveEntry(String path)
+    {
+        ArchiveEntry entry = new ArchiveEntry();
+        entry.setPath(path);
+        return entry;
+    }
+
     private static NamedEntry createEntry(String name)
     {
         NamedEntry entry = new NamedEntry();
@@ -464,7 +561,7 @@ class HttpResponseValidationStepsTests
         byte[] data = ResourceUtils.loadResourceAsByteArray(getClass(), "/org/vividus/bdd/steps/api/archive.zip");
         HttpResponse response = mock(HttpResponse.class);
         when(httpTestContext.getResponse()).thenReturn(response);
-        when(response.getResponseBody()).thenReturn(data);
+        when(response.getResponseBodyAsStream()).thenReturn(new ByteArrayInputStream(data));
     }
 
     private static ArchiveVariable createVariable(String path, String variableName, OutputFormat outputFormat)
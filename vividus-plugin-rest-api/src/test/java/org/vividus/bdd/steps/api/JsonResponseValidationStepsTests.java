@@ -16,9 +16,14 @@
 
 package org.vividus.bdd.steps.api;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
@@ -28,7 +33,9 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -53,7 +60,6 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.vividus.bdd.context.IBddVariableContext;
 import org.vividus.bdd.steps.ComparisonRule;
@@ -61,10 +67,12 @@ import org.vividus.bdd.steps.SubSteps;
 import org.vividus.bdd.variable.VariableScope;
 import org.vividus.http.HttpRequestExecutor;
 import org.vividus.http.HttpTestContext;
+import org.vividus.http.ParsedJsonElement;
 import org.vividus.http.client.HttpResponse;
 import org.vividus.http.client.IHttpClient;
 import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.softassert.ISoftAssert;
+import org.vividus.testcontext.SimpleTestContext;
 import org.vividus.util.ResourceUtils;
 import org.vividus.util.json.IJsonUtils;
 import org.vividus.util.json.JsonPathUtils;
@@ -165,7 +173,7 @@ class JsonResponseValidationStepsTests
     @MethodSource("defaultDataProvider")
     void testIsDataByJsonPathEqual(String jsonPath, String expectedData)
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         testIsDataByJsonPathEqual(jsonPath, expectedData, expectedData, Options.empty());
     }
 
@@ -180,7 +188,7 @@ class JsonResponseValidationStepsTests
     @Test
     void testIsDataByJsonPathEqualIgnoringArrayOrder()
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         testIsDataByJsonPathEqual(ARRAY_PATH, "[2,1]", ARRAY_PATH_RESULT,
                 new Options(Option.IGNORING_ARRAY_ORDER));
     }
@@ -204,11 +212,38 @@ class JsonResponseValidationStepsTests
     @Test
     void testIsDataByJsonPathEqualIgnoringArrayOrderAndExtraArrayItems()
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         testIsDataByJsonPathEqual(ARRAY_PATH, "[2]", ARRAY_PATH_RESULT,
                 new Options(Option.IGNORING_ARRAY_ORDER, Option.IGNORING_EXTRA_ARRAY_ITEMS));
     }
 
+    @Test
+    void shouldCompareJsonStructurallyIgnoringArrayOrder()
+    {
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
+        when(softAssert.assertTrue(any(), anyBoolean())).thenReturn(true);
+        jsonResponseValidationSteps.setMaxJsonDifferences(2);
+        String expectedData = "[2,1]";
+        assertTrue(jsonResponseValidationSteps.isDataByJsonPathEqualIgnoringArrayOrder(ARRAY_PATH, expectedData));
+        verify(softAssert).assertTrue("Data by JSON path: " + ARRAY_PATH + " is equal to '" + expectedData + "'",
+                true);
+        verifyNoMoreInteractions(softAssert);
+    }
+
+    @Test
+    void shouldRecordJsonDifferencesMatchingArrayElementsByKey()
+    {
+        String json = "{\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]}";
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(json));
+        jsonResponseValidationSteps.setMaxJsonDifferences(2);
+        assertFalse(jsonResponseValidationSteps.isDataByJsonPathEqualMatchingArrayElementsByKey("$.items",
+                "[{\"id\":3,\"name\":\"c\"},{\"id\":2,\"name\":\"x\"},{\"id\":1,\"name\":\"z\"}]", "id"));
+        verify(softAssert).recordFailedAssertion("Missing element at '/0', expected: {\"id\":3,\"name\":\"c\"}");
+        verify(softAssert).recordFailedAssertion("Different value at '/1/name', expected: \"x\" but was: \"b\"");
+        verify(softAssert).recordFailedAssertion("JSON comparison is stopped after 2 differences");
+        verifyNoMoreInteractions(softAssert);
+    }
+
     private void testIsDataByJsonPathEqual(String jsonPath, String expectedData, String actualData, Options options)
     {
         jsonResponseValidationSteps.isDataByJsonPathEqual(jsonPath, expectedData, options);
@@ -225,7 +260,7 @@ class JsonResponseValidationStepsTests
     @Test
     void testIsDataByJsonPathEqualWithPathNotFoundException()
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         String nonExistingPath = NON_EXISTING_PATH;
         jsonResponseValidationSteps.isDataByJsonPathEqual(nonExistingPath, STRING_PATH_RESULT,
                 Options.empty());
@@ -236,7 +271,7 @@ class JsonResponseValidationStepsTests
     @MethodSource("checkJsonElementsNumberDataProvider")
     void testDoesJsonPathElementsMatchRule(String jsonPath, int elementsNumber)
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         jsonResponseValidationSteps.doesJsonPathElementsMatchRule(jsonPath, ComparisonRule.EQUAL_TO, elementsNumber);
         verify(softAssert).assertThat(eq(THE_NUMBER_OF_JSON_ELEMENTS_ASSERTION_MESSAGE + jsonPath), eq(elementsNumber),
                 verifyMatcher(elementsNumber));
@@ -257,7 +292,7 @@ class JsonResponseValidationStepsTests
     void testSaveElementsNumberByJsonPath(String jsonPath, int elementsNumber)
     {
         Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         jsonResponseValidationSteps.saveElementsNumberByJsonPath(jsonPath, scopes, VARIABLE_NAME);
         verify(bddVariableContext).putVariable(scopes, VARIABLE_NAME, elementsNumber);
     }
@@ -265,12 +300,11 @@ class JsonResponseValidationStepsTests
     @Test
     void testSaveJsonFromContextElementToVariable()
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
         String variableName = VARIABLE_NAME;
-        JsonResponseValidationSteps spy = Mockito.spy(jsonResponseValidationSteps);
-        spy.saveJsonElementFromContextToVariable(STRING_PATH, scopes, variableName);
-        verify(spy).saveJsonElementToVariable(JSON, STRING_PATH, scopes, variableName);
+        jsonResponseValidationSteps.saveJsonElementFromContextToVariable(STRING_PATH, scopes, variableName);
+        verify(bddVariableContext).putVariable(scopes, variableName, STRING_PATH_RESULT);
     }
 
     @ParameterizedTest
@@ -306,14 +340,40 @@ class JsonResponseValidationStepsTests
         jsonResponseValidationSteps.performAllStepsForProvidedJsonIfFound(ComparisonRule.GREATER_THAN_OR_EQUAL_TO,
                 number, json, jsonPath, subSteps);
         verify(subSteps, times(number)).execute(Optional.empty());
-        verify(httpTestContext).getJsonContext();
+        verify(httpTestContext, times(number)).putParsedJsonContext(any(ParsedJsonElement.class));
+        verify(httpTestContext).getJsonElement();
         verify(httpTestContext).putJsonContext(null);
     }
 
+    @Test
+    void shouldUseParsedJsonElementsAsJsonContextForSubSteps() throws NoSuchFieldException, IllegalAccessException
+    {
+        String json = "[{\"value\":\"b\"},{\"value\":\"c\"}]";
+        String jsonPath = "$[*]";
+        SubSteps subSteps = mock(SubSteps.class);
+        HttpTestContext context = new HttpTestContext(new SimpleTestContext());
+        context.putJsonContext(JSON);
+        JsonResponseValidationSteps steps = jsonResponseValidationSteps;
+        Field httpTestContextField = steps.getClass().getDeclaredField("httpTestContext");
+        httpTestContextField.setAccessible(true);
+        httpTestContextField.set(steps, context);
+        when(softAssert.assertThat(eq(THE_NUMBER_OF_JSON_ELEMENTS_ASSERTION_MESSAGE + jsonPath), eq(2),
+                verifyMatcher(2))).thenReturn(true);
+        Set<VariableScope> scopes = Set.of(VariableScope.SCENARIO);
+        doAnswer(a -> {
+            steps.saveJsonElementFromContextToVariable("$.value", scopes, VARIABLE_NAME);
+            return null;
+        }).when(subSteps).execute(Optional.empty());
+        steps.performAllStepsForProvidedJsonIfFound(ComparisonRule.EQUAL_TO, 2, json, jsonPath, subSteps);
+        verify(bddVariableContext).putVariable(scopes, VARIABLE_NAME, "\"b\"");
+        verify(bddVariableContext).putVariable(scopes, VARIABLE_NAME, "\"c\"");
+        assertEquals(JSON, context.getJsonContext());
+    }
+
     @Test
     void testPerformAllStepsForJsonIfFound()
     {
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(JSON));
         SubSteps subSteps = mock(SubSteps.class);
         when(softAssert.assertThat(eq(THE_NUMBER_OF_JSON_ELEMENTS_ASSERTION_MESSAGE + JSON_PATH), eq(0),
                 verifyMatcher(3))).thenReturn(false);
@@ -359,9 +419,8 @@ class JsonResponseValidationStepsTests
         when(httpClient.execute(argThat(base -> base instanceof HttpRequestBase),
                 argThat(context -> context instanceof HttpClientContext))).thenReturn(response);
         when(httpTestContext.getResponse()).thenReturn(response);
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
         when(response.getResponseBody()).thenReturn(JSON.getBytes(StandardCharsets.UTF_8));
-        when(response.getResponseBodyAsString()).thenReturn(HTML, JSON);
+        when(response.getResponseBodyAsStream()).thenReturn(toStream(HTML)).thenAnswer(a -> toStream(JSON));
         jsonResponseValidationSteps.waitForJsonFieldAppearance(STRING_PATH, URL, Duration.ofSeconds(1),
                 DURATION_DIVIDER);
         verify(httpClient, times(2)).execute(argThat(base -> base instanceof HttpRequestBase),
@@ -382,7 +441,7 @@ class JsonResponseValidationStepsTests
         when(httpClient.execute(argThat(base -> base instanceof HttpRequestBase),
                 argThat(context -> context instanceof HttpClientContext))).thenReturn(response);
         when(httpTestContext.getResponse()).thenReturn(response);
-        when(response.getResponseBodyAsString()).thenReturn(HTML);
+        when(response.getResponseBodyAsStream()).thenAnswer(a -> toStream(HTML));
         jsonResponseValidationSteps.waitForJsonFieldAppearance(STRING_PATH, URL, Duration.ofSeconds(1),
                 DURATION_DIVIDER);
         verify(softAssert).recordFailedAssertion("HTTP response body is not present");
@@ -416,7 +475,6 @@ class JsonResponseValidationStepsTests
                 .thenReturn(createHttpResponse(OBJECT_PATH_RESULT))
                 .thenReturn(new HttpResponse())
                 .thenReturn(createHttpResponse(JSON));
-        when(httpTestContext.getJsonContext()).thenReturn(JSON);
         int retryTimes = 4;
         jsonResponseValidationSteps.waitForJsonElement(STRING_PATH, Duration.ofSeconds(2), retryTimes, stepsToExecute);
         verify(stepsToExecute, atLeast(retryTimes - 1)).execute(Optional.empty());
@@ -453,11 +511,15 @@ class JsonResponseValidationStepsTests
     {
         HttpResponse response = createHttpResponse(body);
         when(httpTestContext.getResponse()).thenReturn(response);
-        when(httpTestContext.getJsonContext()).thenReturn(body);
         when(httpClient.execute(argThat(base -> base instanceof HttpRequestBase),
                 argThat(context -> context instanceof HttpClientContext))).thenReturn(response);
     }
 
+    private static InputStream toStream(String body)
+    {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
     private HttpResponse createHttpResponse(String body)
     {
         HttpResponse response = new HttpResponse();
@@ -473,7 +535,7 @@ class JsonResponseValidationStepsTests
     })
     void testJsonPathElementsMatchRuleEmptyData(String jsonPath, int number)
     {
-        when(httpTestContext.getJsonContext()).thenReturn(RESPONSE_NULL);
+        when(httpTestContext.getJsonElement()).thenReturn(Optional.of(RESPONSE_NULL));
         jsonResponseValidationSteps.doesJsonPathElementsMatchRule(jsonPath, ComparisonRule.EQUAL_TO, number);
         verify(softAssert).assertThat(eq(THE_NUMBER_OF_JSON_ELEMENTS_ASSERTION_MESSAGE + jsonPath), eq(number),
                 verifyMatcher(number));
@@ -22,6 +22,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -34,6 +35,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -59,7 +61,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.http.client.HttpPhase;
 import org.vividus.http.client.HttpResponse;
+import org.vividus.http.client.HttpTimings;
 import org.vividus.reporter.event.IAttachmentPublisher;
 
 @ExtendWith({MockitoExtension.class, TestLoggerFactoryExtension.class})
@@ -157,9 +161,15 @@ class HttpClientInterceptorTests
         when(httpResponse.getMethod()).thenReturn(METHOD);
         when(httpResponse.getFrom()).thenReturn(URI.create(ENDPOINT));
         when(httpResponse.getResponseHeaders()).thenReturn(new Header[] { mock(Header.class) });
+        HttpTimings timings = mock(HttpTimings.class);
+        when(timings.getDurations()).thenReturn(Map.of(HttpPhase.TLS_HANDSHAKE, Duration.ofNanos(1_500_000)));
+        when(httpResponse.getTimings()).thenReturn(timings);
         httpClientInterceptor.attachResponse(httpResponse);
         ArgumentCaptor<Map<String, Integer>> argumentCaptor = verifyPublishAttachment(RESPONSE);
         assertEquals(HttpStatus.SC_OK, argumentCaptor.getValue().get("statusCode").intValue());
+        verify(attachmentPublisher).publishAttachment(eq(API_MESSAGE_FTL),
+                argThat(dataMap -> Map.of("TLS handshake", "1.500 ms")
+                        .equals(((Map<?, ?>) dataMap).get("timings"))), eq(RESPONSE));
     }
 
     @Test
@@ -170,6 +180,7 @@ class HttpClientInterceptorTests
         when(httpResponse.getMethod()).thenReturn(METHOD);
         when(httpResponse.getFrom()).thenReturn(URI.create(ENDPOINT));
         when(httpResponse.getResponseHeaders()).thenReturn(new Header[0]);
+        when(httpResponse.getTimings()).thenReturn(mock(HttpTimings.class));
         httpClientInterceptor.attachResponse(httpResponse);
         verifyPublishAttachment(RESPONSE);
     }
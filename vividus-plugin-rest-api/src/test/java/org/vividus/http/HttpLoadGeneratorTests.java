@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.vividus.http.client.HttpClient;
+import org.vividus.http.client.IHttpClient;
+
+class HttpLoadGeneratorTests
+{
+    private static final int CONCURRENCY = 4;
+    private static final long FAILURE_DELAY_MILLIS = 5;
+
+    private final AtomicInteger receivedRequests = new AtomicInteger();
+    private HttpServer server;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void beforeEach() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange ->
+        {
+            int requestNumber = receivedRequests.incrementAndGet();
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            // Each 4th request fails
+            exchange.sendResponseHeaders(requestNumber % 4 == 0 ? 500 : 200, body.length);
+            try (OutputStream output = exchange.getResponseBody())
+            {
+                output.write(body);
+            }
+        });
+        server.start();
+        httpClient = new HttpClient();
+        httpClient.setCloseableHttpClient(HttpClients.custom().setMaxConnPerRoute(CONCURRENCY).build());
+        httpClient.setSkipResponseEntity(true);
+        httpClient.setSkipRequestLogging(true);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException
+    {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldSendNumberOfRequests() throws InterruptedException
+    {
+        int requests = 100;
+        HttpLoadResult result = new HttpLoadGenerator(httpClient).generate(createRequestFactory(), requests, null,
+                CONCURRENCY, 0);
+        assertEquals(requests, result.getRequests());
+        assertEquals(requests, receivedRequests.get());
+        assertEquals(requests / 4, result.getErrors());
+        assertEquals(25, result.getErrorRate());
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.getResponseTimeAtPercentile(100) >= result.getResponseTimeAtPercentile(50));
+    }
+
+    @Test
+    void shouldSendRequestsAtRateDuringDuration() throws InterruptedException
+    {
+        HttpLoadResult result = new HttpLoadGenerator(httpClient).generate(createRequestFactory(), Long.MAX_VALUE,
+                Duration.ofMillis(500), CONCURRENCY, 20);
+        assertEquals(10, result.getRequests());
+        assertEquals(10, receivedRequests.get());
+        assertTrue(result.getDuration().toMillis() >= 450);
+    }
+
+    @Test
+    void shouldCountFailedRequestsAsErrorsAndRecordTheirResponseTimes() throws InterruptedException, IOException
+    {
+        IHttpClient failingHttpClient = mock(IHttpClient.class);
+        when(failingHttpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation ->
+        {
+            TimeUnit.MILLISECONDS.sleep(FAILURE_DELAY_MILLIS);
+            throw new IOException();
+        });
+        HttpLoadResult result = new HttpLoadGenerator(failingHttpClient).generate(createRequestFactory(), 3, null, 1,
+                0);
+        assertEquals(3, result.getRequests());
+        assertEquals(3, result.getErrors());
+        assertEquals(100, result.getErrorRate());
+        assertTrue(result.getMaxResponseTime() > 0);
+    }
+
+    @Test
+    void shouldRejectNonPositiveConcurrency()
+    {
+        HttpLoadGenerator generator = new HttpLoadGenerator(httpClient);
+        Supplier<HttpUriRequest> requestFactory = createRequestFactory();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> generator.generate(requestFactory, 1, null, 0, 0));
+        assertEquals("Concurrency must be positive", exception.getMessage());
+    }
+
+    private Supplier<HttpUriRequest> createRequestFactory()
+    {
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+        return () -> new HttpGet(uri);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+class HttpLoadResultTests
+{
+    private static final double DELTA = 0.1;
+
+    @Test
+    void shouldCalculateStatistics()
+    {
+        Histogram histogram = new Histogram(3);
+        for (int i = 1; i <= 100; i++)
+        {
+            histogram.recordValue(i * 1000L);
+        }
+        HttpLoadResult result = new HttpLoadResult(histogram, 100, 5, Duration.ofSeconds(2));
+        assertEquals(5, result.getErrorRate(), DELTA);
+        assertEquals(50, result.getThroughput(), DELTA);
+        assertEquals(99, result.getResponseTimeAtPercentile(99), DELTA);
+        assertEquals(100, result.getMaxResponseTime(), DELTA);
+        assertEquals(50.5, result.getMeanResponseTime(), DELTA);
+        assertTrue(result.getPercentileDistribution().contains("Percentile"));
+    }
+
+    @Test
+    void shouldHandleEmptyResult()
+    {
+        HttpLoadResult result = new HttpLoadResult(new Histogram(3), 0, 0, Duration.ZERO);
+        assertEquals(0, result.getErrorRate());
+        assertEquals(0, result.getThroughput());
+    }
+}
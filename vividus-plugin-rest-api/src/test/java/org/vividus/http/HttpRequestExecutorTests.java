@@ -19,6 +19,8 @@ package org.vividus.http;
 import static com.github.valfirst.slf4jtest.LoggingEvent.info;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.nullable;
@@ -27,12 +29,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.github.valfirst.slf4jtest.LoggingEvent;
 import com.github.valfirst.slf4jtest.TestLogger;
@@ -44,6 +48,7 @@ import org.apache.http.HttpEntity;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.protocol.HttpContext;
 import org.junit.jupiter.api.Test;
@@ -187,6 +192,39 @@ class HttpRequestExecutorTests
                 equalTo(List.of(createResponseTimeLogEvent(httpResponse1), createResponseTimeLogEvent(httpResponse2))));
     }
 
+    @Test
+    void shouldCreateHttpRequestFactory() throws HttpRequestBuildException
+    {
+        HttpEntity requestEntity = new StringEntity("content", StandardCharsets.UTF_8);
+        when(httpTestContext.getRequestEntity()).thenReturn(Optional.of(requestEntity));
+        Supplier<HttpUriRequest> requestFactory = httpRequestExecutor.createHttpRequestFactory(HttpMethod.POST, URL,
+                Optional.of("path"));
+        verify(httpTestContext).releaseRequestData();
+        HttpUriRequest request = requestFactory.get();
+        assertEquals(URI.create(URL + "path"), request.getURI());
+        assertEquals("POST", request.getMethod());
+        assertNotSame(request, requestFactory.get());
+    }
+
+    @Test
+    void shouldNotCreateHttpRequestFactoryForNonRepeatableRequestBody()
+    {
+        HttpEntity requestEntity = new InputStreamEntity(new ByteArrayInputStream(new byte[0]));
+        when(httpTestContext.getRequestEntity()).thenReturn(Optional.of(requestEntity));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> httpRequestExecutor.createHttpRequestFactory(HttpMethod.POST, URL, Optional.empty()));
+        assertEquals("Request body must be repeatable to be sent multiple times", exception.getMessage());
+        verify(httpTestContext).releaseRequestData();
+    }
+
+    @Test
+    void shouldNotCreateHttpRequestFactoryForInvalidRequest()
+    {
+        assertThrows(HttpRequestBuildException.class,
+            () -> httpRequestExecutor.createHttpRequestFactory(HttpMethod.PATCH, URL, Optional.empty()));
+        verify(httpTestContext).releaseRequestData();
+    }
+
     private HttpResponse mockHttpResponse(String url) throws IOException
     {
         HttpResponse httpResponse = new HttpResponse();
@@ -21,10 +21,15 @@ import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -110,6 +115,25 @@ class HttpTestContextTests
         httpTestContext.putResponse(response);
         httpTestContext.putJsonContext(JSON);
         assertEquals(JSON, httpTestContext.getJsonContext());
+        assertEquals(Optional.of(JSON), httpTestContext.getJsonElement());
+    }
+
+    @Test
+    void shouldSerializeParsedJsonContextOnlyOnDemand()
+    {
+        Map<String, String> value = Map.of("key", "value");
+        @SuppressWarnings("unchecked")
+        Function<Object, String> serializer = mock(Function.class);
+        when(serializer.apply(value)).thenReturn(JSON);
+        ParsedJsonElement parsedJsonElement = new ParsedJsonElement(value, serializer);
+        httpTestContext.putParsedJsonContext(parsedJsonElement);
+        assertEquals(Optional.of(parsedJsonElement), httpTestContext.getParsedJsonElement());
+        verifyNoInteractions(serializer);
+        assertEquals(JSON, httpTestContext.getJsonContext());
+        assertEquals(Optional.of(JSON), httpTestContext.getJsonElement());
+        verify(serializer).apply(value);
+        httpTestContext.putJsonContext(JSON);
+        assertEquals(Optional.empty(), httpTestContext.getParsedJsonElement());
     }
 
     @Test
@@ -121,6 +145,7 @@ class HttpTestContextTests
         response.setResponseBody(responseBody.getBytes(StandardCharsets.UTF_8));
         httpTestContext.putResponse(response);
         assertEquals(responseBody, httpTestContext.getJsonContext());
+        assertEquals(Optional.empty(), httpTestContext.getJsonElement());
     }
 
     @Test
@@ -17,6 +17,7 @@
 package org.vividus.transformer;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -24,19 +25,32 @@ import com.google.common.base.Suppliers;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.model.ExamplesTable.TableProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.bdd.context.IBddRunContext;
+import org.vividus.bdd.model.RunningStory;
+import org.vividus.crawler.CrawlScope;
+import org.vividus.crawler.CrawlStatistics;
 import org.vividus.crawler.ICrawlControllerFactory;
 import org.vividus.crawler.LinkCrawlerData;
 import org.vividus.crawler.LinkCrawlerFactory;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.util.UriUtils;
 
 import edu.uci.ics.crawler4j.crawler.CrawlController;
 
 public class HeadlessCrawlerTableTransformer extends AbstractFetchingUrlsTableTransformer
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessCrawlerTableTransformer.class);
+
     private static final String FORWARD_SLASH = "/";
     private static final int NUMBER_OF_CRAWLERS = 50;
+    private static final String STATISTICS_TEMPLATE = "/org/vividus/transformer/crawling-statistics.ftl";
 
     private ICrawlControllerFactory crawlControllerFactory;
+    private IAttachmentPublisher attachmentPublisher;
+    private IBddRunContext bddRunContext;
+    private CrawlScope crawlScope = new CrawlScope();
 
     private Set<String> seedRelativeUrls;
 
@@ -48,7 +62,11 @@ public class HeadlessCrawlerTableTransformer extends AbstractFetchingUrlsTableTr
         addSeeds(mainApplicationPage, controller);
 
         LinkCrawlerData linkCrawlerData = new LinkCrawlerData();
-        controller.start(new LinkCrawlerFactory(linkCrawlerData), NUMBER_OF_CRAWLERS);
+        controller.start(new LinkCrawlerFactory(linkCrawlerData, crawlScope), NUMBER_OF_CRAWLERS);
+        CrawlStatistics statistics = linkCrawlerData.getStatistics();
+        statistics.finish();
+        LOGGER.info("Crawling statistics: {}", statistics);
+        publishStatistics(statistics);
         Set<String> absoluteUrls = linkCrawlerData.getAbsoluteUrls();
         return filterResults(absoluteUrls.stream());
     });
@@ -69,6 +87,18 @@ public class HeadlessCrawlerTableTransformer extends AbstractFetchingUrlsTableTr
                 .forEach(controller::addSeed);
     }
 
+    private void publishStatistics(CrawlStatistics statistics)
+    {
+        // The tables are usually transformed while the stories are parsed, the attachment can be published only if
+        // the crawling is performed within a scenario
+        RunningStory runningStory = bddRunContext.getRunningStory();
+        if (runningStory != null && runningStory.getRunningScenario() != null)
+        {
+            attachmentPublisher.publishAttachment(STATISTICS_TEMPLATE, Map.of("statistics", statistics),
+                    "Crawling statistics");
+        }
+    }
+
     @Override
     protected Set<String> fetchUrls(TableProperties properties)
     {
@@ -80,6 +110,21 @@ public class HeadlessCrawlerTableTransformer extends AbstractFetchingUrlsTableTr
         this.crawlControllerFactory = crawlControllerFactory;
     }
 
+    public void setAttachmentPublisher(IAttachmentPublisher attachmentPublisher)
+    {
+        this.attachmentPublisher = attachmentPublisher;
+    }
+
+    public void setBddRunContext(IBddRunContext bddRunContext)
+    {
+        this.bddRunContext = bddRunContext;
+    }
+
+    public void setCrawlScope(CrawlScope crawlScope)
+    {
+        this.crawlScope = crawlScope;
+    }
+
     public void setSeedRelativeUrls(Set<String> seedRelativeUrls)
     {
         this.seedRelativeUrls = seedRelativeUrls;
@@ -0,0 +1,60 @@
+[#ftl strip_whitespace=true]
+<!doctype html>
+<html lang="en" ng-app="allure">
+<head>
+    <meta charset="utf-8">
+    <title>Crawling statistics</title>
+    <link rel="stylesheet" href="../../css/external.css"/>
+    <link rel="stylesheet" href="../../styles.css"/>
+</head>
+<body>
+    <table class="table table-hover table-bordered">
+        <tbody>
+            <tr>
+                <td>Visited pages</td>
+                <td>${statistics.visitedPages?c}</td>
+            </tr>
+            <tr>
+                <td>Duration, ms</td>
+                <td>${statistics.duration.toMillis()?c}</td>
+            </tr>
+            <tr>
+                <td>Pages per second</td>
+                <td>${statistics.pagesPerSecond?string["0.00"]}</td>
+            </tr>
+        </tbody>
+    </table>
+    <table class="table table-hover table-bordered">
+        <thead>
+            <tr>
+                <th>Depth</th>
+                <th>Visited pages</th>
+            </tr>
+        </thead>
+        <tbody>
+            [#list statistics.visitedPagesByDepth as depth, pages]
+                <tr>
+                    <td>${depth?c}</td>
+                    <td>${pages?c}</td>
+                </tr>
+            [/#list]
+        </tbody>
+    </table>
+    <table class="table table-hover table-bordered">
+        <thead>
+            <tr>
+                <th>Skip reason</th>
+                <th>Skipped URLs</th>
+            </tr>
+        </thead>
+        <tbody>
+            [#list statistics.skippedUrls as reason, urls]
+                <tr>
+                    <td>${reason?html}</td>
+                    <td>${urls?c}</td>
+                </tr>
+            [/#list]
+        </tbody>
+    </table>
+</body>
+</html>
@@ -20,7 +20,9 @@ import static com.github.valfirst.slf4jtest.LoggingEvent.warn;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -28,6 +30,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -35,10 +38,13 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import com.github.valfirst.slf4jtest.LoggingEvent;
 import com.github.valfirst.slf4jtest.TestLogger;
 import com.github.valfirst.slf4jtest.TestLoggerFactory;
 import com.github.valfirst.slf4jtest.TestLoggerFactoryExtension;
@@ -53,10 +59,16 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.bdd.context.IBddRunContext;
+import org.vividus.bdd.model.RunningScenario;
+import org.vividus.bdd.model.RunningStory;
+import org.vividus.crawler.CrawlScope;
+import org.vividus.crawler.CrawlStatistics;
 import org.vividus.crawler.ICrawlControllerFactory;
 import org.vividus.crawler.LinkCrawler;
 import org.vividus.crawler.LinkCrawlerFactory;
 import org.vividus.http.HttpRedirectsProvider;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.ui.web.configuration.WebApplicationConfiguration;
 import org.vividus.util.UriUtils;
 
@@ -93,6 +105,12 @@ class HeadlessCrawlerTableTransformerTests
     @Mock
     private HttpRedirectsProvider redirectsProvider;
 
+    @Mock
+    private IAttachmentPublisher attachmentPublisher;
+
+    @Mock
+    private IBddRunContext bddRunContext;
+
     @InjectMocks
     private HeadlessCrawlerTableTransformer transformer;
 
@@ -118,6 +136,34 @@ class HeadlessCrawlerTableTransformerTests
         Set<String> urls = testFetchUrls(mainAppPageRelativeUrl, expectedSeedRelativeUrls);
         assertThat(urls, equalTo(Set.of(OUTGOING_ABSOLUT_URL)));
         verifyNoInteractions(redirectsProvider);
+        List<LoggingEvent> loggingEvents = logger.getLoggingEvents();
+        assertThat(loggingEvents, hasSize(1));
+        LoggingEvent loggingEvent = loggingEvents.get(0);
+        assertEquals("Crawling statistics: {}", loggingEvent.getMessage());
+        assertEquals(1, ((CrawlStatistics) loggingEvent.getArguments().get(0)).getVisitedPages());
+        verifyNoInteractions(attachmentPublisher);
+    }
+
+    @Test
+    void shouldPublishStatisticsWhenCrawlingIsPerformedWithinScenario()
+    {
+        RunningStory runningStory = new RunningStory();
+        runningStory.setRunningScenario(new RunningScenario());
+        when(bddRunContext.getRunningStory()).thenReturn(runningStory);
+        testFetchUrls(ROOT, List.of());
+        verify(attachmentPublisher).publishAttachment(eq("/org/vividus/transformer/crawling-statistics.ftl"),
+                argThat(model -> ((CrawlStatistics) ((Map<?, ?>) model).get("statistics")).getVisitedPages() == 1),
+                eq("Crawling statistics"));
+    }
+
+    @Test
+    void shouldApplyCrawlScope()
+    {
+        CrawlScope crawlScope = new CrawlScope();
+        crawlScope.setExcludePattern(Optional.of("/path"));
+        transformer.setCrawlScope(crawlScope);
+        Set<String> urls = testFetchUrls(ROOT, List.of());
+        assertThat(urls, equalTo(Set.of()));
     }
 
     @Test
@@ -141,7 +187,8 @@ class HeadlessCrawlerTableTransformerTests
         when(redirectsProvider.getRedirects(outgoingURI)).thenThrow(illegalStateException);
         Set<String> urls = testFetchUrls(ROOT, List.of(PATH2, SLASH_PATH3));
         assertThat(urls, equalTo(Set.of(OUTGOING_ABSOLUT_URL)));
-        assertThat(logger.getLoggingEvents(), is(List.of(warn(illegalStateException,
+        List<LoggingEvent> loggingEvents = logger.getLoggingEvents();
+        assertThat(loggingEvents.subList(1, loggingEvents.size()), is(List.of(warn(illegalStateException,
                 "Exception during redirects receiving"))));
     }
 
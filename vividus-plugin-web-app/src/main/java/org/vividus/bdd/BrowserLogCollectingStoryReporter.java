@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd;
+
+import javax.inject.Inject;
+
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.bdd.spring.ExtendedConfiguration;
+import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.logging.BrowserLogCollector;
+
+public class BrowserLogCollectingStoryReporter extends ChainedStoryReporter
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserLogCollectingStoryReporter.class);
+
+    @Inject private IWebDriverProvider webDriverProvider;
+    @Inject private BrowserLogCollector browserLogCollector;
+    @Inject private ExtendedConfiguration configuration;
+    private boolean collectBeforeSteps;
+
+    @Override
+    public void beforeStep(String step)
+    {
+        if (collectBeforeSteps && !configuration.dryRun() && webDriverProvider.isWebDriverInitialized())
+        {
+            try
+            {
+                browserLogCollector.collect(webDriverProvider.get());
+            }
+            catch (WebDriverException e)
+            {
+                LOGGER.debug("Unable to collect browser log", e);
+            }
+        }
+        browserLogCollector.startStep();
+        super.beforeStep(step);
+    }
+
+    public void setCollectBeforeSteps(boolean collectBeforeSteps)
+    {
+        this.collectBeforeSteps = collectBeforeSteps;
+    }
+}
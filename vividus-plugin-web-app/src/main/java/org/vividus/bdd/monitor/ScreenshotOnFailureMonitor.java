@@ -86,7 +86,7 @@ public class ScreenshotOnFailureMonitor extends NullStepMonitor
             {
                 screenshotTaker.takeScreenshot("Assertion_Failure", webElements).ifPresent(screenshot ->
                 {
-                    Attachment attachment = new Attachment(screenshot.getData(), screenshot.getFileName());
+                    Attachment attachment = new Attachment(screenshot.getDataAsync(), screenshot.getFileName());
                     eventBus.post(new AttachmentPublishEvent(attachment));
                 });
             }
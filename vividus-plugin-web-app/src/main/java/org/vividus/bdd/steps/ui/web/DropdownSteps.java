@@ -32,6 +32,7 @@ import org.vividus.bdd.monitor.TakeScreenshotOnFailure;
 import org.vividus.bdd.steps.ui.web.validation.IBaseValidations;
 import org.vividus.bdd.steps.ui.web.validation.IHighlightingSoftAssert;
 import org.vividus.ui.web.DropDownState;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.action.IFieldActions;
 import org.vividus.ui.web.action.IWebElementActions;
 import org.vividus.ui.web.action.search.ActionAttributeType;
@@ -48,6 +49,7 @@ public class DropdownSteps
     @Inject private IBaseValidations baseValidations;
     @Inject private IHighlightingSoftAssert highlightingSoftAssert;
     @Inject private IFieldActions fieldActions;
+    @Inject private IElementPropertiesActions elementPropertiesActions;
 
     /**
      * Checks that previously set searchContext contains a drop down with the expected <b>name</b>
@@ -115,6 +117,9 @@ public class DropdownSteps
             if (highlightingSoftAssert.assertEquals("Expected dropdown is of the same size as actual dropdown: ",
                     expectedItems.size(), actualItems.size()))
             {
+                // The text is read one by one to keep WebElement#getText semantics, e.g. hidden text is excluded
+                List<String> actualItemsStates = elementPropertiesActions.getAttributeValues(actualItems,
+                        "selected");
                 for (int i = 0; i < expectedItems.size(); i++)
                 {
                     WebElement option = actualItems.get(i);
@@ -124,7 +129,8 @@ public class DropdownSteps
                             webElementActions.getElementText(option));
                     highlightingSoftAssert.assertEquals(
                             String.format("State of actual item at position [%s]", i + 1),
-                            Boolean.parseBoolean(expectedRow.get("state")), option.isSelected());
+                            Boolean.parseBoolean(expectedRow.get("state")),
+                            Boolean.parseBoolean(actualItemsStates.get(i)));
                 }
             }
         }
@@ -29,8 +29,8 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.logging.LogEntry;
 import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.logging.BrowserLogCollector;
 import org.vividus.selenium.logging.BrowserLogLevel;
-import org.vividus.selenium.logging.BrowserLogManager;
 import org.vividus.softassert.ISoftAssert;
 
 public class JsValidationSteps
@@ -38,6 +38,7 @@ public class JsValidationSteps
     @Inject private IWebDriverProvider webDriverProvider;
     @Inject private IAttachmentPublisher attachmentPublisher;
     @Inject private ISoftAssert softAssert;
+    @Inject private BrowserLogCollector browserLogCollector;
     private boolean includeBrowserExtensionLogEntries;
 
     /**
@@ -55,7 +56,7 @@ public class JsValidationSteps
     public void checkThereAreLogEntriesOnOpenedPageFiltredByRegExp(List<BrowserLogLevel> logEntries, String regex)
     {
         WebDriver webDriver = webDriverProvider.get();
-        Set<LogEntry> filteredLogEntries = BrowserLogManager.getFilteredLog(webDriver, logEntries).stream()
+        Set<LogEntry> filteredLogEntries = browserLogCollector.getNewLog(webDriver, logEntries).stream()
                 .filter(logEntry -> logEntry.getMessage().matches(regex))
                 .collect(Collectors.toSet());
 
@@ -101,7 +102,7 @@ public class JsValidationSteps
     private void checkFilteredJsEntries(List<BrowserLogLevel> logLevels, Predicate<? super LogEntry> filter)
     {
         WebDriver webDriver = webDriverProvider.get();
-        Set<LogEntry> filteredLogEntries = BrowserLogManager.getFilteredLog(webDriver, logLevels).stream()
+        Set<LogEntry> filteredLogEntries = browserLogCollector.getNewLog(webDriver, logLevels).stream()
                 .filter(filter)
                 .collect(Collectors.toSet());
 
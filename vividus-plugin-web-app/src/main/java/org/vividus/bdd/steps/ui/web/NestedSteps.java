@@ -16,10 +16,13 @@
 
 package org.vividus.bdd.steps.ui.web;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 
@@ -27,11 +30,13 @@ import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.hamcrest.Matcher;
 import org.jbehave.core.annotations.Alias;
 import org.jbehave.core.annotations.When;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 import org.vividus.bdd.monitor.TakeScreenshotOnFailure;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.steps.SubSteps;
 import org.vividus.bdd.steps.ui.web.validation.IBaseValidations;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.ui.web.action.ICssSelectorFactory;
 import org.vividus.ui.web.action.ISearchActions;
@@ -49,6 +54,9 @@ public class NestedSteps
     @Inject private ISearchActions searchActions;
     @Inject private ISoftAssert softAssert;
     @Inject private ICssSelectorFactory cssSelectorFactory;
+    @Inject private IAttachmentPublisher attachmentPublisher;
+
+    private boolean reuseElementHandles;
 
     /**
      * Steps designed to perform steps against all elements found by locator
@@ -60,7 +68,11 @@ public class NestedSteps
      * <li>For each element switches context and performs all steps. No steps will be performed
      * in case of comparison rule mismatch</li>
      * <li>Restores previously set context</li>
+     * <li>Publishes the summary of iteration timings as attachment</li>
      * </ul>
+     * If reuse of element handles is enabled, the originally found elements are used for the iterations and an
+     * element is re-found by its CSS selector only if it has gone stale, otherwise every element except the first
+     * one is re-found by its CSS selector before the iteration.
      * <br> Usage example:
      * <code>
      * <br>When I find equal to 1 elements by By.xpath(.//*[contains(@class,'fancybox-wrap')]) and for each element do
@@ -84,21 +96,19 @@ public class NestedSteps
         if (!elements.isEmpty())
         {
             List<String> cssSelectors = cssSelectorFactory.getCssSelectors(elements).collect(Collectors.toList());
-            runStepsWithContextReset(() ->
+            List<Map<String, Object>> iterations = new ArrayList<>(cssSelectors.size());
+            try
             {
-                webUiContext.putSearchContext(elements.get(0), () -> { });
-                stepsToExecute.execute(Optional.empty());
-            });
-            IntStream.range(1, cssSelectors.size()).forEach(i -> {
-                WebElement element = baseValidations
-                        .assertIfElementExists("An element for iteration " + (i + 1),
-                                new SearchAttributes(ActionAttributeType.CSS_SELECTOR, cssSelectors.get(i)));
-                runStepsWithContextReset(() ->
+                for (int i = 0; i < cssSelectors.size(); i++)
                 {
-                    webUiContext.putSearchContext(element, () -> { });
-                    stepsToExecute.execute(Optional.empty());
-                });
-            });
+                    performIteration(i, elements.get(i), cssSelectors.get(i), stepsToExecute, iterations);
+                }
+            }
+            finally
+            {
+                attachmentPublisher.publishAttachment("/org/vividus/bdd/steps/ui/web/nested-steps-iterations.ftl",
+                        Map.of("iterations", iterations), "Iterations timings");
+            }
         }
     }
 
@@ -151,6 +161,33 @@ public class NestedSteps
         }
     }
 
+    private void performIteration(int index, WebElement foundElement, String cssSelector, SubSteps stepsToExecute,
+            List<Map<String, Object>> iterations)
+    {
+        long startTime = System.nanoTime();
+        boolean refound = index > 0 && (!reuseElementHandles || isStale(foundElement));
+        Map<String, Object> iteration = new LinkedHashMap<>();
+        iteration.put("cssSelector", cssSelector);
+        iteration.put("refound", refound);
+        iterations.add(iteration);
+        try
+        {
+            WebElement element = refound
+                    ? baseValidations.assertIfElementExists("An element for iteration " + (index + 1),
+                            new SearchAttributes(ActionAttributeType.CSS_SELECTOR, cssSelector))
+                    : foundElement;
+            runStepsWithContextReset(() ->
+            {
+                webUiContext.putSearchContext(element, () -> { });
+                stepsToExecute.execute(Optional.empty());
+            });
+        }
+        finally
+        {
+            iteration.put("duration", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
     private void runStepsWithContextReset(Runnable subStepExecutor)
     {
         SearchContextSetter contextSetter = webUiContext.getSearchContextSetter();
@@ -164,6 +201,19 @@ public class NestedSteps
         }
     }
 
+    private static boolean isStale(WebElement element)
+    {
+        try
+        {
+            element.getTagName();
+            return false;
+        }
+        catch (StaleElementReferenceException e)
+        {
+            return true;
+        }
+    }
+
     private boolean isExpectedElementsQuantity(SearchAttributes locator, Matcher<Integer> elementsMatcher,
             MutableBoolean firstIteration)
     {
@@ -179,4 +229,9 @@ public class NestedSteps
     {
         return searchActions.findElements(webUiContext.getSearchContext(), locator).size();
     }
+
+    public void setReuseElementHandles(boolean reuseElementHandles)
+    {
+        this.reuseElementHandles = reuseElementHandles;
+    }
 }
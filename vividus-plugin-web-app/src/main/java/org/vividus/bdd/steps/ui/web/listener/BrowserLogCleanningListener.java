@@ -18,10 +18,12 @@ package org.vividus.bdd.steps.ui.web.listener;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
-import org.vividus.selenium.logging.BrowserLogManager;
+import org.vividus.selenium.logging.BrowserLogCollector;
 
 public class BrowserLogCleanningListener extends AbstractWebDriverEventListener
 {
+    private BrowserLogCollector browserLogCollector;
+
     @Override
     public void beforeNavigateBack(WebDriver driver)
     {
@@ -46,8 +48,13 @@ public class BrowserLogCleanningListener extends AbstractWebDriverEventListener
         resetBrowserLogBuffer(driver);
     }
 
-    private static void resetBrowserLogBuffer(WebDriver driver)
+    private void resetBrowserLogBuffer(WebDriver driver)
+    {
+        browserLogCollector.skipLog(driver);
+    }
+
+    public void setBrowserLogCollector(BrowserLogCollector browserLogCollector)
     {
-        BrowserLogManager.resetBuffer(driver, true);
+        this.browserLogCollector = browserLogCollector;
     }
 }
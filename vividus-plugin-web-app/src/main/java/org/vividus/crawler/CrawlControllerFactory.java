@@ -34,6 +34,8 @@ public class CrawlControllerFactory implements ICrawlControllerFactory
     private static final int SOCKET_TIMEOUT = 40_000;
 
     private String crawlStorageFolder;
+    private int maxPages = -1;
+    private double maxRequestsPerSecondPerHost;
 
     @Override
     public CrawlController createCrawlController(URI mainApplicationPage)
@@ -42,7 +44,9 @@ public class CrawlControllerFactory implements ICrawlControllerFactory
 
         RobotstxtConfig robotstxtConfig = new RobotstxtConfig();
         robotstxtConfig.setEnabled(false);
-        PageFetcher pageFetcher = new PageFetcher(crawlConfig);
+        PageFetcher pageFetcher = maxRequestsPerSecondPerHost > 0
+                ? new RateLimitingPageFetcher(crawlConfig, maxRequestsPerSecondPerHost)
+                : new PageFetcher(crawlConfig);
         RobotstxtServer robotstxtServer = new RobotstxtServer(robotstxtConfig, pageFetcher);
 
         try
@@ -63,6 +67,7 @@ public class CrawlControllerFactory implements ICrawlControllerFactory
         crawlConfig.setSocketTimeout(SOCKET_TIMEOUT);
         crawlConfig.setRespectNoFollow(false);
         crawlConfig.setRespectNoIndex(false);
+        crawlConfig.setMaxPagesToFetch(maxPages);
 
         UserInfo userInfo = UriUtils.getUserInfo(mainApplicationPage);
         if (userInfo != null)
@@ -85,4 +90,22 @@ public class CrawlControllerFactory implements ICrawlControllerFactory
     {
         this.crawlStorageFolder = crawlStorageFolder;
     }
+
+    /**
+     * Sets the maximum number of pages to fetch during the crawling
+     * @param maxPages Maximum number of pages, <b>-1</b> means unlimited
+     */
+    public void setMaxPages(int maxPages)
+    {
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Sets the maximum number of requests sent to each host per second
+     * @param maxRequestsPerSecondPerHost Maximum number of requests per second, <b>0</b> means unlimited
+     */
+    public void setMaxRequestsPerSecondPerHost(double maxRequestsPerSecondPerHost)
+    {
+        this.maxRequestsPerSecondPerHost = maxRequestsPerSecondPerHost;
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.crawler;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.vividus.util.UriUtils;
+
+/**
+ * Rules defining which URLs are crawled and how the found URLs are normalized. The include and exclude patterns
+ * are matched against the URL path along with the query.
+ */
+public class CrawlScope
+{
+    private static final String QUERY_SEPARATOR = "?";
+    private static final String QUERY_PARAMETERS_SEPARATOR = "&";
+
+    private Optional<Pattern> includePattern = Optional.empty();
+    private Optional<Pattern> excludePattern = Optional.empty();
+    private Set<String> keptQueryParameters = Set.of();
+    private int maxDepth = -1;
+
+    public boolean isIncluded(URI url)
+    {
+        return includePattern.map(pattern -> pattern.matcher(getPathAndQuery(url)).matches()).orElse(true);
+    }
+
+    public boolean isExcluded(URI url)
+    {
+        return excludePattern.map(pattern -> pattern.matcher(getPathAndQuery(url)).matches()).orElse(false);
+    }
+
+    /**
+     * Checks whether the depth of the URL exceeds the maximum depth of crawling
+     * @param depth Depth of the URL, the depth of seed URLs is 0
+     * @return <code>true</code> if the URL is too deep to be crawled
+     */
+    public boolean isDepthExceeded(int depth)
+    {
+        return maxDepth >= 0 && depth > maxDepth;
+    }
+
+    /**
+     * Removes the query parameters which should not be kept from the URL
+     * @param url URL to normalize
+     * @return URL containing only the query parameters to keep
+     */
+    public URI filterQuery(URI url)
+    {
+        String query = url.getRawQuery();
+        if (query == null || keptQueryParameters.isEmpty())
+        {
+            return UriUtils.removeQuery(url);
+        }
+        String keptQuery = Stream.of(StringUtils.split(query, QUERY_PARAMETERS_SEPARATOR))
+                .filter(parameter -> keptQueryParameters.contains(StringUtils.substringBefore(parameter, "=")))
+                .collect(Collectors.joining(QUERY_PARAMETERS_SEPARATOR));
+        if (keptQuery.isEmpty())
+        {
+            return UriUtils.removeQuery(url);
+        }
+        return URI.create(StringUtils.replaceOnce(url.toString(), QUERY_SEPARATOR + query,
+                QUERY_SEPARATOR + keptQuery));
+    }
+
+    private static String getPathAndQuery(URI url)
+    {
+        String query = url.getRawQuery();
+        String path = StringUtils.defaultString(url.getRawPath());
+        return query == null ? path : path + QUERY_SEPARATOR + query;
+    }
+
+    public void setIncludePattern(Optional<String> includePattern)
+    {
+        this.includePattern = includePattern.map(Pattern::compile);
+    }
+
+    public void setExcludePattern(Optional<String> excludePattern)
+    {
+        this.excludePattern = excludePattern.map(Pattern::compile);
+    }
+
+    public void setKeptQueryParameters(Set<String> keptQueryParameters)
+    {
+        this.keptQueryParameters = keptQueryParameters;
+    }
+
+    public void setMaxDepth(int maxDepth)
+    {
+        this.maxDepth = maxDepth;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.crawler;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the crawling: the number of visited pages, the crawling speed and the number of URLs skipped by
+ * reason
+ */
+public class CrawlStatistics
+{
+    private final long startTime = System.nanoTime();
+    private volatile long endTime;
+    private final LongAdder visitedPages = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> visitedPagesByDepth = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SkipReason, LongAdder> skippedUrls = new ConcurrentHashMap<>();
+    private final Set<String> skippedUrlSet = ConcurrentHashMap.newKeySet();
+
+    public void recordVisitedPage(int depth)
+    {
+        visitedPages.increment();
+        visitedPagesByDepth.computeIfAbsent(depth, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records the URL skipped by the given reason, the same URL may be found on many pages, but it is counted once
+     * @param url Skipped URL
+     * @param reason Reason of skipping
+     */
+    public void recordSkippedUrl(String url, SkipReason reason)
+    {
+        if (skippedUrlSet.add(url))
+        {
+            skippedUrls.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Marks the end of the crawling, the duration of the crawling is measured till this moment
+     */
+    public void finish()
+    {
+        endTime = System.nanoTime();
+    }
+
+    public long getVisitedPages()
+    {
+        return visitedPages.sum();
+    }
+
+    public Duration getDuration()
+    {
+        return Duration.ofNanos((endTime == 0 ? System.nanoTime() : endTime) - startTime);
+    }
+
+    public double getPagesPerSecond()
+    {
+        long nanos = getDuration().toNanos();
+        return nanos == 0 ? 0 : getVisitedPages() * (double) Duration.ofSeconds(1).toNanos() / nanos;
+    }
+
+    public Map<Integer, Long> getVisitedPagesByDepth()
+    {
+        Map<Integer, Long> pagesByDepth = new TreeMap<>();
+        visitedPagesByDepth.forEach((depth, pages) -> pagesByDepth.put(depth, pages.sum()));
+        return pagesByDepth;
+    }
+
+    public Map<SkipReason, Long> getSkippedUrls()
+    {
+        Map<SkipReason, Long> skippedUrlsByReason = new TreeMap<>();
+        skippedUrls.forEach((reason, urls) -> skippedUrlsByReason.put(reason, urls.sum()));
+        return skippedUrlsByReason;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Visited pages: %d, duration: %s, pages per second: %.2f, visited pages by depth: %s,"
+                + " skipped URLs: %s", getVisitedPages(), getDuration(), getPagesPerSecond(), getVisitedPagesByDepth(),
+                getSkippedUrls());
+    }
+
+    public enum SkipReason
+    {
+        EXTERNAL_SITE,
+        NOT_INCLUDED,
+        EXCLUDED,
+        MAX_DEPTH
+    }
+}
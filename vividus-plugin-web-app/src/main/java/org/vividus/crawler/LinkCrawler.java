@@ -19,9 +19,9 @@ package org.vividus.crawler;
 import java.net.URI;
 import java.util.Set;
 
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.vividus.crawler.CrawlStatistics.SkipReason;
 import org.vividus.util.UriUtils;
 
 import edu.uci.ics.crawler4j.crawler.Page;
@@ -33,54 +33,64 @@ public class LinkCrawler extends WebCrawler
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(LinkCrawler.class);
 
-    private static final String[] EXCLUDED_EXTENSIONS = { ".css", ".gif", ".gz", ".ico", ".jpeg", ".jpg", ".js",
-            ".mp3", ".mp4", ".pdf", ".png", ".zip" };
-
     private final LinkCrawlerData linkCrawlerData;
+    private final CrawlScope crawlScope;
 
-    public LinkCrawler(LinkCrawlerData linkCrawlerData)
+    public LinkCrawler(LinkCrawlerData linkCrawlerData, CrawlScope crawlScope)
     {
         this.linkCrawlerData = linkCrawlerData;
+        this.crawlScope = crawlScope;
     }
 
     @Override
     public boolean shouldVisit(Page referringPage, WebURL url)
     {
-        return isAllowedUrl(referringPage, url);
+        SkipReason skipReason = getSkipReason(referringPage, url);
+        if (skipReason == null && crawlScope.isDepthExceeded(url.getDepth()))
+        {
+            skipReason = SkipReason.MAX_DEPTH;
+        }
+        if (skipReason != null)
+        {
+            linkCrawlerData.getStatistics().recordSkippedUrl(url.getURL(), skipReason);
+            return false;
+        }
+        return true;
     }
 
     @Override
     public void visit(Page page)
     {
-        String url = page.getWebURL().getURL();
-        LOGGER.info("Crawled: {}", url);
+        WebURL webUrl = page.getWebURL();
+        LOGGER.info("Crawled: {}", webUrl.getURL());
+        linkCrawlerData.getStatistics().recordVisitedPage(webUrl.getDepth());
 
-        if (page.getParseData() instanceof HtmlParseData)
+        // The outgoing URLs are one level deeper than the page, so they are out of scope if that depth is exceeded
+        if (page.getParseData() instanceof HtmlParseData && !crawlScope.isDepthExceeded(webUrl.getDepth() + 1))
         {
             Set<String> absoluteUrls = linkCrawlerData.getAbsoluteUrls();
             page.getParseData().getOutgoingUrls()
                     .stream()
-                    .filter(u -> isAllowedUrl(page, u))
+                    .filter(u -> getSkipReason(page, u) == null)
                     .map(WebURL::getURL)
                     .map(UriUtils::createUri)
-                    .map(UriUtils::removeQuery)
+                    .map(crawlScope::filterQuery)
                     .map(URI::toString)
                     .forEach(absoluteUrls::add);
         }
     }
 
-    private static boolean isAllowedUrl(Page referringPage, WebURL url)
-    {
-        return isNotFile(url) && isFromTheSameSite(referringPage.getWebURL().getURL(), url.getURL());
-    }
-
-    private static boolean isNotFile(WebURL url)
+    private SkipReason getSkipReason(Page referringPage, WebURL url)
     {
-        return !StringUtils.endsWithAny(url.getPath().toLowerCase(), EXCLUDED_EXTENSIONS);
-    }
-
-    private static boolean isFromTheSameSite(String pageUrl, String urlToCheck)
-    {
-        return UriUtils.isFromTheSameSite(URI.create(pageUrl), URI.create(urlToCheck));
+        URI uri = URI.create(url.getURL());
+        if (!UriUtils.isFromTheSameSite(URI.create(referringPage.getWebURL().getURL()), uri))
+        {
+            return SkipReason.EXTERNAL_SITE;
+        }
+        if (crawlScope.isExcluded(uri))
+        {
+            return SkipReason.EXCLUDED;
+        }
+        return crawlScope.isIncluded(uri) ? null : SkipReason.NOT_INCLUDED;
     }
 }
@@ -23,9 +23,15 @@ import java.util.Set;
 public class LinkCrawlerData
 {
     private final Set<String> absoluteUrls = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final CrawlStatistics statistics = new CrawlStatistics();
 
     public Set<String> getAbsoluteUrls()
     {
         return absoluteUrls;
     }
+
+    public CrawlStatistics getStatistics()
+    {
+        return statistics;
+    }
 }
@@ -21,15 +21,17 @@ import edu.uci.ics.crawler4j.crawler.CrawlController.WebCrawlerFactory;
 public class LinkCrawlerFactory implements WebCrawlerFactory<LinkCrawler>
 {
     private final LinkCrawlerData linkCrawlerData;
+    private final CrawlScope crawlScope;
 
-    public LinkCrawlerFactory(LinkCrawlerData linkCrawlerData)
+    public LinkCrawlerFactory(LinkCrawlerData linkCrawlerData, CrawlScope crawlScope)
     {
         this.linkCrawlerData = linkCrawlerData;
+        this.crawlScope = crawlScope;
     }
 
     @Override
     public LinkCrawler newInstance()
     {
-        return new LinkCrawler(linkCrawlerData);
+        return new LinkCrawler(linkCrawlerData, crawlScope);
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.crawler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import edu.uci.ics.crawler4j.crawler.CrawlConfig;
+import edu.uci.ics.crawler4j.crawler.exceptions.PageBiggerThanMaxSizeException;
+import edu.uci.ics.crawler4j.fetcher.PageFetchResult;
+import edu.uci.ics.crawler4j.fetcher.PageFetcher;
+import edu.uci.ics.crawler4j.url.WebURL;
+
+/**
+ * Page fetcher limiting the number of requests sent to each host per second, unlike the politeness delay of
+ * crawler4j the limit is applied per host, so the requests to different hosts do not wait for each other
+ */
+public class RateLimitingPageFetcher extends PageFetcher
+{
+    private final double requestsPerSecondPerHost;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    public RateLimitingPageFetcher(CrawlConfig crawlConfig, double requestsPerSecondPerHost)
+    {
+        super(crawlConfig);
+        this.requestsPerSecondPerHost = requestsPerSecondPerHost;
+    }
+
+    @Override
+    public PageFetchResult fetchPage(WebURL webUrl)
+            throws InterruptedException, IOException, PageBiggerThanMaxSizeException
+    {
+        String host = URI.create(webUrl.getURL()).getHost();
+        if (host != null)
+        {
+            rateLimiters.computeIfAbsent(host, h -> RateLimiter.create(requestsPerSecondPerHost)).acquire();
+        }
+        return super.fetchPage(webUrl);
+    }
+}
@@ -17,6 +17,7 @@
 package org.vividus.selenium;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
 
 public interface IWebDriverProvider
 {
@@ -29,4 +30,6 @@ public interface IWebDriverProvider
     void end();
 
     boolean isWebDriverInitialized();
+
+    DesiredCapabilities getDesiredCapabilities();
 }
@@ -19,7 +19,10 @@ package org.vividus.selenium;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.browserup.bup.client.ClientUtil;
 
@@ -36,25 +39,30 @@ import org.vividus.bdd.context.IBddRunContext;
 import org.vividus.bdd.model.MetaWrapper;
 import org.vividus.bdd.model.RunningStory;
 import org.vividus.proxy.IProxy;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.selenium.manager.IWebDriverManager;
 import org.vividus.selenium.manager.IWebDriverManagerContext;
 import org.vividus.selenium.manager.WebDriverManagerParameter;
 
 public class VividusWebDriverFactory implements IVividusWebDriverFactory
 {
+    private static final String TIMINGS_TEMPLATE = "/org/vividus/selenium/web-driver-session-setup-timings.ftl";
+
     private final IWebDriverFactory webDriverFactory;
     private final IBddRunContext bddRunContext;
     private final IWebDriverManagerContext webDriverManagerContext;
     private final IProxy proxy;
     private final IBrowserWindowSizeProvider browserWindowSizeProvider;
     private final IWebDriverManager webDriverManager;
+    private final IAttachmentPublisher attachmentPublisher;
 
     private boolean remoteExecution;
     private List<WebDriverEventListener> webDriverEventListeners;
 
     public VividusWebDriverFactory(IWebDriverFactory webDriverFactory, IBddRunContext bddRunContext,
         IWebDriverManagerContext webDriverManagerContext, IProxy proxy,
-        IBrowserWindowSizeProvider browserWindowSizeProvider, IWebDriverManager webDriverManager)
+        IBrowserWindowSizeProvider browserWindowSizeProvider, IWebDriverManager webDriverManager,
+        IAttachmentPublisher attachmentPublisher)
     {
         this.webDriverFactory = webDriverFactory;
         this.bddRunContext = bddRunContext;
@@ -62,12 +70,16 @@ public class VividusWebDriverFactory implements IVividusWebDriverFactory
         this.proxy = proxy;
         this.browserWindowSizeProvider = browserWindowSizeProvider;
         this.webDriverManager = webDriverManager;
+        this.attachmentPublisher = attachmentPublisher;
     }
 
     @Override
     public VividusWebDriver create()
     {
-        VividusWebDriver vividusWebDriver = createVividusWebDriver(bddRunContext.getRunningStory());
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long phaseStart = System.nanoTime();
+        RunningStory runningStory = bddRunContext.getRunningStory();
+        VividusWebDriver vividusWebDriver = createVividusWebDriver(runningStory);
 
         WebDriver webDriver;
         DesiredCapabilities desiredCapabilities = vividusWebDriver.getDesiredCapabilities();
@@ -76,6 +88,7 @@ public class VividusWebDriverFactory implements IVividusWebDriverFactory
             desiredCapabilities.setCapability(CapabilityType.PROXY, createSeleniumProxy(remoteExecution));
             desiredCapabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
         }
+        phaseStart = recordTiming(timings, "Capabilities resolution", phaseStart);
         if (remoteExecution)
         {
             webDriver = webDriverFactory.getRemoteWebDriver(desiredCapabilities);
@@ -85,6 +98,7 @@ public class VividusWebDriverFactory implements IVividusWebDriverFactory
         {
             webDriver = webDriverFactory.getWebDriver(desiredCapabilities);
         }
+        phaseStart = recordTiming(timings, "Session start and timeouts configuration", phaseStart);
 
         EventFiringWebDriver eventFiringWebDriver = new EventFiringWebDriver(webDriver);
         webDriverEventListeners.forEach(eventFiringWebDriver::register);
@@ -92,9 +106,23 @@ public class VividusWebDriverFactory implements IVividusWebDriverFactory
         vividusWebDriver.setWebDriver(eventFiringWebDriver);
         webDriverManager.resize(vividusWebDriver.getWrappedDriver(),
                 browserWindowSizeProvider.getBrowserWindowSize(remoteExecution));
+        recordTiming(timings, "Window resizing", phaseStart);
+        // The attachment can be added to the report only if there is a running test case
+        if (runningStory != null && runningStory.getRunningScenario() != null)
+        {
+            attachmentPublisher.publishAttachment(TIMINGS_TEMPLATE, Map.of("timings", timings),
+                    "WebDriver session setup timings");
+        }
         return vividusWebDriver;
     }
 
+    private static long recordTiming(Map<String, Long> timings, String phase, long phaseStart)
+    {
+        long phaseEnd = System.nanoTime();
+        timings.put(phase, TimeUnit.NANOSECONDS.toMillis(phaseEnd - phaseStart));
+        return phaseEnd;
+    }
+
     private Proxy createSeleniumProxy(boolean remoteExecution)
     {
         try
@@ -23,6 +23,7 @@ import javax.inject.Inject;
 import com.google.common.eventbus.EventBus;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
 import org.vividus.testcontext.TestContext;
 import org.vividus.ui.web.event.WebDriverCreateEvent;
 import org.vividus.ui.web.event.WebDriverQuitEvent;
@@ -100,6 +101,13 @@ public class WebDriverProvider implements IWebDriverProvider
         return null != testContext.get(VividusWebDriver.class);
     }
 
+    @Override
+    public DesiredCapabilities getDesiredCapabilities()
+    {
+        get();
+        return getVividusWebDriver().getDesiredCapabilities();
+    }
+
     public void destroy()
     {
         webDrivers.forEach(WebDriver::quit);
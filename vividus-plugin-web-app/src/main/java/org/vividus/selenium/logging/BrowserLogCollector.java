@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.logging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.vividus.selenium.WebDriverType;
+import org.vividus.selenium.manager.WebDriverManager;
+import org.vividus.ui.web.action.IJavascriptActions;
+import org.vividus.ui.web.event.WebDriverQuitEvent;
+
+/**
+ * Collects browser log entries of the current WebDriver session incrementally and indexes them by level and by the
+ * number of the step during which they were collected. The entries are collected on the test thread only: at the
+ * step boundaries (if enabled), around the navigations and by the checks. The collected entries are kept until the
+ * session is ended, if their number exceeds the limit the oldest entries are evicted.
+ * <p>Firefox does not support the Selenium log API, so its entries are captured by the hook injected into the
+ * browser console: the hook is installed on page load and it captures the entries logged after that.</p>
+ */
+public class BrowserLogCollector
+{
+    private static final String CONSOLE_HOOK_SCRIPT = "console-hook.js";
+
+    private final ThreadLocal<SessionLog> sessionLog = ThreadLocal.withInitial(SessionLog::new);
+    private final IJavascriptActions javascriptActions;
+    private final int maxEntries;
+
+    public BrowserLogCollector(IJavascriptActions javascriptActions, int maxEntries)
+    {
+        this.javascriptActions = javascriptActions;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Collects the browser log entries appeared since the previous collection, the collection is skipped if the
+     * retrieval of browser logs is not supported
+     * @param driver WebDriver instance
+     */
+    public void collect(WebDriver driver)
+    {
+        collect(driver, true);
+    }
+
+    /**
+     * Installs the console hook capturing browser log entries into the loaded page if the browser does not support
+     * the Selenium log API, nothing is done for other browsers
+     * @param driver WebDriver instance
+     */
+    public void installConsoleHook(WebDriver driver)
+    {
+        if (isConsoleHookRequired(driver))
+        {
+            collect(driver);
+        }
+    }
+
+    /**
+     * Marks the start of the next step, the entries collected after this call are indexed with the new step number
+     */
+    public void startStep()
+    {
+        sessionLog.get().step++;
+    }
+
+    /**
+     * Gets the number of the current step within the current WebDriver session
+     * @return Number of the current step
+     */
+    public int getCurrentStep()
+    {
+        return sessionLog.get().step;
+    }
+
+    /**
+     * Collects the new browser log entries and returns the entries collected since the given step having the given
+     * level or higher
+     * @param driver WebDriver instance
+     * @param step Number of the first step to include
+     * @param minimumLevel Minimum level of the entries to include
+     * @return Log entries in the order they were collected
+     */
+    public List<LogEntry> getLogSinceStep(WebDriver driver, int step, Level minimumLevel)
+    {
+        collect(driver, false);
+        SessionLog log = sessionLog.get();
+        return log.entriesByLevel.tailMap(minimumLevel.intValue(), true).values().stream()
+                .flatMap(entries -> tail(entries, CollectedLogEntry::getStep, step).stream())
+                .sorted(Comparator.comparingLong(CollectedLogEntry::getSequence))
+                .map(CollectedLogEntry::getLogEntry)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Collects the new browser log entries and returns the entries having the given level or higher
+     * @param driver WebDriver instance
+     * @param minimumLevel Minimum level of the entries to include
+     * @return Log entries in the order they were collected
+     */
+    public List<LogEntry> getLog(WebDriver driver, Level minimumLevel)
+    {
+        return getLogSinceStep(driver, 0, minimumLevel);
+    }
+
+    /**
+     * Collects the new browser log entries and returns the entries having exactly the given levels, which were not
+     * returned by the previous invocations of this method and which were not skipped
+     * @param driver WebDriver instance
+     * @param logLevelsToInclude Levels of the entries to include
+     * @return Log entries grouped by levels in the order of the levels to include
+     */
+    public Set<LogEntry> getNewLog(WebDriver driver, Collection<BrowserLogLevel> logLevelsToInclude)
+    {
+        collect(driver, false);
+        SessionLog log = sessionLog.get();
+        Set<LogEntry> newEntries = new LinkedHashSet<>();
+        for (BrowserLogLevel logLevel : logLevelsToInclude)
+        {
+            List<CollectedLogEntry> entries = log.entriesByLevel.get(logLevel.getLevel().intValue());
+            if (entries != null)
+            {
+                tail(entries, CollectedLogEntry::getSequence, log.returnedEntries).stream()
+                        .map(CollectedLogEntry::getLogEntry)
+                        .forEach(newEntries::add);
+            }
+        }
+        log.returnedEntries = log.size;
+        return newEntries;
+    }
+
+    /**
+     * Collects the new browser log entries and marks all collected entries as returned, so they will not be returned
+     * by {@link #getNewLog(WebDriver, Collection)}. The collection is skipped if the retrieval of browser logs is not
+     * supported.
+     * @param driver WebDriver instance
+     */
+    public void skipLog(WebDriver driver)
+    {
+        collect(driver);
+        SessionLog log = sessionLog.get();
+        log.returnedEntries = log.size;
+    }
+
+    @Subscribe
+    public void onWebDriverQuit(@SuppressWarnings("unused") WebDriverQuitEvent event)
+    {
+        sessionLog.remove();
+    }
+
+    private void collect(WebDriver driver, boolean ignoreUnsupportedDrivers)
+    {
+        List<LogEntry> logEntries = isConsoleHookRequired(driver) ? drainConsoleHook()
+                : BrowserLogManager.drainLog(driver, ignoreUnsupportedDrivers);
+        SessionLog log = sessionLog.get();
+        logEntries.forEach(log::add);
+        log.evictOldest(maxEntries);
+    }
+
+    private List<LogEntry> drainConsoleHook()
+    {
+        List<List<Object>> entries = javascriptActions.executeScriptFromResource(BrowserLogCollector.class,
+                CONSOLE_HOOK_SCRIPT);
+        if (entries == null)
+        {
+            return List.of();
+        }
+        return entries.stream()
+                .map(e -> new LogEntry(Level.parse((String) e.get(0)), ((Number) e.get(1)).longValue(),
+                        (String) e.get(2)))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isConsoleHookRequired(WebDriver driver)
+    {
+        return WebDriverManager.isTypeAnyOf(driver, WebDriverType.FIREFOX);
+    }
+
+    private static List<CollectedLogEntry> tail(List<CollectedLogEntry> entries, ToLongFunction<CollectedLogEntry> key,
+            long fromKey)
+    {
+        return entries.subList(indexOf(entries, key, fromKey), entries.size());
+    }
+
+    private static int indexOf(List<CollectedLogEntry> entries, ToLongFunction<CollectedLogEntry> key, long fromKey)
+    {
+        int low = 0;
+        int high = entries.size();
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (key.applyAsLong(entries.get(middle)) < fromKey)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final class SessionLog
+    {
+        private final NavigableMap<Integer, List<CollectedLogEntry>> entriesByLevel = new TreeMap<>();
+        private int step;
+        private long size;
+        private long firstRetainedEntry;
+        private long returnedEntries;
+
+        private void add(LogEntry logEntry)
+        {
+            entriesByLevel.computeIfAbsent(logEntry.getLevel().intValue(), k -> new ArrayList<>())
+                    .add(new CollectedLogEntry(size++, step, logEntry));
+        }
+
+        private void evictOldest(int maxEntries)
+        {
+            if (size - firstRetainedEntry > maxEntries)
+            {
+                // Evict a quarter of the limit at once to avoid shifting the lists on each collection
+                firstRetainedEntry = size - maxEntries + maxEntries / 4;
+                entriesByLevel.values().forEach(entries -> entries.subList(0,
+                        indexOf(entries, CollectedLogEntry::getSequence, firstRetainedEntry)).clear());
+                entriesByLevel.values().removeIf(List::isEmpty);
+            }
+        }
+    }
+
+    private static final class CollectedLogEntry
+    {
+        private final long sequence;
+        private final int step;
+        private final LogEntry logEntry;
+
+        private CollectedLogEntry(long sequence, int step, LogEntry logEntry)
+        {
+            this.sequence = sequence;
+            this.step = step;
+            this.logEntry = logEntry;
+        }
+
+        private long getSequence()
+        {
+            return sequence;
+        }
+
+        private long getStep()
+        {
+            return step;
+        }
+
+        private LogEntry getLogEntry()
+        {
+            return logEntry;
+        }
+    }
+}
@@ -16,13 +16,8 @@
 
 package org.vividus.selenium.logging;
 
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.logging.Level;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.logging.LogEntries;
@@ -42,18 +37,16 @@ public final class BrowserLogManager
         return getLog(driver, false).get();
     }
 
-    public static Set<LogEntry> getFilteredLog(WebDriver driver, Collection<BrowserLogLevel> logLevelsToInclude)
+    /**
+     * Retrieves the browser log entries appeared since the previous retrieval
+     * @param driver WebDriver instance
+     * @param ignoreUnsupportedDrivers Whether to return empty list instead of failure if the retrieval of browser logs
+     * is not supported
+     * @return New browser log entries
+     */
+    public static List<LogEntry> drainLog(WebDriver driver, boolean ignoreUnsupportedDrivers)
     {
-        LogEntries log = getLog(driver);
-        return logLevelsToInclude.stream()
-                .map(BrowserLogLevel::getLevel)
-                .flatMap(level -> filter(log, level))
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-    }
-
-    public static void resetBuffer(WebDriver driver, boolean ignoreUnsupportedDrivers)
-    {
-        getLog(driver, ignoreUnsupportedDrivers);
+        return getLog(driver, ignoreUnsupportedDrivers).map(LogEntries::getAll).orElseGet(List::of);
     }
 
     private static Optional<LogEntries> getLog(WebDriver driver, boolean ignoreUnsupportedDrivers)
@@ -69,14 +62,4 @@ public final class BrowserLogManager
         }
         return Optional.of(driver.manage().logs().get(LogType.BROWSER));
     }
-
-    private static Stream<LogEntry> filter(LogEntries log, Level level)
-    {
-        int levelValue = level.intValue();
-        return log.getAll().stream().filter(logEntry ->
-        {
-            int logEntryLevel = logEntry.getLevel().intValue();
-            return logEntryLevel >= levelValue && logEntryLevel <= levelValue;
-        });
-    }
 }
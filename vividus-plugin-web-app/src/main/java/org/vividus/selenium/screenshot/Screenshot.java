@@ -16,19 +16,35 @@
 
 package org.vividus.selenium.screenshot;
 
+import java.util.concurrent.CompletableFuture;
+
 public class Screenshot
 {
-    private byte[] data;
+    private CompletableFuture<byte[]> data;
     private String fileName;
 
+    /**
+     * Gets the screenshot data, waits for the data to be encoded if it is not ready yet
+     * @return Screenshot data
+     */
     public byte[] getData()
     {
-        return data.clone();
+        return data.join().clone();
+    }
+
+    public CompletableFuture<byte[]> getDataAsync()
+    {
+        return data.thenApply(byte[]::clone);
     }
 
     public void setData(byte[] data)
     {
-        this.data = data.clone();
+        this.data = CompletableFuture.completedFuture(data.clone());
+    }
+
+    public void setData(CompletableFuture<byte[]> data)
+    {
+        this.data = data;
     }
 
     public String getFileName()
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.vividus.ui.web.util.ImageUtils;
+
+/**
+ * Encodes screenshots to PNG in background threads, so the test thread only grabs the raw images. The number of
+ * screenshots waiting for encoding is limited: when the limit is reached, the test thread is blocked until one of
+ * the pending screenshots is encoded.
+ */
+public class ScreenshotEncoder
+{
+    private final ExecutorService executor;
+    private final Semaphore pendingScreenshotsPermits;
+    private final ThreadLocal<Queue<CompletableFuture<byte[]>>> pendingScreenshots = ThreadLocal.withInitial(
+        ArrayDeque::new);
+
+    public ScreenshotEncoder(int threads, int maxPendingScreenshots)
+    {
+        executor = Executors.newFixedThreadPool(threads,
+                new BasicThreadFactory.Builder().namingPattern("screenshot-encoder-%d").daemon(true).build());
+        pendingScreenshotsPermits = new Semaphore(maxPendingScreenshots);
+    }
+
+    /**
+     * Submits the image for encoding to PNG
+     * @param image Image to encode
+     * @return Future PNG data
+     */
+    public CompletableFuture<byte[]> encode(BufferedImage image)
+    {
+        pendingScreenshotsPermits.acquireUninterruptibly();
+        CompletableFuture<byte[]> encodedImage;
+        try
+        {
+            encodedImage = CompletableFuture.supplyAsync(() ->
+            {
+                try
+                {
+                    return ImageUtils.encodeAsPng(image);
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+                finally
+                {
+                    pendingScreenshotsPermits.release();
+                }
+            }, executor);
+        }
+        catch (RejectedExecutionException e)
+        {
+            pendingScreenshotsPermits.release();
+            throw e;
+        }
+        Queue<CompletableFuture<byte[]>> screenshots = pendingScreenshots.get();
+        screenshots.removeIf(CompletableFuture::isDone);
+        screenshots.add(encodedImage);
+        return encodedImage;
+    }
+
+    /**
+     * Waits until all the screenshots submitted by the current thread are encoded, the encoding failures are
+     * expected to be handled by the consumers of the encoded data
+     */
+    public void flush()
+    {
+        Queue<CompletableFuture<byte[]>> screenshots = pendingScreenshots.get();
+        CompletableFuture<byte[]> screenshot;
+        while ((screenshot = screenshots.poll()) != null)
+        {
+            screenshot.handle((data, throwable) -> data).join();
+        }
+    }
+
+    public void shutdown()
+    {
+        executor.shutdown();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.vividus.selenium.screenshot;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -36,10 +37,10 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.ui.web.util.ImageUtils;
 
 import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.cropper.indent.IndentCropper;
-import ru.yandex.qatools.ashot.util.ImageTool;
 
 public class ScreenshotTaker implements IScreenshotTaker
 {
@@ -52,6 +53,7 @@ public class ScreenshotTaker implements IScreenshotTaker
     @Inject private IScrollbarHandler scrollbarHandler;
     @Inject private IAshotFactory ashotFactory;
     @Inject private ScreenshotDebugger screenshotDebugger;
+    @Inject private ScreenshotEncoder screenshotEncoder;
 
     private File screenshotDirectory;
     private boolean fullPageScreenshots;
@@ -101,25 +103,16 @@ public class ScreenshotTaker implements IScreenshotTaker
     public Optional<Screenshot> takeScreenshot(String screenshotName, List<WebElement> webElementsToHighlight,
             boolean viewportScreenshot)
     {
-        byte[] screenshotData = takeScreenshotAsByteArray(webElementsToHighlight, viewportScreenshot);
-        return createScreenshot(screenshotData, screenshotName);
+        Optional<BufferedImage> screenshotImage = takeScreenshotAsImage(webElementsToHighlight, viewportScreenshot);
+        return createScreenshot(screenshotImage, screenshotName);
     }
 
     @Override
     public Optional<Screenshot> takeScreenshot(String screenshotName, SearchContext searchContext)
     {
-        byte[] screenshotData = takeScreenshotAsByteArray(() ->
-        {
-            try
-            {
-                return ImageTool.toByteArray(takeAshotScreenshot(searchContext, Optional.empty()));
-            }
-            catch (IOException e)
-            {
-                throw new IllegalStateException(e);
-            }
-        });
-        return createScreenshot(screenshotData, screenshotName);
+        Optional<BufferedImage> screenshotImage = takeScreenshotAsImage(
+            () -> takeAshotScreenshot(searchContext, Optional.empty()).getImage());
+        return createScreenshot(screenshotImage, screenshotName);
     }
 
     private ru.yandex.qatools.ashot.Screenshot takeScreenshot(SearchContext searchContext, AShot aShot,
@@ -152,24 +145,24 @@ public class ScreenshotTaker implements IScreenshotTaker
         return Optional.ofNullable(ashotConfigurations.get(shootingStrategy));
     }
 
-    private Optional<Screenshot> createScreenshot(byte[] screenshotData, String screenshotName)
+    private Optional<Screenshot> createScreenshot(Optional<BufferedImage> screenshotImage, String screenshotName)
     {
-        if (screenshotData.length > 0)
+        return screenshotImage.map(image ->
         {
             Screenshot screenshot = new Screenshot();
-            screenshot.setData(screenshotData);
+            screenshot.setData(screenshotEncoder.encode(image));
             screenshot.setFileName(generateScreenshotFileName(screenshotName));
-            return Optional.of(screenshot);
-        }
-        return Optional.empty();
+            return screenshot;
+        });
     }
 
     private Path takeScreenshot(Supplier<Path> screenshotFilePathSupplier,
             boolean viewportScreenshot) throws IOException
     {
-        byte[] screenshotData = takeScreenshotAsByteArray(List.of(), viewportScreenshot);
-        if (screenshotData.length > 0)
+        Optional<BufferedImage> screenshotImage = takeScreenshotAsImage(List.of(), viewportScreenshot);
+        if (screenshotImage.isPresent())
         {
+            byte[] screenshotData = ImageUtils.encodeAsPng(screenshotImage.get());
             Path screenshotFilePath = screenshotFilePathSupplier.get();
             Path parent = screenshotFilePath.getParent();
             if (parent != null)
@@ -186,52 +179,44 @@ public class ScreenshotTaker implements IScreenshotTaker
         return null;
     }
 
-    private byte[] takeScreenshotAsByteArray(List<WebElement> webElements, boolean viewportScreenshot)
+    private Optional<BufferedImage> takeScreenshotAsImage(List<WebElement> webElements, boolean viewportScreenshot)
     {
-        return takeScreenshotAsByteArray(() ->
+        return takeScreenshotAsImage(() ->
         {
-            byte[] screenshotData;
+            BufferedImage screenshotImage;
             if (HighlighterType.DEFAULT == highlighterType)
             {
-                screenshotData = webElementHighlighter.takeScreenshotWithHighlights(
-                    () -> takeScreenshotAsByteArrayImpl(webElements, viewportScreenshot));
+                screenshotImage = webElementHighlighter.takeScreenshotWithHighlights(
+                    () -> takeScreenshotAsImageImpl(webElements, viewportScreenshot));
             }
             else
             {
-                screenshotData = takeScreenshotAsByteArrayImpl(webElements, viewportScreenshot);
+                screenshotImage = takeScreenshotAsImageImpl(webElements, viewportScreenshot);
             }
             webElementHighlighter.clearAssertingWebElements();
-            return screenshotData;
+            return screenshotImage;
         });
     }
 
-    private byte[] takeScreenshotAsByteArray(Supplier<byte[]> screenshotDataSupplier)
+    private Optional<BufferedImage> takeScreenshotAsImage(Supplier<BufferedImage> screenshotImageSupplier)
     {
         if (webDriverProvider.isWebDriverInitialized())
         {
-            return screenshotDataSupplier.get();
+            return Optional.of(screenshotImageSupplier.get());
         }
         LOGGER.info("WebDriver is not initialized");
-        return new byte[0];
+        return Optional.empty();
     }
 
-    private byte[] takeScreenshotAsByteArrayImpl(List<WebElement> webElements, boolean viewportScreenshot)
+    private BufferedImage takeScreenshotAsImageImpl(List<WebElement> webElements, boolean viewportScreenshot)
     {
         WebDriver webDriver = webDriverProvider.get();
-        try
-        {
-            AShot aShot = createAShot(viewportScreenshot);
-            IndentCropper indentCropper = new IndentCropper(fullPageScreenshots ? Integer.MAX_VALUE : indent);
-            highlighterType.addIndentFilter(indentCropper);
-            aShot.imageCropper(indentCropper);
-            return ImageTool.toByteArray(
-                    webElements.isEmpty() || HighlighterType.DEFAULT == highlighterType && fullPageScreenshots
-                            ? aShot.takeScreenshot(webDriver) : aShot.takeScreenshot(webDriver, webElements));
-        }
-        catch (IOException e)
-        {
-            throw new IllegalStateException(e);
-        }
+        AShot aShot = createAShot(viewportScreenshot);
+        IndentCropper indentCropper = new IndentCropper(fullPageScreenshots ? Integer.MAX_VALUE : indent);
+        highlighterType.addIndentFilter(indentCropper);
+        aShot.imageCropper(indentCropper);
+        return (webElements.isEmpty() || HighlighterType.DEFAULT == highlighterType && fullPageScreenshots
+                ? aShot.takeScreenshot(webDriver) : aShot.takeScreenshot(webDriver, webElements)).getImage();
     }
 
     private AShot createAShot(boolean viewportScreenshot)
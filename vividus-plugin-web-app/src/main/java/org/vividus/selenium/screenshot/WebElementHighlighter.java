@@ -16,12 +16,14 @@
 
 package org.vividus.selenium.screenshot;
 
-import java.util.function.Consumer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
@@ -33,10 +35,13 @@ public class WebElementHighlighter implements IWebElementHighlighter
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebElementHighlighter.class);
 
-    private static final String ENABLE_HIGHLIGHT_JS = "arguments[0].style.border=\"7px solid yellow\";"
-            + "arguments[0].style.boxShadow=\"0px 0px 70px 20px red\"";
-    private static final String DISABLE_HIGHLIGHT_JS = "arguments[0].style.border=\"\";"
-            + "arguments[0].style.boxShadow=\"\"";
+    // Elements detached from the page are skipped, isConnected is not supported by IE, so it is not checked there
+    private static final String FOR_EACH_ATTACHED_ELEMENT_JS = "arguments[0].forEach(function(e) {"
+            + "if (e && e.isConnected !== false) {";
+    private static final String ENABLE_HIGHLIGHT_JS = FOR_EACH_ATTACHED_ELEMENT_JS
+            + "e.style.border=\"7px solid yellow\";e.style.boxShadow=\"0px 0px 70px 20px red\";}})";
+    private static final String DISABLE_HIGHLIGHT_JS = FOR_EACH_ATTACHED_ELEMENT_JS
+            + "e.style.border=\"\";e.style.boxShadow=\"\";}})";
 
     @Inject private IJavascriptActions javascriptActions;
     @Inject private IWebUiContext webUiContext;
@@ -46,23 +51,41 @@ public class WebElementHighlighter implements IWebElementHighlighter
     {
         try
         {
-            changeState(this::enableHighlighting);
+            changeState(ENABLE_HIGHLIGHT_JS);
             return screenshotSupplier.get();
         }
         finally
         {
-            changeState(this::disableHighlighting);
+            changeState(DISABLE_HIGHLIGHT_JS);
         }
     }
 
-    private void changeState(Consumer<WebElement> stateUpdater)
+    private void changeState(String script)
     {
+        List<WebElement> elements = new ArrayList<>();
         SearchContext searchContext = webUiContext.getSearchContext();
         if (searchContext instanceof WebElement)
         {
-            stateUpdater.accept((WebElement) searchContext);
+            elements.add((WebElement) searchContext);
+        }
+        elements.addAll(webUiContext.getAssertingWebElements());
+        if (elements.isEmpty())
+        {
+            return;
+        }
+        try
+        {
+            javascriptActions.executeScript(script, elements);
+        }
+        catch (StaleElementReferenceException e)
+        {
+            // References to the elements unknown to the browser are rejected by the driver for the whole call
+            elements.forEach(element -> executeJS(script, List.of(element)));
+        }
+        catch (WebDriverException e)
+        {
+            logHighlightingFailure(e);
         }
-        webUiContext.getAssertingWebElements().forEach(stateUpdater);
     }
 
     @Override
@@ -71,25 +94,20 @@ public class WebElementHighlighter implements IWebElementHighlighter
         webUiContext.clearAssertingWebElements();
     }
 
-    private void enableHighlighting(WebElement element)
-    {
-        executeJS(ENABLE_HIGHLIGHT_JS, element);
-    }
-
-    private void disableHighlighting(WebElement element)
-    {
-        executeJS(DISABLE_HIGHLIGHT_JS, element);
-    }
-
-    private void executeJS(String script, Object... args)
+    private void executeJS(String script, List<WebElement> elements)
     {
         try
         {
-            javascriptActions.executeScript(script, args);
+            javascriptActions.executeScript(script, elements);
         }
         catch (WebDriverException e)
         {
-            LOGGER.warn("Can't highlight the element: {}", e.getMessage());
+            logHighlightingFailure(e);
         }
     }
+
+    private static void logHighlightingFailure(WebDriverException e)
+    {
+        LOGGER.warn("Can't highlight the element: {}", e.getMessage());
+    }
 }
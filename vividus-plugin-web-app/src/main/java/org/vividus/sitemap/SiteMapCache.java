@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.sitemap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.vividus.http.client.HttpResponse;
+
+/**
+ * On-disk cache of sitemaps: a sitemap is stored along with its <b>ETag</b> and <b>Last-Modified</b> response
+ * headers, the headers are used to make the conditional request, so the body of unchanged sitemap is not downloaded
+ * again
+ */
+class SiteMapCache
+{
+    private static final String BODY_EXTENSION = ".xml";
+    private static final String VALIDATORS_EXTENSION = ".properties";
+
+    private final Path directory;
+
+    SiteMapCache(Path directory)
+    {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the conditional GET request, if the sitemap is cached
+     * @param siteMapUrl URL of the sitemap
+     * @return GET request
+     */
+    HttpGet createRequest(URI siteMapUrl)
+    {
+        HttpGet request = new HttpGet(siteMapUrl);
+        Path validatorsFile = getFile(siteMapUrl, VALIDATORS_EXTENSION);
+        if (Files.exists(validatorsFile) && Files.exists(getFile(siteMapUrl, BODY_EXTENSION)))
+        {
+            Properties validators = new Properties();
+            try (InputStream inputStream = Files.newInputStream(validatorsFile))
+            {
+                validators.load(inputStream);
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+            addHeader(request, HttpHeaders.IF_NONE_MATCH, validators.getProperty(HttpHeaders.ETAG));
+            addHeader(request, HttpHeaders.IF_MODIFIED_SINCE, validators.getProperty(HttpHeaders.LAST_MODIFIED));
+        }
+        return request;
+    }
+
+    /**
+     * Gets the body of the sitemap from the cache if the sitemap is not modified, otherwise caches the received
+     * sitemap, only successful responses are cached
+     * @param siteMapUrl URL of the sitemap
+     * @param response Response to the request created by {@link #createRequest(URI)}
+     * @return Body of the sitemap
+     * @throws IOException If an I/O error occurs
+     */
+    byte[] getBody(URI siteMapUrl, HttpResponse response) throws IOException
+    {
+        Path bodyFile = getFile(siteMapUrl, BODY_EXTENSION);
+        int statusCode = response.getStatusCode();
+        if (statusCode == HttpStatus.SC_NOT_MODIFIED)
+        {
+            return Files.readAllBytes(bodyFile);
+        }
+        byte[] body = response.getResponseBody();
+        if (statusCode != HttpStatus.SC_OK)
+        {
+            return body;
+        }
+        Properties validators = new Properties();
+        putValidator(validators, response, HttpHeaders.ETAG);
+        putValidator(validators, response, HttpHeaders.LAST_MODIFIED);
+        Path validatorsFile = getFile(siteMapUrl, VALIDATORS_EXTENSION);
+        // The validators are removed first, so they never refer to the body which is being replaced
+        Files.deleteIfExists(validatorsFile);
+        if (validators.isEmpty() || body == null)
+        {
+            return body;
+        }
+        Files.createDirectories(directory);
+        write(bodyFile, body);
+        ByteArrayOutputStream validatorsContent = new ByteArrayOutputStream();
+        validators.store(validatorsContent, siteMapUrl.toString());
+        write(validatorsFile, validatorsContent.toByteArray());
+        return body;
+    }
+
+    private void write(Path file, byte[] content) throws IOException
+    {
+        // The content is written to a temporary file and then moved, so the partially written file is never read
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), null);
+        try
+        {
+            Files.write(tempFile, content);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally
+        {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path getFile(URI siteMapUrl, String extension)
+    {
+        String name = UUID.nameUUIDFromBytes(siteMapUrl.toString().getBytes(StandardCharsets.UTF_8)).toString();
+        return directory.resolve(name + extension);
+    }
+
+    private static void addHeader(HttpGet request, String name, String value)
+    {
+        if (value != null)
+        {
+            request.addHeader(name, value);
+        }
+    }
+
+    private static void putValidator(Properties validators, HttpResponse response, String headerName)
+    {
+        Header[] headers = response.getResponseHeaders();
+        if (headers != null)
+        {
+            Stream.of(headers)
+                    .filter(header -> headerName.equalsIgnoreCase(header.getName()))
+                    .findFirst()
+                    .map(Header::getValue)
+                    .ifPresent(value -> validators.setProperty(headerName, value));
+        }
+    }
+}
@@ -16,17 +16,27 @@
 
 package org.vividus.sitemap;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.vividus.http.client.HttpResponse;
 import org.vividus.http.client.IHttpClient;
@@ -46,39 +56,156 @@ public class SiteMapParser implements ISiteMapParser
     private Optional<URI> siteUrl;
     private Optional<URI> baseUrl;
     private boolean followRedirects;
+    private int parallelism = 1;
+    private Optional<Integer> maxUrls = Optional.empty();
+    private Optional<SiteMapCache> siteMapCache = Optional.empty();
 
+    /**
+     * Parses the sitemap, the sitemaps referenced by sitemap index are fetched concurrently, the number of the
+     * simultaneous downloads is limited by the configured parallelism. The URLs are deduplicated as the sitemaps are
+     * parsed, the fetching is stopped as soon as the configured maximum number of URLs is reached.
+     */
     @Override
     public Collection<SiteMapURL> parse(boolean strict, URI siteMapUrl) throws SiteMapParseException
     {
-        return parse(siteMapUrl, new crawlercommons.sitemaps.SiteMapParser(strict));
+        Map<String, SiteMapURL> siteMapUrls = new LinkedHashMap<>();
+        AbstractSiteMap siteMap = fetch(siteMapUrl, strict);
+        if (siteMap.getType() == SitemapType.INDEX)
+        {
+            parseIndex((SiteMapIndex) siteMap, strict, siteMapUrls);
+        }
+        else
+        {
+            addUrls((SiteMap) siteMap, siteMapUrls);
+        }
+        return siteMapUrls.values();
     }
 
-    private Collection<SiteMapURL> parse(URI siteMapUrl, crawlercommons.sitemaps.SiteMapParser siteMapParser)
+    private void parseIndex(SiteMapIndex siteMapIndex, boolean strict, Map<String, SiteMapURL> siteMapUrls)
             throws SiteMapParseException
     {
+        Set<String> visitedSiteMaps = new HashSet<>();
+        visitedSiteMaps.add(siteMapIndex.getUrl().toString());
+        Deque<URI> pendingSiteMaps = new ArrayDeque<>();
+        addSiteMaps(siteMapIndex, visitedSiteMaps, pendingSiteMaps);
+        Deque<Future<AbstractSiteMap>> parsingSiteMaps = new ArrayDeque<>(parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new BasicThreadFactory.Builder()
+                .namingPattern("sitemap-parser-%d")
+                .daemon(true)
+                .build());
         try
         {
-            HttpClientContext context = new HttpClientContext();
-            HttpResponse response = httpClient.doHttpGet(siteMapUrl, context);
-            URI cleanSiteMapUrl = UriUtils.removeUserInfo(getBaseUri(context, siteMapUrl));
-            AbstractSiteMap siteMap = siteMapParser.parseSiteMap(response.getResponseBody(), cleanSiteMapUrl.toURL());
-            if (siteMap.getType() == SitemapType.INDEX)
+            while (!isMaxUrlsReached(siteMapUrls) && !(pendingSiteMaps.isEmpty() && parsingSiteMaps.isEmpty()))
             {
-                List<SiteMapURL> siteMapUrls = new LinkedList<>();
-                for (AbstractSiteMap siteMapFromIndex : ((SiteMapIndex) siteMap).getSitemaps())
+                while (parsingSiteMaps.size() < parallelism && !pendingSiteMaps.isEmpty())
+                {
+                    URI siteMapUrl = pendingSiteMaps.poll();
+                    parsingSiteMaps.add(executor.submit(() -> fetch(siteMapUrl, strict)));
+                }
+                AbstractSiteMap siteMap = getParsedSiteMap(parsingSiteMaps.poll());
+                if (siteMap.getType() == SitemapType.INDEX)
+                {
+                    addSiteMaps((SiteMapIndex) siteMap, visitedSiteMaps, pendingSiteMaps);
+                }
+                else
                 {
-                    siteMapUrls.addAll(parse(siteMapFromIndex.getUrl().toURI(), siteMapParser));
+                    addUrls((SiteMap) siteMap, siteMapUrls);
                 }
-                return siteMapUrls;
             }
-            return ((SiteMap) siteMap).getSiteMapUrls();
         }
-        catch (IOException | UnknownFormatException | URISyntaxException e)
+        finally
+        {
+            parsingSiteMaps.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private static void addSiteMaps(SiteMapIndex siteMapIndex, Set<String> visitedSiteMaps,
+            Deque<URI> pendingSiteMaps) throws SiteMapParseException
+    {
+        for (AbstractSiteMap siteMap : siteMapIndex.getSitemaps())
+        {
+            URL siteMapUrl = siteMap.getUrl();
+            if (visitedSiteMaps.add(siteMapUrl.toString()))
+            {
+                try
+                {
+                    pendingSiteMaps.add(siteMapUrl.toURI());
+                }
+                catch (URISyntaxException e)
+                {
+                    throw new SiteMapParseException(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void addUrls(SiteMap siteMap, Map<String, SiteMapURL> siteMapUrls)
+    {
+        for (SiteMapURL siteMapUrl : siteMap.getSiteMapUrls())
+        {
+            if (isMaxUrlsReached(siteMapUrls))
+            {
+                return;
+            }
+            siteMapUrls.putIfAbsent(siteMapUrl.getUrl().toString(), siteMapUrl);
+        }
+    }
+
+    private boolean isMaxUrlsReached(Map<String, SiteMapURL> siteMapUrls)
+    {
+        return maxUrls.map(max -> siteMapUrls.size() >= max).orElse(false);
+    }
+
+    private static AbstractSiteMap getParsedSiteMap(Future<AbstractSiteMap> parsingSiteMap)
+            throws SiteMapParseException
+    {
+        try
+        {
+            return parsingSiteMap.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new SiteMapParseException(e.getMessage(), e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof SiteMapParseException)
+            {
+                throw (SiteMapParseException) cause;
+            }
+            throw new SiteMapParseException(cause.getMessage(), cause);
+        }
+    }
+
+    private AbstractSiteMap fetch(URI siteMapUrl, boolean strict) throws SiteMapParseException
+    {
+        try
+        {
+            HttpClientContext context = new HttpClientContext();
+            byte[] siteMap = download(siteMapUrl, context);
+            URI cleanSiteMapUrl = UriUtils.removeUserInfo(getBaseUri(context, siteMapUrl));
+            return new crawlercommons.sitemaps.SiteMapParser(strict).parseSiteMap(siteMap, cleanSiteMapUrl.toURL());
+        }
+        catch (IOException | UnknownFormatException e)
         {
             throw new SiteMapParseException(e.getMessage(), e);
         }
     }
 
+    private byte[] download(URI siteMapUrl, HttpClientContext context) throws IOException
+    {
+        if (siteMapCache.isPresent())
+        {
+            SiteMapCache cache = siteMapCache.get();
+            HttpResponse response = httpClient.execute(cache.createRequest(siteMapUrl), context);
+            return cache.getBody(siteMapUrl, response);
+        }
+        return httpClient.doHttpGet(siteMapUrl, context).getResponseBody();
+    }
+
     private URI getBaseUri(HttpClientContext context, URI siteMapUrl)
     {
         return this.baseUrl.orElseGet(() -> {
@@ -140,4 +267,19 @@ public class SiteMapParser implements ISiteMapParser
     {
         this.followRedirects = followRedirects;
     }
+
+    public void setParallelism(int parallelism)
+    {
+        this.parallelism = parallelism;
+    }
+
+    public void setMaxUrls(Optional<Integer> maxUrls)
+    {
+        this.maxUrls = maxUrls;
+    }
+
+    public void setCacheDirectory(Optional<File> cacheDirectory)
+    {
+        this.siteMapCache = cacheDirectory.map(File::toPath).map(SiteMapCache::new);
+    }
 }
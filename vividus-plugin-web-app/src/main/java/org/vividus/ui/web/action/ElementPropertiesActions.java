@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.openqa.selenium.WebElement;
+import org.vividus.selenium.TextUtils;
+import org.vividus.selenium.WebDriverType;
+import org.vividus.selenium.manager.IWebDriverManager;
+
+public class ElementPropertiesActions implements IElementPropertiesActions
+{
+    @Inject private IJavascriptActions javascriptActions;
+    @Inject private IWebDriverManager webDriverManager;
+
+    @Override
+    public List<Map<ElementProperty, String>> getProperties(List<WebElement> elements,
+            ElementProperty... properties)
+    {
+        if (elements.isEmpty())
+        {
+            return List.of();
+        }
+        List<List<String>> propertiesToRead = Stream.of(properties)
+                .map(property -> Arrays.asList(property.getType().name(), property.getName()))
+                .collect(toList());
+        // The text is read the same way as IJavascriptActions#getElementText does
+        boolean useTextContent = webDriverManager.isTypeAnyOf(WebDriverType.FIREFOX);
+        List<List<String>> values = javascriptActions.executeScriptFromResource(ElementPropertiesActions.class,
+                "get-element-properties.js", elements, propertiesToRead, useTextContent);
+        return values.stream().map(elementValues -> {
+            Map<ElementProperty, String> elementProperties = new LinkedHashMap<>();
+            for (int i = 0; i < properties.length; i++)
+            {
+                ElementProperty property = properties[i];
+                String value = elementValues.get(i);
+                elementProperties.put(property,
+                        property.getType() == ElementProperty.Type.TEXT ? TextUtils.normalizeText(value) : value);
+            }
+            return elementProperties;
+        }).collect(toList());
+    }
+
+    @Override
+    public List<String> getTexts(List<WebElement> elements)
+    {
+        return getProperty(elements, ElementProperty.text());
+    }
+
+    @Override
+    public List<String> getAttributeValues(List<WebElement> elements, String attributeName)
+    {
+        return getProperty(elements, ElementProperty.attribute(attributeName));
+    }
+
+    @Override
+    public List<String> getCssValues(List<WebElement> elements, String propertyName)
+    {
+        return getProperty(elements, ElementProperty.cssValue(propertyName));
+    }
+
+    private List<String> getProperty(List<WebElement> elements, ElementProperty property)
+    {
+        return getProperties(elements, property).stream().map(values -> values.get(property)).collect(toList());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import java.util.Objects;
+
+/**
+ * Property of an element to read in bulk using {@link IElementPropertiesActions}
+ */
+public final class ElementProperty
+{
+    private static final ElementProperty TEXT = new ElementProperty(Type.TEXT, null);
+
+    private final Type type;
+    private final String name;
+
+    private ElementProperty(Type type, String name)
+    {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Creates the property to read the normalized text of the element
+     * @return Text property
+     */
+    public static ElementProperty text()
+    {
+        return TEXT;
+    }
+
+    /**
+     * Creates the property to read the attribute of the element, the value is resolved the same way as
+     * {@link org.openqa.selenium.WebElement#getAttribute(String)} does: boolean attributes are returned as
+     * <b>true</b> or <b>null</b>, the attributes reflected by the element properties (e.g. <b>href</b>) are returned
+     * as the property values
+     * @param name Name of the attribute
+     * @return Attribute property
+     */
+    public static ElementProperty attribute(String name)
+    {
+        return new ElementProperty(Type.ATTRIBUTE, name);
+    }
+
+    /**
+     * Creates the property to read the computed value of the CSS property of the element
+     * @param name Name of the CSS property
+     * @return CSS property
+     */
+    public static ElementProperty cssValue(String name)
+    {
+        return new ElementProperty(Type.CSS_VALUE, name);
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(type, name);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof ElementProperty))
+        {
+            return false;
+        }
+        ElementProperty other = (ElementProperty) obj;
+        return type == other.type && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public String toString()
+    {
+        return name == null ? type.name() : type + " '" + name + "'";
+    }
+
+    public enum Type
+    {
+        TEXT,
+        ATTRIBUTE,
+        CSS_VALUE
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebElement;
+
+/**
+ * Reads the properties of multiple elements using a single script execution instead of requesting each property of
+ * each element separately
+ */
+public interface IElementPropertiesActions
+{
+    /**
+     * Reads the given properties of each element
+     * @param elements Elements to read the properties of
+     * @param properties Properties to read
+     * @return Values of the properties per element in the order of the elements, missing values are <b>null</b>
+     */
+    List<Map<ElementProperty, String>> getProperties(List<WebElement> elements, ElementProperty... properties);
+
+    /**
+     * Reads the normalized text of each element
+     * @param elements Elements to read the text of
+     * @return Texts in the order of the elements
+     */
+    List<String> getTexts(List<WebElement> elements);
+
+    /**
+     * Reads the attribute of each element
+     * @param elements Elements to read the attribute of
+     * @param attributeName Name of the attribute
+     * @return Attribute values in the order of the elements, missing values are <b>null</b>
+     * @see ElementProperty#attribute(String)
+     */
+    List<String> getAttributeValues(List<WebElement> elements, String attributeName);
+
+    /**
+     * Reads the computed value of the CSS property of each element
+     * @param elements Elements to read the CSS property of
+     * @param propertyName Name of the CSS property
+     * @return CSS values in the order of the elements
+     */
+    List<String> getCssValues(List<WebElement> elements, String propertyName);
+}
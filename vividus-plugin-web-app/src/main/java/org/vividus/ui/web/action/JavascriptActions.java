@@ -16,12 +16,22 @@
 
 package org.vividus.ui.web.action;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CapabilityType;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.SauceLabsCapabilityType;
 import org.vividus.selenium.TextUtils;
 import org.vividus.selenium.WebDriverType;
 import org.vividus.selenium.manager.IWebDriverManager;
@@ -34,20 +44,27 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
             + ".createEvent('MouseEvents');evObj.initEvent('%1$s', true, false); arguments[0].dispatchEvent(evObj);} "
             + "else if(document.createEventObject) { arguments[0].fireEvent('on%1$s');}";
 
+    private static final String SCRIPT_IS_NOT_PINNED = "vividus:script-is-not-pinned";
+    private static final String PINNED_SCRIPTS = "window.vividusPinnedScripts";
+    private static final String PINNED_SCRIPT_ARGUMENTS = "Array.prototype.slice.call(arguments, 1)";
+    private static final String PIN_SCRIPT_FORMAT = "var scripts = " + PINNED_SCRIPTS + " = " + PINNED_SCRIPTS
+            + " || {}; scripts[arguments[0]] = function() {%n%s%n}; return scripts[arguments[0]].apply(this, "
+            + PINNED_SCRIPT_ARGUMENTS + ");";
+    private static final String PINNED_SCRIPT_LOOKUP = "var script = " + PINNED_SCRIPTS + " && " + PINNED_SCRIPTS
+            + "[arguments[0]];";
+    private static final String CALL_PINNED_SCRIPT = PINNED_SCRIPT_LOOKUP + " return script ? script.apply(this, "
+            + PINNED_SCRIPT_ARGUMENTS + ") : '" + SCRIPT_IS_NOT_PINNED + "';";
+    private static final String CALL_PINNED_ASYNC_SCRIPT = PINNED_SCRIPT_LOOKUP + " if (script) { script.apply(this, "
+            + PINNED_SCRIPT_ARGUMENTS + "); } else { arguments[arguments.length - 1]('" + SCRIPT_IS_NOT_PINNED
+            + "'); }";
+
     private final IWebDriverProvider webDriverProvider;
     private final IWebDriverManager webDriverManager;
+    private final Map<String, String> resourceScripts = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> pinnedScripts = ThreadLocal.withInitial(HashSet::new);
+    private boolean pinResourceScripts;
 
-    private final ThreadLocal<BrowserConfig> browserConfig = ThreadLocal.withInitial(() -> {
-        String userAgentKey = "userAgent";
-        String devicePixelRatioKey = "devicePixelRatio";
-        Map<String, ?> browserConfig = executeScript("return {"
-                + userAgentKey + ": navigator.userAgent,"
-                + devicePixelRatioKey + ": window.devicePixelRatio"
-                + "}");
-        String userAgent = (String) browserConfig.get(userAgentKey);
-        double devicePixelRatio = ((Number) browserConfig.get(devicePixelRatioKey)).doubleValue();
-        return new BrowserConfig(userAgent, devicePixelRatio);
-    });
+    private final Map<List<Object>, BrowserConfig> browserConfigs = new ConcurrentHashMap<>();
 
     public JavascriptActions(IWebDriverProvider webDriverProvider, IWebDriverManager webDriverManager)
     {
@@ -65,7 +82,7 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
     @Override
     public <T> T executeScriptFromResource(Class<?> clazz, String jsResourceName, Object... args)
     {
-        return executeScript(ResourceUtils.loadResource(clazz, jsResourceName), args);
+        return executeScriptFromResource(clazz, jsResourceName, args, this::executeScript, CALL_PINNED_SCRIPT);
     }
 
     @Override
@@ -78,7 +95,38 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
     @Override
     public <T> T executeAsyncScriptFromResource(Class<?> clazz, String jsResourceName, Object... args)
     {
-        return executeAsyncScript(ResourceUtils.loadResource(clazz, jsResourceName), args);
+        return executeScriptFromResource(clazz, jsResourceName, args, this::executeAsyncScript,
+                CALL_PINNED_ASYNC_SCRIPT);
+    }
+
+    /**
+     * The scripts loaded from the resources are cached. If the pinning of the scripts is enabled, the script is
+     * defined as a function in the current document at the first execution, the subsequent executions send only the
+     * key of the pinned script and the arguments. If the pinned script is not found (e.g. after navigation), it is
+     * pinned again.
+     */
+    private <T> T executeScriptFromResource(Class<?> clazz, String jsResourceName, Object[] args,
+            BiFunction<String, Object[], T> executor, String callPinnedScript)
+    {
+        String key = clazz.getName() + '#' + jsResourceName;
+        String script = resourceScripts.computeIfAbsent(key, k -> ResourceUtils.loadResource(clazz, jsResourceName));
+        if (!pinResourceScripts)
+        {
+            return executor.apply(script, args);
+        }
+        Object[] pinnedScriptArgs = ArrayUtils.insert(0, args, key);
+        Set<String> pinnedScriptKeys = pinnedScripts.get();
+        if (pinnedScriptKeys.contains(key))
+        {
+            T result = executor.apply(callPinnedScript, pinnedScriptArgs);
+            if (!SCRIPT_IS_NOT_PINNED.equals(result))
+            {
+                return result;
+            }
+        }
+        T result = executor.apply(String.format(PIN_SCRIPT_FORMAT, script), pinnedScriptArgs);
+        pinnedScriptKeys.add(key);
+        return result;
     }
 
     @Override
@@ -172,19 +220,47 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
     @Override
     public void onLoad()
     {
-        browserConfig.get();
+        getBrowserConfig();
     }
 
     @Override
     public String getUserAgent()
     {
-        return browserConfig.get().userAgent;
+        return getBrowserConfig().userAgent;
     }
 
     @Override
     public double getDevicePixelRatio()
     {
-        return browserConfig.get().devicePixelRatio;
+        return getBrowserConfig().devicePixelRatio;
+    }
+
+    /**
+     * The browser config is requested once per browser type and requested capabilities and is reused by all the
+     * sessions started with the same ones. The proxy and the session name are specific to the session and do not
+     * affect the browser config, so they are excluded from the key.
+     */
+    private BrowserConfig getBrowserConfig()
+    {
+        Map<String, Object> requestedCapabilities = new HashMap<>(webDriverProvider.getDesiredCapabilities().asMap());
+        requestedCapabilities.remove(CapabilityType.PROXY);
+        requestedCapabilities.remove(SauceLabsCapabilityType.NAME);
+        List<Object> key = Arrays.asList(webDriverManager.detectType(), requestedCapabilities);
+        BrowserConfig browserConfig = browserConfigs.get(key);
+        if (browserConfig == null)
+        {
+            String userAgentKey = "userAgent";
+            String devicePixelRatioKey = "devicePixelRatio";
+            Map<String, ?> config = executeScript("return {"
+                    + userAgentKey + ": navigator.userAgent,"
+                    + devicePixelRatioKey + ": window.devicePixelRatio"
+                    + "}");
+            String userAgent = (String) config.get(userAgentKey);
+            double devicePixelRatio = ((Number) config.get(devicePixelRatioKey)).doubleValue();
+            browserConfig = new BrowserConfig(userAgent, devicePixelRatio);
+            browserConfigs.put(key, browserConfig);
+        }
+        return browserConfig;
     }
 
     @Override
@@ -230,6 +306,11 @@ public class JavascriptActions implements IJavascriptActions, IWebApplicationLis
         executeAsyncScriptFromResource("wait-for-scroll.js");
     }
 
+    public void setPinResourceScripts(boolean pinResourceScripts)
+    {
+        this.pinResourceScripts = pinResourceScripts;
+    }
+
     private JavascriptExecutor getJavascriptExecutor()
     {
         return (JavascriptExecutor) webDriverProvider.get();
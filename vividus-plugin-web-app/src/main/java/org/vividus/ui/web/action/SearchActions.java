@@ -36,6 +36,7 @@ import org.vividus.ui.web.action.search.IElementSearchAction;
 import org.vividus.ui.web.action.search.SearchAttributes;
 import org.vividus.ui.web.action.search.SearchParameters;
 import org.vividus.ui.web.action.search.Visibility;
+import org.vividus.ui.web.context.ElementLookupCache;
 import org.vividus.ui.web.context.IWebUiContext;
 
 public class SearchActions implements ISearchActions
@@ -43,6 +44,7 @@ public class SearchActions implements ISearchActions
     private static final String EXCEPTION_MESSAGE = "There is no mapped search action for attribute: ";
 
     @Inject private IWebUiContext webUiContext;
+    @Inject private ElementLookupCache elementLookupCache;
 
     private Map<IActionAttributeType, IElementAction> elementActions;
 
@@ -61,6 +63,12 @@ public class SearchActions implements ISearchActions
 
     @Override
     public List<WebElement> findElements(SearchContext searchContext, SearchAttributes searchAttributes)
+    {
+        return elementLookupCache.findElements(searchContext, searchAttributes,
+                () -> lookUpElements(searchContext, searchAttributes));
+    }
+
+    private List<WebElement> lookUpElements(SearchContext searchContext, SearchAttributes searchAttributes)
     {
         IActionAttributeType searchAttributeType = searchAttributes.getSearchAttributeType();
         SearchParameters searchParameters = searchAttributes.getSearchParameters();
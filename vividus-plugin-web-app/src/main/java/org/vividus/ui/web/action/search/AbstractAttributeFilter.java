@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
+
+/**
+ * Filters the elements by the value of the attribute, the attribute values of all elements are read at once
+ */
+public abstract class AbstractAttributeFilter extends AbstractElementSearchAction implements IElementFilterAction
+{
+    private final String attributeName;
+
+    @Inject private IElementPropertiesActions elementPropertiesActions;
+
+    protected AbstractAttributeFilter(String attributeName)
+    {
+        this.attributeName = attributeName;
+    }
+
+    @Override
+    public List<WebElement> filter(List<WebElement> elements, String value)
+    {
+        if (StringUtils.isEmpty(value) || elements.isEmpty())
+        {
+            return elements;
+        }
+        List<String> attributeValues = elementPropertiesActions.getAttributeValues(elements, attributeName);
+        return IntStream.range(0, elements.size())
+                .filter(i -> matches(attributeValues.get(i), value))
+                .mapToObj(elements::get)
+                .collect(Collectors.toList());
+    }
+
+    protected abstract boolean matches(String attributeValue, String value);
+}
@@ -16,13 +16,18 @@
 
 package org.vividus.ui.web.action.search;
 
-import org.openqa.selenium.WebElement;
+import org.apache.commons.lang3.StringUtils;
 
-public class ClassAttributePartFilter extends AbstractElementFilterAction
+public class ClassAttributePartFilter extends AbstractAttributeFilter
 {
+    public ClassAttributePartFilter()
+    {
+        super("class");
+    }
+
     @Override
-    protected boolean matches(WebElement element, String text)
+    protected boolean matches(String attributeValue, String text)
     {
-        return element.getAttribute("class").contains(text);
+        return StringUtils.contains(attributeValue, text);
     }
 }
@@ -16,13 +16,18 @@
 
 package org.vividus.ui.web.action.search;
 
-import org.openqa.selenium.WebElement;
+import org.apache.commons.lang3.StringUtils;
 
-public class ImageWithSourcePartFilter extends AbstractElementFilterAction
+public class ImageWithSourcePartFilter extends AbstractAttributeFilter
 {
+    public ImageWithSourcePartFilter()
+    {
+        super("src");
+    }
+
     @Override
-    protected boolean matches(WebElement element, String imageSrcPart)
+    protected boolean matches(String attributeValue, String imageSrcPart)
     {
-        return element.getAttribute("src").contains(imageSrcPart);
+        return StringUtils.contains(attributeValue, imageSrcPart);
     }
 }
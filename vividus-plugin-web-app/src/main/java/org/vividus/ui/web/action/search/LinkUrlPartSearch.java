@@ -19,9 +19,12 @@ package org.vividus.ui.web.action.search;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.inject.Inject;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.util.LocatorUtil;
 
 public class LinkUrlPartSearch extends AbstractElementSearchAction implements IElementSearchAction, IElementFilterAction
@@ -31,6 +34,8 @@ public class LinkUrlPartSearch extends AbstractElementSearchAction implements IE
             TRANSLATE_TO_LOWER_CASE, "@href") + ", %s)]";
     private boolean caseSensitiveSearch;
 
+    @Inject private IElementPropertiesActions elementPropertiesActions;
+
     @Override
     public List<WebElement> search(SearchContext searchContext, SearchParameters parameters)
     {
@@ -44,13 +49,14 @@ public class LinkUrlPartSearch extends AbstractElementSearchAction implements IE
     public List<WebElement> filter(List<WebElement> elements, String urlPart)
     {
         List<WebElement> linksWithUrlPart = new ArrayList<>();
-        for (WebElement element : elements)
+        List<String> hrefs = elementPropertiesActions.getAttributeValues(elements, "href");
+        for (int i = 0; i < elements.size(); i++)
         {
-            String href = element.getAttribute("href");
+            String href = hrefs.get(i);
             if (href != null && (caseSensitiveSearch ? href.contains(urlPart)
                     : href.toLowerCase().contains(urlPart.toLowerCase())))
             {
-                linksWithUrlPart.add(element);
+                linksWithUrlPart.add(elements.get(i));
             }
         }
         return linksWithUrlPart;
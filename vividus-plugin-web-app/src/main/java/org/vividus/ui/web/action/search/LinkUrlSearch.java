@@ -30,6 +30,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.util.LocatorUtil;
 import org.vividus.util.UriUtils;
 
@@ -43,6 +44,7 @@ public class LinkUrlSearch extends AbstractElementSearchAction implements IEleme
     private boolean caseSensitiveSearch;
 
     @Inject private IWebDriverProvider webDriverProvider;
+    @Inject private IElementPropertiesActions elementPropertiesActions;
 
     @Override
     public List<WebElement> search(SearchContext searchContext, SearchParameters parameters)
@@ -57,17 +59,18 @@ public class LinkUrlSearch extends AbstractElementSearchAction implements IEleme
     public List<WebElement> filter(List<WebElement> elements, String linkUrl)
     {
         List<WebElement> linksWithUrl = new ArrayList<>();
-        if (linkUrl != null)
+        if (linkUrl != null && !elements.isEmpty())
         {
-            for (WebElement link : elements)
+            String expectedLinkUrl = buildExpectedLinkUrl(linkUrl);
+            String currentUrl = webDriverProvider.get().getCurrentUrl();
+            List<String> hrefs = elementPropertiesActions.getAttributeValues(elements, "href");
+            for (int i = 0; i < elements.size(); i++)
             {
-                String expectedLinkUrl = buildExpectedLinkUrl(linkUrl);
-                String href = link.getAttribute("href");
-                String currentHref = getCurrentHref(href, expectedLinkUrl, webDriverProvider.get().getCurrentUrl());
+                String currentHref = getCurrentHref(hrefs.get(i), expectedLinkUrl, currentUrl);
                 if (caseSensitiveSearch ? expectedLinkUrl.equals(currentHref)
                         : expectedLinkUrl.equalsIgnoreCase(currentHref))
                 {
-                    linksWithUrl.add(link);
+                    linksWithUrl.add(elements.get(i));
                 }
             }
         }
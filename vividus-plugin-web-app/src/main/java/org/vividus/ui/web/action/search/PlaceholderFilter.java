@@ -16,13 +16,16 @@
 
 package org.vividus.ui.web.action.search;
 
-import org.openqa.selenium.WebElement;
-
-public class PlaceholderFilter extends AbstractElementFilterAction
+public class PlaceholderFilter extends AbstractAttributeFilter
 {
+    public PlaceholderFilter()
+    {
+        super("placeholder");
+    }
+
     @Override
-    protected boolean matches(WebElement element, String placeholder)
+    protected boolean matches(String attributeValue, String placeholder)
     {
-        return placeholder.equals(element.getAttribute("placeholder"));
+        return placeholder.equals(attributeValue);
     }
 }
@@ -16,13 +16,16 @@
 
 package org.vividus.ui.web.action.search;
 
-import org.openqa.selenium.WebElement;
-
-public class TooltipFilter extends AbstractElementFilterAction
+public class TooltipFilter extends AbstractAttributeFilter
 {
+    public TooltipFilter()
+    {
+        super("title");
+    }
+
     @Override
-    protected boolean matches(WebElement element, String tooltip)
+    protected boolean matches(String attributeValue, String tooltip)
     {
-        return tooltip.equals(element.getAttribute("title"));
+        return tooltip.equals(attributeValue);
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.context;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.testcontext.TestContext;
+import org.vividus.ui.web.action.IJavascriptActions;
+import org.vividus.ui.web.action.search.SearchAttributes;
+import org.vividus.ui.web.event.PageLoadEndEvent;
+import org.vividus.ui.web.event.WebDriverQuitEvent;
+
+/**
+ * Cache of the elements found by search attributes. The cached elements are reused only while the DOM of the current
+ * document stays unchanged: any DOM mutation, navigation to another page or switch to another window or frame
+ * invalidates the whole cache. The states not reflected in the DOM (e.g. values of the fields, checked state of the
+ * checkboxes or visibility of the elements) can be changed by the interactions, so the cached elements are also
+ * dropped at the start of each step and after the clicks, the typing and the alert handling.
+ */
+public class ElementLookupCache extends AbstractWebDriverEventListener
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementLookupCache.class);
+
+    private static final String DOM_STATE_SCRIPT = "dom-state.js";
+    private static final Class<CachedLookups> KEY = CachedLookups.class;
+
+    private IJavascriptActions javascriptActions;
+    private TestContext testContext;
+    private boolean enabled;
+
+    /**
+     * Returns the elements found by the same search attributes in the same search context before, if the DOM has
+     * not been changed since then, otherwise performs the lookup using the finder
+     * @param searchContext Search context
+     * @param searchAttributes Search attributes
+     * @param finder Function performing the actual lookup
+     * @return Found elements, the returned list can be modified by the caller
+     */
+    public List<WebElement> findElements(SearchContext searchContext, SearchAttributes searchAttributes,
+            Supplier<List<WebElement>> finder)
+    {
+        // Equality of search attributes does not take into account child search attributes
+        if (!enabled || !searchAttributes.getChildSearchAttributes().isEmpty())
+        {
+            return finder.get();
+        }
+        CachedLookups cachedLookups = testContext.get(KEY, CachedLookups::new);
+        LookupKey key = new LookupKey(searchContext, searchAttributes);
+        // The elements found after a DOM state check are valid as long as the next check returns the same state, so
+        // the state is checked only if there are cached elements to reuse and a lookup missing the cache costs no
+        // additional command
+        if (cachedLookups.domState == null || cachedLookups.elements.containsKey(key))
+        {
+            String domState = getDomState();
+            if (domState == null)
+            {
+                return finder.get();
+            }
+            if (domState.equals(cachedLookups.domState))
+            {
+                List<WebElement> cachedElements = cachedLookups.elements.get(key);
+                LOGGER.debug("Reusing {} cached element(s) found by{}", cachedElements.size(), searchAttributes);
+                return new ArrayList<>(cachedElements);
+            }
+            cachedLookups.reset(domState);
+        }
+        List<WebElement> foundElements = finder.get();
+        // Empty results are not cached, since the elements may be absent because they are not rendered yet
+        if (!foundElements.isEmpty())
+        {
+            cachedLookups.elements.put(key, new ArrayList<>(foundElements));
+        }
+        return foundElements;
+    }
+
+    public void clear()
+    {
+        testContext.remove(KEY);
+    }
+
+    /**
+     * Drops the cached elements, the last checked DOM state is kept, so the next lookup does not need to check it
+     */
+    public void invalidate()
+    {
+        CachedLookups cachedLookups = testContext.get(KEY);
+        if (cachedLookups != null)
+        {
+            cachedLookups.elements.clear();
+        }
+    }
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void afterAlertAccept(WebDriver driver)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void afterAlertDismiss(WebDriver driver)
+    {
+        invalidate();
+    }
+
+    @Subscribe
+    public void onPageLoadEnd(@SuppressWarnings("unused") PageLoadEndEvent event)
+    {
+        clear();
+    }
+
+    @Subscribe
+    public void onWebDriverQuit(@SuppressWarnings("unused") WebDriverQuitEvent event)
+    {
+        clear();
+    }
+
+    private String getDomState()
+    {
+        try
+        {
+            return javascriptActions.executeScriptFromResource(ElementLookupCache.class, DOM_STATE_SCRIPT);
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.debug("Unable to get DOM state, element lookup cache is bypassed", e);
+            return null;
+        }
+    }
+
+    public void setJavascriptActions(IJavascriptActions javascriptActions)
+    {
+        this.javascriptActions = javascriptActions;
+    }
+
+    public void setTestContext(TestContext testContext)
+    {
+        this.testContext = testContext;
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    private static final class CachedLookups
+    {
+        private final Map<LookupKey, List<WebElement>> elements = new HashMap<>();
+        private String domState;
+
+        private void reset(String domState)
+        {
+            this.domState = domState;
+            elements.clear();
+        }
+    }
+
+    private static final class LookupKey
+    {
+        private final SearchContext searchContext;
+        private final SearchAttributes searchAttributes;
+
+        private LookupKey(SearchContext searchContext, SearchAttributes searchAttributes)
+        {
+            this.searchContext = searchContext;
+            this.searchAttributes = searchAttributes;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(searchContext, searchAttributes);
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof LookupKey))
+            {
+                return false;
+            }
+            LookupKey other = (LookupKey) obj;
+            return Objects.equals(searchContext, other.searchContext)
+                    && Objects.equals(searchAttributes, other.searchAttributes);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.listener;
+
+import com.google.common.eventbus.Subscribe;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.selenium.logging.BrowserLogCollector;
+import org.vividus.ui.web.event.PageLoadEndEvent;
+
+public class ConsoleHookPageLoadListener extends AbstractWebDriverEventListener
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsoleHookPageLoadListener.class);
+
+    private BrowserLogCollector browserLogCollector;
+
+    @Override
+    public void afterNavigateTo(String url, WebDriver driver)
+    {
+        installConsoleHook(driver);
+    }
+
+    @Override
+    public void afterNavigateBack(WebDriver driver)
+    {
+        installConsoleHook(driver);
+    }
+
+    @Override
+    public void afterNavigateForward(WebDriver driver)
+    {
+        installConsoleHook(driver);
+    }
+
+    @Override
+    public void afterNavigateRefresh(WebDriver driver)
+    {
+        installConsoleHook(driver);
+    }
+
+    @Subscribe
+    public void onPageLoadFinish(PageLoadEndEvent event)
+    {
+        if (event.isNewPageLoaded())
+        {
+            installConsoleHook(event.getWebDriver());
+        }
+    }
+
+    private void installConsoleHook(WebDriver driver)
+    {
+        try
+        {
+            browserLogCollector.installConsoleHook(driver);
+        }
+        catch (WebDriverException e)
+        {
+            LOGGER.debug("Unable to install browser console hook", e);
+        }
+    }
+
+    public void setBrowserLogCollector(BrowserLogCollector browserLogCollector)
+    {
+        this.browserLogCollector = browserLogCollector;
+    }
+}
@@ -17,19 +17,35 @@
 package org.vividus.ui.web.util;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 
 public final class ImageUtils
 {
+    private static final String PNG_FORMAT = "png";
+
     private ImageUtils()
     {
     }
 
+    public static byte[] encodeAsPng(BufferedImage image) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // The in-memory cache avoids creation of a temporary file per image done by ImageIO for output streams
+        try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output))
+        {
+            ImageIO.write(image, PNG_FORMAT, imageOutput);
+        }
+        return output.toByteArray();
+    }
+
     public static void writeAsPng(BufferedImage toWrite, File location) throws IOException
     {
-        ImageIO.write(toWrite, "png", new File(location.getAbsolutePath() + ".png"));
+        ImageIO.write(toWrite, PNG_FORMAT, new File(location.getAbsolutePath() + ".png"));
     }
 }
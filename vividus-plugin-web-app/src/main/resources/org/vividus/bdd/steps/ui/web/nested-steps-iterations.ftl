@@ -0,0 +1,38 @@
+[#ftl strip_whitespace=true]
+<!doctype html>
+<html lang="en" ng-app="allure">
+<head>
+    <meta charset="utf-8">
+    <title>Iterations timings</title>
+    <link rel="stylesheet" href="../../css/external.css"/>
+    <link rel="stylesheet" href="../../styles.css"/>
+</head>
+<body>
+    <table class="table table-hover table-bordered">
+        <thead>
+            <tr>
+                <th>#</th>
+                <th>CSS selector</th>
+                <th>Element re-found</th>
+                <th>Duration, ms</th>
+            </tr>
+        </thead>
+        <tbody>
+            [#assign totalDuration = 0]
+            [#list iterations as iteration]
+                [#assign totalDuration = totalDuration + iteration.duration]
+                <tr>
+                    <td>${iteration?counter}</td>
+                    <td>${iteration.cssSelector?html}</td>
+                    <td>${iteration.refound?c}</td>
+                    <td>${iteration.duration?c}</td>
+                </tr>
+            [/#list]
+            <tr>
+                <td colspan="3"><b>Total</b></td>
+                <td><b>${totalDuration?c}</b></td>
+            </tr>
+        </tbody>
+    </table>
+</body>
+</html>
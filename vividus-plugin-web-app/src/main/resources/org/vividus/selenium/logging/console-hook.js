@@ -0,0 +1,23 @@
+var entries = window.vividusConsoleEntries;
+if (entries === undefined) {
+    entries = [];
+    Object.defineProperty(window, 'vividusConsoleEntries', {value: entries});
+    var levels = {error: 'SEVERE', warn: 'WARNING', info: 'INFO', log: 'INFO', debug: 'FINE'};
+    Object.keys(levels).forEach(function (method) {
+        var original = console[method];
+        console[method] = function () {
+            var message = Array.prototype.map.call(arguments, function (argument) {
+                return String(argument);
+            }).join(' ');
+            entries.push([levels[method], Date.now(), message]);
+            return original.apply(console, arguments);
+        };
+    });
+    window.addEventListener('error', function (event) {
+        entries.push(['SEVERE', Date.now(), event.message]);
+    });
+    window.addEventListener('unhandledrejection', function (event) {
+        entries.push(['SEVERE', Date.now(), 'Uncaught (in promise) ' + String(event.reason)]);
+    });
+}
+return entries.splice(0, entries.length);
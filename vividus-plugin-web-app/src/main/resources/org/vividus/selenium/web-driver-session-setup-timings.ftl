@@ -0,0 +1,34 @@
+[#ftl strip_whitespace=true]
+<!doctype html>
+<html lang="en" ng-app="allure">
+<head>
+    <meta charset="utf-8">
+    <title>WebDriver session setup timings</title>
+    <link rel="stylesheet" href="../../css/external.css"/>
+    <link rel="stylesheet" href="../../styles.css"/>
+</head>
+<body>
+    <table class="table table-hover table-bordered">
+        <thead>
+            <tr>
+                <th>Phase</th>
+                <th>Duration, ms</th>
+            </tr>
+        </thead>
+        <tbody>
+            [#assign totalDuration = 0]
+            [#list timings as phase, duration]
+                [#assign totalDuration = totalDuration + duration]
+                <tr>
+                    <td>${phase?html}</td>
+                    <td>${duration?c}</td>
+                </tr>
+            [/#list]
+            <tr>
+                <td><b>Total</b></td>
+                <td><b>${totalDuration?c}</b></td>
+            </tr>
+        </tbody>
+    </table>
+</body>
+</html>
@@ -0,0 +1,54 @@
+var elements = arguments[0];
+var properties = arguments[1];
+var useTextContent = arguments[2];
+// The same boolean attributes as the ones WebElement#getAttribute returns as 'true' or null
+var booleanAttributes = ['allowfullscreen', 'allowpaymentrequest', 'allowusermedia', 'async', 'autofocus',
+    'autoplay', 'checked', 'compact', 'complete', 'controls', 'declare', 'default', 'defaultchecked',
+    'defaultselected', 'defer', 'disabled', 'ended', 'formnovalidate', 'hidden', 'indeterminate',
+    'iscontenteditable', 'ismap', 'itemscope', 'loop', 'multiple', 'muted', 'nohref', 'nomodule', 'noresize',
+    'noshade', 'novalidate', 'nowrap', 'open', 'paused', 'playsinline', 'pubdate', 'readonly', 'required',
+    'reversed', 'scoped', 'seamless', 'seeking', 'selected', 'truespeed', 'typemustmatch', 'willvalidate'];
+var reflectedProperties = {'class': 'className', 'allowfullscreen': 'allowFullscreen',
+    'allowpaymentrequest': 'allowPaymentRequest', 'allowusermedia': 'allowUserMedia',
+    'defaultchecked': 'defaultChecked', 'defaultselected': 'defaultSelected', 'formnovalidate': 'formNoValidate',
+    'iscontenteditable': 'isContentEditable', 'ismap': 'isMap', 'itemscope': 'itemScope', 'nohref': 'noHref',
+    'nomodule': 'noModule', 'noresize': 'noResize', 'noshade': 'noShade', 'novalidate': 'noValidate',
+    'nowrap': 'noWrap', 'playsinline': 'playsInline', 'readonly': 'readOnly', 'truespeed': 'trueSpeed',
+    'typemustmatch': 'typeMustMatch', 'willvalidate': 'willValidate'};
+
+function getAttribute(element, name) {
+    var lowerCaseName = name.toLowerCase();
+    var propertyName = reflectedProperties[lowerCaseName] || name;
+    if (booleanAttributes.indexOf(lowerCaseName) !== -1) {
+        var value = propertyName in element ? element[propertyName] : element.hasAttribute(lowerCaseName);
+        return value ? 'true' : null;
+    }
+    if (lowerCaseName !== 'style') {
+        var property = element[propertyName];
+        if (property !== undefined && property !== null && typeof property !== 'object'
+                && typeof property !== 'function') {
+            return property;
+        }
+    }
+    return element.getAttribute(name);
+}
+
+function getProperty(element, property) {
+    switch (property[0]) {
+        case 'TEXT':
+            return useTextContent ? element.textContent : element.innerText;
+        case 'ATTRIBUTE':
+            return getAttribute(element, property[1]);
+        case 'CSS_VALUE':
+            return window.getComputedStyle(element).getPropertyValue(property[1]);
+        default:
+            return null;
+    }
+}
+
+return elements.map(function (element) {
+    return properties.map(function (property) {
+        var value = getProperty(element, property);
+        return value === undefined || value === null ? null : String(value);
+    });
+});
@@ -0,0 +1,14 @@
+if (typeof MutationObserver === 'undefined') {
+    return null;
+}
+var state = window.__vividusDomState;
+if (!state) {
+    state = window.__vividusDomState = {
+        id: Date.now().toString(36) + Math.random().toString(36).substring(2),
+        mutations: 0
+    };
+    new MutationObserver(function () {
+        state.mutations++;
+    }).observe(document, {attributes: true, characterData: true, childList: true, subtree: true});
+}
+return state.id + ':' + state.mutations;
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.vividus.bdd;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.jbehave.core.reporters.StoryReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.vividus.bdd.spring.ExtendedConfiguration;
+import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.logging.BrowserLogCollector;
+
+@ExtendWith(MockitoExtension.class)
+class BrowserLogCollectingStoryReporterTests
+{
+    private static final String STEP = "step";
+
+    @Mock
+    private IWebDriverProvider webDriverProvider;
+
+    @Mock
+    private BrowserLogCollector browserLogCollector;
+
+    @Mock
+    private ExtendedConfiguration configuration;
+
+    @Mock
+    private StoryReporter next;
+
+    @InjectMocks
+    private BrowserLogCollectingStoryReporter reporter;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        reporter.setNext(next);
+        reporter.setCollectBeforeSteps(true);
+    }
+
+    @Test
+    void shouldCollectLogBeforeStep()
+    {
+        WebDriver webDriver = mockWebDriver();
+        reporter.beforeStep(STEP);
+        InOrder ordered = inOrder(browserLogCollector, next);
+        ordered.verify(browserLogCollector).collect(webDriver);
+        ordered.verify(browserLogCollector).startStep();
+        ordered.verify(next).beforeStep(STEP);
+    }
+
+    @Test
+    void shouldStartStepIfLogCollectionFails()
+    {
+        WebDriver webDriver = mockWebDriver();
+        doThrow(new WebDriverException()).when(browserLogCollector).collect(webDriver);
+        reporter.beforeStep(STEP);
+        verify(browserLogCollector).startStep();
+        verify(next).beforeStep(STEP);
+    }
+
+    @Test
+    void shouldNotCollectLogIfWebDriverIsNotInitialized()
+    {
+        when(webDriverProvider.isWebDriverInitialized()).thenReturn(false);
+        reporter.beforeStep(STEP);
+        verify(browserLogCollector).startStep();
+        verifyNoMoreInteractions(browserLogCollector);
+        verify(next).beforeStep(STEP);
+    }
+
+    @Test
+    void shouldNotCollectLogIfCollectionBeforeStepsIsDisabled()
+    {
+        reporter.setCollectBeforeSteps(false);
+        reporter.beforeStep(STEP);
+        verify(browserLogCollector).startStep();
+        verifyNoMoreInteractions(browserLogCollector);
+        verifyNoInteractions(webDriverProvider, configuration);
+        verify(next).beforeStep(STEP);
+    }
+
+    @Test
+    void shouldNotCollectLogInDryRun()
+    {
+        when(configuration.dryRun()).thenReturn(true);
+        reporter.beforeStep(STEP);
+        verify(browserLogCollector).startStep();
+        verifyNoMoreInteractions(browserLogCollector, webDriverProvider);
+        verify(next).beforeStep(STEP);
+    }
+
+    private WebDriver mockWebDriver()
+    {
+        when(webDriverProvider.isWebDriverInitialized()).thenReturn(true);
+        WebDriver webDriver = mock(WebDriver.class);
+        when(webDriverProvider.get()).thenReturn(webDriver);
+        return webDriver;
+    }
+}
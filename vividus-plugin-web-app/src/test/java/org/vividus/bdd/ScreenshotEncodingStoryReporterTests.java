@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.bdd;
+
+import static org.mockito.Mockito.inOrder;
+
+import org.jbehave.core.reporters.StoryReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.vividus.selenium.screenshot.ScreenshotEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class ScreenshotEncodingStoryReporterTests
+{
+    @Mock
+    private ScreenshotEncoder screenshotEncoder;
+
+    @Mock
+    private StoryReporter next;
+
+    @InjectMocks
+    private ScreenshotEncodingStoryReporter reporter;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        reporter.setNext(next);
+    }
+
+    @Test
+    void shouldFlushScreenshotsAfterScenario()
+    {
+        reporter.afterScenario();
+        InOrder ordered = inOrder(screenshotEncoder, next);
+        ordered.verify(screenshotEncoder).flush();
+        ordered.verify(next).afterScenario();
+    }
+
+    @Test
+    void shouldFlushScreenshotsAfterStory()
+    {
+        reporter.afterStory(false);
+        InOrder ordered = inOrder(screenshotEncoder, next);
+        ordered.verify(screenshotEncoder).flush();
+        ordered.verify(next).afterStory(false);
+    }
+}
@@ -43,6 +43,7 @@ import org.openqa.selenium.support.ui.Select;
 import org.vividus.bdd.steps.ui.web.validation.IBaseValidations;
 import org.vividus.bdd.steps.ui.web.validation.IHighlightingSoftAssert;
 import org.vividus.ui.web.DropDownState;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.action.IFieldActions;
 import org.vividus.ui.web.action.IWebElementActions;
 import org.vividus.ui.web.action.search.ActionAttributeType;
@@ -73,6 +74,9 @@ class DropdownStepsTests
     @Mock
     private IWebElementActions webElementActions;
 
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
+
     @Mock
     private IBaseValidations baseValidations;
 
@@ -176,7 +180,6 @@ class DropdownStepsTests
         addOptionsToSelect(element, TEXT);
         when(softAssert.assertEquals(DROPDOWN_SIZE_ASSERTION_MESSAGE,
                 dropDownItems.getRowsAsParameters(true).size(), 1)).thenReturn(true);
-        when(webElement.isSelected()).thenReturn(true);
         dropdownSteps.doesDropDownListContainItems(DROP_DOWN_LIST_NAME, dropDownItems);
         verify(softAssert).assertEquals(String.format(TEXT_OF_ITEM_MESSAGE, ITEM_VALUE), TEXT,
                 TEXT);
@@ -242,6 +245,8 @@ class DropdownStepsTests
     {
         when(element.findElements(By.tagName("option"))).thenReturn(singletonList(webElement));
         Mockito.lenient().when(webElementActions.getElementText(webElement)).thenReturn(selectText);
+        Mockito.lenient().when(elementPropertiesActions.getAttributeValues(singletonList(webElement), "selected"))
+                .thenReturn(List.of(Boolean.TRUE.toString()));
     }
 
     private void mockDropDownWithName(String firstOptionText)
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.WebDriver;
@@ -44,8 +45,10 @@ import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.logging.Logs;
 import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.logging.BrowserLogCollector;
 import org.vividus.selenium.logging.BrowserLogLevel;
 import org.vividus.softassert.ISoftAssert;
+import org.vividus.ui.web.action.IJavascriptActions;
 
 @ExtendWith(MockitoExtension.class)
 class JsValidationStepsTests
@@ -64,6 +67,10 @@ class JsValidationStepsTests
     @Mock
     private ISoftAssert softAssert;
 
+    @Spy
+    private BrowserLogCollector browserLogCollector = new BrowserLogCollector(mock(IJavascriptActions.class),
+            Integer.MAX_VALUE);
+
     @InjectMocks
     private JsValidationSteps jsValidationSteps;
 
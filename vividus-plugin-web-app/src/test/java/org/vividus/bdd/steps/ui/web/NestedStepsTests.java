@@ -32,6 +32,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,7 @@ import org.openqa.selenium.WebElement;
 import org.vividus.bdd.steps.ComparisonRule;
 import org.vividus.bdd.steps.SubSteps;
 import org.vividus.bdd.steps.ui.web.validation.IBaseValidations;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.softassert.ISoftAssert;
 import org.vividus.ui.web.action.ICssSelectorFactory;
 import org.vividus.ui.web.action.ISearchActions;
@@ -61,6 +63,7 @@ class NestedStepsTests
     private static final String SECOND_XPATH = "//second";
 
     private static final String ELEMENTS_TO_PERFORM_STEPS = "Elements to iterate with steps";
+    private static final String ELEMENT_FOR_ITERATION_2 = "An element for iteration 2";
 
     @Mock
     private IBaseValidations baseValidations;
@@ -74,6 +77,8 @@ class NestedStepsTests
     private ISoftAssert softAssert;
     @Mock
     private ICssSelectorFactory cssSelectorFactory;
+    @Mock
+    private IAttachmentPublisher attachmentPublisher;
 
     @InjectMocks
     private NestedSteps nestedSteps;
@@ -90,13 +95,44 @@ class NestedStepsTests
         when(cssSelectorFactory.getCssSelectors(List.of(first, second)))
             .thenReturn(List.of(FIRST_XPATH, SECOND_XPATH).stream());
         SearchAttributes secondSearchAttributes = new SearchAttributes(ActionAttributeType.CSS_SELECTOR, SECOND_XPATH);
-        when(baseValidations.assertIfElementExists("An element for iteration 2",
+        when(baseValidations.assertIfElementExists(ELEMENT_FOR_ITERATION_2,
                 secondSearchAttributes)).thenReturn(second);
         SearchContextSetter searchContextSetter = mockSearchContextSetter();
         nestedSteps.performAllStepsForElementIfFound(ComparisonRule.EQUAL_TO, 1, searchAttributes, subSteps);
         verify(webUiContext).putSearchContext(eq(first), any(SearchContextSetter.class));
         verify(webUiContext).putSearchContext(eq(second), any(SearchContextSetter.class));
         verify(searchContextSetter, times(2)).setSearchContext();
+        verifyIterationsPublishing(false, true);
+    }
+
+    @Test
+    void shouldReuseFoundElementsAndRefindOnlyStaleOnes()
+    {
+        nestedSteps.setReuseElementHandles(true);
+        SearchAttributes searchAttributes = mock(SearchAttributes.class);
+        WebElement first = mock(WebElement.class);
+        WebElement second = mock(WebElement.class);
+        WebElement third = mock(WebElement.class);
+        when(baseValidations.assertIfNumberOfElementsFound(ELEMENTS_TO_PERFORM_STEPS, searchAttributes, 1,
+                ComparisonRule.GREATER_THAN_OR_EQUAL_TO)).thenReturn(List.of(first, second, third));
+        String thirdXpath = "//third";
+        when(cssSelectorFactory.getCssSelectors(List.of(first, second, third)))
+            .thenReturn(List.of(FIRST_XPATH, SECOND_XPATH, thirdXpath).stream());
+        when(third.getTagName()).thenThrow(new StaleElementReferenceException("stale element"));
+        WebElement refoundThird = mock(WebElement.class);
+        when(baseValidations.assertIfElementExists("An element for iteration 3",
+                new SearchAttributes(ActionAttributeType.CSS_SELECTOR, thirdXpath))).thenReturn(refoundThird);
+        SearchContextSetter searchContextSetter = mockSearchContextSetter();
+        nestedSteps.performAllStepsForElementIfFound(ComparisonRule.GREATER_THAN_OR_EQUAL_TO, 1, searchAttributes,
+                subSteps);
+        verify(webUiContext).putSearchContext(eq(first), any(SearchContextSetter.class));
+        verify(webUiContext).putSearchContext(eq(second), any(SearchContextSetter.class));
+        verify(webUiContext).putSearchContext(eq(refoundThird), any(SearchContextSetter.class));
+        verify(baseValidations, never()).assertIfElementExists(eq(ELEMENT_FOR_ITERATION_2),
+                any(SearchAttributes.class));
+        verify(subSteps, times(3)).execute(Optional.empty());
+        verify(searchContextSetter, times(3)).setSearchContext();
+        verifyIterationsPublishing(false, false, true);
     }
 
     @Test
@@ -107,7 +143,7 @@ class NestedStepsTests
                 ComparisonRule.GREATER_THAN_OR_EQUAL_TO)).thenReturn(List.of());
         nestedSteps.performAllStepsForElementIfFound(ComparisonRule.GREATER_THAN_OR_EQUAL_TO, 0,
                 searchAttributes, subSteps);
-        verifyNoInteractions(cssSelectorFactory, webUiContext, subSteps);
+        verifyNoInteractions(cssSelectorFactory, webUiContext, subSteps, attachmentPublisher);
     }
 
     @Test
@@ -124,6 +160,29 @@ class NestedStepsTests
         assertThrows(StaleElementReferenceException.class, () -> nestedSteps
                 .performAllStepsForElementIfFound(ComparisonRule.EQUAL_TO, 1, searchAttributes, subSteps));
         verify(searchContextSetter).setSearchContext();
+        verifyIterationsPublishing(false);
+    }
+
+    private void verifyIterationsPublishing(Boolean... refound)
+    {
+        verify(attachmentPublisher).publishAttachment(eq("/org/vividus/bdd/steps/ui/web/nested-steps-iterations.ftl"),
+                argThat(model ->
+                {
+                    List<?> iterations = (List<?>) ((Map<?, ?>) model).get("iterations");
+                    if (iterations.size() != refound.length)
+                    {
+                        return false;
+                    }
+                    for (int i = 0; i < refound.length; i++)
+                    {
+                        Map<?, ?> iteration = (Map<?, ?>) iterations.get(i);
+                        if (!refound[i].equals(iteration.get("refound")) || !iteration.containsKey("duration"))
+                        {
+                            return false;
+                        }
+                    }
+                    return true;
+                }), eq("Iterations timings"));
     }
 
     @Test
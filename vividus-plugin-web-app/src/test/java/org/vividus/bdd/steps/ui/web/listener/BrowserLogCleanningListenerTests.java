@@ -17,38 +17,37 @@
 package org.vividus.bdd.steps.ui.web.listener;
 
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.withSettings;
+import static org.mockito.Mockito.verify;
 
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
-import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriver.Options;
-import org.openqa.selenium.logging.LogEntries;
-import org.openqa.selenium.logging.LogType;
-import org.openqa.selenium.logging.Logs;
+import org.vividus.selenium.logging.BrowserLogCollector;
 
 class BrowserLogCleanningListenerTests
 {
+    private final BrowserLogCollector browserLogCollector = mock(BrowserLogCollector.class);
     private final BrowserLogCleanningListener listener = new BrowserLogCleanningListener();
 
+    BrowserLogCleanningListenerTests()
+    {
+        listener.setBrowserLogCollector(browserLogCollector);
+    }
+
     @TestFactory
     Stream<DynamicTest> testCleanBeforeNavigate()
     {
-        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(HasCapabilities.class));
+        WebDriver driver = mock(WebDriver.class);
         Consumer<Runnable> test = methodUnderTest ->
         {
-            Options options = mock(Options.class);
-            when(driver.manage()).thenReturn(options);
-            Logs logs = mock(Logs.class);
-            when(options.logs()).thenReturn(logs);
-            when(logs.get(LogType.BROWSER)).thenReturn(mock(LogEntries.class));
+            clearInvocations(browserLogCollector);
             methodUnderTest.run();
+            verify(browserLogCollector).skipLog(driver);
         };
         return Stream.of(
                 dynamicTest("beforeNavigateBack", () -> test.accept(() -> listener.beforeNavigateBack(driver))),
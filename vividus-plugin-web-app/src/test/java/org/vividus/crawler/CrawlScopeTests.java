@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CrawlScopeTests
+{
+    private final CrawlScope crawlScope = new CrawlScope();
+
+    @Test
+    void shouldIncludeAndNotExcludeAnyUrlByDefault()
+    {
+        URI url = URI.create("http://some.url/image.png?a=b");
+        assertTrue(crawlScope.isIncluded(url));
+        assertFalse(crawlScope.isExcluded(url));
+        assertFalse(crawlScope.isDepthExceeded(Short.MAX_VALUE));
+    }
+
+    @Test
+    void shouldMatchPatternsAgainstPathAndQuery()
+    {
+        crawlScope.setIncludePattern(Optional.of("/catalog/.*"));
+        crawlScope.setExcludePattern(Optional.of(".*[?&]sort=.*"));
+        assertTrue(crawlScope.isIncluded(URI.create("http://some.url/catalog/item?sort=asc")));
+        assertTrue(crawlScope.isExcluded(URI.create("http://some.url/catalog/item?sort=asc")));
+        assertFalse(crawlScope.isIncluded(URI.create("http://some.url/about")));
+        assertFalse(crawlScope.isExcluded(URI.create("http://some.url/catalog/item")));
+    }
+
+    @Test
+    void shouldCheckMaxDepth()
+    {
+        crawlScope.setMaxDepth(2);
+        assertFalse(crawlScope.isDepthExceeded(2));
+        assertTrue(crawlScope.isDepthExceeded(3));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "http://some.url/path,                     http://some.url/path",
+        "http://some.url/path?utm=1,               http://some.url/path",
+        "http://some.url/path?id=1&utm=1&page=%202, http://some.url/path?id=1&page=%202",
+        "http://some.url/path?id,                  http://some.url/path?id"
+    })
+    void shouldKeepOnlyConfiguredQueryParameters(String url, String expected)
+    {
+        crawlScope.setKeptQueryParameters(Set.of("id", "page"));
+        assertEquals(URI.create(expected), crawlScope.filterQuery(URI.create(url)));
+    }
+
+    @Test
+    void shouldRemoveWholeQueryByDefault()
+    {
+        assertEquals(URI.create("http://some.url/path"),
+                crawlScope.filterQuery(URI.create("http://some.url/path?id=1")));
+    }
+}
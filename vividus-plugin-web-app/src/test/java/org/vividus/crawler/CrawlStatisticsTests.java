@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.vividus.crawler.CrawlStatistics.SkipReason;
+
+class CrawlStatisticsTests
+{
+    private static final String URL = "https://www.vividus.site/excluded";
+
+    @Test
+    void shouldCollectStatistics()
+    {
+        CrawlStatistics statistics = new CrawlStatistics();
+        statistics.recordVisitedPage(0);
+        statistics.recordVisitedPage(1);
+        statistics.recordVisitedPage(1);
+        statistics.recordSkippedUrl(URL, SkipReason.EXCLUDED);
+        statistics.recordSkippedUrl(URL, SkipReason.EXCLUDED);
+        statistics.recordSkippedUrl("https://www.vividus.site/deep", SkipReason.MAX_DEPTH);
+        statistics.finish();
+        assertEquals(3, statistics.getVisitedPages());
+        assertEquals(Map.of(0, 1L, 1, 2L), statistics.getVisitedPagesByDepth());
+        assertEquals(Map.of(SkipReason.EXCLUDED, 1L, SkipReason.MAX_DEPTH, 1L), statistics.getSkippedUrls());
+        assertEquals(statistics.getDuration(), statistics.getDuration());
+        assertTrue(statistics.getPagesPerSecond() > 0);
+        assertTrue(statistics.toString().startsWith("Visited pages: 3, duration: "));
+    }
+}
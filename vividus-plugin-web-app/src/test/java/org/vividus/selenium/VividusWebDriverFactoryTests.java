@@ -18,14 +18,19 @@ package org.vividus.selenium;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import com.browserup.bup.BrowserUpProxy;
 import com.browserup.bup.client.ClientUtil;
@@ -54,6 +59,7 @@ import org.vividus.bdd.context.IBddRunContext;
 import org.vividus.bdd.model.RunningScenario;
 import org.vividus.bdd.model.RunningStory;
 import org.vividus.proxy.IProxy;
+import org.vividus.reporter.event.IAttachmentPublisher;
 import org.vividus.selenium.manager.IWebDriverManager;
 import org.vividus.selenium.manager.IWebDriverManagerContext;
 import org.vividus.selenium.manager.WebDriverManagerParameter;
@@ -84,6 +90,9 @@ public class VividusWebDriverFactoryTests
     @Mock
     private IWebDriverManager webDriverManager;
 
+    @Mock
+    private IAttachmentPublisher attachmentPublisher;
+
     @InjectMocks
     private VividusWebDriverFactory vividusWebDriverFactory;
 
@@ -100,11 +109,22 @@ public class VividusWebDriverFactoryTests
     private WebDriverEventListener webDriverEventListener;
 
     private void runCreateTest(boolean remoteExecution, String browserName) throws Exception
+    {
+        createWebDriver(remoteExecution, createRunningStory(browserName));
+        verify(attachmentPublisher).publishAttachment(
+                eq("/org/vividus/selenium/web-driver-session-setup-timings.ftl"),
+                argThat(model -> ((Map<?, ?>) ((Map<?, ?>) model).get("timings")).keySet().equals(
+                        Set.of("Capabilities resolution", "Session start and timeouts configuration",
+                                "Window resizing"))),
+                eq("WebDriver session setup timings"));
+    }
+
+    private void createWebDriver(boolean remoteExecution, RunningStory runningStory) throws Exception
     {
         vividusWebDriverFactory.setRemoteExecution(remoteExecution);
         vividusWebDriverFactory.setWebDriverEventListeners(List.of(webDriverEventListener));
 
-        when(bddRunContext.getRunningStory()).thenReturn(createRunningStory(browserName));
+        when(bddRunContext.getRunningStory()).thenReturn(runningStory);
         EventFiringWebDriver eventFiringWebDriver = mock(EventFiringWebDriver.class);
         PowerMockito.whenNew(EventFiringWebDriver.class).withArguments(driver).thenReturn(eventFiringWebDriver);
         Options options = mock(Options.class);
@@ -209,4 +229,13 @@ public class VividusWebDriverFactoryTests
         when(webDriverFactory.getWebDriver(any(DesiredCapabilities.class))).thenReturn(driver);
         runCreateTest(false, FIREFOX);
     }
+
+    @Test
+    public void testCreateWebDriverWithoutRunningStory() throws Exception
+    {
+        when(proxy.isStarted()).thenReturn(false);
+        when(webDriverFactory.getWebDriver(any(DesiredCapabilities.class))).thenReturn(driver);
+        createWebDriver(false, null);
+        verifyNoInteractions(attachmentPublisher);
+    }
 }
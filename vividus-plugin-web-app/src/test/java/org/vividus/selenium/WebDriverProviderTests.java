@@ -41,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.vividus.testcontext.SimpleTestContext;
 import org.vividus.testcontext.TestContext;
@@ -138,4 +139,15 @@ class WebDriverProviderTests
         when(vividusWebDriver.getWrappedDriver()).thenReturn(wrapsDriver);
         assertThat(webDriverProvider.getUnwrapped(WrapsDriver.class), instanceOf(WrapsDriver.class));
     }
+
+    @Test
+    void shouldStartSessionAndReturnRequestedCapabilities()
+    {
+        DesiredCapabilities desiredCapabilities = new DesiredCapabilities();
+        when(vividusWebDriverFactory.create()).thenReturn(vividusWebDriver);
+        when(vividusWebDriver.getWrappedDriver()).thenReturn(driver);
+        when(vividusWebDriver.getDesiredCapabilities()).thenReturn(desiredCapabilities);
+        assertEquals(desiredCapabilities, webDriverProvider.getDesiredCapabilities());
+        verify(mockedEventBus).post(any(WebDriverCreateEvent.class));
+    }
 }
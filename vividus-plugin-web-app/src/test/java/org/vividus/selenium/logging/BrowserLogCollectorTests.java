@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.remote.BrowserType;
+import org.vividus.ui.web.action.IJavascriptActions;
+import org.vividus.ui.web.event.WebDriverQuitEvent;
+
+class BrowserLogCollectorTests
+{
+    private static final String CONSOLE_HOOK_SCRIPT = "console-hook.js";
+
+    private static final LogEntry FIRST_ERROR = new LogEntry(Level.SEVERE, 1L, "first error");
+    private static final LogEntry FIRST_INFO = new LogEntry(Level.INFO, 2L, "first info");
+    private static final LogEntry FIRST_WARNING = new LogEntry(Level.WARNING, 3L, "first warning");
+    private static final LogEntry SECOND_WARNING = new LogEntry(Level.WARNING, 4L, "second warning");
+    private static final LogEntry SECOND_ERROR = new LogEntry(Level.SEVERE, 5L, "second error");
+
+    private final IJavascriptActions javascriptActions = mock(IJavascriptActions.class);
+    private final BrowserLogCollector collector = new BrowserLogCollector(javascriptActions, 100);
+
+    @Test
+    void shouldIndexLogEntriesByStepAndLevel()
+    {
+        WebDriver webDriver = mockLogRetrieval(List.of(FIRST_ERROR, FIRST_INFO, FIRST_WARNING),
+                List.of(SECOND_WARNING, SECOND_ERROR));
+        collector.startStep();
+        collector.collect(webDriver);
+        collector.startStep();
+        assertEquals(2, collector.getCurrentStep());
+        assertEquals(List.of(SECOND_WARNING, SECOND_ERROR), collector.getLogSinceStep(webDriver, 2, Level.WARNING));
+        assertEquals(List.of(FIRST_ERROR, FIRST_WARNING, SECOND_WARNING, SECOND_ERROR),
+                collector.getLogSinceStep(webDriver, 1, Level.WARNING));
+        assertEquals(List.of(FIRST_ERROR, SECOND_ERROR), collector.getLog(webDriver, Level.SEVERE));
+        assertEquals(List.of(FIRST_ERROR, FIRST_INFO, FIRST_WARNING, SECOND_WARNING, SECOND_ERROR),
+                collector.getLog(webDriver, Level.ALL));
+    }
+
+    @Test
+    void shouldReturnOnlyNewLogEntries()
+    {
+        WebDriver webDriver = mockLogRetrieval(List.of(FIRST_ERROR, FIRST_INFO, FIRST_WARNING),
+                List.of(SECOND_WARNING), List.of(SECOND_ERROR), List.of());
+        assertEquals(Set.of(FIRST_WARNING), collector.getNewLog(webDriver, Set.of(BrowserLogLevel.WARNINGS)));
+        collector.skipLog(webDriver);
+        assertEquals(List.of(FIRST_WARNING, SECOND_WARNING), collector.getLog(webDriver, Level.WARNING));
+        assertEquals(Set.of(SECOND_ERROR), collector.getNewLog(webDriver,
+                List.of(BrowserLogLevel.WARNINGS, BrowserLogLevel.ERRORS)));
+    }
+
+    @Test
+    void shouldEvictOldestLogEntriesOverLimit()
+    {
+        BrowserLogCollector limitedCollector = new BrowserLogCollector(javascriptActions, 4);
+        WebDriver webDriver = mockLogRetrieval(List.of(FIRST_ERROR, FIRST_INFO, FIRST_WARNING),
+                List.of(SECOND_WARNING, SECOND_ERROR), List.of());
+        limitedCollector.collect(webDriver);
+        limitedCollector.collect(webDriver);
+        assertEquals(List.of(FIRST_WARNING, SECOND_WARNING, SECOND_ERROR),
+                limitedCollector.getLog(webDriver, Level.ALL));
+    }
+
+    @Test
+    void shouldResetLogOnWebDriverQuit()
+    {
+        WebDriver webDriver = mockLogRetrieval(List.of(FIRST_ERROR), List.of());
+        collector.startStep();
+        collector.collect(webDriver);
+        collector.onWebDriverQuit(new WebDriverQuitEvent());
+        assertEquals(0, collector.getCurrentStep());
+        assertEquals(List.of(), collector.getLog(webDriver, Level.ALL));
+    }
+
+    @Test
+    void shouldCollectLogInFirefoxUsingConsoleHook()
+    {
+        WebDriver webDriver = mockBrowserName(BrowserType.FIREFOX);
+        when(javascriptActions.executeScriptFromResource(BrowserLogCollector.class, CONSOLE_HOOK_SCRIPT))
+                .thenReturn(List.of(List.of("SEVERE", 1L, "first error"), List.of("INFO", 2L, "first info")))
+                .thenReturn(null);
+        collector.installConsoleHook(webDriver);
+        List<LogEntry> log = collector.getLog(webDriver, Level.ALL);
+        assertEquals(2, log.size());
+        assertEquals(FIRST_ERROR.toString(), log.get(0).toString());
+        assertEquals(FIRST_INFO.toString(), log.get(1).toString());
+        verify(webDriver, never()).manage();
+    }
+
+    @Test
+    void shouldNotInstallConsoleHookInChrome()
+    {
+        collector.installConsoleHook(mockBrowserName(BrowserType.CHROME));
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldFailToReturnLogForUnsupportedDriver()
+    {
+        WebDriver webDriver = mockBrowserName(BrowserType.IEXPLORE);
+        collector.skipLog(webDriver);
+        verify(webDriver, never()).manage();
+        Set<BrowserLogLevel> logLevels = Set.of(BrowserLogLevel.ERRORS);
+        assertThrows(IllegalStateException.class, () -> collector.getNewLog(webDriver, logLevels));
+    }
+
+    @SafeVarargs
+    private static WebDriver mockLogRetrieval(List<LogEntry> logEntries, List<LogEntry>... nextLogEntries)
+    {
+        WebDriver webDriver = mockBrowserName(BrowserType.CHROME);
+        Options options = mock(Options.class);
+        when(webDriver.manage()).thenReturn(options);
+        Logs logs = mock(Logs.class);
+        when(options.logs()).thenReturn(logs);
+        LogEntries[] next = new LogEntries[nextLogEntries.length];
+        for (int i = 0; i < nextLogEntries.length; i++)
+        {
+            next[i] = new LogEntries(nextLogEntries[i]);
+        }
+        when(logs.get(LogType.BROWSER)).thenReturn(new LogEntries(logEntries), next);
+        return webDriver;
+    }
+
+    private static WebDriver mockBrowserName(String browserName)
+    {
+        WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCapabilities.class));
+        Capabilities capabilities = mock(Capabilities.class);
+        when(((HasCapabilities) webDriver).getCapabilities()).thenReturn(capabilities);
+        when(capabilities.getBrowserName()).thenReturn(browserName);
+        return webDriver;
+    }
+}
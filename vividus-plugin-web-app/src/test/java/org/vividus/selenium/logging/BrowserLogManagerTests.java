@@ -16,8 +16,6 @@
 
 package org.vividus.selenium.logging;
 
-import static java.util.Collections.emptySet;
-import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -27,7 +25,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import java.util.Arrays;
-import java.util.Set;
+import java.util.List;
 import java.util.logging.Level;
 
 import org.junit.jupiter.api.Test;
@@ -53,24 +51,6 @@ class BrowserLogManagerTests
         assertEquals(logEntries, BrowserLogManager.getLog(webDriver));
     }
 
-    @Test
-    void shouldReturnFilteredLogContainingEntries()
-    {
-        WebDriver webDriver = mockBrowserName(BrowserType.CHROME);
-        LogEntries logEntries = mockLogRetrieval(webDriver);
-        Set<LogEntry> filteredLog = BrowserLogManager.getFilteredLog(webDriver, singleton(BrowserLogLevel.ERRORS));
-        assertEquals(singleton(logEntries.getAll().get(0)), filteredLog);
-    }
-
-    @Test
-    void shouldReturnFilteredLogContainingNoEntries()
-    {
-        WebDriver webDriver = mockBrowserName(BrowserType.CHROME);
-        mockLogRetrieval(webDriver);
-        Set<LogEntry> filteredLog = BrowserLogManager.getFilteredLog(webDriver, singleton(BrowserLogLevel.WARNINGS));
-        assertEquals(emptySet(), filteredLog);
-    }
-
     @Test
     void shouldNotReturnLogsForFirefox()
     {
@@ -84,7 +64,7 @@ class BrowserLogManagerTests
     void shouldIgnoreUnsupportedFirefoxIfFlagIsSet()
     {
         WebDriver webDriver = mockBrowserName(BrowserType.FIREFOX);
-        BrowserLogManager.resetBuffer(webDriver, true);
+        assertEquals(List.of(), BrowserLogManager.drainLog(webDriver, true));
         verify(webDriver, never()).manage();
     }
 
@@ -92,10 +72,27 @@ class BrowserLogManagerTests
     void shouldIgnoreUnsupportedIExplorerIfFlagIsSet()
     {
         WebDriver webDriver = mockBrowserName(BrowserType.IEXPLORE);
-        BrowserLogManager.resetBuffer(webDriver, true);
+        assertEquals(List.of(), BrowserLogManager.drainLog(webDriver, true));
         verify(webDriver, never()).manage();
     }
 
+    @Test
+    void shouldDrainLogs()
+    {
+        WebDriver webDriver = mockBrowserName(BrowserType.CHROME);
+        LogEntries logEntries = mockLogRetrieval(webDriver);
+        assertEquals(logEntries.getAll(), BrowserLogManager.drainLog(webDriver, false));
+    }
+
+    @Test
+    void shouldFailToDrainLogsForFirefox()
+    {
+        WebDriver webDriver = mockBrowserName(BrowserType.FIREFOX);
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> BrowserLogManager.drainLog(webDriver, false));
+        assertEquals("Firefox does not support retrieval of browser logs", exception.getMessage());
+    }
+
     private static WebDriver mockBrowserName(String browserName)
     {
         WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCapabilities.class));
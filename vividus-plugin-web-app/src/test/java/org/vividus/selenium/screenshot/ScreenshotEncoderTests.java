@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.selenium.screenshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ScreenshotEncoderTests
+{
+    private static final int WIDTH = 20;
+    private static final int HEIGHT = 10;
+
+    private final ScreenshotEncoder screenshotEncoder = new ScreenshotEncoder(1, 2);
+
+    @AfterEach
+    void afterEach()
+    {
+        screenshotEncoder.shutdown();
+    }
+
+    @Test
+    void shouldEncodeImageAsPng() throws IOException
+    {
+        byte[] data = screenshotEncoder.encode(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)).join();
+        BufferedImage decodedImage = ImageIO.read(new ByteArrayInputStream(data));
+        assertEquals(WIDTH, decodedImage.getWidth());
+        assertEquals(HEIGHT, decodedImage.getHeight());
+    }
+
+    @Test
+    void shouldWaitForPendingScreenshotsOnFlush()
+    {
+        List<CompletableFuture<byte[]>> screenshots = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+        {
+            screenshots.add(screenshotEncoder.encode(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)));
+        }
+        screenshotEncoder.flush();
+        assertTrue(screenshots.stream().allMatch(CompletableFuture::isDone));
+    }
+
+    @Test
+    void shouldBlockSubmissionWhenMaxPendingScreenshotsAreReached() throws InterruptedException
+    {
+        CountDownLatch encodingStarted = new CountDownLatch(1);
+        CountDownLatch encodingAllowed = new CountDownLatch(1);
+        BufferedImage blockingImage = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)
+        {
+            @Override
+            public int getWidth()
+            {
+                encodingStarted.countDown();
+                try
+                {
+                    encodingAllowed.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getWidth();
+            }
+        };
+        screenshotEncoder.encode(blockingImage);
+        assertTrue(encodingStarted.await(1, TimeUnit.SECONDS));
+        screenshotEncoder.encode(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB));
+        Thread submitter = new Thread(
+            () -> screenshotEncoder.encode(new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB)));
+        submitter.start();
+        submitter.join(200);
+        assertTrue(submitter.isAlive());
+        encodingAllowed.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(1));
+        assertFalse(submitter.isAlive());
+        screenshotEncoder.flush();
+    }
+}
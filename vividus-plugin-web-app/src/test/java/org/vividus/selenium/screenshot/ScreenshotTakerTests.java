@@ -35,12 +35,15 @@ import static org.mockito.Mockito.when;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 import javax.imageio.ImageIO;
@@ -49,7 +52,6 @@ import com.github.valfirst.slf4jtest.TestLogger;
 import com.github.valfirst.slf4jtest.TestLoggerFactory;
 import com.google.common.eventbus.EventBus;
 
-import org.jsoup.UncheckedIOException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -63,17 +65,15 @@ import org.mockito.MockitoAnnotations;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.powermock.api.mockito.PowerMockito;
-import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.ui.web.util.ImageUtils;
 import org.vividus.util.ResourceUtils;
 
 import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.util.ImageTool;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest(ImageTool.class)
 public class ScreenshotTakerTests
 {
     private static final String SCREENSHOT_WAS_TAKEN = "Screenshot was taken: {}";
@@ -116,6 +116,9 @@ public class ScreenshotTakerTests
     @Mock
     private ScreenshotConfiguration screenshotConfiguration;
 
+    @Mock
+    private ScreenshotEncoder screenshotEncoder;
+
     @InjectMocks
     private ScreenshotTaker screenshotTaker;
 
@@ -128,6 +131,8 @@ public class ScreenshotTakerTests
         screenshotTaker.setShootingStrategy(STRATEGY);
         screenshotTaker.setAshotConfigurations(Map.of(STRATEGY, screenshotConfiguration));
         when(screenshotConfiguration.getScrollableElement()).thenReturn(Optional::empty);
+        when(screenshotEncoder.encode(any(BufferedImage.class))).thenAnswer(
+            invocation -> CompletableFuture.completedFuture(ImageUtils.encodeAsPng(invocation.getArgument(0))));
     }
 
     @After
@@ -347,7 +352,7 @@ public class ScreenshotTakerTests
     }
 
     @Test
-    public void testTakeScreenshotAsBytesException() throws Exception
+    public void testTakeScreenshotEncodingException()
     {
         when(ashotFactory.create(false, Optional.of(screenshotConfiguration))).thenReturn(ASHOT);
         when(webDriverProvider.isWebDriverInitialized()).thenReturn(true);
@@ -355,12 +360,12 @@ public class ScreenshotTakerTests
             s.get();
             return true;
         }))).thenReturn(SCREENSHOT);
-        PowerMockito.mockStatic(ImageTool.class);
-        IOException ioException = new IOException();
-        PowerMockito.when(ImageTool.toByteArray(SCREENSHOT)).thenThrow(ioException);
-        IllegalStateException illegalStateException =
-            assertThrows(IllegalStateException.class, () -> screenshotTaker.takeScreenshot(SCREENSHOT_NAME, webDriver));
-        assertEquals(ioException, illegalStateException.getCause());
+        UncheckedIOException exception = new UncheckedIOException(new IOException());
+        when(screenshotEncoder.encode(SCREENSHOT.getImage())).thenReturn(CompletableFuture.failedFuture(exception));
+        Optional<Screenshot> screenshot = screenshotTaker.takeScreenshot(SCREENSHOT_NAME, webDriver);
+        CompletionException completionException = assertThrows(CompletionException.class,
+            () -> screenshot.get().getData());
+        assertEquals(exception, completionException.getCause());
     }
 
     @Test
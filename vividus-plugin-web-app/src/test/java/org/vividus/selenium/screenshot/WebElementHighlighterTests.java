@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
@@ -39,10 +41,12 @@ import org.vividus.ui.web.context.IWebUiContext;
 @ExtendWith(MockitoExtension.class)
 class WebElementHighlighterTests
 {
-    private static final String ENABLE_HIGHLIGHT_SCRIPT = "arguments[0].style.border=\"7px solid yellow\";"
-            + "arguments[0].style.boxShadow=\"0px 0px 70px 20px red\"";
-    private static final String DISABLE_HIGHLIGHT_SCRIPT = "arguments[0].style.border=\"\";"
-            + "arguments[0].style.boxShadow=\"\"";
+    private static final String FOR_EACH_ATTACHED_ELEMENT_SCRIPT = "arguments[0].forEach(function(e) {"
+            + "if (e && e.isConnected !== false) {";
+    private static final String ENABLE_HIGHLIGHT_SCRIPT = FOR_EACH_ATTACHED_ELEMENT_SCRIPT
+            + "e.style.border=\"7px solid yellow\";e.style.boxShadow=\"0px 0px 70px 20px red\";}})";
+    private static final String DISABLE_HIGHLIGHT_SCRIPT = FOR_EACH_ATTACHED_ELEMENT_SCRIPT
+            + "e.style.border=\"\";e.style.boxShadow=\"\";}})";
 
     @Mock
     private IWebUiContext webUiContext;
@@ -65,10 +69,10 @@ class WebElementHighlighterTests
         Object expected = new Object();
         Object actual = webElementHighlighter.takeScreenshotWithHighlights(() -> expected);
         assertEquals(expected, actual);
-        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, searchContext);
-        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, webElement);
-        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, searchContext);
-        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, webElement);
+        List<Object> elements = List.of(searchContext, webElement);
+        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, elements);
+        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, elements);
+        verifyNoMoreInteractions(javascriptActions);
     }
 
     @Test
@@ -80,22 +84,36 @@ class WebElementHighlighterTests
         Object expected = new Object();
         Object actual = webElementHighlighter.takeScreenshotWithHighlights(() -> expected);
         assertEquals(expected, actual);
-        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, webElement);
-        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, webElement);
+        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, List.of(webElement));
+        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, List.of(webElement));
+    }
+
+    @Test
+    void shouldNotExecuteScriptsWhenNoElementsToHighlight()
+    {
+        when(webUiContext.getAssertingWebElements()).thenReturn(List.of());
+        when(webUiContext.getSearchContext()).thenReturn(mock(SearchContext.class));
+        Object expected = new Object();
+        assertEquals(expected, webElementHighlighter.takeScreenshotWithHighlights(() -> expected));
+        verifyNoInteractions(javascriptActions);
     }
 
     @Test
     void testEnableHighlightingStaleException()
     {
-        when(webUiContext.getAssertingWebElements()).thenReturn(List.of(webElement));
+        WebElement staleElement = mock(WebElement.class);
+        when(webUiContext.getAssertingWebElements()).thenReturn(List.of(staleElement, webElement));
         SearchContext searchContext = mock(SearchContext.class);
         when(webUiContext.getSearchContext()).thenReturn(searchContext);
         StaleElementReferenceException exception = new StaleElementReferenceException("StaleElementReferenceException");
-        when(javascriptActions.executeScript(ENABLE_HIGHLIGHT_SCRIPT, webElement)).thenThrow(exception);
+        List<WebElement> elements = List.of(staleElement, webElement);
+        when(javascriptActions.executeScript(ENABLE_HIGHLIGHT_SCRIPT, elements)).thenThrow(exception);
+        when(javascriptActions.executeScript(ENABLE_HIGHLIGHT_SCRIPT, List.of(staleElement))).thenThrow(exception);
         Object expected = new Object();
         Object actual = webElementHighlighter.takeScreenshotWithHighlights(() -> expected);
         assertEquals(expected, actual);
-        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, webElement);
+        verify(javascriptActions).executeScript(ENABLE_HIGHLIGHT_SCRIPT, List.of(webElement));
+        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, elements);
     }
 
     @Test
@@ -105,12 +123,12 @@ class WebElementHighlighterTests
         String exceptionMessage = "RuntimeException";
         SearchContext searchContext = mock(SearchContext.class);
         when(webUiContext.getSearchContext()).thenReturn(searchContext);
-        when(javascriptActions.executeScript(ENABLE_HIGHLIGHT_SCRIPT, webElement))
+        when(javascriptActions.executeScript(ENABLE_HIGHLIGHT_SCRIPT, List.of(webElement)))
                 .thenThrow(new RuntimeException(exceptionMessage));
         RuntimeException exception = assertThrows(RuntimeException.class,
             () -> webElementHighlighter.takeScreenshotWithHighlights(Object::new));
         assertEquals(exceptionMessage, exception.getMessage());
-        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, webElement);
+        verify(javascriptActions).executeScript(DISABLE_HIGHLIGHT_SCRIPT, List.of(webElement));
     }
 
     @Test
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.sitemap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.message.BasicHeader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.vividus.http.client.HttpResponse;
+
+class SiteMapCacheTests
+{
+    private static final URI SITE_MAP_URL = URI.create("https://www.vividus.site/sitemap.xml");
+    private static final byte[] BODY = "<urlset/>".getBytes(StandardCharsets.UTF_8);
+    private static final String ETAG = "\"etag\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void shouldCreateConditionalRequestForCachedSiteMap() throws IOException
+    {
+        SiteMapCache cache = new SiteMapCache(cacheDirectory);
+        HttpGet request = cache.createRequest(SITE_MAP_URL);
+        assertEquals(SITE_MAP_URL, request.getURI());
+        assertEquals(0, request.getAllHeaders().length);
+        assertArrayEquals(BODY, cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY,
+                new BasicHeader("etag", ETAG), new BasicHeader(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED))));
+        request = cache.createRequest(SITE_MAP_URL);
+        assertEquals(ETAG, getHeaderValue(request, HttpHeaders.IF_NONE_MATCH));
+        assertEquals(LAST_MODIFIED, getHeaderValue(request, HttpHeaders.IF_MODIFIED_SINCE));
+        assertArrayEquals(BODY, cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_NOT_MODIFIED, null)));
+    }
+
+    @Test
+    void shouldNotCacheSiteMapWithoutValidators() throws IOException
+    {
+        SiteMapCache cache = new SiteMapCache(cacheDirectory);
+        assertArrayEquals(BODY, cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY)));
+        assertEquals(0, cache.createRequest(SITE_MAP_URL).getAllHeaders().length);
+    }
+
+    @Test
+    void shouldInvalidateCachedSiteMapWithoutValidators() throws IOException
+    {
+        SiteMapCache cache = new SiteMapCache(cacheDirectory);
+        cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY, new BasicHeader(HttpHeaders.ETAG, ETAG)));
+        cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY));
+        assertNull(cache.createRequest(SITE_MAP_URL).getFirstHeader(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    void shouldNotCacheUnsuccessfulResponse() throws IOException
+    {
+        SiteMapCache cache = new SiteMapCache(cacheDirectory);
+        cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY, new BasicHeader(HttpHeaders.ETAG, ETAG)));
+        byte[] errorBody = "error".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(errorBody, cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_NOT_FOUND, errorBody,
+                new BasicHeader(HttpHeaders.ETAG, "\"error\""))));
+        assertEquals(ETAG, getHeaderValue(cache.createRequest(SITE_MAP_URL), HttpHeaders.IF_NONE_MATCH));
+        assertArrayEquals(BODY, cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_NOT_MODIFIED, null)));
+    }
+
+    @Test
+    void shouldNotLeaveTemporaryFiles() throws IOException
+    {
+        SiteMapCache cache = new SiteMapCache(cacheDirectory);
+        cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY, new BasicHeader(HttpHeaders.ETAG, ETAG)));
+        cache.getBody(SITE_MAP_URL, createResponse(HttpStatus.SC_OK, BODY, new BasicHeader(HttpHeaders.ETAG, ETAG)));
+        try (Stream<Path> files = Files.list(cacheDirectory))
+        {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private static HttpResponse createResponse(int statusCode, byte[] body, Header... headers)
+    {
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(statusCode);
+        response.setResponseBody(body);
+        response.setResponseHeaders(headers);
+        return response;
+    }
+
+    private static String getHeaderValue(HttpGet request, String name)
+    {
+        return request.getFirstHeader(name).getValue();
+    }
+}
@@ -21,20 +21,29 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.message.BasicHeader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -53,10 +62,10 @@ class SiteMapParserTests
     private static final String RELATIVE_SITE_MAP_URL = "/sitemap.xml";
 
     private static final URI SITE_MAP_URL = URI.create(SITE_URL + SITEMAP_XML);
+    private static final URI SITE_MISC_URL = URI.create(SITE_URL + "sitemap-misc.xml");
     private static final URI REDIRECTED_SITE_MAP_URL = URI.create("http://www.vividus.site/sitemap.xml");
 
-    private static final int SITEMAP_URL_NUMBER = 6;
-    private static final int UNIQUE_SITEMAP_URL_NUMBER = 4;
+    private static final int SITEMAP_URL_NUMBER = 4;
     private static final int REDIRECTED_SITEMAP_URL_NUMBER = 3;
 
     private static final URI SITEMAP_ENTRY_URL = URI.create(SITE_URL + "kotlin");
@@ -132,7 +141,7 @@ class SiteMapParserTests
         siteMapParser.setFollowRedirects(false);
         siteMapParser.setSiteUrl(Optional.of(URI.create(SITE_URL)));
         Set<String> siteMapRelativeUrls = siteMapParser.parseToRelativeUrls(true, null, RELATIVE_SITE_MAP_URL);
-        assertEquals(UNIQUE_SITEMAP_URL_NUMBER, siteMapRelativeUrls.size());
+        assertEquals(SITEMAP_URL_NUMBER, siteMapRelativeUrls.size());
     }
 
     @Test
@@ -141,7 +150,7 @@ class SiteMapParserTests
         mockSiteMapParsing(SITEMAP_XML, SITE_MAP_URL, null);
         siteMapParser.setFollowRedirects(false);
         Set<String> siteMapRelativeUrls = siteMapParser.parseToRelativeUrls(true, SITE_MAP_URL);
-        assertEquals(UNIQUE_SITEMAP_URL_NUMBER, siteMapRelativeUrls.size());
+        assertEquals(SITEMAP_URL_NUMBER, siteMapRelativeUrls.size());
     }
 
     @Test
@@ -157,12 +166,65 @@ class SiteMapParserTests
     void testParseSiteMapIndex() throws IOException, SiteMapParseException
     {
         mockHttpGet("sitemap-index.xml", SITE_MAP_URL, null);
-        mockSiteMapParsing(SITEMAP_XML, URI.create(SITE_URL + "sitemap-misc.xml"), null);
+        mockSiteMapParsing(SITEMAP_XML, SITE_MISC_URL, null);
         siteMapParser.setFollowRedirects(false);
         Collection<SiteMapURL> siteMapUrls = siteMapParser.parse(true, SITE_MAP_URL);
         assertSiteMapUrls(SITEMAP_URL_NUMBER, SITEMAP_ENTRY_URL, siteMapUrls);
     }
 
+    @Test
+    void testParseSiteMapIndexConcurrently() throws IOException, SiteMapParseException
+    {
+        mockSiteMapIndexWithNestedIndex();
+        mockHttpGet("sitemap-nested-index.xml", URI.create(SITE_URL + "sitemap-nested-index.xml"), null);
+        mockHttpGet("sitemap-blog.xml", URI.create(SITE_URL + "sitemap-blog.xml"), null);
+        siteMapParser.setParallelism(2);
+        Collection<SiteMapURL> siteMapUrls = siteMapParser.parse(true, SITE_MAP_URL);
+        assertEquals(List.of("/", "/java", "/kotlin", "/scala", "/blog"), siteMapUrls.stream()
+                .map(SiteMapURL::getUrl)
+                .map(URL::getPath)
+                .collect(Collectors.toList()));
+        verify(mockedHttpClient).doHttpGet(eq(SITE_MAP_URL), any());
+        verify(mockedHttpClient).doHttpGet(eq(SITE_MISC_URL), any());
+    }
+
+    @Test
+    void testParseSiteMapIndexUpToMaxUrls() throws IOException, SiteMapParseException
+    {
+        mockSiteMapIndexWithNestedIndex();
+        siteMapParser.setMaxUrls(Optional.of(2));
+        Collection<SiteMapURL> siteMapUrls = siteMapParser.parse(true, SITE_MAP_URL);
+        assertEquals(2, siteMapUrls.size());
+        verify(mockedHttpClient, never()).doHttpGet(eq(URI.create(SITE_URL + "sitemap-nested-index.xml")), any());
+    }
+
+    @Test
+    void testParseUsingCache(@TempDir Path cacheDirectory) throws IOException, SiteMapParseException
+    {
+        HttpResponse httpResponse = new HttpResponse();
+        httpResponse.setStatusCode(HttpStatus.SC_OK);
+        httpResponse.setResponseBody(ResourceUtils.loadResourceAsByteArray(getClass(), SITEMAP_XML));
+        httpResponse.setResponseHeaders(new BasicHeader(HttpHeaders.ETAG, "\"etag\""));
+        HttpResponse notModifiedResponse = new HttpResponse();
+        notModifiedResponse.setStatusCode(HttpStatus.SC_NOT_MODIFIED);
+        when(mockedHttpClient.execute(argThat(request -> SITE_MAP_URL.equals(request.getURI())), any()))
+                .thenReturn(httpResponse)
+                .thenReturn(notModifiedResponse);
+        siteMapParser.setBaseUrl(Optional.empty());
+        siteMapParser.setCacheDirectory(Optional.of(cacheDirectory.toFile()));
+        assertSiteMapUrls(SITEMAP_URL_NUMBER, SITEMAP_ENTRY_URL, siteMapParser.parse(true, SITE_MAP_URL));
+        assertSiteMapUrls(SITEMAP_URL_NUMBER, SITEMAP_ENTRY_URL, siteMapParser.parse(true, SITE_MAP_URL));
+        verify(mockedHttpClient).execute(argThat(request -> request.getFirstHeader(HttpHeaders.IF_NONE_MATCH) != null),
+                any());
+    }
+
+    private void mockSiteMapIndexWithNestedIndex() throws IOException
+    {
+        mockHttpGet("sitemap-index-multiple.xml", SITE_MAP_URL, null);
+        mockSiteMapParsing(SITEMAP_XML, SITE_MISC_URL, null);
+        siteMapParser.setFollowRedirects(false);
+    }
+
     private void mockSiteMapParsing(String resourceName, URI siteMapUrl, List<URI> redirectLocations) throws IOException
     {
         mockHttpGet(resourceName, siteMapUrl, redirectLocations);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.action;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.WebElement;
+import org.vividus.selenium.WebDriverType;
+import org.vividus.selenium.manager.IWebDriverManager;
+
+@ExtendWith(MockitoExtension.class)
+class ElementPropertiesActionsTests
+{
+    private static final String SCRIPT = "get-element-properties.js";
+    private static final String HREF = "href";
+    private static final String COLOR = "color";
+    private static final String URL = "https://example.com/";
+    private static final String RGB = "rgb(0, 0, 0)";
+
+    @Mock
+    private IJavascriptActions javascriptActions;
+
+    @Mock
+    private IWebDriverManager webDriverManager;
+
+    @Mock
+    private WebElement webElement;
+
+    @InjectMocks
+    private ElementPropertiesActions elementPropertiesActions;
+
+    @Test
+    void shouldReadPropertiesOfAllElementsAtOnce()
+    {
+        List<WebElement> elements = List.of(webElement, webElement);
+        when(webDriverManager.isTypeAnyOf(WebDriverType.FIREFOX)).thenReturn(false);
+        when(javascriptActions.executeScriptFromResource(ElementPropertiesActions.class, SCRIPT, elements,
+                List.of(Arrays.asList("TEXT", null), List.of("ATTRIBUTE", HREF), List.of("CSS_VALUE", COLOR)),
+                false)).thenReturn(List.of(List.of(" first\nline ", URL, RGB), Arrays.asList("second", null, RGB)));
+        ElementProperty href = ElementProperty.attribute(HREF);
+        ElementProperty color = ElementProperty.cssValue(COLOR);
+        List<Map<ElementProperty, String>> properties = elementPropertiesActions.getProperties(elements,
+                ElementProperty.text(), href, color);
+        assertEquals(2, properties.size());
+        assertEquals(Map.of(ElementProperty.text(), "first line", href, URL, color, RGB), properties.get(0));
+        Map<ElementProperty, String> secondElementProperties = properties.get(1);
+        assertEquals("second", secondElementProperties.get(ElementProperty.text()));
+        assertNull(secondElementProperties.get(href));
+        assertEquals(RGB, secondElementProperties.get(color));
+    }
+
+    @Test
+    void shouldReadTextContentInFirefox()
+    {
+        List<WebElement> elements = List.of(webElement);
+        when(webDriverManager.isTypeAnyOf(WebDriverType.FIREFOX)).thenReturn(true);
+        when(javascriptActions.executeScriptFromResource(ElementPropertiesActions.class, SCRIPT, elements,
+                List.of(Arrays.asList("TEXT", null)), true)).thenReturn(List.of(List.of("text")));
+        assertEquals(List.of("text"), elementPropertiesActions.getTexts(elements));
+    }
+
+    @Test
+    void shouldReadAttributeValues()
+    {
+        List<WebElement> elements = List.of(webElement);
+        when(javascriptActions.executeScriptFromResource(ElementPropertiesActions.class, SCRIPT, elements,
+                List.of(List.of("ATTRIBUTE", HREF)), false)).thenReturn(List.of(List.of(URL)));
+        assertEquals(List.of(URL), elementPropertiesActions.getAttributeValues(elements, HREF));
+    }
+
+    @Test
+    void shouldReadCssValues()
+    {
+        List<WebElement> elements = List.of(webElement);
+        when(javascriptActions.executeScriptFromResource(ElementPropertiesActions.class, SCRIPT, elements,
+                List.of(List.of("CSS_VALUE", COLOR)), false)).thenReturn(List.of(List.of(RGB)));
+        assertEquals(List.of(RGB), elementPropertiesActions.getCssValues(elements, COLOR));
+    }
+
+    @Test
+    void shouldNotExecuteScriptForEmptyListOfElements()
+    {
+        assertEquals(List.of(), elementPropertiesActions.getTexts(List.of()));
+        verifyNoInteractions(javascriptActions, webDriverManager);
+    }
+}
@@ -17,6 +17,8 @@
 package org.vividus.ui.web.action;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,9 +36,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.remote.DesiredCapabilities;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.selenium.SauceLabsCapabilityType;
 import org.vividus.selenium.WebDriverType;
 import org.vividus.selenium.manager.IWebDriverManager;
 import org.vividus.util.ResourceUtils;
@@ -46,6 +52,7 @@ class JavascriptActionsTests
 {
     private static final String SCROLL_TO_END_OF_PAGE = "scroll-to-end-of-page.js";
     private static final String TEXT = "text";
+    private static final String PINNED_SCRIPT_KEY = JavascriptActions.class.getName() + "#" + SCROLL_TO_END_OF_PAGE;
     private static final String BODY_INNER_TEXT = "return document.body.innerText";
     private static final String ELEMENT_INNER_TEXT = "return arguments[0].innerText";
     private static final String SCRIPT_GET_ELEMENT_ATTRIBUTES = "var attributes = arguments[0].attributes;"
@@ -58,6 +65,8 @@ class JavascriptActionsTests
             + "devicePixelRatio: window.devicePixelRatio}";
     private static final String USER_AGENT_VALUE = "Mozilla";
     private static final Double DEVICE_PIXEL_RATIO_VALUE = 1.5;
+    private static final String DEVICE_NAME = "mobileEmulation.deviceName";
+    private static final String IPHONE = "iPhone X";
     private static final Map<String, ?> BROWSER_CONFIG = Map.of("userAgent", USER_AGENT_VALUE, "devicePixelRatio",
             DEVICE_PIXEL_RATIO_VALUE);
 
@@ -105,6 +114,44 @@ class JavascriptActionsTests
                 .executeAsyncScript(ResourceUtils.loadResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE));
     }
 
+    @Test
+    void shouldPinResourceScriptAndRepinItIfItIsNotFound()
+    {
+        javascriptActions.setPinResourceScripts(true);
+        JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+        String script = ResourceUtils.loadResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE);
+        String pinScript = String.format("var scripts = window.vividusPinnedScripts = window.vividusPinnedScripts"
+                + " || {}; scripts[arguments[0]] = function() {%n%s%n}; return scripts[arguments[0]].apply(this,"
+                + " Array.prototype.slice.call(arguments, 1));", script);
+        String callPinnedScript = "var script = window.vividusPinnedScripts && window.vividusPinnedScripts"
+                + "[arguments[0]]; return script ? script.apply(this, Array.prototype.slice.call(arguments, 1))"
+                + " : 'vividus:script-is-not-pinned';";
+        when(javascriptExecutor.executeScript(pinScript, PINNED_SCRIPT_KEY, TEXT)).thenReturn(USER_AGENT_VALUE);
+        when(javascriptExecutor.executeScript(callPinnedScript, PINNED_SCRIPT_KEY, TEXT)).thenReturn(TEXT,
+                "vividus:script-is-not-pinned");
+        assertEquals(USER_AGENT_VALUE,
+                javascriptActions.executeScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE, TEXT));
+        assertEquals(TEXT,
+                javascriptActions.executeScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE, TEXT));
+        assertEquals(USER_AGENT_VALUE,
+                javascriptActions.executeScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE, TEXT));
+        verify(javascriptExecutor, times(2)).executeScript(pinScript, PINNED_SCRIPT_KEY, TEXT);
+        verify(javascriptExecutor, times(2)).executeScript(callPinnedScript, PINNED_SCRIPT_KEY, TEXT);
+    }
+
+    @Test
+    void shouldPinAsyncResourceScript()
+    {
+        javascriptActions.setPinResourceScripts(true);
+        JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+        javascriptActions.executeAsyncScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE);
+        javascriptActions.executeAsyncScriptFromResource(JavascriptActions.class, SCROLL_TO_END_OF_PAGE);
+        verify(javascriptExecutor).executeAsyncScript(argThat(script -> script.startsWith(
+                "var scripts = window.vividusPinnedScripts")), eq(PINNED_SCRIPT_KEY));
+        verify(javascriptExecutor).executeAsyncScript(argThat(script -> script.endsWith(
+                "else { arguments[arguments.length - 1]('vividus:script-is-not-pinned'); }")), eq(PINNED_SCRIPT_KEY));
+    }
+
     @Test
     void testExecuteAsyncSript()
     {
@@ -232,6 +279,7 @@ class JavascriptActionsTests
     @Test
     void testOnLoadBrowserConfig()
     {
+        mockRequestedCapabilities(new DesiredCapabilities());
         mockScriptExecution(GET_BROWSER_CONFIG_JS, BROWSER_CONFIG);
         javascriptActions.onLoad();
         assertEquals(USER_AGENT_VALUE, javascriptActions.getUserAgent());
@@ -241,12 +289,49 @@ class JavascriptActionsTests
     @Test
     void testOnLoadMultipleTimes()
     {
+        mockRequestedCapabilities(new DesiredCapabilities());
         mockScriptExecution(GET_BROWSER_CONFIG_JS, BROWSER_CONFIG);
         javascriptActions.onLoad();
         javascriptActions.onLoad();
         verify((JavascriptExecutor) webDriver, times(1)).executeScript(GET_BROWSER_CONFIG_JS);
     }
 
+    @Test
+    void shouldReuseBrowserConfigForSessionsWithSameRequestedCapabilities()
+    {
+        when(webDriverProvider.getDesiredCapabilities()).thenReturn(
+                createSessionCapabilities("first story"), createSessionCapabilities("second story"));
+        when(webDriverManager.detectType()).thenReturn(WebDriverType.CHROME);
+        mockScriptExecution(GET_BROWSER_CONFIG_JS, BROWSER_CONFIG);
+        javascriptActions.onLoad();
+        javascriptActions.onLoad();
+        verify((JavascriptExecutor) webDriver, times(1)).executeScript(GET_BROWSER_CONFIG_JS);
+    }
+
+    @Test
+    void shouldRequestBrowserConfigForDifferentRequestedCapabilities()
+    {
+        when(webDriverProvider.getDesiredCapabilities()).thenReturn(
+                new DesiredCapabilities(Map.of(DEVICE_NAME, IPHONE)),
+                new DesiredCapabilities(Map.of(DEVICE_NAME, "Pixel 2")));
+        when(webDriverManager.detectType()).thenReturn(WebDriverType.CHROME);
+        mockScriptExecution(GET_BROWSER_CONFIG_JS, BROWSER_CONFIG);
+        javascriptActions.onLoad();
+        javascriptActions.onLoad();
+        verify((JavascriptExecutor) webDriver, times(2)).executeScript(GET_BROWSER_CONFIG_JS);
+    }
+
+    @Test
+    void shouldRequestBrowserConfigForDifferentBrowserTypes()
+    {
+        mockRequestedCapabilities(new DesiredCapabilities());
+        when(webDriverManager.detectType()).thenReturn(WebDriverType.CHROME, WebDriverType.FIREFOX);
+        mockScriptExecution(GET_BROWSER_CONFIG_JS, BROWSER_CONFIG);
+        javascriptActions.onLoad();
+        javascriptActions.onLoad();
+        verify((JavascriptExecutor) webDriver, times(2)).executeScript(GET_BROWSER_CONFIG_JS);
+    }
+
     @Test
     void testGetElementAttributesValues()
     {
@@ -313,6 +398,17 @@ class JavascriptActionsTests
         when(((JavascriptExecutor) webDriver).executeScript(script)).thenReturn(result);
     }
 
+    private static DesiredCapabilities createSessionCapabilities(String sessionName)
+    {
+        return new DesiredCapabilities(Map.of(DEVICE_NAME, IPHONE, CapabilityType.PROXY, new Proxy(),
+                SauceLabsCapabilityType.NAME, sessionName));
+    }
+
+    private void mockRequestedCapabilities(DesiredCapabilities desiredCapabilities)
+    {
+        when(webDriverProvider.getDesiredCapabilities()).thenReturn(desiredCapabilities);
+    }
+
     private void mockIsFirefox(boolean firefox)
     {
         when(webDriverManager.isTypeAnyOf(WebDriverType.FIREFOX)).thenReturn(firefox);
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
@@ -46,6 +47,7 @@ import org.vividus.ui.web.action.search.IElementFilterAction;
 import org.vividus.ui.web.action.search.IElementSearchAction;
 import org.vividus.ui.web.action.search.SearchAttributes;
 import org.vividus.ui.web.action.search.SearchParameters;
+import org.vividus.ui.web.context.ElementLookupCache;
 import org.vividus.ui.web.context.IWebUiContext;
 
 @ExtendWith(MockitoExtension.class)
@@ -78,6 +80,9 @@ class SearchActionsTests
     @Mock
     private IWebUiContext webUiContext;
 
+    @Spy
+    private ElementLookupCache elementLookupCache;
+
     @InjectMocks
     private SearchActions searchActions;
 
@@ -17,21 +17,20 @@
 package org.vividus.ui.web.action.search;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 
 @ExtendWith(MockitoExtension.class)
 class ClassAttributePartFilterTests
@@ -39,44 +38,44 @@ class ClassAttributePartFilterTests
     private static final String TEXT = "text";
     private static final String CLASS_ATTRIBUTE = "class";
 
-    private List<WebElement> elementsList;
-
     @Mock
-    private WebElement element;
+    private IElementPropertiesActions elementPropertiesActions;
 
     @InjectMocks
     private ClassAttributePartFilter classAttributePartFilter;
 
-    @BeforeEach
-    void beforeEach()
-    {
-        elementsList = new ArrayList<>();
-        elementsList.add(element);
-    }
-
     @Test
     void testDirectionTypeFilter()
     {
-        WebElement elementContainsDirectionType = Mockito.mock(WebElement.class);
-        elementsList.add(elementContainsDirectionType);
-        when(elementContainsDirectionType.getAttribute(CLASS_ATTRIBUTE)).thenReturn(TEXT);
-        when(element.getAttribute(CLASS_ATTRIBUTE)).thenReturn("anyText");
-        List<WebElement> filteredElements = classAttributePartFilter.filter(elementsList, TEXT);
-        elementsList.remove(element);
-        assertEquals(elementsList, filteredElements);
+        WebElement element = mock(WebElement.class);
+        WebElement elementContainsDirectionType = mock(WebElement.class);
+        WebElement elementWithoutClass = mock(WebElement.class);
+        List<WebElement> elements = List.of(element, elementContainsDirectionType, elementWithoutClass);
+        when(elementPropertiesActions.getAttributeValues(elements, CLASS_ATTRIBUTE))
+                .thenReturn(Arrays.asList("anyText", "some-text", null));
+        assertEquals(List.of(elementContainsDirectionType), classAttributePartFilter.filter(elements, TEXT));
     }
 
     @Test
     void testDirectionTypeFilterNullDirectionType()
     {
-        assertEquals(classAttributePartFilter.filter(elementsList, null), elementsList);
-        verify(element, never()).getAttribute(CLASS_ATTRIBUTE);
+        List<WebElement> elements = List.of(mock(WebElement.class));
+        assertEquals(elements, classAttributePartFilter.filter(elements, null));
+        verifyNoInteractions(elementPropertiesActions);
     }
 
     @Test
     void testDirectionTypeFilterEmptyDirectionType()
     {
-        assertEquals(classAttributePartFilter.filter(elementsList, ""), elementsList);
-        verify(element, never()).getAttribute(CLASS_ATTRIBUTE);
+        List<WebElement> elements = List.of(mock(WebElement.class));
+        assertEquals(elements, classAttributePartFilter.filter(elements, ""));
+        verifyNoInteractions(elementPropertiesActions);
+    }
+
+    @Test
+    void testDirectionTypeFilterNoElements()
+    {
+        assertEquals(List.of(), classAttributePartFilter.filter(List.of(), TEXT));
+        verifyNoInteractions(elementPropertiesActions);
     }
 }
@@ -18,19 +18,18 @@ package org.vividus.ui.web.action.search;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 
 @ExtendWith(MockitoExtension.class)
 class ImageWithSourcePartFilterTests
@@ -39,22 +38,20 @@ class ImageWithSourcePartFilterTests
     private static final String SRC_VALUE = "/srcValue";
     private static final String SRC_PART = "/src";
 
-    private final List<WebElement> webElements = new ArrayList<>();
-    private final ImageWithSourcePartFilter search = new ImageWithSourcePartFilter();
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
 
     @Mock
     private WebElement webElement;
 
-    @BeforeEach
-    void beforeEach()
-    {
-        webElements.add(webElement);
-    }
+    @InjectMocks
+    private ImageWithSourcePartFilter search;
 
     @Test
     void testFilterSuccess()
     {
-        when(webElement.getAttribute(SRC_ATTRIBUTE)).thenReturn(SRC_VALUE);
+        List<WebElement> webElements = List.of(webElement);
+        when(elementPropertiesActions.getAttributeValues(webElements, SRC_ATTRIBUTE)).thenReturn(List.of(SRC_VALUE));
         List<WebElement> foundElements = search.filter(webElements, SRC_PART);
         assertEquals(webElements, foundElements);
     }
@@ -62,21 +59,22 @@ class ImageWithSourcePartFilterTests
     @Test
     void testFilterSrcPartNull()
     {
-        search.filter(webElements, null);
-        verify(webElement, never()).getAttribute(SRC_ATTRIBUTE);
+        search.filter(List.of(webElement), null);
+        verifyNoInteractions(elementPropertiesActions);
     }
 
     @Test
     void testFilterSrcPartEmpty()
     {
-        search.filter(webElements, "");
-        verify(webElement, never()).getAttribute(SRC_ATTRIBUTE);
+        search.filter(List.of(webElement), "");
+        verifyNoInteractions(elementPropertiesActions);
     }
 
     @Test
     void testFilterWrongSrcPartValue()
     {
-        when(webElement.getAttribute(SRC_ATTRIBUTE)).thenReturn(SRC_VALUE);
+        List<WebElement> webElements = List.of(webElement);
+        when(elementPropertiesActions.getAttributeValues(webElements, SRC_ATTRIBUTE)).thenReturn(List.of(SRC_VALUE));
         List<WebElement> foundElements = search.filter(webElements, "wrongValue");
         assertTrue(foundElements.isEmpty());
     }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.github.valfirst.slf4jtest.TestLogger;
@@ -42,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.util.LocatorUtil;
 
 @ExtendWith({ MockitoExtension.class, TestLoggerFactoryExtension.class })
@@ -66,6 +68,9 @@ class LinkUrlPartSearchTests
     @Mock
     private SearchContext searchContext;
 
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
+
     @Mock
     private SearchParameters parameters;
 
@@ -109,7 +114,8 @@ class LinkUrlPartSearchTests
     @Test
     void testSearchLinksByUrlPartNoHref()
     {
-        when(webElement.getAttribute(HREF)).thenReturn(null);
+        when(elementPropertiesActions.getAttributeValues(webElements, HREF)).thenReturn(
+                Collections.singletonList(null));
         List<WebElement> foundElements = search.filter(webElements, URL_PART);
         assertTrue(foundElements.isEmpty());
     }
@@ -149,7 +155,7 @@ class LinkUrlPartSearchTests
     private List<WebElement> captureFoundElements(Boolean equals, String url, String actualHref, String currentUrl)
     {
         search.setCaseSensitiveSearch(equals);
-        when(webElement.getAttribute(actualHref)).thenReturn(url);
+        when(elementPropertiesActions.getAttributeValues(webElements, actualHref)).thenReturn(List.of(url));
         return search.filter(webElements, currentUrl);
     }
 }
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -50,6 +51,7 @@ import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.vividus.selenium.IWebDriverProvider;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 import org.vividus.ui.web.action.IExpectedConditions;
 import org.vividus.ui.web.action.IExpectedSearchContextCondition;
 import org.vividus.ui.web.action.JavascriptActions;
@@ -87,6 +89,9 @@ class LinkUrlSearchTests
     @Mock
     private IWebDriverProvider webDriverProvider;
 
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
+
     @Mock
     private SearchContext searchContext;
 
@@ -117,7 +122,7 @@ class LinkUrlSearchTests
     @MethodSource("hrefProvider")
     void testGetCurrentHrefDifferentScheme(String expected, String href, String currentUrl)
     {
-        when(webElement.getAttribute(HREF)).thenReturn(href);
+        mockHref(href);
         search.setCaseSensitiveSearch(true);
         when(webDriverProvider.get()).thenReturn(webDriver);
         when(webDriver.getCurrentUrl()).thenReturn(currentUrl);
@@ -174,7 +179,7 @@ class LinkUrlSearchTests
     @Test
     void testFilterLinksNullHrefAttribute()
     {
-        when(webElement.getAttribute(HREF)).thenReturn(null);
+        mockHref(null);
         mockGetCurrentUrl();
         List<WebElement> webElements = List.of(webElement);
         List<WebElement> foundElements = search.filter(webElements, URL_PATH);
@@ -184,7 +189,7 @@ class LinkUrlSearchTests
     @Test
     void testFilterLinksByHttpsUrl()
     {
-        when(webElement.getAttribute(HREF)).thenReturn(SIMPLE_URL_WITH_PATH);
+        mockHref(SIMPLE_URL_WITH_PATH);
         search.setCaseSensitiveSearch(true);
         when(webDriverProvider.get()).thenReturn(webDriver);
         when(webDriver.getCurrentUrl()).thenReturn(SIMPLE_URL);
@@ -196,7 +201,7 @@ class LinkUrlSearchTests
     @Test
     void testGetCurrentHrefMalformedUrl()
     {
-        when(webElement.getAttribute(HREF)).thenReturn(URL);
+        mockHref(URL);
         when(webDriverProvider.get()).thenReturn(webDriver);
         when(webDriver.getCurrentUrl()).thenReturn("data,;");
         List<WebElement> webElements = List.of(webElement);
@@ -207,7 +212,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlPartNotMatchCaseInsensitive()
     {
         search.setCaseSensitiveSearch(false);
-        when(webElement.getAttribute(HREF)).thenReturn(SIMPLE_URL);
+        mockHref(SIMPLE_URL);
         mockGetCurrentUrl();
         List<WebElement> foundElements = search.filter(List.of(webElement), URL_PATH);
         assertTrue(foundElements.isEmpty());
@@ -217,7 +222,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlPartNotMatch()
     {
         search.setCaseSensitiveSearch(true);
-        when(webElement.getAttribute(HREF)).thenReturn(SIMPLE_URL);
+        mockHref(SIMPLE_URL);
         mockGetCurrentUrl();
         List<WebElement> foundElements = search.filter(List.of(webElement), URL_PATH);
         assertTrue(foundElements.isEmpty());
@@ -234,7 +239,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlHrefEqualLinkUrl()
     {
         search.setCaseSensitiveSearch(true);
-        when(webElement.getAttribute(HREF)).thenReturn(URL);
+        mockHref(URL);
         mockGetCurrentUrl();
         List<WebElement> webElements = List.of(webElement);
         List<WebElement> foundElements = search.filter(webElements, URL);
@@ -245,7 +250,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlHrefEqualLinkUrlCaseInsensitive()
     {
         search.setCaseSensitiveSearch(false);
-        when(webElement.getAttribute(HREF)).thenReturn(URL);
+        mockHref(URL);
         mockGetCurrentUrl();
         List<WebElement> webElements = List.of(webElement);
         List<WebElement> foundElements = search.filter(webElements, URL);
@@ -256,7 +261,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlHrefEqualLinkUrlAbsolute()
     {
         search.setCaseSensitiveSearch(true);
-        when(webElement.getAttribute(HREF)).thenReturn(URL_WITH_SLASH);
+        mockHref(URL_WITH_SLASH);
         mockGetCurrentUrl();
         List<WebElement> foundElements = search.filter(List.of(webElement), SIMPLE_URL);
         assertEquals(List.of(webElement), foundElements);
@@ -266,7 +271,7 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlHrefEqualLinkUrlWithQuery()
     {
         search.setCaseSensitiveSearch(true);
-        when(webElement.getAttribute(HREF)).thenReturn(URL_WITH_QUERY);
+        mockHref(URL_WITH_QUERY);
         mockGetCurrentUrl();
         List<WebElement> webElements = List.of(webElement);
         List<WebElement> foundElements = search.filter(webElements, URL_WITH_QUERY);
@@ -277,13 +282,19 @@ class LinkUrlSearchTests
     void testSearchLinksByUrlHrefEqualLinkUrlOpaque()
     {
         search.setCaseSensitiveSearch(true);
-        when(webElement.getAttribute(HREF)).thenReturn(URL_OPAQUE);
+        mockHref(URL_OPAQUE);
         mockGetCurrentUrl();
         List<WebElement> webElements = List.of(webElement);
         List<WebElement> foundElements = search.filter(webElements, URL_OPAQUE);
         assertEquals(webElements, foundElements);
     }
 
+    private void mockHref(String href)
+    {
+        when(elementPropertiesActions.getAttributeValues(List.of(webElement), HREF)).thenReturn(
+                Collections.singletonList(href));
+    }
+
     @SuppressWarnings("unchecked")
     private void testJavascriptActionsWasCalled()
     {
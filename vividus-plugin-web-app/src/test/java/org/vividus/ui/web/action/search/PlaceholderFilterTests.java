@@ -30,17 +30,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 
 @ExtendWith(MockitoExtension.class)
 class PlaceholderFilterTests
 {
     private static final String TEST_PLACEHOLDER = "testPlaceholder";
+    private static final String PLACEHOLDER = "placeholder";
 
     private List<WebElement> webElements;
 
     @Mock
     private WebElement webElement;
 
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
+
     @InjectMocks
     private PlaceholderFilter filter;
 
@@ -53,7 +58,8 @@ class PlaceholderFilterTests
     @Test
     void testPlaceholderFilter()
     {
-        when(webElement.getAttribute("placeholder")).thenReturn(TEST_PLACEHOLDER);
+        when(elementPropertiesActions.getAttributeValues(webElements, PLACEHOLDER))
+                .thenReturn(List.of(TEST_PLACEHOLDER));
         List<WebElement> foundElements = filter.filter(webElements, TEST_PLACEHOLDER);
         assertEquals(webElements, foundElements);
     }
@@ -61,6 +67,8 @@ class PlaceholderFilterTests
     @Test
     void testPlaceholderFilteredOut()
     {
+        when(elementPropertiesActions.getAttributeValues(webElements, PLACEHOLDER))
+                .thenReturn(List.of(TEST_PLACEHOLDER));
         List<WebElement> foundElements = filter.filter(webElements, "anyText");
         assertNotEquals(webElements, foundElements);
     }
@@ -69,7 +77,7 @@ class PlaceholderFilterTests
     void testPlaceholderFilterNull()
     {
         List<WebElement> foundElements = filter.filter(webElements, null);
-        verifyNoInteractions(webElement);
+        verifyNoInteractions(webElement, elementPropertiesActions);
         assertEquals(webElements, foundElements);
     }
 
@@ -77,7 +85,7 @@ class PlaceholderFilterTests
     void testPlaceholderFilterEmpty()
     {
         List<WebElement> foundElements = filter.filter(webElements, "");
-        verifyNoInteractions(webElement);
+        verifyNoInteractions(webElement, elementPropertiesActions);
         assertEquals(webElements, foundElements);
     }
 }
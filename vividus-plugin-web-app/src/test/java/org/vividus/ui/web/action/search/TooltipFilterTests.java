@@ -20,15 +20,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openqa.selenium.WebElement;
+import org.vividus.ui.web.action.IElementPropertiesActions;
 
 @ExtendWith(MockitoExtension.class)
 class TooltipFilterTests
@@ -36,23 +38,27 @@ class TooltipFilterTests
     private static final String TITLE = "title";
     private static final String TOOLTIP = "tooltip";
 
-    private final SearchParameters parameters = new SearchParameters("value", Visibility.ALL, false);
-    private final TooltipFilter search = new TooltipFilter();
-    private final List<WebElement> webElements = new ArrayList<>();
+    private List<WebElement> webElements;
 
     @Mock
     private WebElement webElement;
 
+    @Mock
+    private IElementPropertiesActions elementPropertiesActions;
+
+    @InjectMocks
+    private TooltipFilter search;
+
     @BeforeEach
     void beforeEach()
     {
-        webElements.add(webElement);
+        webElements = List.of(webElement);
     }
 
     @Test
     void testSearchLinksByUrlPart()
     {
-        when(webElement.getAttribute(TITLE)).thenReturn(TOOLTIP);
+        when(elementPropertiesActions.getAttributeValues(webElements, TITLE)).thenReturn(List.of(TOOLTIP));
         List<WebElement> foundElements = search.filter(webElements, TOOLTIP);
         assertEquals(webElements, foundElements);
     }
@@ -74,7 +80,7 @@ class TooltipFilterTests
     @Test
     void testSearchLinksByUrlPartNotMatch()
     {
-        when(webElement.getAttribute(TITLE)).thenReturn("otherTooltip");
+        when(elementPropertiesActions.getAttributeValues(webElements, TITLE)).thenReturn(List.of("otherTooltip"));
         List<WebElement> foundElements = search.filter(webElements, TOOLTIP);
         assertTrue(foundElements.isEmpty());
     }
@@ -82,7 +88,8 @@ class TooltipFilterTests
     @Test
     void testSearchLinksByUrlPartNoHref()
     {
-        when(webElement.getAttribute(TITLE)).thenReturn(null);
+        when(elementPropertiesActions.getAttributeValues(webElements, TITLE))
+                .thenReturn(Collections.singletonList(null));
         List<WebElement> foundElements = search.filter(webElements, TOOLTIP);
         assertTrue(foundElements.isEmpty());
     }
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.vividus.testcontext.SimpleTestContext;
+import org.vividus.ui.web.action.IJavascriptActions;
+import org.vividus.ui.web.action.search.ActionAttributeType;
+import org.vividus.ui.web.action.search.SearchAttributes;
+import org.vividus.ui.web.event.PageLoadEndEvent;
+import org.vividus.ui.web.event.WebDriverQuitEvent;
+
+@ExtendWith(MockitoExtension.class)
+class ElementLookupCacheTests
+{
+    private static final String DOM_STATE = "k5x1:0";
+    private static final String XPATH = "//div";
+    private static final String DOM_STATE_SCRIPT = "dom-state.js";
+
+    private final WebDriver webDriver = mock(WebDriver.class);
+
+    @Mock
+    private IJavascriptActions javascriptActions;
+
+    @Mock
+    private SearchContext searchContext;
+
+    @Mock
+    private WebElement webElement;
+
+    @Mock
+    private Supplier<List<WebElement>> finder;
+
+    @InjectMocks
+    private ElementLookupCache elementLookupCache;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        elementLookupCache.setTestContext(new SimpleTestContext());
+        elementLookupCache.setEnabled(true);
+    }
+
+    @Test
+    void shouldReuseElementsFoundInUnchangedDom()
+    {
+        mockDomState(DOM_STATE, DOM_STATE, DOM_STATE);
+        when(finder.get()).thenReturn(List.of(webElement));
+        assertEquals(List.of(webElement), findElements(createSearchAttributes()));
+        List<WebElement> cachedElements = findElements(createSearchAttributes());
+        assertEquals(List.of(webElement), cachedElements);
+        cachedElements.clear();
+        assertEquals(List.of(webElement), findElements(createSearchAttributes()));
+        verify(finder).get();
+    }
+
+    @Test
+    void shouldLookUpElementsAgainIfDomIsChanged()
+    {
+        mockDomState(DOM_STATE, "k5x1:1");
+        when(finder.get()).thenReturn(List.of(webElement));
+        findElements(createSearchAttributes());
+        findElements(createSearchAttributes());
+        verify(finder, times(2)).get();
+    }
+
+    @Test
+    void shouldNotCacheEmptyResults()
+    {
+        mockDomState(DOM_STATE);
+        when(finder.get()).thenReturn(List.of());
+        findElements(createSearchAttributes());
+        findElements(createSearchAttributes());
+        verify(finder, times(2)).get();
+        verifyDomStateChecks(1);
+    }
+
+    @Test
+    void shouldNotCheckDomStateOnCacheMiss()
+    {
+        mockDomState(DOM_STATE, DOM_STATE);
+        when(finder.get()).thenReturn(List.of(webElement));
+        findElements(createSearchAttributes());
+        SearchAttributes otherSearchAttributes = new SearchAttributes(ActionAttributeType.CSS_SELECTOR, "div");
+        findElements(otherSearchAttributes);
+        verifyDomStateChecks(1);
+        assertEquals(List.of(webElement), findElements(otherSearchAttributes));
+        verify(finder, times(2)).get();
+        verifyDomStateChecks(2);
+    }
+
+    @Test
+    void shouldLookUpElementsAgainAfterInteractions()
+    {
+        mockDomState(DOM_STATE);
+        when(finder.get()).thenReturn(List.of(webElement));
+        findElements(createSearchAttributes());
+        elementLookupCache.afterClickOn(webElement, webDriver);
+        findElements(createSearchAttributes());
+        elementLookupCache.afterChangeValueOf(webElement, webDriver, new CharSequence[0]);
+        findElements(createSearchAttributes());
+        elementLookupCache.afterAlertAccept(webDriver);
+        findElements(createSearchAttributes());
+        elementLookupCache.afterAlertDismiss(webDriver);
+        findElements(createSearchAttributes());
+        elementLookupCache.invalidate();
+        findElements(createSearchAttributes());
+        verify(finder, times(6)).get();
+        verifyDomStateChecks(1);
+    }
+
+    @Test
+    void shouldIgnoreInvalidationOfEmptyCache()
+    {
+        elementLookupCache.invalidate();
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldLookUpElementsAgainAfterPageLoad()
+    {
+        mockDomState(DOM_STATE, DOM_STATE);
+        when(finder.get()).thenReturn(List.of(webElement));
+        findElements(createSearchAttributes());
+        elementLookupCache.onPageLoadEnd(new PageLoadEndEvent(true, webDriver));
+        findElements(createSearchAttributes());
+        elementLookupCache.onWebDriverQuit(new WebDriverQuitEvent());
+        findElements(createSearchAttributes());
+        verify(finder, times(3)).get();
+    }
+
+    @Test
+    void shouldBypassCacheIfDomStateIsUnavailable()
+    {
+        when(javascriptActions.executeScriptFromResource(ElementLookupCache.class, DOM_STATE_SCRIPT))
+                .thenThrow(new WebDriverException()).thenReturn(null);
+        List<WebElement> elements = List.of(webElement);
+        when(finder.get()).thenReturn(elements);
+        assertSame(elements, findElements(createSearchAttributes()));
+        assertSame(elements, findElements(createSearchAttributes()));
+        verify(finder, times(2)).get();
+    }
+
+    @Test
+    void shouldBypassCacheForSearchWithChildAttributes()
+    {
+        SearchAttributes searchAttributes = createSearchAttributes();
+        searchAttributes.addChildSearchAttributes(createSearchAttributes());
+        List<WebElement> elements = List.of(webElement);
+        when(finder.get()).thenReturn(elements);
+        assertEquals(elements, findElements(searchAttributes));
+        verifyNoInteractions(javascriptActions);
+    }
+
+    @Test
+    void shouldBypassCacheIfDisabled()
+    {
+        elementLookupCache.setEnabled(false);
+        List<WebElement> elements = List.of(webElement);
+        when(finder.get()).thenReturn(elements);
+        assertSame(elements, findElements(createSearchAttributes()));
+        verifyNoInteractions(javascriptActions);
+    }
+
+    private List<WebElement> findElements(SearchAttributes searchAttributes)
+    {
+        return elementLookupCache.findElements(searchContext, searchAttributes, finder);
+    }
+
+    private void mockDomState(String state, String... nextStates)
+    {
+        when(javascriptActions.<String>executeScriptFromResource(ElementLookupCache.class, DOM_STATE_SCRIPT))
+                .thenReturn(state, nextStates);
+    }
+
+    private void verifyDomStateChecks(int count)
+    {
+        verify(javascriptActions, times(count)).executeScriptFromResource(ElementLookupCache.class,
+                DOM_STATE_SCRIPT);
+    }
+
+    private static SearchAttributes createSearchAttributes()
+    {
+        return new SearchAttributes(ActionAttributeType.XPATH, XPATH);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.ui.web.listener;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.vividus.selenium.logging.BrowserLogCollector;
+import org.vividus.ui.web.event.PageLoadEndEvent;
+
+class ConsoleHookPageLoadListenerTests
+{
+    private static final String URL = "url";
+
+    private final BrowserLogCollector browserLogCollector = mock(BrowserLogCollector.class);
+    private final WebDriver webDriver = mock(WebDriver.class);
+    private final ConsoleHookPageLoadListener listener = new ConsoleHookPageLoadListener();
+
+    ConsoleHookPageLoadListenerTests()
+    {
+        listener.setBrowserLogCollector(browserLogCollector);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> testInstallConsoleHookAfterNavigate()
+    {
+        Consumer<Runnable> test = methodUnderTest ->
+        {
+            clearInvocations(browserLogCollector);
+            methodUnderTest.run();
+            verify(browserLogCollector).installConsoleHook(webDriver);
+        };
+        return Stream.of(
+                dynamicTest("afterNavigateBack", () -> test.accept(() -> listener.afterNavigateBack(webDriver))),
+                dynamicTest("afterNavigateForward", () -> test.accept(() -> listener.afterNavigateForward(webDriver))),
+                dynamicTest("afterNavigateRefresh", () -> test.accept(() -> listener.afterNavigateRefresh(webDriver))),
+                dynamicTest("afterNavigateTo", () -> test.accept(() -> listener.afterNavigateTo(URL, webDriver))),
+                dynamicTest("onPageLoadFinish",
+                    () -> test.accept(() -> listener.onPageLoadFinish(new PageLoadEndEvent(true, webDriver)))));
+    }
+
+    @Test
+    void shouldNotInstallConsoleHookIfNewPageIsNotLoaded()
+    {
+        listener.onPageLoadFinish(new PageLoadEndEvent(false, webDriver));
+        verifyNoInteractions(browserLogCollector);
+    }
+
+    @Test
+    void shouldIgnoreConsoleHookInstallationFailure()
+    {
+        doThrow(WebDriverException.class).when(browserLogCollector).installConsoleHook(webDriver);
+        listener.afterNavigateTo(URL, webDriver);
+        verify(browserLogCollector).installConsoleHook(webDriver);
+    }
+}
@@ -19,6 +19,7 @@ package org.vividus.ui.web.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 
@@ -38,4 +39,13 @@ class ImageUtilsTests
         assertEquals(image.getHeight(), imageFromDisk.getHeight());
         assertEquals(image.getWidth(), imageFromDisk.getWidth());
     }
+
+    @Test
+    void shouldEncodeImageAsPng() throws IOException
+    {
+        BufferedImage image = new BufferedImage(10, 20, 5);
+        BufferedImage decodedImage = ImageIO.read(new ByteArrayInputStream(ImageUtils.encodeAsPng(image)));
+        assertEquals(image.getHeight(), decodedImage.getHeight());
+        assertEquals(image.getWidth(), decodedImage.getWidth());
+    }
 }
@@ -46,7 +46,8 @@ public class XmlSteps
     }
 
     /**
-     * Save XML data by XPath to the variable
+     * Save XML data by XPath to the variable. If XPath is a simple absolute path (e.g. <b>/root/item[2]/*</b>), XML is
+     * read only till the first matched element without parsing of the whole XML.
      * @param xpath XPath locator
      * @param xml XML
      * @param scopes The set of variable scopes (comma separated list of scopes e.g.: STORY, NEXT_BATCHES)
@@ -55,7 +56,7 @@ public class XmlSteps
     @When("I save data found by xpath `$xpath` in XML `$xml` to $scopes variable `$variableName`")
     public void saveDataByXpath(String xpath, String xml, Set<VariableScope> scopes, String variableName)
     {
-        XmlUtils.getXmlByXpath(xml, xpath).ifPresent(
+        XmlUtils.getXmlByXpathStreaming(xml, xpath).ifPresent(
             data -> bddVariableContext.putVariable(scopes, variableName, data));
     }
 
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.xml;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * XPath evaluated in a single pass over the StAX event stream: only the first matched element is materialized as DOM
+ * node, the rest of the document is read only to check it is well-formed. Only absolute paths consisting of child steps selecting elements by
+ * name (elements without namespace) or by wildcard with optional positional predicate (e.g. <b>/root/item[2]/*</b>)
+ * are supported.
+ */
+final class StreamingXpath
+{
+    private static final Pattern STEP = Pattern.compile("/([A-Za-z_][\\w.-]*|\\*)(?:\\[([1-9]\\d{0,8})\\])?");
+    private static final String WILDCARD = "*";
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static
+    {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XML_INPUT_FACTORY.setProperty("http://java.sun.com/xml/stream/properties/report-cdata-event", true);
+    }
+
+    private final List<String> names;
+    private final List<Integer> positions;
+
+    private StreamingXpath(List<String> names, List<Integer> positions)
+    {
+        this.names = names;
+        this.positions = positions;
+    }
+
+    static Optional<StreamingXpath> compile(String xpath)
+    {
+        List<String> names = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Matcher matcher = STEP.matcher(xpath);
+        for (int position = 0; position < xpath.length(); position = matcher.end())
+        {
+            matcher.region(position, xpath.length());
+            if (!matcher.lookingAt())
+            {
+                return Optional.empty();
+            }
+            names.add(matcher.group(1));
+            positions.add(matcher.group(2) != null ? Integer.valueOf(matcher.group(2)) : null);
+        }
+        return names.isEmpty() ? Optional.empty() : Optional.of(new StreamingXpath(names, positions));
+    }
+
+    /**
+     * Finds the first element matching the XPath in document order, the whole XML is read to make sure it is
+     * well-formed
+     * @param xml XML
+     * @param document Document to create the found element in
+     * @return Found element or <code>null</code> if nothing is found
+     * @throws XMLStreamException If XML is malformed
+     */
+    Node findFirst(Reader xml, Document document) throws XMLStreamException
+    {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+        try
+        {
+            int[] counters = new int[names.size() + 1];
+            int depth = 0;
+            int matchedDepth = 0;
+            while (reader.hasNext())
+            {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT)
+                {
+                    depth++;
+                    if (depth - 1 == matchedDepth && depth <= names.size() && matches(reader, depth, counters))
+                    {
+                        if (depth == names.size())
+                        {
+                            Element element = readElement(reader, document);
+                            skipRemaining(reader);
+                            return element;
+                        }
+                        matchedDepth = depth;
+                        counters[depth] = 0;
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT)
+                {
+                    if (matchedDepth == depth)
+                    {
+                        matchedDepth--;
+                    }
+                    depth--;
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            reader.close();
+        }
+    }
+
+    private static void skipRemaining(XMLStreamReader reader) throws XMLStreamException
+    {
+        while (reader.hasNext())
+        {
+            reader.next();
+        }
+    }
+
+    private boolean matches(XMLStreamReader reader, int depth, int[] counters)
+    {
+        String name = names.get(depth - 1);
+        if (!WILDCARD.equals(name)
+                && (!name.equals(reader.getLocalName()) || !StringUtils.isEmpty(reader.getNamespaceURI())))
+        {
+            return false;
+        }
+        counters[depth - 1]++;
+        Integer position = positions.get(depth - 1);
+        return position == null || position == counters[depth - 1];
+    }
+
+    private static Element readElement(XMLStreamReader reader, Document document) throws XMLStreamException
+    {
+        Element root = createElement(reader, document);
+        Node current = root;
+        while (current != null)
+        {
+            switch (reader.next())
+            {
+                case XMLStreamConstants.START_ELEMENT:
+                    current = current.appendChild(createElement(reader, document));
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    current = current == root ? null : current.getParentNode();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    current.appendChild(document.createTextNode(reader.getText()));
+                    break;
+                case XMLStreamConstants.CDATA:
+                    current.appendChild(document.createCDATASection(reader.getText()));
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    current.appendChild(document.createComment(reader.getText()));
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    current.appendChild(document.createProcessingInstruction(reader.getPITarget(),
+                            reader.getPIData()));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return root;
+    }
+
+    private static Element createElement(XMLStreamReader reader, Document document)
+    {
+        Element element = document.createElementNS(StringUtils.defaultIfEmpty(reader.getNamespaceURI(), null),
+                toQualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++)
+        {
+            String prefix = reader.getNamespacePrefix(i);
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, StringUtils.isEmpty(prefix)
+                    ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ':' + prefix,
+                    reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+        {
+            element.setAttributeNS(StringUtils.defaultIfEmpty(reader.getAttributeNamespace(i), null),
+                    toQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    private static String toQualifiedName(String prefix, String localName)
+    {
+        return StringUtils.isEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+}
@@ -19,8 +19,10 @@ package org.vividus.util.xml;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -28,22 +30,35 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.vividus.util.function.CheckedSupplier;
 import org.vividus.util.pool.UnsafeGenericObjectPool;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -63,6 +78,25 @@ public final class XmlUtils
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final UnsafeGenericObjectPool<DocumentBuilder> DOCUMENT_BUILDER;
 
+    private static final int MAX_CACHED_XPATHS = 1000;
+    private static final int MAX_CACHED_STYLESHEETS = 100;
+    private static final int MAX_CACHED_SCHEMAS = 100;
+    private static final int MAX_CACHED_DOCUMENTS = 10;
+
+    // Compiled XPath expressions are not thread-safe, so each thread has its own cache
+    private static final ThreadLocal<Cache<String, XPathExpression>> XPATH_EXPRESSIONS = ThreadLocal.withInitial(
+        () -> CacheBuilder.newBuilder().maximumSize(MAX_CACHED_XPATHS).build());
+    // Documents, stylesheets and schemas are keyed by hash of their content to not keep the content in memory. DOM
+    // documents are not thread-safe even for reading, so the cached documents are accessed under their own locks
+    private static final Cache<HashCode, Document> DOCUMENTS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_DOCUMENTS).softValues().build();
+    private static final Cache<String, Optional<StreamingXpath>> STREAMING_XPATHS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_XPATHS).build();
+    private static final Cache<HashCode, Templates> TEMPLATES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_STYLESHEETS).build();
+    private static final Cache<HashCode, Schema> SCHEMAS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SCHEMAS).build();
+
     static
     {
         DOCUMENT_BUILDER_FACTORY.setNamespaceAware(true);
@@ -94,6 +128,11 @@ public final class XmlUtils
     {
     }
 
+    /**
+     * Parses XML to document, the returned document is owned by the caller and can be modified
+     * @param xml XML
+     * @return Parsed document
+     */
     public static Document convertToDocument(String xml)
     {
         return DOCUMENT_BUILDER.apply(documentBuilder ->
@@ -110,56 +149,97 @@ public final class XmlUtils
     }
 
     /**
-     * Search by XPath in XML
+     * Search by XPath in XML. The compiled XPath expressions are cached per thread, the recently parsed XML documents
+     * are cached globally and are held by soft references.
      * @param xml XML
      * @param xpath xpath
      * @return Search result
      */
     public static Optional<String> getXmlByXpath(String xml, String xpath)
     {
-        return XPATH_FACTORY.apply(xPathFactory -> {
+        XPathExpression expression = getFromCache(XPATH_EXPRESSIONS.get(), xpath, () -> compileXpath(xpath));
+        Document document = getFromCache(DOCUMENTS, hash(xml), () -> convertToDocument(xml));
+        try
+        {
+            synchronized (document)
+            {
+                NodeList nodeList = (NodeList) expression.evaluate(document, XPathConstants.NODESET);
+                return transform(new DOMSource(nodeList.item(0)), createOutputPropertiesOmittingDeclaration());
+            }
+        }
+        catch (XPathExpressionException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Search by XPath in XML without parsing of the whole XML: if XPath is simple, i.e. it is absolute path
+     * consisting of child steps selecting elements by name or by wildcard with optional positional predicate
+     * (e.g. <b>/root/item[2]/*</b>), XML is read as a stream and only the first matched element is materialized, the
+     * rest of XML is just checked to be well-formed, otherwise the search is performed in the same way as by
+     * {@link #getXmlByXpath(String, String)}.
+     * @param xml XML
+     * @param xpath xpath
+     * @return Search result
+     */
+    public static Optional<String> getXmlByXpathStreaming(String xml, String xpath)
+    {
+        Optional<StreamingXpath> streamingXpath = getFromCache(STREAMING_XPATHS, xpath,
+            () -> StreamingXpath.compile(xpath));
+        if (streamingXpath.isEmpty())
+        {
+            return getXmlByXpath(xml, xpath);
+        }
+        Node node = DOCUMENT_BUILDER.apply(documentBuilder ->
+        {
             try
             {
-                InputSource source = createInputSource(xml);
-                NodeList nodeList = (NodeList) xPathFactory.newXPath().evaluate(xpath, source, XPathConstants.NODESET);
-                Node singleNode = nodeList.item(0);
-                Properties outputProperties = new Properties();
-                outputProperties.setProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
-                return transform(new DOMSource(singleNode), outputProperties);
+                return streamingXpath.get().findFirst(new StringReader(xml), documentBuilder.newDocument());
             }
-            catch (XPathExpressionException e)
+            catch (XMLStreamException e)
             {
                 throw new IllegalStateException(e.getMessage(), e);
             }
         });
+        return transform(new DOMSource(node), createOutputPropertiesOmittingDeclaration());
     }
 
+    /**
+     * Validates XML against XSD, the compiled XSD schemas are cached
+     * @param xml XML
+     * @param xsd XSD
+     * @throws SAXException If XSD is invalid or XML is not valid against XSD
+     * @throws IOException If an I/O error occurs
+     */
     public static void validateXmlAgainstXsd(String xml, String xsd) throws SAXException, IOException
     {
-        SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
-                .newSchema(createStreamSource(xsd))
+        getFromCache(SCHEMAS, hash(xsd), () -> SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                .newSchema(createStreamSource(xsd)))
                 .newValidator()
                 .validate(createStreamSource(xml));
     }
 
+    /**
+     * Transforms XML using XSLT, the compiled XSLT stylesheets are cached
+     * @param xml XML
+     * @param xslt XSLT
+     * @param transformedXmlConsumer Consumer of the transformed XML
+     * @param transformerExceptionConsumer Consumer of the error occurred at XSLT compilation or XML transformation
+     */
     public static void transform(String xml, String xslt, Consumer<String> transformedXmlConsumer,
             Consumer<TransformerException> transformerExceptionConsumer)
     {
-        StreamSource xmlSource = createStreamSource(xml);
-        StreamSource xsltSource = createStreamSource(xslt);
-        TRANSFORMER_FACTORY.accept(transformerFactory ->
+        try
         {
-            try
-            {
-                Transformer transformer = transformerFactory.newTransformer(xsltSource);
-                String transformedXml = transform(xmlSource, transformer);
-                transformedXmlConsumer.accept(transformedXml);
-            }
-            catch (TransformerException e)
-            {
-                transformerExceptionConsumer.accept(e);
-            }
-        });
+            Templates templates = getFromCache(TEMPLATES, hash(xslt), () -> compileXslt(xslt));
+            String transformedXml = transform(createStreamSource(xml), templates.newTransformer());
+            transformedXmlConsumer.accept(transformedXml);
+        }
+        catch (TransformerException e)
+        {
+            transformerExceptionConsumer.accept(e);
+        }
     }
 
     /**
@@ -185,6 +265,77 @@ public final class XmlUtils
         return transform(createStreamSource(xml), outputProperties);
     }
 
+    private static XPathExpression compileXpath(String xpath)
+    {
+        return XPATH_FACTORY.apply(xPathFactory ->
+        {
+            try
+            {
+                return xPathFactory.newXPath().compile(xpath);
+            }
+            catch (XPathExpressionException e)
+            {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
+    private static Templates compileXslt(String xslt) throws TransformerConfigurationException
+    {
+        // Transformer factories are not thread-safe, so the pooled ones are used, the compilation error is returned
+        // from the pool as is to not get it wrapped
+        Object templates = TRANSFORMER_FACTORY.<Object>apply(transformerFactory ->
+        {
+            try
+            {
+                return transformerFactory.newTemplates(createStreamSource(xslt));
+            }
+            catch (TransformerConfigurationException e)
+            {
+                return e;
+            }
+        });
+        if (templates instanceof TransformerConfigurationException)
+        {
+            throw (TransformerConfigurationException) templates;
+        }
+        return (Templates) templates;
+    }
+
+    private static HashCode hash(String content)
+    {
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V, E extends Exception> V getFromCache(Cache<K, V> cache, K key,
+            CheckedSupplier<V, E> loader) throws E
+    {
+        try
+        {
+            return cache.get(key, loader::get);
+        }
+        catch (ExecutionException e)
+        {
+            throw (E) e.getCause();
+        }
+        catch (UncheckedExecutionException e)
+        {
+            throw (RuntimeException) e.getCause();
+        }
+        catch (ExecutionError e)
+        {
+            throw (Error) e.getCause();
+        }
+    }
+
+    private static Properties createOutputPropertiesOmittingDeclaration()
+    {
+        Properties outputProperties = new Properties();
+        outputProperties.setProperty(OutputKeys.OMIT_XML_DECLARATION, YES);
+        return outputProperties;
+    }
+
     private static Optional<String> transform(Source xmlSource, Properties outputProperties)
     {
         return TRANSFORMER_FACTORY.apply(transformerFactory -> {
@@ -23,7 +23,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.xml.transform.TransformerException;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.vividus.util.ResourceUtils;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
@@ -45,6 +49,9 @@ class XmlUtilsTests
             + "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
             + "  <xs:element name=\"test\" type=\"xs:string\"/>"
             + "</xs:schema>";
+    private static final String COMPLEX_XML = "<?xml version=\"1.0\"?><root><a id=\"1\">t</a><!-- c --><a id=\"2\">"
+            + "<x:c xmlns:x=\"urn:x\" attr=\"&amp;\">v&lt;</x:c><![CDATA[<cd>]]><!--com--><?pi data?></a>"
+            + "<b><a>z</a></b><n xmlns=\"urn:d\"><m/></n></root>";
 
     @Test
     void shouldReturnXmlByXpath()
@@ -58,6 +65,43 @@ class XmlUtilsTests
         assertThrows(IllegalStateException.class, () -> XmlUtils.getXmlByXpath(XML, "<invalidXpath>"));
     }
 
+    @Test
+    void shouldReturnSameXmlByXpathFromCachedDocument()
+    {
+        String xpath = "/test/data[2]";
+        assertEquals(Optional.of("<data>value2</data>"), XmlUtils.getXmlByXpath(XML, xpath));
+        assertEquals(Optional.of("<data>value2</data>"), XmlUtils.getXmlByXpath(XML, xpath));
+    }
+
+    @Test
+    void shouldReturnXmlByXpathFromDifferentThreads()
+    {
+        String xpath = "/test/data[1]/text()";
+        assertEquals(List.of("value1"), IntStream.range(0, 100).parallel()
+                .mapToObj(i -> XmlUtils.getXmlByXpath(XML, xpath).get()).distinct().collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/root/a[2]", "/root/a", "/root/*[3]", "/root/b/a", "/root/c", "/root", "/*/*[4]",
+            "/root/n", "/root/a[2]/*", "//a[@id='2']", "/root/a/text()" })
+    void shouldReturnXmlByXpathStreaming(String xpath)
+    {
+        assertEquals(XmlUtils.getXmlByXpath(COMPLEX_XML, xpath), XmlUtils.getXmlByXpathStreaming(COMPLEX_XML, xpath));
+    }
+
+    @Test
+    void shouldThrowExceptionInCaseOfInvalidXmlAfterFirstMatchedElementOnStreaming()
+    {
+        assertThrows(IllegalStateException.class,
+            () -> XmlUtils.getXmlByXpathStreaming("<root><a>1</a><b>", "/root/a"));
+    }
+
+    @Test
+    void shouldThrowExceptionInCaseOfInvalidXmlOnStreaming()
+    {
+        assertThrows(IllegalStateException.class, () -> XmlUtils.getXmlByXpathStreaming("<root><b>", "/root/a"));
+    }
+
     @Test
     void shouldConvertXmlStringToDocument()
     {
@@ -17,6 +17,8 @@
 package org.vividus.reporter.model;
 
 import java.net.URLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import com.google.common.io.Files;
 
@@ -24,15 +26,13 @@ import org.apache.commons.lang3.ArrayUtils;
 
 public class Attachment
 {
-    private final byte[] content;
+    private final CompletableFuture<byte[]> content;
     private final String title;
     private final String contentType;
 
     public Attachment(byte[] content, String title, String contentType)
     {
-        this.content = ArrayUtils.clone(content);
-        this.title = title;
-        this.contentType = contentType;
+        this(CompletableFuture.completedFuture(ArrayUtils.clone(content)), title, contentType);
     }
 
     public Attachment(byte[] content, String fileName)
@@ -40,14 +40,45 @@ public class Attachment
         this(content, Files.getNameWithoutExtension(fileName), probeContentType(fileName));
     }
 
+    /**
+     * Creates the attachment which content is produced asynchronously, e.g. an image being encoded in background
+     * @param content Future content of the attachment
+     * @param fileName Name of the attachment file used to define the title and the content type
+     */
+    public Attachment(CompletableFuture<byte[]> content, String fileName)
+    {
+        this(content, Files.getNameWithoutExtension(fileName), probeContentType(fileName));
+    }
+
+    private Attachment(CompletableFuture<byte[]> content, String title, String contentType)
+    {
+        this.content = content;
+        this.title = title;
+        this.contentType = contentType;
+    }
+
     private static String probeContentType(String fileName)
     {
         return fileName.endsWith(".json") ? "application/json" : URLConnection.guessContentTypeFromName(fileName);
     }
 
+    /**
+     * Gets the content of the attachment, waits for the content to be produced if it is not ready yet
+     * @return Content of the attachment
+     */
     public byte[] getContent()
     {
-        return ArrayUtils.clone(content);
+        return ArrayUtils.clone(content.join());
+    }
+
+    public boolean isContentReady()
+    {
+        return content.isDone();
+    }
+
+    public CompletionStage<byte[]> getContentAsync()
+    {
+        return content.thenApply(ArrayUtils::clone);
     }
 
     public String getTitle()
@@ -18,8 +18,11 @@ package org.vividus.reporter.model;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,4 +67,19 @@ class AttachmentTests
     {
         assertEquals(expectedContentType, new Attachment(CONTENT, fileName).getContentType());
     }
+
+    @Test
+    void shouldProvideDeferredContent()
+    {
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        Attachment deferredAttachment = new Attachment(content, "screenshot.png");
+        assertEquals("screenshot", deferredAttachment.getTitle());
+        assertEquals("image/png", deferredAttachment.getContentType());
+        assertFalse(deferredAttachment.isContentReady());
+        CompletableFuture<byte[]> asyncContent = deferredAttachment.getContentAsync().toCompletableFuture();
+        content.complete(CONTENT);
+        assertTrue(deferredAttachment.isContentReady());
+        assertArrayEquals(CONTENT, asyncContent.join());
+        assertArrayEquals(CONTENT, deferredAttachment.getContent());
+    }
 }
@@ -16,12 +16,18 @@
 
 package org.vividus.util.json;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -31,6 +37,9 @@ import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 
+import org.apache.commons.lang3.Validate;
+import org.vividus.util.function.CheckedSupplier;
+
 public final class JsonPathUtils
 {
     static
@@ -43,7 +52,8 @@ public final class JsonPathUtils
     }
 
     /**
-     * Gets data from feed using jsonPath
+     * Gets data from feed using jsonPath, JSON tree is not built if JSON path consists of properties, array indices
+     * and wildcards only
      * @param <T> resulting type
      * @param json JSON String
      * @param jsonPath JSON path
@@ -51,7 +61,48 @@ public final class JsonPathUtils
      */
     public static <T> T getData(String json, String jsonPath)
     {
-        return JsonPath.read(json, jsonPath);
+        if (json == null || json.isEmpty())
+        {
+            return JsonPath.read(json, jsonPath);
+        }
+        return read(jsonPath, () -> StreamingJsonPath.createParser(json), () -> JsonPath.read(json, jsonPath));
+    }
+
+    /**
+     * Gets data from JSON stream using jsonPath, the stream is read once if JSON path consists of properties, array
+     * indices and wildcards only, otherwise the stream is reset and the whole JSON is parsed
+     * @param <T> resulting type
+     * @param json JSON stream supporting mark and reset, e.g. {@link java.io.ByteArrayInputStream}
+     * @param jsonPath JSON path
+     * @return desired data from JSON
+     */
+    public static <T> T getData(InputStream json, String jsonPath)
+    {
+        Validate.isTrue(json.markSupported(), "JSON stream must support mark and reset");
+        json.mark(Integer.MAX_VALUE);
+        return read(jsonPath, () -> StreamingJsonPath.createParser(json), () -> {
+            try
+            {
+                json.reset();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+            return JsonPath.parse(json).read(jsonPath);
+        });
+    }
+
+    /**
+     * Gets data from already parsed JSON using jsonPath, no parsing is performed
+     * @param <T> resulting type
+     * @param parsedJson JSON parsed into maps, lists and values
+     * @param jsonPath JSON path
+     * @return desired data from JSON
+     */
+    public static <T> T getDataFromParsedJson(Object parsedJson, String jsonPath)
+    {
+        return JsonPath.parse(parsedJson).read(jsonPath);
     }
 
     /**
@@ -67,6 +118,36 @@ public final class JsonPathUtils
         return jsonPaths.stream().map(jsonPathContext::<T>read).collect(Collectors.toList());
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T read(String jsonPath, CheckedSupplier<JsonParser, IOException> parserFactory,
+            Supplier<T> fullEvaluation)
+    {
+        Optional<StreamingJsonPath> streamingJsonPath = StreamingJsonPath.compile(jsonPath);
+        if (streamingJsonPath.isPresent())
+        {
+            try (JsonParser parser = parserFactory.get())
+            {
+                List<Object> results = streamingJsonPath.get().read(parser);
+                if (results != null)
+                {
+                    if (!streamingJsonPath.get().isDefinite())
+                    {
+                        return (T) results;
+                    }
+                    if (results.size() == 1)
+                    {
+                        return (T) results.get(0);
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                // Invalid JSON is reported by the full evaluation
+            }
+        }
+        return fullEvaluation.get();
+    }
+
     public static void setJacksonConfiguration()
     {
         Configuration.setDefaults(new JacksonConfiguration());
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * JSON path evaluated in a single pass over the JSON token stream: only the matched values are materialized, the
+ * rest of the document is skipped. Only the paths consisting of properties, non-negative array indices and wildcards
+ * are supported. The evaluation is aborted in the cases when JSON path engine would fail, so the full evaluation is
+ * able to report the failure.
+ */
+final class StreamingJsonPath
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern PATH_TOKEN = Pattern.compile("\\['([^']*)'\\]|\\[(\\d{1,9})\\]|(\\[\\*\\])");
+    private static final Object WILDCARD = new Object();
+
+    private final List<Object> tokens;
+    private final int firstWildcardIndex;
+
+    private StreamingJsonPath(List<Object> tokens)
+    {
+        this.tokens = tokens;
+        int wildcardIndex = tokens.indexOf(WILDCARD);
+        this.firstWildcardIndex = wildcardIndex < 0 ? tokens.size() : wildcardIndex;
+    }
+
+    static Optional<StreamingJsonPath> compile(String jsonPath)
+    {
+        if (jsonPath.indexOf('\\') >= 0)
+        {
+            return Optional.empty();
+        }
+        String path;
+        try
+        {
+            path = JsonPath.compile(jsonPath).getPath();
+        }
+        catch (InvalidPathException e)
+        {
+            return Optional.empty();
+        }
+        if (!path.startsWith("$"))
+        {
+            return Optional.empty();
+        }
+        List<Object> tokens = new ArrayList<>();
+        Matcher matcher = PATH_TOKEN.matcher(path);
+        for (int position = 1; position < path.length(); position = matcher.end())
+        {
+            matcher.region(position, path.length());
+            if (!matcher.lookingAt())
+            {
+                return Optional.empty();
+            }
+            if (matcher.group(1) != null)
+            {
+                tokens.add(matcher.group(1));
+            }
+            else if (matcher.group(2) != null)
+            {
+                tokens.add(Integer.valueOf(matcher.group(2)));
+            }
+            else
+            {
+                tokens.add(WILDCARD);
+            }
+        }
+        return Optional.of(new StreamingJsonPath(tokens));
+    }
+
+    static JsonParser createParser(String json) throws IOException
+    {
+        return OBJECT_MAPPER.getFactory().createParser(json);
+    }
+
+    static JsonParser createParser(InputStream json) throws IOException
+    {
+        return OBJECT_MAPPER.getFactory().createParser(json).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    boolean isDefinite()
+    {
+        return firstWildcardIndex == tokens.size();
+    }
+
+    /**
+     * Reads the values matching the path
+     * @param parser Parser of JSON
+     * @return Matched values in the document order or <code>null</code> if the path must be evaluated using the
+     * full JSON path engine
+     * @throws IOException if the JSON is not valid
+     */
+    List<Object> read(JsonParser parser) throws IOException
+    {
+        if (parser.nextToken() == null)
+        {
+            return null;
+        }
+        List<Object> results = new ArrayList<>();
+        return evaluate(parser, 0, results) ? results : null;
+    }
+
+    private boolean evaluate(JsonParser parser, int index, List<Object> results) throws IOException
+    {
+        if (index == tokens.size())
+        {
+            results.add(OBJECT_MAPPER.readValue(parser, Object.class));
+            return true;
+        }
+        Object token = tokens.get(index);
+        JsonToken currentToken = parser.currentToken();
+        if (token == WILDCARD)
+        {
+            return evaluateWildcard(parser, index, results, currentToken);
+        }
+        JsonToken expectedToken = token instanceof String ? JsonToken.START_OBJECT : JsonToken.START_ARRAY;
+        if (currentToken != expectedToken)
+        {
+            parser.skipChildren();
+            // JSON path engine fails if the definite part of the path can't be resolved
+            return index > firstWildcardIndex;
+        }
+        return token instanceof String ? evaluateProperty(parser, index, results, (String) token)
+                : evaluateArrayIndex(parser, index, results, (Integer) token);
+    }
+
+    private boolean evaluateWildcard(JsonParser parser, int index, List<Object> results, JsonToken currentToken)
+            throws IOException
+    {
+        if (currentToken == JsonToken.START_OBJECT)
+        {
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                parser.nextToken();
+                if (!evaluate(parser, index + 1, results))
+                {
+                    return false;
+                }
+            }
+        }
+        else if (currentToken == JsonToken.START_ARRAY)
+        {
+            while (parser.nextToken() != JsonToken.END_ARRAY)
+            {
+                if (!evaluate(parser, index + 1, results))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean evaluateProperty(JsonParser parser, int index, List<Object> results, String property)
+            throws IOException
+    {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (property.equals(fieldName))
+            {
+                // Duplicated keys are resolved by the full parsing
+                if (found || !evaluate(parser, index + 1, results))
+                {
+                    return false;
+                }
+                found = true;
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+        return found || index + 1 == tokens.size() || index > firstWildcardIndex;
+    }
+
+    private boolean evaluateArrayIndex(JsonParser parser, int index, List<Object> results, int arrayIndex)
+            throws IOException
+    {
+        int position = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY)
+        {
+            if (position == arrayIndex)
+            {
+                if (!evaluate(parser, index + 1, results))
+                {
+                    return false;
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+            position++;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.util.zip;
+
+import java.util.Map;
+
+public class ZipEntryDetails
+{
+    private final String name;
+    private final long size;
+    private final long crc;
+    private final Map<String, byte[]> checksums;
+
+    public ZipEntryDetails(String name, long size, long crc, Map<String, byte[]> checksums)
+    {
+        this.name = name;
+        this.size = size;
+        this.crc = crc;
+        this.checksums = checksums;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Gets the uncompressed size of the entry
+     * @return size in bytes
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Gets CRC-32 checksum of the uncompressed entry data
+     * @return CRC-32 checksum
+     */
+    public long getCrc()
+    {
+        return crc;
+    }
+
+    /**
+     * Gets the checksum of the uncompressed entry data calculated using the algorithm
+     * @param algorithm name of the algorithm, e.g. <b>SHA-256</b>
+     * @return checksum bytes or <code>null</code> if the checksum was not requested for the algorithm
+     */
+    public byte[] getChecksum(String algorithm)
+    {
+        return checksums.get(algorithm);
+    }
+}
@@ -18,8 +18,15 @@ package org.vividus.util.zip;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -27,11 +34,11 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
 
 public final class ZipUtils
 {
-    private static final byte[] EMPTY = new byte[0];
-
     private ZipUtils()
     {
     }
@@ -53,7 +60,13 @@ public final class ZipUtils
      */
     public static Set<String> readZipEntryNamesFromBytes(byte[] bytes)
     {
-        return readZipEntriesFromBytes(bytes, name -> true, false).keySet();
+        Set<String> entryNames = new LinkedHashSet<>();
+        visitZipEntries(new ByteArrayInputStream(bytes), (entry, zip) ->
+        {
+            entryNames.add(entry.getName());
+            return true;
+        });
+        return entryNames;
     }
 
     /**
@@ -64,31 +77,165 @@ public final class ZipUtils
      */
     public static Map<String, byte[]> readZipEntriesFromBytes(byte[] bytes, Predicate<String> entryNameFilter)
     {
-        return readZipEntriesFromBytes(bytes, entryNameFilter, true);
+        Map<String, byte[]> zipEntries = new HashMap<>();
+        visitZipEntries(new ByteArrayInputStream(bytes), (entry, zip) ->
+        {
+            if (entryNameFilter.test(entry.getName()))
+            {
+                zipEntries.put(entry.getName(), IOUtils.toByteArray(zip));
+            }
+            return true;
+        });
+        return zipEntries;
     }
 
-    private static Map<String, byte[]> readZipEntriesFromBytes(byte[] bytes, Predicate<String> entryNameFilter,
-            boolean readContent)
+    /**
+     * Reads the entries with the given names from ZIP stream, the stream is not read further once all the entries
+     * are found
+     * @param zipStream stream of ZIP file
+     * @param entryNames names of entries to read
+     * @return map contains archived file path and file body for the found entries
+     */
+    public static Map<String, byte[]> readZipEntries(InputStream zipStream, Set<String> entryNames)
     {
-        Map<String, byte[]> zipEntries = new HashMap<>();
-        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes)))
+        return readZipEntries(zipStream, entryNames, (entryName, content) -> IOUtils.toByteArray(content));
+    }
+
+    /**
+     * Reads the entries with the given names from ZIP stream using the entry reader, the content of the entries is
+     * passed to the reader as a stream and is not buffered, the stream is not read further once all the entries are
+     * found
+     * @param <T> type of the result of the entry reading
+     * @param zipStream stream of ZIP file
+     * @param entryNames names of entries to read
+     * @param entryReader reader of the entry content
+     * @return map contains archived file path and the result of the entry reading for the found entries
+     */
+    public static <T> Map<String, T> readZipEntries(InputStream zipStream, Set<String> entryNames,
+            ZipEntryReader<T> entryReader)
+    {
+        Map<String, T> zipEntries = new HashMap<>();
+        visitZipEntries(zipStream, (entry, zip) ->
         {
-            ZipEntry entry = zip.getNextEntry();
+            if (entryNames.contains(entry.getName()))
+            {
+                zipEntries.put(entry.getName(), entryReader.read(entry.getName(), zip));
+            }
+            return zipEntries.size() < entryNames.size();
+        });
+        return zipEntries;
+    }
+
+    /**
+     * Reads names of entries from ZIP stream, the stream is not read further once all the expected names are found
+     * @param zipStream stream of ZIP file
+     * @param expectedEntryNames names of entries to find
+     * @return set contains names of entries read before all the expected names are found
+     */
+    public static Set<String> readZipEntryNames(InputStream zipStream, Set<String> expectedEntryNames)
+    {
+        Set<String> entryNames = new LinkedHashSet<>();
+        Set<String> notFoundEntryNames = new LinkedHashSet<>(expectedEntryNames);
+        visitZipEntries(zipStream, (entry, zip) ->
+        {
+            entryNames.add(entry.getName());
+            notFoundEntryNames.remove(entry.getName());
+            return !notFoundEntryNames.isEmpty();
+        });
+        return entryNames;
+    }
 
-            while (null != entry)
+    /**
+     * Calculates size, CRC-32 and checksums of the entries with the given names without keeping their content in
+     * memory, the stream is not read further once all the entries are found
+     * @param zipStream stream of ZIP file
+     * @param checksumAlgorithms map contains names of entries to inspect and the names of the algorithms
+     * (e.g. <b>SHA-256</b> or <b>MD5</b>) to calculate their checksums with, empty set of algorithms means no
+     * checksum is calculated
+     * @return map contains archived file path and the details of the entry for the found entries
+     */
+    public static Map<String, ZipEntryDetails> readZipEntryDetails(InputStream zipStream,
+            Map<String, Set<String>> checksumAlgorithms)
+    {
+        Map<String, ZipEntryDetails> zipEntries = new HashMap<>();
+        visitZipEntries(zipStream, (entry, zip) ->
+        {
+            String entryName = entry.getName();
+            Set<String> entryChecksumAlgorithms = checksumAlgorithms.get(entryName);
+            if (entryChecksumAlgorithms != null)
             {
-                String entryName = entry.getName();
-                if (entryNameFilter.test(entryName))
+                Map<String, MessageDigest> digests = new LinkedHashMap<>();
+                OutputStream digestOutput = NullOutputStream.NULL_OUTPUT_STREAM;
+                for (String checksumAlgorithm : entryChecksumAlgorithms)
                 {
-                    zipEntries.put(entryName, readContent ? IOUtils.toByteArray(zip) : EMPTY);
+                    MessageDigest digest = createMessageDigest(checksumAlgorithm);
+                    digests.put(checksumAlgorithm, digest);
+                    digestOutput = new DigestOutputStream(digestOutput, digest);
                 }
+                CountingOutputStream output = new CountingOutputStream(digestOutput);
+                IOUtils.copy(zip, output);
+                Map<String, byte[]> checksums = new HashMap<>();
+                digests.forEach((algorithm, digest) -> checksums.put(algorithm, digest.digest()));
+                // CRC-32 is verified and set to the entry by ZIP stream once the entry is read completely
+                zipEntries.put(entryName, new ZipEntryDetails(entryName, output.getByteCount(), entry.getCrc(),
+                        checksums));
+            }
+            return zipEntries.size() < checksumAlgorithms.size();
+        });
+        return zipEntries;
+    }
+
+    private static void visitZipEntries(InputStream zipStream, ZipEntryVisitor visitor)
+    {
+        try (ZipInputStream zip = new ZipInputStream(zipStream))
+        {
+            ZipEntry entry = zip.getNextEntry();
+            while (null != entry && visitor.visit(entry, zip))
+            {
                 entry = zip.getNextEntry();
             }
-            return zipEntries;
         }
         catch (IOException e)
         {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static MessageDigest createMessageDigest(String algorithm)
+    {
+        try
+        {
+            return MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ZipEntryReader<T>
+    {
+        /**
+         * Reads ZIP entry
+         * @param entryName name of ZIP entry
+         * @param content stream of the entry content, it must not be closed by the reader
+         * @return result of the entry reading
+         * @throws IOException If an I/O error occurs
+         */
+        T read(String entryName, InputStream content) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ZipEntryVisitor
+    {
+        /**
+         * Visits ZIP entry
+         * @param entry ZIP entry
+         * @param zip ZIP stream positioned at the entry content
+         * @return <code>true</code> to continue reading of the ZIP stream, <code>false</code> to stop
+         * @throws IOException If an I/O error occurs
+         */
+        boolean visit(ZipEntry entry, ZipInputStream zip) throws IOException;
+    }
 }
@@ -16,19 +16,31 @@
 
 package org.vividus.util.json;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class JsonPathUtilsTests
 {
     private static final List<String> VALUES = List.of("value1", "value2");
     private static final String NAME_JSON_PATH = "$..name";
+    private static final String STORE_JSON = "{\"store\":{\"name\":\"shop\",\"books\":["
+            + "{\"title\":\"first\",\"price\":8.5,\"tags\":[\"a\",\"b\"]},"
+            + "{\"title\":\"second\",\"price\":12,\"tags\":[\"c\"]},"
+            + "{\"name\":\"third\",\"price\":null}]}}";
 
     @Test
     void testGetData()
@@ -55,6 +67,62 @@ class JsonPathUtilsTests
         Assertions.assertEquals(data, List.of(VALUES, 1, true, "data"));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$",
+            "$.store.name",
+            "$['store']['books'][1]",
+            "$.store.books[0].title",
+            "$.store.books[*].title",
+            "$.store.books[*].price",
+            "$.store.books.*.tags[1]",
+            "$.store.*",
+            "$[*]",
+            "$.store.books[?(@.price > 10)].title",
+            "$..title",
+            "$.store.books.length()"
+    })
+    void shouldReadDataInTheSameWayAsJsonPath(String jsonPath)
+    {
+        Object expected = JsonPath.parse(STORE_JSON).read(jsonPath);
+        Assertions.assertEquals(expected, JsonPathUtils.getData(STORE_JSON, jsonPath));
+        Assertions.assertEquals(expected, JsonPathUtils.getData(toStream(STORE_JSON), jsonPath));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$.store.missing",
+            "$.store.missing.name",
+            "$.store.name.value",
+            "$.store.books[5]",
+            "$.store.books[5].title",
+            "$.store.books.title",
+            "$.store.books[0].missing"
+    })
+    void shouldFailInTheSameWayAsJsonPath(String jsonPath)
+    {
+        PathNotFoundException expected = Assertions.assertThrows(PathNotFoundException.class,
+            () -> JsonPath.parse(STORE_JSON).read(jsonPath));
+        PathNotFoundException actual = Assertions.assertThrows(PathNotFoundException.class,
+            () -> JsonPathUtils.getData(toStream(STORE_JSON), jsonPath));
+        Assertions.assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void shouldGetDataFromParsedJson()
+    {
+        Object parsedJson = JsonPath.parse(STORE_JSON).read("$.store.books[0]");
+        Assertions.assertEquals("b", JsonPathUtils.getDataFromParsedJson(parsedJson, "$.tags[1]"));
+        Assertions.assertEquals(List.of("first"), JsonPathUtils.getDataFromParsedJson(parsedJson, "$..title"));
+    }
+
+    @Test
+    void shouldFailOnInvalidJson()
+    {
+        Assertions.assertThrows(InvalidJsonException.class,
+            () -> JsonPathUtils.getData(toStream("{\"store\":{\"name\":"), "$.store.name"));
+    }
+
     @Test
     void testConfiguration()
     {
@@ -63,4 +131,9 @@ class JsonPathUtilsTests
         Assertions.assertTrue(configuration.jsonProvider() instanceof JacksonJsonProvider);
         Assertions.assertTrue(configuration.mappingProvider() instanceof JacksonMappingProvider);
     }
+
+    private static InputStream toStream(String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -21,12 +21,18 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipInputStream;
@@ -44,6 +50,11 @@ import org.vividus.util.ResourceUtils;
 public class ZipUtilsTests
 {
     private static final String ZIP = "archive.zip";
+    private static final String DIRECTORY = "archive/";
+    private static final String TEXT_TXT = "archive/text.txt";
+    private static final String MD5 = "MD5";
+    private static final String SHA_1 = "SHA-1";
+    private static final byte[] TEXT = "Hello World!".getBytes(StandardCharsets.UTF_8);
 
     @Test
     public void testReadArchiveEntriesFromBytes()
@@ -61,7 +72,7 @@ public class ZipUtilsTests
     {
         File file = FileUtils.toFile(ResourceUtils.findResource(getClass(), ZIP));
         Set<String> names = ZipUtils.readZipEntryNamesFromBytes(FileUtils.readFileToByteArray(file));
-        assertThat(names, is(equalTo(Set.of("archive/text.txt", "archive/"))));
+        assertThat(names, is(equalTo(Set.of(TEXT_TXT, DIRECTORY))));
     }
 
     @Test
@@ -73,6 +84,62 @@ public class ZipUtilsTests
         assertThat(zipEntries, anEmptyMap());
     }
 
+    @Test
+    public void testReadArchiveEntries() throws IOException
+    {
+        Map<String, byte[]> zipEntries = ZipUtils.readZipEntries(
+                ResourceUtils.findResource(getClass(), ZIP).openStream(), Set.of(TEXT_TXT, "missing"));
+        assertThat(zipEntries.keySet(), is(equalTo(Set.of(TEXT_TXT))));
+        assertThat(zipEntries.get(TEXT_TXT).length, is(equalTo(12)));
+    }
+
+    @Test
+    public void testReadArchiveEntriesUsingReader() throws IOException
+    {
+        Map<String, Long> zipEntries = ZipUtils.readZipEntries(
+                ResourceUtils.findResource(getClass(), ZIP).openStream(), Set.of(TEXT_TXT, DIRECTORY),
+                (name, content) -> content.transferTo(OutputStream.nullOutputStream()));
+        assertThat(zipEntries, is(equalTo(Map.of(TEXT_TXT, 12L, DIRECTORY, 0L))));
+    }
+
+    @Test
+    public void testReadArchiveEntryNamesStopsOnceAllExpectedNamesAreFound() throws IOException
+    {
+        Set<String> names = ZipUtils.readZipEntryNames(ResourceUtils.findResource(getClass(), ZIP).openStream(),
+                Set.of(DIRECTORY));
+        assertThat(names, is(equalTo(Set.of(DIRECTORY))));
+    }
+
+    @Test
+    public void testReadArchiveEntryDetails() throws IOException, NoSuchAlgorithmException
+    {
+        byte[] md5 = MessageDigest.getInstance(MD5).digest(TEXT);
+        byte[] sha1 = MessageDigest.getInstance(SHA_1).digest(TEXT);
+        Map<String, Set<String>> checksumAlgorithms = Map.of(TEXT_TXT, Set.of(MD5, SHA_1), DIRECTORY, Set.of());
+        Map<String, ZipEntryDetails> zipEntries = ZipUtils.readZipEntryDetails(
+                ResourceUtils.findResource(getClass(), ZIP).openStream(), checksumAlgorithms);
+        ZipEntryDetails text = zipEntries.get(TEXT_TXT);
+        Assertions.assertAll(
+            () -> assertThat(text.getName(), is(equalTo(TEXT_TXT))),
+            () -> assertThat(text.getSize(), is(equalTo(12L))),
+            () -> assertThat(text.getCrc(), is(equalTo(0x1c291ca3L))),
+            () -> assertThat(text.getChecksum(MD5), is(equalTo(md5))),
+            () -> assertThat(text.getChecksum(SHA_1), is(equalTo(sha1))),
+            () -> assertThat(text.getChecksum("SHA-256"), is(nullValue())),
+            () -> assertThat(zipEntries.get(DIRECTORY).getSize(), is(equalTo(0L))),
+            () -> assertThat(zipEntries.get(DIRECTORY).getChecksum(MD5), is(nullValue()))
+        );
+    }
+
+    @Test
+    public void testReadArchiveEntryDetailsWithUnknownAlgorithm() throws IOException
+    {
+        InputStream zipStream = ResourceUtils.findResource(getClass(), ZIP).openStream();
+        Map<String, Set<String>> checksumAlgorithms = Map.of(TEXT_TXT, Set.of("unknown"));
+        assertThrows(IllegalArgumentException.class,
+            () -> ZipUtils.readZipEntryDetails(zipStream, checksumAlgorithms));
+    }
+
     @Test
     @PrepareForTest({ ZipUtils.class, ZipInputStream.class, ByteArrayInputStream.class })
     public void testReadArchiveEntriesFromBytesException() throws Exception
@@ -17,8 +17,11 @@
 package org.vividus.configuration;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -32,11 +35,14 @@ import java.util.stream.Stream;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -57,10 +63,13 @@ public final class ConfigurationResolver
     private static final String ENVIRONMENT = "environment";
     private static final String ENVIRONMENTS = "environments";
     private static final String SUITE = "suite";
+    private static final String DEFAULTS = "defaults";
+    private static final String DEPRECATED = "deprecated";
 
     private static final String PLACEHOLDER_PREFIX = "${";
     private static final String PLACEHOLDER_SUFFIX = "}";
     private static final String PLACEHOLDER_VALUE_SEPARATOR = "=";
+    private static final String SPEL_EXPRESSION_PREFIX = ParserContext.TEMPLATE_EXPRESSION.getExpressionPrefix();
 
     private static ConfigurationResolver instance;
 
@@ -78,27 +87,83 @@ public final class ConfigurationResolver
             return instance;
         }
 
-        PropertiesLoader propertiesLoader = new PropertiesLoader(BeanFactory.getResourcePatternResolver());
+        ResourceIndex resourceIndex = ResourceIndex.getInstance();
+        resourceIndex.logDeferredMessages();
+        PropertiesLoader propertiesLoader = new PropertiesLoader(BeanFactory.getResourcePatternResolver(),
+                resourceIndex);
 
         Properties configurationProperties = propertiesLoader.loadFromSingleResource("configuration.properties");
         Properties overridingProperties = propertiesLoader.loadFromOptionalResource("overriding.properties");
 
-        Properties properties = new Properties();
-        properties.putAll(configurationProperties);
-        properties.putAll(propertiesLoader.loadFromResourceTreeRecursively("defaults"));
-
         Multimap<String, String> configuration = assembleConfiguration(configurationProperties, overridingProperties);
+
+        Map<String, List<Resource>> resourceTrees = new LinkedHashMap<>();
+        resourceTrees.put(DEFAULTS, propertiesLoader.collectResourcesRecursively(DEFAULTS));
         for (Entry<String, String> configurationEntry : configuration.entries())
         {
-            properties.putAll(propertiesLoader.loadFromResourceTreeRecursively(configurationEntry.getKey(),
-                    configurationEntry.getValue()));
+            String resourcePath = configurationEntry.getKey() + PropertiesLoader.DELIMITER
+                    + configurationEntry.getValue();
+            resourceTrees.put(resourcePath, propertiesLoader.collectResourcesRecursively(resourcePath));
+        }
+        resourceTrees.put(ROOT, propertiesLoader.collectResourcesRecursively(ROOT));
+        List<Resource> deprecatedResources = propertiesLoader.collectResourcesRecursively(DEPRECATED);
+        resourceIndex.store();
+
+        Properties properties;
+        if (resourceIndex.isEnabled())
+        {
+            String snapshotKey = calculateSnapshotKey(configurationProperties, overridingProperties, resourceTrees,
+                    deprecatedResources);
+            Optional<Pair<Properties, List<String>>> snapshot = resourceIndex.getSnapshot(snapshotKey);
+            if (snapshot.isPresent())
+            {
+                LOGGER.info("Loading resolved configuration from the snapshot");
+                snapshot.get().getRight().forEach(LOGGER::warn);
+                properties = snapshot.get().getLeft();
+            }
+            else
+            {
+                List<String> warnings = new ArrayList<>();
+                properties = resolveProperties(propertiesLoader, configurationProperties, overridingProperties,
+                        resourceTrees, deprecatedResources, warnings);
+                resourceIndex.putSnapshot(snapshotKey, properties, warnings);
+                resourceIndex.store();
+            }
+        }
+        else
+        {
+            properties = resolveProperties(propertiesLoader, configurationProperties, overridingProperties,
+                    resourceTrees, deprecatedResources, new ArrayList<>());
         }
+        processSystemProperties(properties);
 
-        properties.putAll(propertiesLoader.loadFromResourceTreeRecursively(ROOT));
+        instance = new ConfigurationResolver(properties);
+        return instance;
+    }
 
-        Properties deprecatedProperties = propertiesLoader.loadFromResourceTreeRecursively("deprecated");
+    private static Properties resolveProperties(PropertiesLoader propertiesLoader,
+            Properties configurationProperties, Properties overridingProperties,
+            Map<String, List<Resource>> resourceTrees, List<Resource> deprecatedResources, List<String> warnings)
+            throws IOException
+    {
+        Properties properties = new Properties();
+        properties.putAll(configurationProperties);
+        for (Entry<String, List<Resource>> resourceTree : resourceTrees.entrySet())
+        {
+            properties.putAll(propertiesLoader.loadFromResourceTree(resourceTree.getKey(), resourceTree.getValue()));
+        }
+
+        Properties deprecatedProperties = propertiesLoader.loadFromResourceTree(DEPRECATED, deprecatedResources);
         DeprecatedPropertiesHandler deprecatedPropertiesHandler = new DeprecatedPropertiesHandler(
-                deprecatedProperties, PLACEHOLDER_PREFIX, PLACEHOLDER_SUFFIX);
+                deprecatedProperties, PLACEHOLDER_PREFIX, PLACEHOLDER_SUFFIX)
+        {
+            @Override
+            protected void warnDeprecated(String format, Object... arguments)
+            {
+                super.warnDeprecated(format, arguments);
+                warnings.add(MessageFormatter.arrayFormat(format, arguments).getMessage());
+            }
+        };
         deprecatedPropertiesHandler.replaceDeprecated(properties);
 
         Properties overridingAndSystemProperties = new Properties();
@@ -123,10 +188,49 @@ public final class ConfigurationResolver
         }
         deprecatedPropertiesHandler.removeDeprecated(properties);
         resolveSpelExpressions(properties, false);
-        processSystemProperties(properties);
+        return properties;
+    }
 
-        instance = new ConfigurationResolver(properties);
-        return instance;
+    /**
+     * The resolved configuration depends on the content of the property resources, the configuration (profiles,
+     * environments, suite), the overriding properties, the environment variables and the system properties; SpEL
+     * expressions are evaluated once, so they must depend on nothing else (e.g. on the current time)
+     */
+    private static String calculateSnapshotKey(Properties configurationProperties, Properties overridingProperties,
+            Map<String, List<Resource>> resourceTrees, List<Resource> deprecatedResources) throws IOException
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putEntries(hasher, configurationProperties);
+        putEntries(hasher, overridingProperties);
+        for (Entry<String, List<Resource>> resourceTree : resourceTrees.entrySet())
+        {
+            hasher.putString(resourceTree.getKey(), StandardCharsets.UTF_8);
+            putResources(hasher, resourceTree.getValue());
+        }
+        putResources(hasher, deprecatedResources);
+        putEntries(hasher, System.getenv());
+        putEntries(hasher, System.getProperties());
+        return hasher.hash().toString();
+    }
+
+    private static void putResources(Hasher hasher, List<Resource> resources) throws IOException
+    {
+        for (Resource resource : resources)
+        {
+            hasher.putString(resource.getURL().toString(), StandardCharsets.UTF_8);
+            try (InputStream inputStream = resource.getInputStream())
+            {
+                hasher.putBytes(inputStream.readAllBytes());
+            }
+        }
+    }
+
+    private static void putEntries(Hasher hasher, Map<?, ?> entries)
+    {
+        entries.entrySet().stream()
+                .map(e -> e.getKey() + PLACEHOLDER_VALUE_SEPARATOR + e.getValue())
+                .sorted()
+                .forEach(e -> hasher.putString(e, StandardCharsets.UTF_8).putChar('\0'));
     }
 
     private static PropertyPlaceholderHelper createPropertyPlaceholderHelper(boolean ignoreUnresolvablePlaceholders)
@@ -246,7 +350,9 @@ public final class ConfigurationResolver
         for (Entry<Object, Object> entry : properties.entrySet())
         {
             String value = (String) entry.getValue();
-            if (propertyPlaceholders.stream().flatMap(Set::stream).noneMatch(value::contains))
+            // Values without expressions are evaluated to themselves, so there is no need to parse them
+            if (value.contains(SPEL_EXPRESSION_PREFIX)
+                    && propertyPlaceholders.stream().flatMap(Set::stream).noneMatch(value::contains))
             {
                 try
                 {
@@ -280,6 +386,7 @@ public final class ConfigurationResolver
     public static void reset()
     {
         instance = null;
+        ResourceIndex.reset();
     }
 
     public Properties getProperties()
@@ -299,19 +406,21 @@ public final class ConfigurationResolver
     private static final class PropertiesLoader
     {
         private static final String ROOT_LOCATION = "classpath*:/properties/";
-        private static final String DELIMITER = "/";
+        static final String DELIMITER = "/";
 
         private final ResourcePatternResolver resourcePatternResolver;
+        private final ResourceIndex resourceIndex;
 
-        PropertiesLoader(ResourcePatternResolver resourcePatternResolver)
+        PropertiesLoader(ResourcePatternResolver resourcePatternResolver, ResourceIndex resourceIndex)
         {
             this.resourcePatternResolver = resourcePatternResolver;
+            this.resourceIndex = resourceIndex;
         }
 
         Properties loadFromSingleResource(String resourceName) throws IOException
         {
             String location = ROOT_LOCATION + resourceName;
-            Resource[] resources = resourcePatternResolver.getResources(location);
+            Resource[] resources = getResources(location);
             int resourcesLength = resources.length;
             if (resourcesLength == 0)
             {
@@ -331,18 +440,15 @@ public final class ConfigurationResolver
             return resource.exists() ? loadProperties(resource) : new Properties();
         }
 
-        Properties loadFromResourceTreeRecursively(String... resourcePathParts) throws IOException
+        Properties loadFromResourceTree(String resourcePath, List<Resource> propertyResources) throws IOException
         {
-            String resourcePath = String.join(DELIMITER, resourcePathParts);
-            List<Resource> propertyResources = collectResourcesRecursively(resourcePatternResolver, resourcePath);
             LOGGER.info("Loading properties from /{}", resourcePath);
             Properties loadedProperties = loadProperties(propertyResources.toArray(new Resource[0]));
             loadedProperties.forEach((key, value) -> LOGGER.debug("{}=={}", key, value));
             return loadedProperties;
         }
 
-        private static List<Resource> collectResourcesRecursively(ResourcePatternResolver resourcePatternResolver,
-                String resourcePath) throws IOException
+        List<Resource> collectResourcesRecursively(String resourcePath) throws IOException
         {
             List<Resource> propertyResources = new LinkedList<>();
             StringBuilder path = new StringBuilder(ROOT_LOCATION);
@@ -358,7 +464,7 @@ public final class ConfigurationResolver
                     path.append(DELIMITER);
                 }
                 String resourceLocation = path.toString() + "*.properties";
-                Resource[] resources = resourcePatternResolver.getResources(resourceLocation);
+                Resource[] resources = getResources(resourceLocation);
                 if (deepestLevel && resources.length == 0)
                 {
                     throw new IllegalStateException(
@@ -369,6 +475,23 @@ public final class ConfigurationResolver
             return propertyResources;
         }
 
+        private Resource[] getResources(String locationPattern) throws IOException
+        {
+            if (!resourceIndex.isEnabled())
+            {
+                return resourcePatternResolver.getResources(locationPattern);
+            }
+            List<String> urls = resourceIndex.computeIfAbsent(locationPattern, () -> {
+                List<String> resourceUrls = new ArrayList<>();
+                for (Resource resource : resourcePatternResolver.getResources(locationPattern))
+                {
+                    resourceUrls.add(resource.getURL().toString());
+                }
+                return resourceUrls;
+            });
+            return urls.stream().map(resourcePatternResolver::getResource).toArray(Resource[]::new);
+        }
+
         private static Properties loadProperties(Resource... propertyResources) throws IOException
         {
             PropertiesFactoryBean propertiesFactoryBean = new PropertiesFactoryBean();
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vividus.util.function.CheckedSupplier;
+
+/**
+ * Persistent index of classpath resources found by pattern scans. The index is enabled by setting the system property
+ * <code>vividus.resource-index.file</code> to a writable file location: the first run populates the index, the
+ * following runs reuse it as long as the classpath fingerprint stays unchanged, otherwise the index is rebuilt.
+ * <p>
+ * Along with the resource locations the index keeps the snapshot of the resolved configuration: it is reused as
+ * long as the content of the property resources, the configuration, the environment variables and the system
+ * properties stay unchanged, so the resolution of placeholders and SpEL expressions is skipped.
+ * </p>
+ * <p>
+ * The index is used to find Log4j2 configuration files, so the messages produced while loading it are deferred
+ * until {@link #logDeferredMessages()} is invoked after the logging configuration is set.
+ * </p>
+ */
+final class ResourceIndex
+{
+    static final String INDEX_FILE_PROPERTY = "vividus.resource-index.file";
+
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String ENTRY_KEY_PREFIX = "entry.";
+    private static final String VALUES_SEPARATOR = "\n";
+    private static final String SNAPSHOT_KEY = "snapshot.key";
+    private static final String SNAPSHOT_PROPERTY_KEY_PREFIX = "snapshot.property.";
+    private static final String SNAPSHOT_WARNING_KEY_PREFIX = "snapshot.warning.";
+
+    private static ResourceIndex instance;
+
+    private final Optional<Path> indexFile;
+    private final String fingerprint;
+    private final Properties entries;
+    private final List<Consumer<Logger>> deferredMessages;
+    private boolean modified;
+
+    private ResourceIndex(Optional<Path> indexFile, String fingerprint, Properties entries,
+            List<Consumer<Logger>> deferredMessages)
+    {
+        this.indexFile = indexFile;
+        this.fingerprint = fingerprint;
+        this.entries = entries;
+        this.deferredMessages = deferredMessages;
+    }
+
+    static synchronized ResourceIndex getInstance()
+    {
+        if (instance == null)
+        {
+            instance = load(Optional.ofNullable(System.getProperty(INDEX_FILE_PROPERTY)).map(Paths::get),
+                    System.getProperty("java.class.path"));
+        }
+        return instance;
+    }
+
+    static synchronized void reset()
+    {
+        instance = null;
+    }
+
+    static ResourceIndex load(Optional<Path> indexFile, String classpath)
+    {
+        List<Consumer<Logger>> deferredMessages = new ArrayList<>();
+        if (indexFile.isEmpty())
+        {
+            return new ResourceIndex(indexFile, null, new Properties(), deferredMessages);
+        }
+        String fingerprint = calculateFingerprint(classpath, deferredMessages);
+        Properties entries = new Properties();
+        Path file = indexFile.get();
+        if (Files.isRegularFile(file))
+        {
+            try (InputStream inputStream = Files.newInputStream(file))
+            {
+                entries.load(inputStream);
+            }
+            catch (IOException e)
+            {
+                deferredMessages.add(logger -> logger.warn("Unable to read resource index from {}", file, e));
+                entries.clear();
+            }
+            if (!fingerprint.equals(entries.getProperty(FINGERPRINT_KEY)))
+            {
+                deferredMessages.add(
+                        logger -> logger.info("Classpath has been changed, resource index at {} will be rebuilt", file));
+                entries.clear();
+            }
+        }
+        return new ResourceIndex(indexFile, fingerprint, entries, deferredMessages);
+    }
+
+    /**
+     * Logs the messages produced while loading the index, must be invoked only after logging is configured
+     */
+    synchronized void logDeferredMessages()
+    {
+        if (!deferredMessages.isEmpty())
+        {
+            Logger logger = getLogger();
+            deferredMessages.forEach(message -> message.accept(logger));
+            deferredMessages.clear();
+        }
+    }
+
+    boolean isEnabled()
+    {
+        return indexFile.isPresent();
+    }
+
+    synchronized <E extends Exception> List<String> computeIfAbsent(String key,
+            CheckedSupplier<List<String>, E> valuesSupplier) throws E
+    {
+        if (!isEnabled())
+        {
+            return valuesSupplier.get();
+        }
+        String entryKey = ENTRY_KEY_PREFIX + key;
+        String indexedValues = entries.getProperty(entryKey);
+        if (indexedValues != null)
+        {
+            return indexedValues.isEmpty() ? List.of() : List.of(indexedValues.split(VALUES_SEPARATOR));
+        }
+        List<String> values = valuesSupplier.get();
+        entries.setProperty(entryKey, String.join(VALUES_SEPARATOR, values));
+        modified = true;
+        return values;
+    }
+
+    /**
+     * Returns the resolved configuration snapshot if it was stored with the same key
+     * @param key the hash of everything the resolved configuration depends on
+     * @return the resolved properties and the warnings produced while resolving them
+     */
+    synchronized Optional<Pair<Properties, List<String>>> getSnapshot(String key)
+    {
+        if (!isEnabled() || !key.equals(entries.getProperty(SNAPSHOT_KEY)))
+        {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        SortedMap<Integer, String> warnings = new TreeMap<>();
+        for (String entryKey : entries.stringPropertyNames())
+        {
+            String value = entries.getProperty(entryKey);
+            if (entryKey.startsWith(SNAPSHOT_PROPERTY_KEY_PREFIX))
+            {
+                properties.setProperty(StringUtils.removeStart(entryKey, SNAPSHOT_PROPERTY_KEY_PREFIX), value);
+            }
+            else if (entryKey.startsWith(SNAPSHOT_WARNING_KEY_PREFIX))
+            {
+                warnings.put(Integer.valueOf(StringUtils.removeStart(entryKey, SNAPSHOT_WARNING_KEY_PREFIX)), value);
+            }
+        }
+        return Optional.of(Pair.of(properties, List.copyOf(warnings.values())));
+    }
+
+    synchronized void putSnapshot(String key, Properties properties, List<String> warnings)
+    {
+        if (!isEnabled())
+        {
+            return;
+        }
+        entries.stringPropertyNames().stream()
+                .filter(k -> k.startsWith(SNAPSHOT_PROPERTY_KEY_PREFIX) || k.startsWith(SNAPSHOT_WARNING_KEY_PREFIX))
+                .forEach(entries::remove);
+        properties.stringPropertyNames().forEach(
+            name -> entries.setProperty(SNAPSHOT_PROPERTY_KEY_PREFIX + name, properties.getProperty(name)));
+        for (int i = 0; i < warnings.size(); i++)
+        {
+            entries.setProperty(SNAPSHOT_WARNING_KEY_PREFIX + i, warnings.get(i));
+        }
+        entries.setProperty(SNAPSHOT_KEY, key);
+        modified = true;
+    }
+
+    synchronized void store()
+    {
+        if (!isEnabled() || !modified)
+        {
+            return;
+        }
+        Path file = indexFile.get();
+        entries.setProperty(FINGERPRINT_KEY, fingerprint);
+        try
+        {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null)
+            {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream outputStream = Files.newOutputStream(file))
+            {
+                entries.store(outputStream, "VIVIDUS resource index");
+            }
+            modified = false;
+        }
+        catch (IOException e)
+        {
+            getLogger().warn("Unable to store resource index to {}", file, e);
+        }
+    }
+
+    private static String calculateFingerprint(String classpath, List<Consumer<Logger>> deferredMessages)
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String classpathEntry : StringUtils.split(StringUtils.defaultString(classpath), File.pathSeparator))
+        {
+            hasher.putString(classpathEntry, StandardCharsets.UTF_8);
+            Path path = Paths.get(classpathEntry);
+            try
+            {
+                if (Files.isDirectory(path))
+                {
+                    findDirectories(path).forEach((directory, attributes) -> putAttributes(hasher, directory,
+                            attributes));
+                }
+                else if (Files.isRegularFile(path))
+                {
+                    putAttributes(hasher, path, Files.readAttributes(path, BasicFileAttributes.class));
+                }
+            }
+            catch (IOException e)
+            {
+                deferredMessages.add(logger -> logger.warn("Unable to read classpath entry {}", path, e));
+                hasher.putLong(System.nanoTime());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * The index keeps only the locations of the resources, but not their content, so it's enough to take into
+     * account directories only: the modification time of a directory changes whenever a file is added to, removed
+     * from or renamed within it
+     */
+    private static SortedMap<Path, BasicFileAttributes> findDirectories(Path root) throws IOException
+    {
+        SortedMap<Path, BasicFileAttributes> directories = new TreeMap<>();
+        Files.walkFileTree(root, new SimpleFileVisitor<>()
+        {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes)
+            {
+                directories.put(dir, attributes);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+            {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return directories;
+    }
+
+    private static Logger getLogger()
+    {
+        // The logger must not be created eagerly: the index is used to find Log4j2 configuration files
+        return LoggerFactory.getLogger(ResourceIndex.class);
+    }
+
+    private static void putAttributes(Hasher hasher, Path path, BasicFileAttributes attributes)
+    {
+        hasher.putString(path.toString(), StandardCharsets.UTF_8)
+              .putLong(attributes.size())
+              .putLong(attributes.lastModifiedTime().toMillis());
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.vividus.configuration;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -57,16 +58,23 @@ public final class Vividus
     }
 
     private static void configureLog4j2()
+    {
+        ResourceIndex resourceIndex = ResourceIndex.getInstance();
+        List<String> log4j2Configurations = resourceIndex.computeIfAbsent("log4j2", Vividus::findLog4j2Configurations);
+        // Nothing may be logged until Log4j2 configuration is set, otherwise Log4j2 is initialized with defaults
+        System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, String.join(",", log4j2Configurations));
+        resourceIndex.logDeferredMessages();
+        resourceIndex.store();
+    }
+
+    private static List<String> findLog4j2Configurations()
     {
         Predicate<String> log4j2XmlPredicate = Pattern.compile("log4j2.*\\.xml").asMatchPredicate();
         try (ScanResult scanResult = new ClassGraph().whitelistPackagesNonRecursive("").scan();
                 ResourceList log4j2Resources = scanResult.getAllResources()
                         .filter(resource -> log4j2XmlPredicate.test(resource.getPath())))
         {
-            log4j2Resources.stream()
-                .map(Resource::getPath)
-                .collect(Collectors.collectingAndThen(Collectors.joining(","),
-                    cfg -> System.setProperty(ConfigurationFactory.CONFIGURATION_FILE_PROPERTY, cfg)));
+            return log4j2Resources.stream().map(Resource::getPath).collect(Collectors.toList());
         }
     }
 
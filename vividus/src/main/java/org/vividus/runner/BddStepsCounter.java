@@ -36,6 +36,7 @@ import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.apache.commons.lang3.StringUtils;
 import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
@@ -47,6 +48,7 @@ import org.vividus.bdd.IPathFinder;
 import org.vividus.bdd.StoryLoader;
 import org.vividus.bdd.batch.BatchResourceConfiguration;
 import org.vividus.bdd.spring.ExtendedConfiguration;
+import org.vividus.bdd.steps.StepCandidateIndex;
 import org.vividus.configuration.BeanFactory;
 import org.vividus.configuration.Vividus;
 
@@ -134,6 +136,8 @@ public final class BddStepsCounter
     private void fillStepsWithStats(ExtendedConfiguration configuration)
     {
         Keywords keywords = configuration.keywords();
+        StepCandidateIndex stepCandidateIndex = new StepCandidateIndex(new ArrayList<>(stepCandidates));
+        Map<String, StepCandidate> resolvedCandidates = new HashMap<>();
         String previousNonAndStep = null;
         for (String stepValue : stepList)
         {
@@ -146,33 +150,32 @@ public final class BddStepsCounter
             {
                 previousNonAndStep = stepValue;
             }
-            boolean isStepPresent = false;
-            for (StepCandidate stepCandidate : stepCandidates)
+            String resolutionKey = stepValue + '\n' + StringUtils.substringBefore(currentNonAndStep, SPACE);
+            StepCandidate matchedCandidate = resolvedCandidates.computeIfAbsent(resolutionKey,
+                k -> findMatchingCandidate(stepCandidateIndex, stepValue, currentNonAndStep));
+            if (matchedCandidate != null)
             {
-                if (stepCandidate.matches(stepValue, currentNonAndStep))
-                {
-                    isStepPresent = true;
-                    String stepString = stepCandidate.getStartingWord() + SPACE + stepCandidate.getPatternAsString();
-                    maxStepLength = Math.max(maxStepLength, stepString.length());
-                    Integer count = stepsWithStats.get(stepString);
-                    if (count != null)
-                    {
-                        stepsWithStats.put(stepString, ++count);
-                    }
-                    else
-                    {
-                        stepsWithStats.put(stepString, 1);
-                    }
-                    break;
-                }
+                String stepString = matchedCandidate.getStartingWord() + SPACE
+                        + matchedCandidate.getPatternAsString();
+                maxStepLength = Math.max(maxStepLength, stepString.length());
+                stepsWithStats.merge(stepString, 1, Integer::sum);
             }
-            if (!isStepPresent)
+            else
             {
                 missedSteps.add(stepValue);
             }
         }
     }
 
+    private static StepCandidate findMatchingCandidate(StepCandidateIndex stepCandidateIndex, String stepValue,
+            String currentNonAndStep)
+    {
+        return stepCandidateIndex.findCandidates(stepValue).stream()
+                .filter(stepCandidate -> stepCandidate.matches(stepValue, currentNonAndStep))
+                .findFirst()
+                .orElse(null);
+    }
+
     private void printResults(CommandLine commandLine, Option topOption, PrintStream printStream)
     {
         if (!stepsWithStats.isEmpty())
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vividus.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.vividus.util.function.CheckedSupplier;
+
+class ResourceIndexTests
+{
+    private static final String KEY = "classpath*:/properties/*.properties";
+    private static final String SNAPSHOT_KEY = "snapshot-key";
+    private static final List<String> VALUES = List.of("file:/a.properties", "jar:file:/b.jar!/b.properties");
+
+    @Test
+    void shouldDelegateWhenIndexIsDisabled() throws IOException
+    {
+        ResourceIndex index = ResourceIndex.load(Optional.empty(), "");
+        CheckedSupplier<List<String>, IOException> supplier = mockSupplier();
+        assertFalse(index.isEnabled());
+        assertEquals(VALUES, index.computeIfAbsent(KEY, supplier));
+        assertEquals(VALUES, index.computeIfAbsent(KEY, supplier));
+        verify(supplier, times(2)).get();
+    }
+
+    @Test
+    void shouldReuseStoredIndexForUnchangedClasspath(@TempDir Path tempDir) throws IOException
+    {
+        Path classpathEntry = Files.createFile(tempDir.resolve("lib.jar"));
+        Path indexFile = tempDir.resolve("index/resource-index.properties");
+
+        ResourceIndex firstRunIndex = ResourceIndex.load(Optional.of(indexFile), classpathEntry.toString());
+        assertTrue(firstRunIndex.isEnabled());
+        CheckedSupplier<List<String>, IOException> firstRunSupplier = mockSupplier();
+        assertEquals(VALUES, firstRunIndex.computeIfAbsent(KEY, firstRunSupplier));
+        assertEquals(List.of(), firstRunIndex.computeIfAbsent("empty", List::of));
+        firstRunIndex.store();
+        verify(firstRunSupplier).get();
+        assertTrue(Files.exists(indexFile));
+
+        ResourceIndex secondRunIndex = ResourceIndex.load(Optional.of(indexFile), classpathEntry.toString());
+        CheckedSupplier<List<String>, IOException> secondRunSupplier = mockSupplier();
+        assertEquals(VALUES, secondRunIndex.computeIfAbsent(KEY, secondRunSupplier));
+        assertEquals(List.of(), secondRunIndex.computeIfAbsent("empty", List::of));
+        verify(secondRunSupplier, times(0)).get();
+    }
+
+    @Test
+    void shouldRebuildIndexForChangedClasspath(@TempDir Path tempDir) throws IOException
+    {
+        Path classpathEntry = Files.createFile(tempDir.resolve("lib.jar"));
+        Path indexFile = tempDir.resolve("resource-index.properties");
+
+        ResourceIndex firstRunIndex = ResourceIndex.load(Optional.of(indexFile), classpathEntry.toString());
+        firstRunIndex.computeIfAbsent(KEY, mockSupplier());
+        firstRunIndex.store();
+
+        Files.writeString(classpathEntry, "changed");
+        assertRebuilt(indexFile, classpathEntry.toString());
+    }
+
+    @Test
+    void shouldRebuildIndexForChangedClasspathDirectory(@TempDir Path tempDir) throws IOException
+    {
+        Path classpathDirectory = Files.createDirectories(tempDir.resolve("classes/properties"));
+        Path indexFile = tempDir.resolve("resource-index.properties");
+        String classpath = tempDir.resolve("classes").toString();
+
+        ResourceIndex firstRunIndex = ResourceIndex.load(Optional.of(indexFile), classpath);
+        firstRunIndex.computeIfAbsent(KEY, mockSupplier());
+        firstRunIndex.store();
+
+        Files.createFile(classpathDirectory.resolve("added.properties"));
+        Files.setLastModifiedTime(classpathDirectory,
+                FileTime.fromMillis(Files.getLastModifiedTime(classpathDirectory).toMillis() + 1000));
+        assertRebuilt(indexFile, classpath);
+    }
+
+    @Test
+    void shouldReuseSnapshotWithSameKey(@TempDir Path tempDir) throws IOException
+    {
+        Path classpathEntry = Files.createFile(tempDir.resolve("lib.jar"));
+        Path indexFile = tempDir.resolve("resource-index.properties");
+
+        ResourceIndex firstRunIndex = ResourceIndex.load(Optional.of(indexFile), classpathEntry.toString());
+        assertEquals(Optional.empty(), firstRunIndex.getSnapshot(SNAPSHOT_KEY));
+        Properties properties = new Properties();
+        properties.setProperty("property", "value");
+        List<String> warnings = List.of("first warning", "second warning");
+        firstRunIndex.putSnapshot(SNAPSHOT_KEY, properties, warnings);
+        firstRunIndex.store();
+
+        ResourceIndex secondRunIndex = ResourceIndex.load(Optional.of(indexFile), classpathEntry.toString());
+        assertEquals(Optional.of(Pair.of(properties, warnings)), secondRunIndex.getSnapshot(SNAPSHOT_KEY));
+        assertEquals(Optional.empty(), secondRunIndex.getSnapshot("changed-key"));
+    }
+
+    @Test
+    void shouldReplaceSnapshot(@TempDir Path tempDir)
+    {
+        ResourceIndex index = ResourceIndex.load(Optional.of(tempDir.resolve("resource-index.properties")), "");
+        Properties oldProperties = new Properties();
+        oldProperties.setProperty("old", "value");
+        index.putSnapshot("old-key", oldProperties, List.of("warning"));
+        Properties newProperties = new Properties();
+        newProperties.setProperty("new", "value");
+        index.putSnapshot(SNAPSHOT_KEY, newProperties, List.of());
+        assertEquals(Optional.empty(), index.getSnapshot("old-key"));
+        assertEquals(Optional.of(Pair.of(newProperties, List.of())), index.getSnapshot(SNAPSHOT_KEY));
+    }
+
+    @Test
+    void shouldNotKeepSnapshotWhenIndexIsDisabled()
+    {
+        ResourceIndex index = ResourceIndex.load(Optional.empty(), "");
+        index.putSnapshot(SNAPSHOT_KEY, new Properties(), List.of());
+        assertEquals(Optional.empty(), index.getSnapshot(SNAPSHOT_KEY));
+    }
+
+    private static void assertRebuilt(Path indexFile, String classpath) throws IOException
+    {
+        ResourceIndex secondRunIndex = ResourceIndex.load(Optional.of(indexFile), classpath);
+        CheckedSupplier<List<String>, IOException> secondRunSupplier = mockSupplier();
+        assertEquals(VALUES, secondRunIndex.computeIfAbsent(KEY, secondRunSupplier));
+        verify(secondRunSupplier).get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CheckedSupplier<List<String>, IOException> mockSupplier() throws IOException
+    {
+        CheckedSupplier<List<String>, IOException> supplier = mock(CheckedSupplier.class);
+        when(supplier.get()).thenReturn(VALUES);
+        return supplier;
+    }
+}
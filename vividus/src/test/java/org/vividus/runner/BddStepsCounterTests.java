@@ -211,5 +211,6 @@ public class BddStepsCounterTests extends SystemStreamTests
         when(BeanFactory.getBean(InjectableStepsFactory.class)).thenReturn(stepFactory);
         when(stepFactory.createCandidateSteps()).thenReturn(List.of(candidateSteps));
         when(candidateSteps.listCandidates()).thenReturn(stepCandidates);
+        when(stepCandidate.getPatternAsString()).thenReturn(CANDIDATE_STRING);
     }
 }